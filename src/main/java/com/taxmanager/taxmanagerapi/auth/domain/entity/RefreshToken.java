@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.id.UuidV7;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -44,7 +45,7 @@ public class RefreshToken {
 
     public static RefreshToken create(UUID userId, String token, LocalDateTime expiresAt) {
         var rt = new RefreshToken();
-        rt.id = UUID.randomUUID();
+        rt.id = UuidV7.generate();
         rt.revoked = false;
         rt.setUserId(userId);
         rt.setToken(token);
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import com.taxmanager.taxmanagerapi.auth.domain.enums.UserRole;
 import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.id.UuidV7;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -51,7 +52,7 @@ public class User {
 
     public static User create(String email, String encodedPassword, String fullName) {
         var user = new User();
-        user.id = UUID.randomUUID();
+        user.id = UuidV7.generate();
         user.active = true;
         user.role = UserRole.ACCOUNTANT; // Default role
         user.setEmail(email);
@@ -0,0 +1,64 @@
+package com.taxmanager.taxmanagerapi.fiscalperiod.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.id.UuidV7;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * A fiscal period (month) a taxpayer has closed. Closed periods are final:
+ * their vouchers can no longer change and their VAT books are served from snapshots.
+ */
+@Entity
+@Table(name = "fiscal_period_closings")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA only
+public class FiscalPeriodClosing {
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "taxpayer_id", nullable = false, updatable = false)
+    private UUID taxpayerId;
+
+    /** First day of the closed month. */
+    @Column(nullable = false, updatable = false)
+    private LocalDate period;
+
+    @CreationTimestamp
+    @Column(name = "closed_at", nullable = false, updatable = false)
+    private LocalDateTime closedAt;
+
+    // ── Factory method ───────────────────────────────────────────────────
+
+    public static FiscalPeriodClosing create(UUID taxpayerId, YearMonth period) {
+        if (taxpayerId == null) {
+            throw new DomainValidationException("El ID del contribuyente es obligatorio");
+        }
+        if (period == null) {
+            throw new DomainValidationException("El período es obligatorio");
+        }
+        var closing = new FiscalPeriodClosing();
+        closing.id = UuidV7.generate();
+        closing.taxpayerId = taxpayerId;
+        closing.period = period.atDay(1);
+        return closing;
+    }
+
+    public YearMonth getYearMonth() {
+        return YearMonth.from(period);
+    }
+}
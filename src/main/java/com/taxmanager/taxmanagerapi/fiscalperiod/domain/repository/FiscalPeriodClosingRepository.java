@@ -0,0 +1,22 @@
+package com.taxmanager.taxmanagerapi.fiscalperiod.domain.repository;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.entity.FiscalPeriodClosing;
+
+/**
+ * Closings are serialized per taxpayer: {@link #lockForClosing} waits for every
+ * transaction that already asked {@link #isClosed}, and any later {@link #isClosed}
+ * waits for the closing to commit, so no voucher can slip into a period being closed.
+ */
+public interface FiscalPeriodClosingRepository {
+
+    FiscalPeriodClosing save(FiscalPeriodClosing closing);
+
+    /** Shared lock on the taxpayer, then checks the period; call before writing to it. */
+    boolean isClosed(UUID taxpayerId, YearMonth period);
+
+    /** Exclusive lock on the taxpayer until the closing transaction ends. */
+    void lockForClosing(UUID taxpayerId);
+}
@@ -0,0 +1,23 @@
+package com.taxmanager.taxmanagerapi.fiscalperiod.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.entity.FiscalPeriodClosing;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpringDataFiscalPeriodClosingRepository extends JpaRepository<FiscalPeriodClosing, UUID> {
+
+    boolean existsByTaxpayerIdAndPeriod(UUID taxpayerId, LocalDate period);
+
+    // FOR SHARE does not block other voucher writers of the same taxpayer, only a closing
+    @Query(value = "SELECT 1 FROM taxpayers WHERE id = :taxpayerId FOR SHARE", nativeQuery = true)
+    List<Integer> lockTaxpayerForShare(@Param("taxpayerId") UUID taxpayerId);
+
+    // NO KEY UPDATE still lets the vouchers FK check (FOR KEY SHARE) through
+    @Query(value = "SELECT 1 FROM taxpayers WHERE id = :taxpayerId FOR NO KEY UPDATE", nativeQuery = true)
+    List<Integer> lockTaxpayerForUpdate(@Param("taxpayerId") UUID taxpayerId);
+}
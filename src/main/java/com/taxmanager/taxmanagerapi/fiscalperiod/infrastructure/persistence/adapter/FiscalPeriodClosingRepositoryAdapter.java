@@ -0,0 +1,35 @@
+package com.taxmanager.taxmanagerapi.fiscalperiod.infrastructure.persistence.adapter;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.entity.FiscalPeriodClosing;
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.repository.FiscalPeriodClosingRepository;
+import com.taxmanager.taxmanagerapi.fiscalperiod.infrastructure.persistence.SpringDataFiscalPeriodClosingRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class FiscalPeriodClosingRepositoryAdapter implements FiscalPeriodClosingRepository {
+
+    private final SpringDataFiscalPeriodClosingRepository jpaRepository;
+
+    public FiscalPeriodClosingRepositoryAdapter(SpringDataFiscalPeriodClosingRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public FiscalPeriodClosing save(FiscalPeriodClosing closing) {
+        return jpaRepository.save(closing);
+    }
+
+    @Override
+    public boolean isClosed(UUID taxpayerId, YearMonth period) {
+        jpaRepository.lockTaxpayerForShare(taxpayerId);
+        return jpaRepository.existsByTaxpayerIdAndPeriod(taxpayerId, period.atDay(1));
+    }
+
+    @Override
+    public void lockForClosing(UUID taxpayerId) {
+        jpaRepository.lockTaxpayerForUpdate(taxpayerId);
+    }
+}
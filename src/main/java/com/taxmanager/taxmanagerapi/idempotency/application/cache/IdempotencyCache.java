@@ -0,0 +1,59 @@
+package com.taxmanager.taxmanagerapi.idempotency.application.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.idempotency.domain.entity.IdempotencyRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process LRU of stored idempotency keys, in front of {@code idempotency_keys}.
+ * Records never change once written, so entries need no invalidation: they leave when the
+ * LRU bound pushes them out or when they outlive {@code idempotency.retention}, the same
+ * age at which the purge job deletes them from the table.
+ */
+@Component
+public class IdempotencyCache {
+
+    private record Key(UUID userId, String idempotencyKey) {}
+
+    private final int maxEntries;
+    private final Duration retention;
+    private final Clock clock;
+
+    private final Map<Key, IdempotencyRecord> entries; // guarded by this
+
+    public IdempotencyCache(@Value("${idempotency.cache.max-entries:10000}") int maxEntries,
+                            @Value("${idempotency.retention:24h}") Duration retention,
+                            Clock clock) {
+        this.maxEntries = maxEntries;
+        this.retention = retention;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, IdempotencyRecord> eldest) {
+                return size() > IdempotencyCache.this.maxEntries;
+            }
+        };
+    }
+
+    public synchronized Optional<IdempotencyRecord> get(UUID userId, String idempotencyKey) {
+        Key key = new Key(userId, idempotencyKey);
+        IdempotencyRecord record = entries.get(key);
+        if (record != null && record.getCreatedAt().isBefore(LocalDateTime.now(clock).minus(retention))) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(record);
+    }
+
+    public synchronized void put(IdempotencyRecord record) {
+        entries.put(new Key(record.getUserId(), record.getIdempotencyKey()), record);
+    }
+}
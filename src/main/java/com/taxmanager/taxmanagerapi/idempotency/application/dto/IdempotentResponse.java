@@ -0,0 +1,12 @@
+package com.taxmanager.taxmanagerapi.idempotency.application.dto;
+
+/**
+ * Status and JSON body of a create response. {@code replayed} is true when it comes
+ * from a previous request with the same key instead of this one.
+ */
+public record IdempotentResponse(int status, String body, boolean replayed) {
+
+    public static IdempotentResponse of(int status, String body) {
+        return new IdempotentResponse(status, body, false);
+    }
+}
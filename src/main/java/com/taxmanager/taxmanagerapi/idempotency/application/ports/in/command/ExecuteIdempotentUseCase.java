@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.idempotency.application.ports.in.command;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.taxmanager.taxmanagerapi.idempotency.application.dto.IdempotentResponse;
+
+public interface ExecuteIdempotentUseCase {
+
+    /**
+     * Runs {@code action} once per {@code (userId, idempotencyKey)}: later calls with the
+     * same key get the stored response back without running it. {@code requestHash}
+     * identifies the request; reusing a key for a different one is rejected.
+     */
+    IdempotentResponse execute(UUID userId, String idempotencyKey, String requestHash,
+                               Supplier<IdempotentResponse> action);
+}
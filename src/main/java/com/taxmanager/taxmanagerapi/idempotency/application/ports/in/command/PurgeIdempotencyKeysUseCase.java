@@ -0,0 +1,10 @@
+package com.taxmanager.taxmanagerapi.idempotency.application.ports.in.command;
+
+/**
+ * Deletes stored idempotency keys (and their responses) older than the retention period.
+ */
+public interface PurgeIdempotencyKeysUseCase {
+
+    /** @return number of keys deleted */
+    int execute();
+}
@@ -0,0 +1,97 @@
+package com.taxmanager.taxmanagerapi.idempotency.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.taxmanager.taxmanagerapi.idempotency.application.cache.IdempotencyCache;
+import com.taxmanager.taxmanagerapi.idempotency.application.dto.IdempotentResponse;
+import com.taxmanager.taxmanagerapi.idempotency.application.ports.in.command.ExecuteIdempotentUseCase;
+import com.taxmanager.taxmanagerapi.idempotency.domain.entity.IdempotencyRecord;
+import com.taxmanager.taxmanagerapi.idempotency.domain.repository.IdempotencyRecordRepository;
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Looks the key up in {@link IdempotencyCache}, then in the table; a stored response is
+ * returned as is, without running the action or touching the database again.
+ *
+ * <p>Otherwise the action and the insert of its key share one transaction (the create
+ * services join it), so the resource is stored if and only if its key is. Two requests
+ * racing with the same key both run the action, but the second blocks on the key's
+ * primary key until the first commits, then rolls back and replays the first response.
+ * Failed actions store nothing: a retry after an error runs again.</p>
+ *
+ * <p>A key older than {@code idempotency.retention} is expired even while its row waits
+ * for the purge job: it is not replayed, and a new request with it replaces the row. The
+ * cache, this service and the purge share one {@link Clock}, so all three expire a key at
+ * the same moment.</p>
+ */
+@Service
+public class ExecuteIdempotentService implements ExecuteIdempotentUseCase {
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyCache cache;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final Clock clock;
+
+    public ExecuteIdempotentService(IdempotencyRecordRepository repository,
+                                    IdempotencyCache cache,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${idempotency.retention:24h}") Duration retention,
+                                    Clock clock) {
+        this.repository = repository;
+        this.cache = cache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    @Override
+    public IdempotentResponse execute(UUID userId, String idempotencyKey, String requestHash,
+                                      Supplier<IdempotentResponse> action) {
+        LocalDateTime expiredBefore = LocalDateTime.now(clock).minus(retention);
+        var stored = cache.get(userId, idempotencyKey)
+                .or(() -> repository.find(userId, idempotencyKey, expiredBefore));
+        if (stored.isPresent()) {
+            cache.put(stored.get());
+            return replay(stored.get(), requestHash);
+        }
+
+        IdempotencyRecord record;
+        try {
+            record = transactionTemplate.execute(status -> {
+                IdempotentResponse response = action.get();
+                var created = IdempotencyRecord.create(userId, idempotencyKey, requestHash,
+                        response.status(), response.body(), LocalDateTime.now(clock));
+                // An expired row of this key may still be waiting for the purge
+                repository.deleteCreatedBefore(userId, idempotencyKey, expiredBefore);
+                repository.insert(created);
+                return created;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request with this key committed first; without its row, the action failed
+            IdempotencyRecord winner = repository.find(userId, idempotencyKey, expiredBefore)
+                    .orElseThrow(() -> e);
+            cache.put(winner);
+            return replay(winner, requestHash);
+        }
+        cache.put(record);
+        return IdempotentResponse.of(record.getResponseStatus(), record.getResponseBody());
+    }
+
+    private static IdempotentResponse replay(IdempotencyRecord record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new DomainValidationException("La clave de idempotencia '" + record.getIdempotencyKey()
+                    + "' ya se usó con una solicitud distinta");
+        }
+        return new IdempotentResponse(record.getResponseStatus(), record.getResponseBody(), true);
+    }
+}
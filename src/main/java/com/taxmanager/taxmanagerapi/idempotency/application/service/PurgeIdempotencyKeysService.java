@@ -0,0 +1,33 @@
+package com.taxmanager.taxmanagerapi.idempotency.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.taxmanager.taxmanagerapi.idempotency.application.ports.in.command.PurgeIdempotencyKeysUseCase;
+import com.taxmanager.taxmanagerapi.idempotency.domain.repository.IdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class PurgeIdempotencyKeysService implements PurgeIdempotencyKeysUseCase {
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration retention;
+    private final Clock clock;
+
+    public PurgeIdempotencyKeysService(IdempotencyRecordRepository repository,
+                                       @Value("${idempotency.retention:24h}") Duration retention,
+                                       Clock clock) {
+        this.repository = repository;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    @Override
+    public int execute() {
+        return repository.deleteCreatedBefore(LocalDateTime.now(clock).minus(retention));
+    }
+}
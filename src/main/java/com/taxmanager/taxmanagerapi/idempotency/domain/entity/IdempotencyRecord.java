@@ -0,0 +1,77 @@
+package com.taxmanager.taxmanagerapi.idempotency.domain.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response of a create request sent with an {@code Idempotency-Key}, stored so that a
+ * retry with the same key gets it back instead of creating the resource again. Keys are
+ * scoped to the user that sent them and never change once written.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@IdClass(IdempotencyRecord.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA only
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false, updatable = false)
+    private String idempotencyKey;
+
+    /** SHA-256 (hex) of method, path and body of the original request. */
+    @Column(name = "request_hash", nullable = false, updatable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_status", nullable = false, updatable = false)
+    private int responseStatus;
+
+    /** JSON body of the original response. */
+    @Column(name = "response_body", nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // ── Factory method ───────────────────────────────────────────────────
+
+    public static IdempotencyRecord create(UUID userId,
+                                           String idempotencyKey,
+                                           String requestHash,
+                                           int responseStatus,
+                                           String responseBody,
+                                           LocalDateTime createdAt) {
+        var record = new IdempotencyRecord();
+        record.userId = userId;
+        record.idempotencyKey = idempotencyKey;
+        record.requestHash = requestHash;
+        record.responseStatus = responseStatus;
+        record.responseBody = responseBody;
+        record.createdAt = createdAt;
+        return record;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID userId;
+        private String idempotencyKey;
+    }
+}
@@ -0,0 +1,25 @@
+package com.taxmanager.taxmanagerapi.idempotency.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.idempotency.domain.entity.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository {
+
+    /** The key if it was stored at or after {@code createdSince}; older ones are expired. */
+    Optional<IdempotencyRecord> find(UUID userId, String idempotencyKey, LocalDateTime createdSince);
+
+    /**
+     * Inserts {@code record} right away (no merge, no deferred flush), so a key already
+     * stored by a concurrent request fails here with
+     * {@link org.springframework.dao.DataIntegrityViolationException}.
+     */
+    void insert(IdempotencyRecord record);
+
+    int deleteCreatedBefore(LocalDateTime createdBefore);
+
+    /** Deletes the key if it was stored before {@code createdBefore}. */
+    void deleteCreatedBefore(UUID userId, String idempotencyKey, LocalDateTime createdBefore);
+}
@@ -0,0 +1,33 @@
+package com.taxmanager.taxmanagerapi.idempotency.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.idempotency.domain.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpringDataIdempotencyRecordRepository
+        extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.userId = :userId"
+            + " AND r.idempotencyKey = :idempotencyKey AND r.createdAt >= :createdSince")
+    Optional<IdempotencyRecord> findCreatedSince(@Param("userId") UUID userId,
+                                                 @Param("idempotencyKey") String idempotencyKey,
+                                                 @Param("createdSince") LocalDateTime createdSince);
+
+    // One statement, without loading the rows
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :createdBefore")
+    int deleteByCreatedAtBefore(@Param("createdBefore") LocalDateTime createdBefore);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.userId = :userId"
+            + " AND r.idempotencyKey = :idempotencyKey AND r.createdAt < :createdBefore")
+    int deleteByKeyCreatedBefore(@Param("userId") UUID userId,
+                                 @Param("idempotencyKey") String idempotencyKey,
+                                 @Param("createdBefore") LocalDateTime createdBefore);
+}
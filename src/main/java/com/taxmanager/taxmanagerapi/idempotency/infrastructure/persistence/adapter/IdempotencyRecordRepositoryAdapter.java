@@ -0,0 +1,46 @@
+package com.taxmanager.taxmanagerapi.idempotency.infrastructure.persistence.adapter;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.idempotency.domain.entity.IdempotencyRecord;
+import com.taxmanager.taxmanagerapi.idempotency.domain.repository.IdempotencyRecordRepository;
+import com.taxmanager.taxmanagerapi.idempotency.infrastructure.persistence.SpringDataIdempotencyRecordRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class IdempotencyRecordRepositoryAdapter implements IdempotencyRecordRepository {
+
+    private final SpringDataIdempotencyRecordRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public IdempotencyRecordRepositoryAdapter(SpringDataIdempotencyRecordRepository jpaRepository,
+                                              EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(UUID userId, String idempotencyKey, LocalDateTime createdSince) {
+        return jpaRepository.findCreatedSince(userId, idempotencyKey, createdSince);
+    }
+
+    @Override
+    public void insert(IdempotencyRecord record) {
+        // save() would merge the assigned id (a SELECT first); flush surfaces a duplicate key now
+        entityManager.persist(record);
+        entityManager.flush();
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime createdBefore) {
+        return jpaRepository.deleteByCreatedAtBefore(createdBefore);
+    }
+
+    @Override
+    public void deleteCreatedBefore(UUID userId, String idempotencyKey, LocalDateTime createdBefore) {
+        jpaRepository.deleteByKeyCreatedBefore(userId, idempotencyKey, createdBefore);
+    }
+}
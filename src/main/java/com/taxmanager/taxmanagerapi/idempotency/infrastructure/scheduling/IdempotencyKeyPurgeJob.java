@@ -0,0 +1,30 @@
+package com.taxmanager.taxmanagerapi.idempotency.infrastructure.scheduling;
+
+import com.taxmanager.taxmanagerapi.idempotency.application.ports.in.command.PurgeIdempotencyKeysUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hourly removal of idempotency keys past {@code idempotency.retention}.
+ */
+@Component
+public class IdempotencyKeyPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyPurgeJob.class);
+
+    private final PurgeIdempotencyKeysUseCase purgeUseCase;
+
+    public IdempotencyKeyPurgeJob(PurgeIdempotencyKeysUseCase purgeUseCase) {
+        this.purgeUseCase = purgeUseCase;
+    }
+
+    @Scheduled(cron = "${idempotency.purge-cron:0 0 * * * *}")
+    public void run() {
+        int purged = purgeUseCase.execute();
+        if (purged > 0) {
+            log.info("Claves de idempotencia vencidas eliminadas: {}", purged);
+        }
+    }
+}
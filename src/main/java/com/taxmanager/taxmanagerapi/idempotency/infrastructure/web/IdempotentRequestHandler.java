@@ -0,0 +1,94 @@
+package com.taxmanager.taxmanagerapi.idempotency.infrastructure.web;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.taxmanager.taxmanagerapi.idempotency.application.dto.IdempotentResponse;
+import com.taxmanager.taxmanagerapi.idempotency.application.ports.in.command.ExecuteIdempotentUseCase;
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.shared.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * {@code Idempotency-Key} support for create endpoints. Without the header the action
+ * just runs; with it, the response is stored for the authenticated user and key, and a
+ * retry gets it back (same status and body) with {@code Idempotent-Replayed: true}.
+ */
+@Component
+public class IdempotentRequestHandler {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ExecuteIdempotentUseCase executeIdempotentUseCase;
+    private final ObjectMapper objectMapper;
+
+    public IdempotentRequestHandler(ExecuteIdempotentUseCase executeIdempotentUseCase, ObjectMapper objectMapper) {
+        this.executeIdempotentUseCase = executeIdempotentUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Responds {@code status} with the body {@code action} creates, at most once per
+     * {@code idempotencyKey}. {@code request} is the parsed body: together with method
+     * and path, it tells a retry from another request that reuses the key.
+     */
+    public <T> ResponseEntity<T> execute(String idempotencyKey, Object request, HttpStatus status,
+                                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(status).body(action.get());
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("El encabezado " + IDEMPOTENCY_KEY
+                    + " debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+        }
+
+        var created = new AtomicReference<T>();
+        IdempotentResponse response = executeIdempotentUseCase.execute(
+                currentUserId(), idempotencyKey, requestHash(request), () -> {
+                    T body = action.get();
+                    created.set(body);
+                    return IdempotentResponse.of(status.value(), objectMapper.writeValueAsString(body));
+                });
+        T body = response.replayed() ? objectMapper.readValue(response.body(), responseType) : created.get();
+        return ResponseEntity.status(response.status())
+                .header(REPLAYED, String.valueOf(response.replayed()))
+                .body(body);
+    }
+
+    private static UUID currentUserId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UUID userId)) {
+            throw new UnauthorizedException("El encabezado " + IDEMPOTENCY_KEY + " requiere un usuario autenticado");
+        }
+        return userId;
+    }
+
+    private String requestHash(Object request) {
+        HttpServletRequest servletRequest =
+                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update((servletRequest.getMethod() + " " + servletRequest.getRequestURI() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e); // every JVM must provide it
+        }
+    }
+}
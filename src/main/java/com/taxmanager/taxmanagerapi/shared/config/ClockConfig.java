@@ -0,0 +1,21 @@
+package com.taxmanager.taxmanagerapi.shared.config;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The application clock, on Argentine time like the fiscal periods and the JDBC time zone.
+ * Code that writes timestamps and later compares them against "now" takes this bean, so
+ * both sides agree regardless of the JVM default zone.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.system(ZoneId.of("America/Argentina/Buenos_Aires"));
+    }
+}
@@ -1,5 +1,8 @@
 package com.taxmanager.taxmanagerapi.shared.config;
 
+import java.math.BigDecimal;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
@@ -7,6 +10,7 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,12 +20,18 @@ import org.springframework.context.annotation.Configuration;
  * <p>Adds project metadata to the Swagger UI available at {@code /swagger-ui.html},
  * and configures the global Bearer token security scheme so authenticated
  * endpoints show the lock icon.</p>
+ *
+ * <p>{@link Money} is documented as the decimal number it is written as.</p>
  */
 @Configuration
 public class OpenApiConfig {
 
     private static final String SECURITY_SCHEME_NAME = "bearerAuth";
 
+    static {
+        SpringDocUtils.getConfig().replaceWithClass(Money.class, BigDecimal.class);
+    }
+
     @Bean
     public OpenAPI taxManagerOpenAPI() {
         return new OpenAPI()
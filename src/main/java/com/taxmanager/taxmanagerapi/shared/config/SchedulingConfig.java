@@ -0,0 +1,12 @@
+package com.taxmanager.taxmanagerapi.shared.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance jobs (e.g. vat_period_totals verification).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
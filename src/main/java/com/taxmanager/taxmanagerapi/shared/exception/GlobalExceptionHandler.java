@@ -25,6 +25,7 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
  *   <li>{@link BadRequestException} → 400 Bad Request</li>
  *   <li>{@link ResourceNotFoundException} → 404 Not Found</li>
  *   <li>{@link ConflictException} → 409 Conflict</li>
+ *   <li>{@link TooManyRequestsException} → 429 Too Many Requests</li>
  *   <li>{@link UnauthorizedException} → 401 Unauthorized</li>
  *   <li>{@link MethodArgumentNotValidException} → 400 Bad Request (Bean Validation)</li>
  *   <li>Any other exception → 500 Internal Server Error</li>
@@ -61,6 +62,12 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildProblem(HttpStatus.CONFLICT, "Conflict", ex.getMessage());
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ProblemDetail handleTooManyRequests(TooManyRequestsException ex) {
+        log.warn("Too many requests: {}", ex.getMessage());
+        return buildProblem(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", ex.getMessage());
+    }
+
     @ExceptionHandler(UnauthorizedException.class)
     public ProblemDetail handleUnauthorized(UnauthorizedException ex) {
         log.warn("Unauthorized: {}", ex.getMessage());
@@ -0,0 +1,13 @@
+package com.taxmanager.taxmanagerapi.shared.exception;
+
+/**
+ * Thrown when a request is rejected because a bounded resource is saturated
+ * (e.g. the background export queue is full).
+ * Maps to HTTP 429 Too Many Requests.
+ */
+public class TooManyRequestsException extends DomainException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,145 @@
+package com.taxmanager.taxmanagerapi.shared.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+
+/**
+ * An amount in pesos with exactly four decimals, stored as a {@code long} count of
+ * ten-thousandths — the scale of every {@code NUMERIC(19,4)} amount column.
+ *
+ * <p>Comparisons and sums are primitive operations: no {@code BigDecimal} is created
+ * until an amount crosses a boundary that needs one (JDBC, {@link #toBigDecimal()}).
+ * The range is that of a {@code long}, about ±922 trillion pesos; arithmetic past it
+ * throws {@link ArithmeticException} instead of wrapping.</p>
+ *
+ * <p>Persisted with {@link MoneyConverter} and written to JSON by
+ * {@link MoneyJacksonModule}.</p>
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 4;
+
+    public static final Money ZERO = new Money(0);
+
+    private static final long ONE = 10_000;
+
+    /** Ten-thousandths of a peso. */
+    private final long scaled;
+
+    private Money(long scaled) {
+        this.scaled = scaled;
+    }
+
+    // ── Factory methods ──────────────────────────────────────────────────
+
+    public static Money ofScaled(long scaled) {
+        return scaled == 0 ? ZERO : new Money(scaled);
+    }
+
+    /**
+     * Exact conversion: amounts with more than four significant decimals are rejected
+     * rather than rounded, like the {@code NUMERIC(19,4)} column would silently do.
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            throw new DomainValidationException("El monto es obligatorio");
+        }
+        try {
+            BigDecimal exact = amount.scale() <= SCALE ? amount : amount.setScale(SCALE, RoundingMode.UNNECESSARY);
+            return ofScaled(exact.movePointRight(SCALE).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new DomainValidationException(
+                    "Monto inválido: " + amount.toPlainString() + " (hasta 4 decimales)");
+        }
+    }
+
+    public static Money of(String amount) {
+        try {
+            return of(new BigDecimal(amount));
+        } catch (NumberFormatException e) {
+            throw new DomainValidationException("Monto inválido: '" + amount + "'");
+        }
+    }
+
+    // ── Arithmetic ───────────────────────────────────────────────────────
+
+    public Money plus(Money other) {
+        return ofScaled(Math.addExact(scaled, other.scaled));
+    }
+
+    public Money minus(Money other) {
+        return ofScaled(Math.subtractExact(scaled, other.scaled));
+    }
+
+    public Money times(long factor) {
+        return ofScaled(Math.multiplyExact(scaled, factor));
+    }
+
+    public Money negate() {
+        return ofScaled(Math.negateExact(scaled));
+    }
+
+    public int signum() {
+        return Long.signum(scaled);
+    }
+
+    public boolean isNegative() {
+        return scaled < 0;
+    }
+
+    public boolean isZero() {
+        return scaled == 0;
+    }
+
+    // ── Conversion ───────────────────────────────────────────────────────
+
+    public long scaled() {
+        return scaled;
+    }
+
+    /** Rounded half-up (away from zero) to cents, for the formats that print two decimals. */
+    public long toCents() {
+        long cents = scaled / 100;
+        long rest = scaled % 100;
+        return Math.abs(rest) >= 50 ? cents + Long.signum(rest) : cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(scaled, SCALE);
+    }
+
+    /** Plain decimal with four places, e.g. {@code 96800.0000} or {@code -0.5000}. */
+    @Override
+    public String toString() {
+        long integer = scaled / ONE;
+        long fraction = Math.abs(scaled % ONE);
+        var text = new StringBuilder(24);
+        if (scaled < 0 && integer == 0) {
+            text.append('-');
+        }
+        text.append(integer).append('.');
+        for (long digit = ONE / 10; digit > fraction && digit > 1; digit /= 10) {
+            text.append('0');
+        }
+        return text.append(fraction).toString();
+    }
+
+    // ── Value semantics ──────────────────────────────────────────────────
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(scaled, other.scaled);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && scaled == other.scaled;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(scaled);
+    }
+}
@@ -0,0 +1,55 @@
+package com.taxmanager.taxmanagerapi.shared.money;
+
+import java.math.BigDecimal;
+
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * JSON for {@link Money}: written from its decimal text ({@code 96800.0000}) as a JSON
+ * number, exactly as {@code BigDecimal} amounts were, so responses and frozen snapshots
+ * keep their shape; read from a number or a string.
+ *
+ * <p>Registered in the application's mapper as a bean; code that builds its own mapper
+ * adds it with {@code addModule}.</p>
+ */
+@Component
+public class MoneyJacksonModule extends SimpleModule {
+
+    public MoneyJacksonModule() {
+        super("money");
+        addSerializer(Money.class, new MoneySerializer());
+        addDeserializer(Money.class, new MoneyDeserializer());
+    }
+
+    private static final class MoneySerializer extends ValueSerializer<Money> {
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeNumber(value.toString());
+        }
+    }
+
+    private static final class MoneyDeserializer extends ValueDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                BigDecimal value = p.getDecimalValue();
+                return Money.of(value);
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                return Money.of(p.getString().trim());
+            }
+            return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+        }
+    }
+}
@@ -7,7 +7,9 @@ import com.taxmanager.taxmanagerapi.taxpayer.application.dto.TaxpayerDetailResul
 import com.taxmanager.taxmanagerapi.taxpayer.application.dto.UpdateTaxpayerCommand;
 import com.taxmanager.taxmanagerapi.taxpayer.application.ports.in.command.UpdateTaxpayerUseCase;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.event.TaxpayerUpdatedEvent;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +18,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateTaxpayerService implements UpdateTaxpayerUseCase {
 
     private final TaxpayerRepository taxpayerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdateTaxpayerService(TaxpayerRepository taxpayerRepository) {
+    public UpdateTaxpayerService(TaxpayerRepository taxpayerRepository,
+                                  ApplicationEventPublisher eventPublisher) {
         this.taxpayerRepository = taxpayerRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -36,6 +41,7 @@ public class UpdateTaxpayerService implements UpdateTaxpayerUseCase {
         );
 
         taxpayer = taxpayerRepository.save(taxpayer);
+        eventPublisher.publishEvent(new TaxpayerUpdatedEvent(id));
         return toDetailResult(taxpayer);
     }
 
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
 import com.taxmanager.taxmanagerapi.shared.fiscal.CuitValidator;
+import com.taxmanager.taxmanagerapi.shared.id.UuidV7;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.enums.TaxCondition;
 
 import jakarta.persistence.Column;
@@ -68,7 +69,7 @@ public class Taxpayer {
                                   String email,
                                   String phone) {
         var taxpayer = new Taxpayer();
-        taxpayer.id = UUID.randomUUID();
+        taxpayer.id = UuidV7.generate();
         taxpayer.active = true;
         taxpayer.setBusinessName(businessName);
         taxpayer.setCuit(cuit);
@@ -0,0 +1,8 @@
+package com.taxmanager.taxmanagerapi.taxpayer.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a taxpayer's data (business name, tax condition, contact) is updated.
+ */
+public record TaxpayerUpdatedEvent(UUID taxpayerId) {}
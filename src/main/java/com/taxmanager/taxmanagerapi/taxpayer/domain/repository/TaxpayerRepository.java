@@ -1,5 +1,6 @@
 package com.taxmanager.taxmanagerapi.taxpayer.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,4 +19,7 @@ public interface TaxpayerRepository {
     Page<Taxpayer> findAllByActiveTrue(Pageable pageable);
 
     boolean existsByCuitAndActiveTrue(String cuit);
+
+    /** IDs of every active taxpayer, without loading the entities. */
+    List<UUID> findActiveIds();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.taxmanager.taxmanagerapi.taxpayer.infrastructure.persistence;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -7,6 +8,7 @@ import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface SpringDataTaxpayerRepository extends JpaRepository<Taxpayer, UUID> {
 
@@ -15,4 +17,7 @@ public interface SpringDataTaxpayerRepository extends JpaRepository<Taxpayer, UU
     Page<Taxpayer> findAllByActiveTrue(Pageable pageable);
 
     boolean existsByCuitAndActiveTrue(String cuit);
+
+    @Query("SELECT t.id FROM Taxpayer t WHERE t.active = true ORDER BY t.id")
+    List<UUID> findActiveIds();
 }
\ No newline at end of file
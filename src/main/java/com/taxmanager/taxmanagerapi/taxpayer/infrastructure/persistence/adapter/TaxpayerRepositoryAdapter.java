@@ -1,5 +1,6 @@
 package com.taxmanager.taxmanagerapi.taxpayer.infrastructure.persistence.adapter;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -43,4 +44,9 @@ public class TaxpayerRepositoryAdapter implements TaxpayerRepository {
     public boolean existsByCuitAndActiveTrue(String cuit) {
         return jpaRepository.existsByCuitAndActiveTrue(cuit);
     }
+
+    @Override
+    public List<UUID> findActiveIds() {
+        return jpaRepository.findActiveIds();
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.taxmanager.taxmanagerapi.taxpayer.infrastructure.web.controller;
 
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.idempotency.infrastructure.web.IdempotentRequestHandler;
 import com.taxmanager.taxmanagerapi.taxpayer.application.ports.in.command.CreateTaxpayerUseCase;
 import com.taxmanager.taxmanagerapi.taxpayer.application.ports.in.command.DeleteTaxpayerUseCase;
 import com.taxmanager.taxmanagerapi.taxpayer.application.ports.in.command.UpdateTaxpayerUseCase;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -37,26 +39,34 @@ public class TaxpayerController {
     private final UpdateTaxpayerUseCase updateTaxpayerUseCase;
     private final DeleteTaxpayerUseCase deleteTaxpayerUseCase;
     private final GetTaxpayerUseCase getTaxpayerUseCase;
+    private final IdempotentRequestHandler idempotentRequestHandler;
     private final TaxpayerWebMapper mapper;
 
     public TaxpayerController(CreateTaxpayerUseCase createTaxpayerUseCase,
                               UpdateTaxpayerUseCase updateTaxpayerUseCase,
                               DeleteTaxpayerUseCase deleteTaxpayerUseCase,
                               GetTaxpayerUseCase getTaxpayerUseCase,
+                              IdempotentRequestHandler idempotentRequestHandler,
                               TaxpayerWebMapper mapper) {
         this.createTaxpayerUseCase = createTaxpayerUseCase;
         this.updateTaxpayerUseCase = updateTaxpayerUseCase;
         this.deleteTaxpayerUseCase = deleteTaxpayerUseCase;
         this.getTaxpayerUseCase = getTaxpayerUseCase;
+        this.idempotentRequestHandler = idempotentRequestHandler;
         this.mapper = mapper;
     }
 
     @PostMapping
     @Operation(summary = "Crear contribuyente")
-    public ResponseEntity<TaxpayerDetailResponse> create(@Valid @RequestBody CreateTaxpayerRequest request) {
-        var command = mapper.toCommand(request);
-        var result = createTaxpayerUseCase.execute(command);
-        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(result));
+    public ResponseEntity<TaxpayerDetailResponse> create(
+            @RequestHeader(value = IdempotentRequestHandler.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateTaxpayerRequest request) {
+        return idempotentRequestHandler.execute(idempotencyKey, request, HttpStatus.CREATED,
+                TaxpayerDetailResponse.class, () -> {
+                    var command = mapper.toCommand(request);
+                    var result = createTaxpayerUseCase.execute(command);
+                    return mapper.toResponse(result);
+                });
     }
 
     @GetMapping
@@ -0,0 +1,159 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookCacheStatsResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process LRU cache of VAT book results, keyed by view, category, period
+ * and (optional) taxpayer. A {@link View#YEAR_TO_DATE} series is keyed by the December
+ * of its year and depends on every month of it.
+ *
+ * <p>Months that already ended do not expire: they only leave the cache when a write
+ * evicts them or the LRU bound pushes them out. The current (and future) months expire
+ * after {@code vat-book.cache.open-period-ttl}, as a safety net for writes that bypass
+ * the application.</p>
+ *
+ * <p>A load that overlaps an eviction is returned to its caller but not stored, so a
+ * book computed before a write committed is never cached after it.</p>
+ */
+@Component
+public class VatBookCache {
+
+    private static final ZoneId FISCAL_ZONE = ZoneId.of("America/Argentina/Buenos_Aires");
+
+    public enum View { BOOK, SUMMARY, YEAR_TO_DATE }
+
+    public record Key(View view, VoucherCategory category, YearMonth period, UUID taxpayerId) {}
+
+    /** {@code expiresAt} is null for entries that never expire. */
+    private record Entry(Object value, Instant expiresAt) {}
+
+    private final int maxEntries;
+    private final Duration openPeriodTtl;
+    private final Clock clock;
+
+    private final Map<Key, Entry> entries;
+    private long invalidations; // guarded by this
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder writeEvictions = new LongAdder();
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @Autowired
+    public VatBookCache(@Value("${vat-book.cache.max-entries:500}") int maxEntries,
+                        @Value("${vat-book.cache.open-period-ttl:5m}") Duration openPeriodTtl) {
+        this(maxEntries, openPeriodTtl, Clock.system(FISCAL_ZONE));
+    }
+
+    VatBookCache(int maxEntries, Duration openPeriodTtl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.openPeriodTtl = openPeriodTtl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > VatBookCache.this.maxEntries) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for {@code key}, or computes it with {@code loader}.
+     * The loader runs outside the cache lock; exceptions propagate and nothing is stored.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader) {
+        long stamp;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() == null || clock.instant().isBefore(entry.expiresAt())) {
+                    hits.increment();
+                    return (T) entry.value();
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+            stamp = invalidations;
+        }
+
+        misses.increment();
+        T value = loader.get();
+
+        synchronized (this) {
+            if (invalidations == stamp) {
+                entries.put(key, new Entry(value, expiresAt(key.period())));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Evicts the books of {@code period}, and the series of its year, that include
+     * {@code taxpayerId}'s vouchers.
+     */
+    public synchronized void evictPeriod(UUID taxpayerId, VoucherCategory category, YearMonth period) {
+        evictIf(key -> key.category() == category
+                && (key.view() == View.YEAR_TO_DATE
+                        ? key.period().getYear() == period.getYear()
+                        : key.period().equals(period))
+                && (key.taxpayerId() == null || key.taxpayerId().equals(taxpayerId)));
+    }
+
+    /** Evicts every book that includes {@code taxpayerId}'s vouchers, in any period. */
+    public synchronized void evictTaxpayer(UUID taxpayerId) {
+        evictIf(key -> key.taxpayerId() == null || key.taxpayerId().equals(taxpayerId));
+    }
+
+    public synchronized VatBookCacheStatsResult stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return new VatBookCacheStatsResult(
+                hitCount,
+                missCount,
+                requests == 0 ? 0.0 : (double) hitCount / requests,
+                writeEvictions.sum(),
+                sizeEvictions.sum(),
+                expirations.sum(),
+                entries.size(),
+                maxEntries
+        );
+    }
+
+    private void evictIf(Predicate<Key> predicate) {
+        invalidations++;
+        var it = entries.keySet().iterator();
+        while (it.hasNext()) {
+            if (predicate.test(it.next())) {
+                it.remove();
+                writeEvictions.increment();
+            }
+        }
+    }
+
+    private Instant expiresAt(YearMonth period) {
+        return period.isBefore(YearMonth.now(clock)) ? null : clock.instant().plus(openPeriodTtl);
+    }
+}
@@ -0,0 +1,13 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record FiscalPeriodClosingResult(
+        UUID taxpayerId,
+        String period,
+        LocalDateTime closedAt,
+        int purchasesVoucherCount,
+        int salesVoucherCount,
+        long snapshotBytes
+) {}
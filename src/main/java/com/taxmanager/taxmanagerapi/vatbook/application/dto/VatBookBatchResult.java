@@ -0,0 +1,25 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+
+/**
+ * Progress of a month-end batch, aggregated from its exports. {@code progress} is the
+ * percentage of exports finished (done or failed).
+ */
+public record VatBookBatchResult(
+        UUID batchId,
+        String period,
+        VatBookExportFormat format,
+        int exportCount,
+        int pendingCount,
+        int runningCount,
+        int doneCount,
+        int failedCount,
+        long processedCount,
+        long expectedCount,
+        int progress,
+        List<VatBookExportResult> exports
+) {}
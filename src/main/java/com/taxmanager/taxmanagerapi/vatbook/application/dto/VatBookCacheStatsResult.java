@@ -0,0 +1,12 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+public record VatBookCacheStatsResult(
+        long hits,
+        long misses,
+        double hitRate,
+        long writeEvictions,
+        long sizeEvictions,
+        long expirations,
+        int size,
+        int maxEntries
+) {}
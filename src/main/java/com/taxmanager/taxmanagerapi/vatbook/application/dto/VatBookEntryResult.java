@@ -1,9 +1,10 @@
 package com.taxmanager.taxmanagerapi.vatbook.application.dto;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
 
 public record VatBookEntryResult(
@@ -14,8 +15,9 @@ public record VatBookEntryResult(
         long voucherNumber,
         String taxpayerBusinessName,
         String taxpayerCuit,
-        BigDecimal netAmount,
-        BigDecimal vatAmount,
-        BigDecimal exemptAmount,
-        BigDecimal totalAmount
+        Money netAmount,
+        Money vatAmount,
+        Money exemptAmount,
+        Money totalAmount,
+        List<VatRateAmountResult> vatLines
 ) {}
@@ -0,0 +1,11 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import java.io.InputStream;
+
+/** A finished export ready to be sent; the caller closes {@code content}. */
+public record VatBookExportFileResult(
+        String fileName,
+        String contentType,
+        long size,
+        InputStream content
+) {}
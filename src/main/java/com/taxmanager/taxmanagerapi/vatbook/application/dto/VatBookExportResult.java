@@ -0,0 +1,26 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+public record VatBookExportResult(
+        UUID id,
+        UUID taxpayerId,
+        VoucherCategory category,
+        String period,
+        VatBookExportFormat format,
+        VatBookExportStatus status,
+        Integer expectedCount,
+        Integer processedCount,
+        Integer progress,
+        Integer voucherCount,
+        Long fileSize,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {}
@@ -0,0 +1,15 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+
+/** Signed totals of one month and their running sums since January. */
+public record VatBookMonthResult(
+        String period,
+        long voucherCount,
+        Money netAmount,
+        Money vatAmount,
+        Money totalAmount,
+        Money cumulativeNetAmount,
+        Money cumulativeVatAmount,
+        Money cumulativeTotalAmount
+) {}
@@ -0,0 +1,13 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+/** One page of a VAT book; {@code nextCursor} is {@code null} on the last page. */
+public record VatBookPageResult(
+        String period,
+        VoucherCategory category,
+        List<VatBookEntryResult> entries,
+        String nextCursor
+) {}
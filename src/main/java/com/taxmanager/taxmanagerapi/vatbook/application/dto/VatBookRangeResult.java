@@ -0,0 +1,14 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+public record VatBookRangeResult(
+        String from,
+        String to,
+        VoucherCategory category,
+        List<VatBookResult> periods,
+        VatBookTotalsResult totals,
+        int voucherCount
+) {}
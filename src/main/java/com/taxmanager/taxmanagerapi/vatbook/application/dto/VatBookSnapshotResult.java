@@ -0,0 +1,10 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+/**
+ * Frozen VAT book: {@code content} is gzip-compressed JSON ready to be written
+ * to the response as is.
+ */
+public record VatBookSnapshotResult(
+        byte[] content,
+        int uncompressedSize
+) {}
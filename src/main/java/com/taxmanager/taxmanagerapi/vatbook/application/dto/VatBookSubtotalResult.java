@@ -0,0 +1,13 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+public record VatBookSubtotalResult(
+        VoucherType voucherType,
+        int voucherCount,
+        Money netAmount,
+        Money vatAmount,
+        Money exemptAmount,
+        Money totalAmount
+) {}
@@ -0,0 +1,13 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+public record VatBookSummaryResult(
+        String period,
+        VoucherCategory category,
+        VatBookTotalsResult totals,
+        List<VatBookSubtotalResult> subtotals,
+        int voucherCount
+) {}
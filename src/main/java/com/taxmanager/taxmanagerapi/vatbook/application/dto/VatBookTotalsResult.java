@@ -1,10 +1,13 @@
 package com.taxmanager.taxmanagerapi.vatbook.application.dto;
 
-import java.math.BigDecimal;
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 
 public record VatBookTotalsResult(
-        BigDecimal netAmount,
-        BigDecimal vatAmount,
-        BigDecimal exemptAmount,
-        BigDecimal totalAmount
+        Money netAmount,
+        Money vatAmount,
+        Money exemptAmount,
+        Money totalAmount,
+        List<VatRateAmountResult> vatRates
 ) {}
@@ -0,0 +1,12 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+/** Month-by-month and cumulative series of a year, one element per month from January. */
+public record VatBookYearToDateResult(
+        int year,
+        VoucherCategory category,
+        List<VatBookMonthResult> months
+) {}
@@ -0,0 +1,24 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+
+/**
+ * Débito fiscal, crédito fiscal and their difference for one taxpayer and period. Each
+ * side is its invoices' VAT minus its credit notes' VAT; a positive {@code position} is
+ * VAT to pay, a negative one a balance in the taxpayer's favour.
+ */
+public record VatPositionResult(
+        UUID taxpayerId,
+        String period,
+        long salesVoucherCount,
+        Money salesVat,
+        Money salesCreditNoteVat,
+        Money fiscalDebit,
+        long purchaseVoucherCount,
+        Money purchaseVat,
+        Money purchaseCreditNoteVat,
+        Money fiscalCredit,
+        Money position
+) {}
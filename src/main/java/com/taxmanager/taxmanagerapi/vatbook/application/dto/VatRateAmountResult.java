@@ -0,0 +1,10 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.dto;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+
+public record VatRateAmountResult(
+        VatRate rate,
+        Money netAmount,
+        Money vatAmount
+) {}
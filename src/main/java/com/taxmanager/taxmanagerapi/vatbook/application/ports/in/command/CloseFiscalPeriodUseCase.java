@@ -0,0 +1,15 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.FiscalPeriodClosingResult;
+
+/**
+ * Closes a taxpayer's fiscal period: freezes both VAT books as snapshots and
+ * rejects any later voucher for that period.
+ */
+public interface CloseFiscalPeriodUseCase {
+
+    FiscalPeriodClosingResult execute(UUID taxpayerId, YearMonth period);
+}
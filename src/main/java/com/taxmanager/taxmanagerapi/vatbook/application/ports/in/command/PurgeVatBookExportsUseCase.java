@@ -0,0 +1,10 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command;
+
+/**
+ * Deletes finished exports (row and file) older than the retention period.
+ */
+public interface PurgeVatBookExportsUseCase {
+
+    /** @return number of exports deleted */
+    int execute();
+}
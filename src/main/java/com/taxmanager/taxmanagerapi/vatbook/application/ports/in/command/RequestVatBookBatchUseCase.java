@@ -0,0 +1,15 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command;
+
+import java.time.YearMonth;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookBatchResult;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+
+/**
+ * Queues the month-end batch: the purchases and sales books of {@code period} of every
+ * active taxpayer, exported in {@code format}.
+ */
+public interface RequestVatBookBatchUseCase {
+
+    VatBookBatchResult execute(YearMonth period, VatBookExportFormat format);
+}
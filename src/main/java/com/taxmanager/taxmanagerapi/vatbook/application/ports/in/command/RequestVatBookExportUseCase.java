@@ -0,0 +1,20 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportResult;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+/**
+ * Queues a VAT book export; the file is rendered in the background and the returned
+ * export is {@code PENDING}.
+ */
+public interface RequestVatBookExportUseCase {
+
+    VatBookExportResult execute(VoucherCategory category,
+                                YearMonth period,
+                                UUID taxpayerId,
+                                VatBookExportFormat format);
+}
@@ -0,0 +1,13 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Renders the exports of a month-end batch concurrently and returns once all of them
+ * finished. Called from the background, never from a request thread.
+ */
+public interface RunVatBookBatchUseCase {
+
+    void execute(List<UUID> exportIds);
+}
@@ -0,0 +1,16 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Renders a queued export into the export storage. Called from the background
+ * workers, never from a request thread.
+ */
+public interface RunVatBookExportUseCase {
+
+    void execute(UUID exportId);
+
+    /** Exports left pending or running (e.g. by a restart), oldest first. */
+    List<UUID> findUnfinished();
+}
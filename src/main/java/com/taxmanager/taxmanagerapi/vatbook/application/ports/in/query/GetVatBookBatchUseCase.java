@@ -0,0 +1,10 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query;
+
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookBatchResult;
+
+public interface GetVatBookBatchUseCase {
+
+    VatBookBatchResult execute(UUID batchId);
+}
@@ -0,0 +1,8 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookCacheStatsResult;
+
+public interface GetVatBookCacheStatsUseCase {
+
+    VatBookCacheStatsResult execute();
+}
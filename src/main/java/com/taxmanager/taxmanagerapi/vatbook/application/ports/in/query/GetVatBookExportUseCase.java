@@ -0,0 +1,14 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query;
+
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportFileResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportResult;
+
+public interface GetVatBookExportUseCase {
+
+    VatBookExportResult execute(UUID exportId);
+
+    /** The rendered file; only available once the export is {@code DONE}. */
+    VatBookExportFileResult openFile(UUID exportId);
+}
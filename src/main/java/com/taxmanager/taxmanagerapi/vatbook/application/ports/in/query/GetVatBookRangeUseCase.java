@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookRangeResult;
+
+/**
+ * VAT books of several consecutive periods (up to a full fiscal year), one section
+ * per month plus the grand total. {@code from} and {@code to} are inclusive.
+ */
+public interface GetVatBookRangeUseCase {
+
+    VatBookRangeResult getPurchases(YearMonth from, YearMonth to, UUID taxpayerId);
+
+    VatBookRangeResult getSales(YearMonth from, YearMonth to, UUID taxpayerId);
+}
@@ -0,0 +1,14 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query;
+
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSnapshotResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+public interface GetVatBookSnapshotUseCase {
+
+    /** Empty when the period is not closed for that taxpayer. */
+    Optional<VatBookSnapshotResult> execute(UUID taxpayerId, VoucherCategory category, YearMonth period);
+}
@@ -1,12 +1,52 @@
 package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query;
 
+import java.time.Year;
 import java.time.YearMonth;
+import java.util.UUID;
+import java.util.function.Consumer;
 
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookPageResult;
 import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookYearToDateResult;
 
+/**
+ * VAT book queries. Every method takes an optional {@code taxpayerId}: when present the
+ * book only contains that taxpayer's vouchers, when {@code null} it covers all of them.
+ */
 public interface GetVatBookUseCase {
 
-    VatBookResult getPurchases(YearMonth period);
+    VatBookResult getPurchases(YearMonth period, UUID taxpayerId);
 
-    VatBookResult getSales(YearMonth period);
+    VatBookResult getSales(YearMonth period, UUID taxpayerId);
+
+    VatBookSummaryResult getPurchasesSummary(YearMonth period, UUID taxpayerId);
+
+    VatBookSummaryResult getSalesSummary(YearMonth period, UUID taxpayerId);
+
+    /**
+     * Up to {@code limit} entries of the book in book order, starting after {@code cursor}
+     * (the {@code nextCursor} of the previous page, {@code null} for the first page).
+     */
+    VatBookPageResult getPurchasesPage(YearMonth period, UUID taxpayerId, String cursor, int limit);
+
+    VatBookPageResult getSalesPage(YearMonth period, UUID taxpayerId, String cursor, int limit);
+
+    /**
+     * Monthly and year-to-date totals of the twelve months of {@code year}, read from the
+     * period totals rather than the vouchers. Months without vouchers carry zero amounts
+     * and the running sums of the month before.
+     */
+    VatBookYearToDateResult getPurchasesYearToDate(Year year, UUID taxpayerId);
+
+    VatBookYearToDateResult getSalesYearToDate(Year year, UUID taxpayerId);
+
+    /**
+     * Pushes each entry of the book to {@code sink} as it is read from the database
+     * and returns the totals once the period is exhausted. No entry list is kept.
+     */
+    VatBookSummaryResult streamPurchases(YearMonth period, UUID taxpayerId, Consumer<VatBookEntryResult> sink);
+
+    VatBookSummaryResult streamSales(YearMonth period, UUID taxpayerId, Consumer<VatBookEntryResult> sink);
 }
@@ -0,0 +1,12 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+public interface GetVatBookVersionUseCase {
+
+    /** Changes whenever a VAT book of {@code from..to} may have changed; reads no voucher. */
+    long execute(VoucherCategory category, YearMonth from, YearMonth to, UUID taxpayerId);
+}
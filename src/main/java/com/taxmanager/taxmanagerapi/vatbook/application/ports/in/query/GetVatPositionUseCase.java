@@ -0,0 +1,12 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatPositionResult;
+
+/** VAT position of a taxpayer's period: sales VAT (débito fiscal) minus purchase VAT (crédito fiscal). */
+public interface GetVatPositionUseCase {
+
+    VatPositionResult execute(UUID taxpayerId, YearMonth period);
+}
@@ -0,0 +1,30 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.out;
+
+import java.io.OutputStream;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+/**
+ * Renders a VAT book into a document of an export format while its entries are streamed.
+ */
+public interface VatBookDocumentRenderer {
+
+    Set<VatBookExportFormat> formats();
+
+    /**
+     * Renders the book into {@code out}. {@code book} streams the entries into the
+     * consumer it is given and returns the summary once the last entry was sent.
+     */
+    VatBookSummaryResult render(VatBookExportFormat format,
+                                VoucherCategory category,
+                                YearMonth period,
+                                OutputStream out,
+                                Function<Consumer<VatBookEntryResult>, VatBookSummaryResult> book);
+}
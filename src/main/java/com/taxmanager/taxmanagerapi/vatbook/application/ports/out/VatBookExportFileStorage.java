@@ -0,0 +1,20 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.out;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * Where rendered exports are kept until they are downloaded or purged.
+ */
+public interface VatBookExportFileStorage {
+
+    /** Opens the export's file for writing, replacing any previous content. */
+    OutputStream create(UUID exportId);
+
+    InputStream open(UUID exportId);
+
+    long size(UUID exportId);
+
+    void delete(UUID exportId);
+}
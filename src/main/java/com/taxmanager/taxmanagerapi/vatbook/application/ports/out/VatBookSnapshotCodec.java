@@ -0,0 +1,16 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.ports.out;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSnapshotResult;
+
+/**
+ * Stored form of a frozen book: the gzip-compressed body that {@code GET /vat-books}
+ * sends for it, so a closed period can be served without decoding it.
+ */
+public interface VatBookSnapshotCodec {
+
+    VatBookSnapshotResult encode(VatBookResult book);
+
+    /** The book back from {@link VatBookSnapshotResult#content()}. */
+    VatBookResult decode(byte[] content);
+}
@@ -0,0 +1,38 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.progress;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Rows written so far by the exports running in this instance.
+ *
+ * <p>Kept in memory rather than in {@code vat_book_exports}: the renderer runs inside the
+ * read-only transaction of the voucher cursor, and a counter per row is far cheaper than
+ * an update per batch. Exports only appear here while they are {@code RUNNING}.</p>
+ */
+@Component
+public class VatBookExportProgress {
+
+    private final Map<UUID, AtomicInteger> processed = new ConcurrentHashMap<>();
+
+    /** Registers a running export and returns its counter, to be incremented per row. */
+    public AtomicInteger track(UUID exportId) {
+        AtomicInteger counter = new AtomicInteger();
+        processed.put(exportId, counter);
+        return counter;
+    }
+
+    public void remove(UUID exportId) {
+        processed.remove(exportId);
+    }
+
+    /** Rows written so far, or {@code null} if the export is not running here. */
+    public Integer processed(UUID exportId) {
+        AtomicInteger counter = processed.get(exportId);
+        return counter == null ? null : counter.get();
+    }
+}
@@ -0,0 +1,102 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.cache.VatBookCache;
+import com.taxmanager.taxmanagerapi.vatbook.application.cache.VatBookCache.Key;
+import com.taxmanager.taxmanagerapi.vatbook.application.cache.VatBookCache.View;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookCacheStatsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookPageResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookYearToDateResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookCacheStatsUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookUseCase;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves books, totals and year-to-date series from {@link VatBookCache}, delegating misses to
+ * {@link GetVatBookService}. It is not transactional, so a hit never borrows a
+ * database connection. Streams and pages are not cached: they exist to keep memory flat.
+ */
+@Service
+@Primary
+public class CachedGetVatBookService implements GetVatBookUseCase, GetVatBookCacheStatsUseCase {
+
+    private final GetVatBookService delegate;
+    private final VatBookCache cache;
+
+    public CachedGetVatBookService(GetVatBookService delegate, VatBookCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public VatBookResult getPurchases(YearMonth period, UUID taxpayerId) {
+        return cache.get(new Key(View.BOOK, VoucherCategory.PURCHASE, period, taxpayerId),
+                () -> delegate.getPurchases(period, taxpayerId));
+    }
+
+    @Override
+    public VatBookResult getSales(YearMonth period, UUID taxpayerId) {
+        return cache.get(new Key(View.BOOK, VoucherCategory.SALE, period, taxpayerId),
+                () -> delegate.getSales(period, taxpayerId));
+    }
+
+    @Override
+    public VatBookSummaryResult getPurchasesSummary(YearMonth period, UUID taxpayerId) {
+        return cache.get(new Key(View.SUMMARY, VoucherCategory.PURCHASE, period, taxpayerId),
+                () -> delegate.getPurchasesSummary(period, taxpayerId));
+    }
+
+    @Override
+    public VatBookSummaryResult getSalesSummary(YearMonth period, UUID taxpayerId) {
+        return cache.get(new Key(View.SUMMARY, VoucherCategory.SALE, period, taxpayerId),
+                () -> delegate.getSalesSummary(period, taxpayerId));
+    }
+
+    @Override
+    public VatBookYearToDateResult getPurchasesYearToDate(Year year, UUID taxpayerId) {
+        return cache.get(new Key(View.YEAR_TO_DATE, VoucherCategory.PURCHASE, year.atMonth(12), taxpayerId),
+                () -> delegate.getPurchasesYearToDate(year, taxpayerId));
+    }
+
+    @Override
+    public VatBookYearToDateResult getSalesYearToDate(Year year, UUID taxpayerId) {
+        return cache.get(new Key(View.YEAR_TO_DATE, VoucherCategory.SALE, year.atMonth(12), taxpayerId),
+                () -> delegate.getSalesYearToDate(year, taxpayerId));
+    }
+
+    @Override
+    public VatBookPageResult getPurchasesPage(YearMonth period, UUID taxpayerId, String cursor, int limit) {
+        return delegate.getPurchasesPage(period, taxpayerId, cursor, limit);
+    }
+
+    @Override
+    public VatBookPageResult getSalesPage(YearMonth period, UUID taxpayerId, String cursor, int limit) {
+        return delegate.getSalesPage(period, taxpayerId, cursor, limit);
+    }
+
+    @Override
+    public VatBookSummaryResult streamPurchases(YearMonth period, UUID taxpayerId,
+                                                Consumer<VatBookEntryResult> sink) {
+        return delegate.streamPurchases(period, taxpayerId, sink);
+    }
+
+    @Override
+    public VatBookSummaryResult streamSales(YearMonth period, UUID taxpayerId,
+                                            Consumer<VatBookEntryResult> sink) {
+        return delegate.streamSales(period, taxpayerId, sink);
+    }
+
+    @Override
+    public VatBookCacheStatsResult execute() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,88 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.entity.FiscalPeriodClosing;
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.repository.FiscalPeriodClosingRepository;
+import com.taxmanager.taxmanagerapi.shared.exception.ConflictException;
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.FiscalPeriodClosingResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSnapshotResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.CloseFiscalPeriodUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookSnapshotCodec;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookSnapshot;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookSnapshotRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class CloseFiscalPeriodService implements CloseFiscalPeriodUseCase {
+
+    private static final ZoneId FISCAL_ZONE = ZoneId.of("America/Argentina/Buenos_Aires");
+
+    private final TaxpayerRepository taxpayerRepository;
+    private final FiscalPeriodClosingRepository closingRepository;
+    private final VatBookSnapshotRepository snapshotRepository;
+    private final GetVatBookService getVatBookService;
+    private final VatBookSnapshotCodec snapshotCodec;
+
+    public CloseFiscalPeriodService(TaxpayerRepository taxpayerRepository,
+                                    FiscalPeriodClosingRepository closingRepository,
+                                    VatBookSnapshotRepository snapshotRepository,
+                                    GetVatBookService getVatBookService,
+                                    VatBookSnapshotCodec snapshotCodec) {
+        this.taxpayerRepository = taxpayerRepository;
+        this.closingRepository = closingRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.getVatBookService = getVatBookService;
+        this.snapshotCodec = snapshotCodec;
+    }
+
+    @Override
+    public FiscalPeriodClosingResult execute(UUID taxpayerId, YearMonth period) {
+        taxpayerRepository.findById(taxpayerId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "No se encontró contribuyente con ID " + taxpayerId));
+
+        if (!period.isBefore(YearMonth.now(FISCAL_ZONE))) {
+            throw new DomainValidationException(
+                    "Sólo se pueden cerrar períodos terminados: " + period);
+        }
+
+        // Waits for in-flight voucher writes of this taxpayer and blocks new ones until commit
+        closingRepository.lockForClosing(taxpayerId);
+        if (closingRepository.isClosed(taxpayerId, period)) {
+            throw new ConflictException("El período " + period + " ya está cerrado para el contribuyente");
+        }
+
+        FiscalPeriodClosing closing = closingRepository.save(FiscalPeriodClosing.create(taxpayerId, period));
+
+        // Computed from the database, never from the cache (there is no snapshot to read yet)
+        VatBookResult purchases = getVatBookService.getPurchases(period, taxpayerId);
+        VatBookResult sales = getVatBookService.getSales(period, taxpayerId);
+
+        VatBookSnapshot purchasesSnapshot = snapshotRepository.save(toSnapshot(taxpayerId, period, purchases));
+        VatBookSnapshot salesSnapshot = snapshotRepository.save(toSnapshot(taxpayerId, period, sales));
+
+        return new FiscalPeriodClosingResult(
+                taxpayerId,
+                period.toString(),
+                closing.getClosedAt(),
+                purchases.voucherCount(),
+                sales.voucherCount(),
+                (long) purchasesSnapshot.getContent().length + salesSnapshot.getContent().length
+        );
+    }
+
+    private VatBookSnapshot toSnapshot(UUID taxpayerId, YearMonth period, VatBookResult book) {
+        VatBookSnapshotResult encoded = snapshotCodec.encode(book);
+        return VatBookSnapshot.create(taxpayerId, period, book.category(), book.voucherCount(),
+                encoded.content(), encoded.uncompressedSize());
+    }
+}
@@ -0,0 +1,40 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookBatchResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookBatchUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.progress.VatBookExportProgress;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Progress of a month-end batch, read from its exports: one indexed query on
+ * {@code batch_id} plus the in-memory counters of the exports running here.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetVatBookBatchService implements GetVatBookBatchUseCase {
+
+    private final VatBookExportRepository exportRepository;
+    private final VatBookExportProgress progress;
+
+    public GetVatBookBatchService(VatBookExportRepository exportRepository,
+                                  VatBookExportProgress progress) {
+        this.exportRepository = exportRepository;
+        this.progress = progress;
+    }
+
+    @Override
+    public VatBookBatchResult execute(UUID batchId) {
+        List<VatBookExport> exports = exportRepository.findByBatchId(batchId);
+        if (exports.isEmpty()) {
+            throw new ResourceNotFoundException("No se encontró el lote con ID " + batchId);
+        }
+        return VatBookExportResults.toBatchResult(batchId, exports, progress);
+    }
+}
@@ -0,0 +1,75 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.ConflictException;
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportFileResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookExportUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookExportFileStorage;
+import com.taxmanager.taxmanagerapi.vatbook.application.progress.VatBookExportProgress;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class GetVatBookExportService implements GetVatBookExportUseCase {
+
+    private final VatBookExportRepository exportRepository;
+    private final VatBookExportFileStorage fileStorage;
+    private final VatBookExportProgress progress;
+
+    public GetVatBookExportService(VatBookExportRepository exportRepository,
+                                   VatBookExportFileStorage fileStorage,
+                                   VatBookExportProgress progress) {
+        this.exportRepository = exportRepository;
+        this.fileStorage = fileStorage;
+        this.progress = progress;
+    }
+
+    @Override
+    public VatBookExportResult execute(UUID exportId) {
+        return VatBookExportResults.toResult(findExport(exportId), progress);
+    }
+
+    @Override
+    public VatBookExportFileResult openFile(UUID exportId) {
+        VatBookExport export = findExport(exportId);
+        if (export.getStatus() == VatBookExportStatus.FAILED) {
+            throw new ConflictException("La exportación falló: " + export.getError());
+        }
+        if (export.getStatus() != VatBookExportStatus.DONE) {
+            throw new ConflictException(
+                    "La exportación todavía no está lista (estado " + export.getStatus() + ")");
+        }
+
+        return new VatBookExportFileResult(
+                fileName(export),
+                export.getFormat().getContentType(),
+                export.getFileSize(),
+                fileStorage.open(exportId)
+        );
+    }
+
+    private VatBookExport findExport(UUID exportId) {
+        return exportRepository.findById(exportId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "No se encontró la exportación con ID " + exportId));
+    }
+
+    /** Same names as the synchronous downloads, e.g. {@code LIBRO_IVA_DIGITAL_VENTAS_CBTE_2026-02.txt}. */
+    private String fileName(VatBookExport export) {
+        String book = export.getCategory() == VoucherCategory.PURCHASE ? "COMPRAS_" : "VENTAS_";
+        String name = switch (export.getFormat()) {
+            case AFIP_VOUCHERS -> "LIBRO_IVA_DIGITAL_" + book + "CBTE_";
+            case AFIP_RATES -> "LIBRO_IVA_DIGITAL_" + book + "ALICUOTAS_";
+            default -> "LIBRO_IVA_" + book;
+        };
+        return name + export.getYearMonth() + "." + export.getFormat().getExtension();
+    }
+}
@@ -0,0 +1,159 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookRangeResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatRateAmountResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookRangeUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookUseCase;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builds each month of the range on its own virtual thread through {@link GetVatBookUseCase}
+ * (so months already in the cache cost nothing, and closed months of a taxpayer are read
+ * from their snapshot instead of being recomputed). A semaphore shared by all requests caps how
+ * many months are being computed at once, which bounds the database connections this
+ * endpoint can hold regardless of how many ranges are requested concurrently.
+ * Not transactional: each month runs in its own read-only transaction.
+ */
+@Service
+public class GetVatBookRangeService implements GetVatBookRangeUseCase {
+
+    static final int MAX_PERIODS = 12;
+
+    private final GetVatBookUseCase getVatBookUseCase;
+    private final Semaphore connectionBudget;
+
+    public GetVatBookRangeService(GetVatBookUseCase getVatBookUseCase,
+                                  @Value("${vat-book.range.max-concurrency:4}") int maxConcurrency) {
+        this.getVatBookUseCase = getVatBookUseCase;
+        this.connectionBudget = new Semaphore(maxConcurrency, true);
+    }
+
+    @Override
+    public VatBookRangeResult getPurchases(YearMonth from, YearMonth to, UUID taxpayerId) {
+        return buildRange(from, to, VoucherCategory.PURCHASE,
+                month -> getVatBookUseCase.getPurchases(month, taxpayerId));
+    }
+
+    @Override
+    public VatBookRangeResult getSales(YearMonth from, YearMonth to, UUID taxpayerId) {
+        return buildRange(from, to, VoucherCategory.SALE,
+                month -> getVatBookUseCase.getSales(month, taxpayerId));
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────
+
+    private VatBookRangeResult buildRange(YearMonth from,
+                                          YearMonth to,
+                                          VoucherCategory category,
+                                          Function<YearMonth, VatBookResult> monthlyBook) {
+        validateRange(from, to);
+
+        List<VatBookResult> periods = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<VatBookResult>> futures = new ArrayList<>();
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                futures.add(executor.submit(withinBudget(month, monthlyBook)));
+            }
+            for (Future<VatBookResult> future : futures) {
+                periods.add(await(future));
+            }
+        }
+
+        return merge(from, to, category, periods);
+    }
+
+    private Callable<VatBookResult> withinBudget(YearMonth month, Function<YearMonth, VatBookResult> monthlyBook) {
+        return () -> {
+            connectionBudget.acquire();
+            try {
+                return monthlyBook.apply(month);
+            } finally {
+                connectionBudget.release();
+            }
+        };
+    }
+
+    private VatBookResult await(Future<VatBookResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido mientras se armaba el libro IVA", e);
+        } catch (ExecutionException e) {
+            // Surface the original exception (e.g. ResourceNotFoundException → 404)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void validateRange(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("El período 'from' (" + from + ") es posterior a 'to' (" + to + ")");
+        }
+        if (from.plusMonths(MAX_PERIODS - 1).isBefore(to)) {
+            throw new BadRequestException("El rango no puede superar " + MAX_PERIODS + " períodos");
+        }
+    }
+
+    private VatBookRangeResult merge(YearMonth from,
+                                     YearMonth to,
+                                     VoucherCategory category,
+                                     List<VatBookResult> periods) {
+        Money netTotal = Money.ZERO;
+        Money vatTotal = Money.ZERO;
+        Money exemptTotal = Money.ZERO;
+        Money totalTotal = Money.ZERO;
+        int voucherCount = 0;
+        // Enum order, like the totals of each period
+        Map<VatRate, Money> rateNet = new EnumMap<>(VatRate.class);
+        Map<VatRate, Money> rateVat = new EnumMap<>(VatRate.class);
+
+        for (VatBookResult period : periods) {
+            netTotal = netTotal.plus(period.totals().netAmount());
+            vatTotal = vatTotal.plus(period.totals().vatAmount());
+            exemptTotal = exemptTotal.plus(period.totals().exemptAmount());
+            totalTotal = totalTotal.plus(period.totals().totalAmount());
+            voucherCount += period.voucherCount();
+            for (VatRateAmountResult rate : period.totals().vatRates()) {
+                rateNet.merge(rate.rate(), rate.netAmount(), Money::plus);
+                rateVat.merge(rate.rate(), rate.vatAmount(), Money::plus);
+            }
+        }
+
+        List<VatRateAmountResult> vatRates = rateNet.keySet().stream()
+                .map(rate -> new VatRateAmountResult(rate, rateNet.get(rate), rateVat.get(rate)))
+                .toList();
+
+        return new VatBookRangeResult(
+                from.toString(),
+                to.toString(),
+                category,
+                periods,
+                new VatBookTotalsResult(netTotal, vatTotal, exemptTotal, totalTotal, vatRates),
+                voucherCount
+        );
+    }
+}
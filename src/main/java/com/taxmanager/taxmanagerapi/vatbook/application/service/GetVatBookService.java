@@ -1,117 +1,445 @@
 package com.taxmanager.taxmanagerapi.vatbook.application.service;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
 import com.taxmanager.taxmanagerapi.shared.fiscal.CuitValidator;
-import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
 import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookMonthResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookPageResult;
 import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
-import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookYearToDateResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatRateAmountResult;
 import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookUseCase;
-import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookSnapshotCodec;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookSnapshot;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookSnapshotRepository;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodCumulativeTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatRateTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookRow;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherTypeTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherVatLineRow;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
 import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Builds VAT books and their totals. Totals are signed per voucher type (credit notes
+ * subtract) and accumulated by {@link VatBookTotalsAccumulator}.
+ *
+ * <p>The VAT rate lines of the book rows are read in batches of {@value #VAT_LINES_BATCH}
+ * vouchers, one query per batch, never one per voucher.</p>
+ *
+ * <p>Pages of entries are read by keyset: each page resumes after the book-order key of
+ * the previous page's last row, carried by the client as an opaque cursor.</p>
+ *
+ * <p>A closed period of a taxpayer is never rebuilt: its book, totals, pages, streams and
+ * year-to-date months all come from the snapshot frozen by {@code CloseFiscalPeriodService},
+ * so an export or a renamed taxpayer cannot make them disagree with what was filed.</p>
+ */
 @Service
 @Transactional(readOnly = true)
 public class GetVatBookService implements GetVatBookUseCase {
 
+    /** Vouchers whose VAT lines are read in one query; the fetch size of the book cursor. */
+    static final int VAT_LINES_BATCH = 500;
+
+    /** Largest page of entries; one batch, so a page reads its VAT lines in one query. */
+    static final int MAX_PAGE_SIZE = VAT_LINES_BATCH;
+
+    // The order of the book queries; ids compare as PostgreSQL does, by their unsigned bytes
+    private static final Comparator<VoucherBookKey> BOOK_ORDER = Comparator
+            .comparing(VoucherBookKey::issueDate)
+            .thenComparingInt(VoucherBookKey::pointOfSale)
+            .thenComparingLong(VoucherBookKey::voucherNumber)
+            .thenComparing(key -> key.id().toString());
+
     private final VoucherRepository voucherRepository;
     private final TaxpayerRepository taxpayerRepository;
+    private final VatPeriodTotalsRepository vatPeriodTotalsRepository;
+    private final VatBookSnapshotRepository snapshotRepository;
+    private final VatBookSnapshotCodec snapshotCodec;
 
     public GetVatBookService(VoucherRepository voucherRepository,
-                             TaxpayerRepository taxpayerRepository) {
+                             TaxpayerRepository taxpayerRepository,
+                             VatPeriodTotalsRepository vatPeriodTotalsRepository,
+                             VatBookSnapshotRepository snapshotRepository,
+                             VatBookSnapshotCodec snapshotCodec) {
         this.voucherRepository = voucherRepository;
         this.taxpayerRepository = taxpayerRepository;
+        this.vatPeriodTotalsRepository = vatPeriodTotalsRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.snapshotCodec = snapshotCodec;
     }
 
     @Override
-    public VatBookResult getPurchases(YearMonth period) {
-        return buildVatBook(period, VoucherCategory.PURCHASE);
+    public VatBookResult getPurchases(YearMonth period, UUID taxpayerId) {
+        return buildVatBook(period, taxpayerId, VoucherCategory.PURCHASE);
     }
 
     @Override
-    public VatBookResult getSales(YearMonth period) {
-        return buildVatBook(period, VoucherCategory.SALE);
+    public VatBookResult getSales(YearMonth period, UUID taxpayerId) {
+        return buildVatBook(period, taxpayerId, VoucherCategory.SALE);
     }
 
-    // ── Private helpers ──────────────────────────────────────────────────
+    @Override
+    public VatBookSummaryResult getPurchasesSummary(YearMonth period, UUID taxpayerId) {
+        return buildSummary(period, taxpayerId, VoucherCategory.PURCHASE);
+    }
 
-    private VatBookResult buildVatBook(YearMonth period, VoucherCategory category) {
-        LocalDate startDate = period.atDay(1);
-        LocalDate endDate = period.atEndOfMonth();
+    @Override
+    public VatBookSummaryResult getSalesSummary(YearMonth period, UUID taxpayerId) {
+        return buildSummary(period, taxpayerId, VoucherCategory.SALE);
+    }
 
-        List<Voucher> vouchers = voucherRepository
-                .findAllByCategoryAndIssueDateBetweenOrderByIssueDateAsc(category, startDate, endDate);
+    @Override
+    public VatBookYearToDateResult getPurchasesYearToDate(Year year, UUID taxpayerId) {
+        return buildYearToDate(year, taxpayerId, VoucherCategory.PURCHASE);
+    }
 
-        // Cargar contribuyentes en batch para evitar N+1
-        List<UUID> taxpayerIds = vouchers.stream()
-                .map(Voucher::getTaxpayerId)
-                .distinct()
-                .toList();
+    @Override
+    public VatBookYearToDateResult getSalesYearToDate(Year year, UUID taxpayerId) {
+        return buildYearToDate(year, taxpayerId, VoucherCategory.SALE);
+    }
 
-        Map<UUID, Taxpayer> taxpayerMap = taxpayerIds.stream()
-                .map(id -> taxpayerRepository.findById(id).orElse(null))
-                .filter(t -> t != null)
-                .collect(Collectors.toMap(Taxpayer::getId, Function.identity()));
+    @Override
+    public VatBookPageResult getPurchasesPage(YearMonth period, UUID taxpayerId, String cursor, int limit) {
+        return buildPage(period, taxpayerId, VoucherCategory.PURCHASE, cursor, limit);
+    }
 
-        List<VatBookEntryResult> entries = vouchers.stream()
-                .map(v -> toEntry(v, taxpayerMap.get(v.getTaxpayerId())))
-                .toList();
+    @Override
+    public VatBookPageResult getSalesPage(YearMonth period, UUID taxpayerId, String cursor, int limit) {
+        return buildPage(period, taxpayerId, VoucherCategory.SALE, cursor, limit);
+    }
 
-        VatBookTotalsResult totals = calculateTotals(vouchers);
+    @Override
+    public VatBookSummaryResult streamPurchases(YearMonth period, UUID taxpayerId,
+                                                Consumer<VatBookEntryResult> sink) {
+        return streamVatBook(period, taxpayerId, VoucherCategory.PURCHASE, sink);
+    }
+
+    @Override
+    public VatBookSummaryResult streamSales(YearMonth period, UUID taxpayerId,
+                                            Consumer<VatBookEntryResult> sink) {
+        return streamVatBook(period, taxpayerId, VoucherCategory.SALE, sink);
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────
+
+    private VatBookResult buildVatBook(YearMonth period, UUID taxpayerId, VoucherCategory category) {
+        verifyTaxpayerExists(taxpayerId);
+        Optional<VatBookResult> frozen = findFrozen(taxpayerId, category, period);
+        if (frozen.isPresent()) {
+            return frozen.get();
+        }
+
+        // Vouchers and their taxpayer come from a single join query (no N+1, no entities)
+        List<VoucherBookRow> rows = voucherRepository
+                .findBookRows(taxpayerId, category, period.atDay(1), period.atEndOfMonth());
+
+        var accumulator = new VatBookTotalsAccumulator();
+        List<VatBookEntryResult> entries = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += VAT_LINES_BATCH) {
+            List<VoucherBookRow> batch = rows.subList(from, Math.min(from + VAT_LINES_BATCH, rows.size()));
+            addBatch(batch, accumulator, entries::add);
+        }
 
         return new VatBookResult(
                 period.toString(),
                 category,
                 entries,
-                totals,
+                accumulator.totals(),
                 entries.size()
         );
     }
 
-    private VatBookEntryResult toEntry(Voucher v, Taxpayer t) {
-        String businessName = t != null ? t.getBusinessName() : "Contribuyente eliminado";
-        String cuit = t != null ? CuitValidator.format(t.getCuit()) : "00-00000000-0";
+    private VatBookYearToDateResult buildYearToDate(Year year, UUID taxpayerId, VoucherCategory category) {
+        verifyTaxpayerExists(taxpayerId);
 
-        return new VatBookEntryResult(
-                v.getId(),
-                v.getIssueDate(),
-                v.getVoucherType(),
-                v.getPointOfSale(),
-                v.getVoucherNumber(),
-                businessName,
-                cuit,
-                v.getNetAmount(),
-                v.getVatAmount(),
-                v.getExemptAmount(),
-                v.getTotalAmount()
+        // One windowed query over vat_period_totals: monthly sums and running sums together
+        Map<YearMonth, VatPeriodCumulativeTotals> byPeriod = new HashMap<>();
+        for (VatPeriodCumulativeTotals totals : vatPeriodTotalsRepository
+                .findCumulativeByPeriod(taxpayerId, category, year.atMonth(1), year.atMonth(12))) {
+            byPeriod.put(totals.period(), totals);
+        }
+        Map<YearMonth, VatBookResult> frozen = findFrozen(taxpayerId, category, year.atMonth(1), year.atMonth(12));
+
+        List<VatBookMonthResult> months = new ArrayList<>(12);
+        Money cumulativeNet = Money.ZERO;
+        Money cumulativeVat = Money.ZERO;
+        Money cumulativeTotal = Money.ZERO;
+        // What the closed months so far add on top of the running sums of the totals table
+        Money frozenNet = Money.ZERO;
+        Money frozenVat = Money.ZERO;
+        Money frozenTotal = Money.ZERO;
+        for (int month = 1; month <= 12; month++) {
+            YearMonth period = year.atMonth(month);
+            VatPeriodCumulativeTotals totals = byPeriod.get(period);
+            long voucherCount = 0;
+            Money net = Money.ZERO;
+            Money vat = Money.ZERO;
+            Money total = Money.ZERO;
+            if (totals != null) {
+                cumulativeNet = totals.cumulativeNetAmount();
+                cumulativeVat = totals.cumulativeVatAmount();
+                cumulativeTotal = totals.cumulativeTotalAmount();
+                voucherCount = totals.voucherCount();
+                net = totals.netAmount();
+                vat = totals.vatAmount();
+                total = totals.totalAmount();
+            }
+            VatBookResult book = frozen.get(period);
+            if (book != null) {
+                frozenNet = frozenNet.plus(book.totals().netAmount()).minus(net);
+                frozenVat = frozenVat.plus(book.totals().vatAmount()).minus(vat);
+                frozenTotal = frozenTotal.plus(book.totals().totalAmount()).minus(total);
+                voucherCount = book.voucherCount();
+                net = book.totals().netAmount();
+                vat = book.totals().vatAmount();
+                total = book.totals().totalAmount();
+            }
+            months.add(new VatBookMonthResult(
+                    period.toString(),
+                    voucherCount,
+                    net,
+                    vat,
+                    total,
+                    cumulativeNet.plus(frozenNet),
+                    cumulativeVat.plus(frozenVat),
+                    cumulativeTotal.plus(frozenTotal)
+            ));
+        }
+
+        return new VatBookYearToDateResult(year.getValue(), category, months);
+    }
+
+    private VatBookPageResult buildPage(YearMonth period,
+                                        UUID taxpayerId,
+                                        VoucherCategory category,
+                                        String cursor,
+                                        int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        VoucherBookKey after = cursor == null ? null : VatBookCursor.decode(cursor);
+        verifyTaxpayerExists(taxpayerId);
+        Optional<VatBookResult> frozen = findFrozen(taxpayerId, category, period);
+        if (frozen.isPresent()) {
+            return pageOf(frozen.get(), after, limit);
+        }
+
+        // Seek instead of OFFSET: the database never reads the rows of earlier pages.
+        // One extra row tells whether another page follows.
+        List<VoucherBookRow> rows = voucherRepository.findBookRowsAfter(
+                taxpayerId, category, period.atDay(1), period.atEndOfMonth(), after, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<VoucherBookRow> page = hasNext ? rows.subList(0, limit) : rows;
+
+        return new VatBookPageResult(
+                period.toString(),
+                category,
+                toEntries(page),
+                hasNext ? VatBookCursor.encode(VoucherBookKey.of(page.getLast())) : null
+        );
+    }
+
+    private VatBookSummaryResult buildSummary(YearMonth period, UUID taxpayerId, VoucherCategory category) {
+        verifyTaxpayerExists(taxpayerId);
+        var accumulator = new VatBookTotalsAccumulator();
+        Optional<VatBookResult> frozen = findFrozen(taxpayerId, category, period);
+        if (frozen.isPresent()) {
+            frozen.get().vouchers().forEach(entry -> accumulate(accumulator, entry));
+            return summarize(period, category, accumulator);
+        }
+
+        // Read from vat_period_totals: one row per voucher type, no voucher is scanned
+        for (VoucherTypeTotals row : vatPeriodTotalsRepository.findByPeriod(taxpayerId, category, period)) {
+            accumulator.add(row.voucherType(), row.voucherCount(),
+                    Money.of(row.netAmount()), Money.of(row.vatAmount()),
+                    Money.of(row.exemptAmount()), Money.of(row.totalAmount()));
+        }
+        // The rate breakdown comes from the period's lines, grouped by the database
+        for (VatRateTotals row : voucherRepository
+                .sumVatLines(taxpayerId, category, period.atDay(1), period.atEndOfMonth())) {
+            accumulator.addVatLine(row.voucherType(), row.rate(),
+                    Money.of(row.netAmount()), Money.of(row.vatAmount()));
+        }
+
+        return summarize(period, category, accumulator);
+    }
+
+    private VatBookSummaryResult streamVatBook(YearMonth period,
+                                               UUID taxpayerId,
+                                               VoucherCategory category,
+                                               Consumer<VatBookEntryResult> sink) {
+        verifyTaxpayerExists(taxpayerId);
+        var accumulator = new VatBookTotalsAccumulator();
+        Optional<VatBookResult> frozen = findFrozen(taxpayerId, category, period);
+        if (frozen.isPresent()) {
+            for (VatBookEntryResult entry : frozen.get().vouchers()) {
+                sink.accept(entry);
+                accumulate(accumulator, entry);
+            }
+            return summarize(period, category, accumulator);
+        }
+
+        try (Stream<VoucherBookRow> rows = voucherRepository
+                .streamBookRows(taxpayerId, category, period.atDay(1), period.atEndOfMonth())) {
+            List<VoucherBookRow> batch = new ArrayList<>(VAT_LINES_BATCH);
+            Iterator<VoucherBookRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == VAT_LINES_BATCH) {
+                    addBatch(batch, accumulator, sink);
+                    batch.clear();
+                }
+            }
+            addBatch(batch, accumulator, sink);
+        }
+
+        return summarize(period, category, accumulator);
+    }
+
+    /** The book frozen when the period was closed; only taxpayers' periods are closed. */
+    private Optional<VatBookResult> findFrozen(UUID taxpayerId, VoucherCategory category, YearMonth period) {
+        if (taxpayerId == null) {
+            return Optional.empty();
+        }
+        return snapshotRepository.find(taxpayerId, category, period)
+                .map(snapshot -> snapshotCodec.decode(snapshot.getContent()));
+    }
+
+    private Map<YearMonth, VatBookResult> findFrozen(UUID taxpayerId,
+                                                     VoucherCategory category,
+                                                     YearMonth from,
+                                                     YearMonth to) {
+        Map<YearMonth, VatBookResult> books = new HashMap<>();
+        if (taxpayerId != null) {
+            for (VatBookSnapshot snapshot : snapshotRepository.findBetween(taxpayerId, category, from, to)) {
+                books.put(YearMonth.from(snapshot.getPeriod()), snapshotCodec.decode(snapshot.getContent()));
+            }
+        }
+        return books;
+    }
+
+    /** The page of a frozen book that follows {@code after}, in the order of the book queries. */
+    private VatBookPageResult pageOf(VatBookResult book, VoucherBookKey after, int limit) {
+        List<VatBookEntryResult> entries = book.vouchers();
+        int from = 0;
+        while (after != null && from < entries.size()
+                && BOOK_ORDER.compare(keyOf(entries.get(from)), after) <= 0) {
+            from++;
+        }
+        int to = Math.min(entries.size(), from + limit);
+        List<VatBookEntryResult> page = entries.subList(from, to);
+        return new VatBookPageResult(
+                book.period(),
+                book.category(),
+                List.copyOf(page),
+                to < entries.size() ? VatBookCursor.encode(keyOf(page.getLast())) : null
         );
     }
 
-    private VatBookTotalsResult calculateTotals(List<Voucher> vouchers) {
-        BigDecimal netTotal = BigDecimal.ZERO;
-        BigDecimal vatTotal = BigDecimal.ZERO;
-        BigDecimal exemptTotal = BigDecimal.ZERO;
-        BigDecimal totalTotal = BigDecimal.ZERO;
+    private static VoucherBookKey keyOf(VatBookEntryResult entry) {
+        return new VoucherBookKey(entry.issueDate(), entry.pointOfSale(), entry.voucherNumber(), entry.id());
+    }
 
-        for (Voucher v : vouchers) {
-            netTotal = netTotal.add(v.getNetAmount());
-            vatTotal = vatTotal.add(v.getVatAmount());
-            exemptTotal = exemptTotal.add(v.getExemptAmount());
-            totalTotal = totalTotal.add(v.getTotalAmount());
+    private void verifyTaxpayerExists(UUID taxpayerId) {
+        if (taxpayerId != null && taxpayerRepository.findById(taxpayerId).isEmpty()) {
+            throw new ResourceNotFoundException(
+                    "No se encontró contribuyente con ID " + taxpayerId);
         }
+    }
 
-        return new VatBookTotalsResult(netTotal, vatTotal, exemptTotal, totalTotal);
+    private VatBookSummaryResult summarize(YearMonth period,
+                                           VoucherCategory category,
+                                           VatBookTotalsAccumulator accumulator) {
+        return new VatBookSummaryResult(
+                period.toString(),
+                category,
+                accumulator.totals(),
+                accumulator.subtotals(),
+                accumulator.voucherCount()
+        );
+    }
+
+    /** Emits the entries of {@code rows} in order and adds them to the totals. */
+    private void addBatch(List<VoucherBookRow> rows,
+                          VatBookTotalsAccumulator accumulator,
+                          Consumer<VatBookEntryResult> sink) {
+        for (VatBookEntryResult entry : toEntries(rows)) {
+            sink.accept(entry);
+            accumulate(accumulator, entry);
+        }
+    }
+
+    private static void accumulate(VatBookTotalsAccumulator accumulator, VatBookEntryResult entry) {
+        accumulator.add(entry.voucherType(),
+                entry.netAmount(), entry.vatAmount(), entry.exemptAmount(), entry.totalAmount());
+        for (VatRateAmountResult line : entry.vatLines()) {
+            accumulator.addVatLine(entry.voucherType(), line.rate(), line.netAmount(), line.vatAmount());
+        }
+    }
+
+    /** Entries of {@code rows}, in order, with their VAT lines read in one query. */
+    private List<VatBookEntryResult> toEntries(List<VoucherBookRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> voucherIds = rows.stream().map(VoucherBookRow::id).toList();
+        Map<UUID, List<VatRateAmountResult>> linesByVoucher = new HashMap<>();
+        for (VoucherVatLineRow line : voucherRepository.findVatLines(voucherIds)) {
+            linesByVoucher.computeIfAbsent(line.voucherId(), id -> new ArrayList<>(2))
+                    .add(new VatRateAmountResult(line.rate(), line.netAmount(), line.vatAmount()));
+        }
+
+        List<VatBookEntryResult> entries = new ArrayList<>(rows.size());
+        for (VoucherBookRow row : rows) {
+            List<VatRateAmountResult> lines = linesByVoucher.getOrDefault(row.id(), List.of());
+            if (lines.size() > 1) {
+                lines.sort(Comparator.comparing(VatRateAmountResult::rate));
+            }
+            entries.add(toEntry(row, lines));
+        }
+        return entries;
+    }
+
+    private VatBookEntryResult toEntry(VoucherBookRow row, List<VatRateAmountResult> vatLines) {
+        boolean hasTaxpayer = row.taxpayerCuit() != null;
+        String businessName = hasTaxpayer ? row.taxpayerBusinessName() : "Contribuyente eliminado";
+        String cuit = hasTaxpayer ? CuitValidator.format(row.taxpayerCuit()) : "00-00000000-0";
+
+        return new VatBookEntryResult(
+                row.id(),
+                row.issueDate(),
+                row.voucherType(),
+                row.pointOfSale(),
+                row.voucherNumber(),
+                businessName,
+                cuit,
+                row.netAmount(),
+                row.vatAmount(),
+                row.exemptAmount(),
+                row.totalAmount(),
+                vatLines
+        );
     }
 }
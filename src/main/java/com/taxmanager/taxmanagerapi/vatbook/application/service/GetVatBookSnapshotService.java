@@ -0,0 +1,29 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSnapshotResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookSnapshotUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookSnapshotRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class GetVatBookSnapshotService implements GetVatBookSnapshotUseCase {
+
+    private final VatBookSnapshotRepository snapshotRepository;
+
+    public GetVatBookSnapshotService(VatBookSnapshotRepository snapshotRepository) {
+        this.snapshotRepository = snapshotRepository;
+    }
+
+    @Override
+    public Optional<VatBookSnapshotResult> execute(UUID taxpayerId, VoucherCategory category, YearMonth period) {
+        return snapshotRepository.find(taxpayerId, category, period)
+                .map(s -> new VatBookSnapshotResult(s.getContent(), s.getUncompressedSize()));
+    }
+}
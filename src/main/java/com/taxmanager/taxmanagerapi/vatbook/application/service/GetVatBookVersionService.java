@@ -0,0 +1,30 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookVersionUseCase;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Version of VAT books for conditional GETs, read from {@code voucher_period_versions}:
+ * one index lookup, so an unchanged book costs no voucher query at all.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetVatBookVersionService implements GetVatBookVersionUseCase {
+
+    private final VoucherPeriodVersionRepository voucherPeriodVersionRepository;
+
+    public GetVatBookVersionService(VoucherPeriodVersionRepository voucherPeriodVersionRepository) {
+        this.voucherPeriodVersionRepository = voucherPeriodVersionRepository;
+    }
+
+    @Override
+    public long execute(VoucherCategory category, YearMonth from, YearMonth to, UUID taxpayerId) {
+        return voucherPeriodVersionRepository.findVersion(taxpayerId, category, from, to);
+    }
+}
@@ -0,0 +1,62 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatPositionResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatPositionUseCase;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPositionTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Computes the VAT position of a period from its running totals: one aggregate query
+ * returns both books split into invoices and credit notes, instead of building the
+ * Compras and Ventas books and subtracting their VAT totals.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetVatPositionService implements GetVatPositionUseCase {
+
+    private final TaxpayerRepository taxpayerRepository;
+    private final VatPeriodTotalsRepository vatPeriodTotalsRepository;
+
+    public GetVatPositionService(TaxpayerRepository taxpayerRepository,
+                                 VatPeriodTotalsRepository vatPeriodTotalsRepository) {
+        this.taxpayerRepository = taxpayerRepository;
+        this.vatPeriodTotalsRepository = vatPeriodTotalsRepository;
+    }
+
+    @Override
+    public VatPositionResult execute(UUID taxpayerId, YearMonth period) {
+        if (taxpayerRepository.findById(taxpayerId).isEmpty()) {
+            throw new ResourceNotFoundException("No se encontró contribuyente con ID " + taxpayerId);
+        }
+
+        VatPositionTotals totals = vatPeriodTotalsRepository.findPosition(taxpayerId, period);
+        Money salesVat = Money.of(totals.salesVat());
+        Money salesCreditNoteVat = Money.of(totals.salesCreditNoteVat());
+        Money purchaseVat = Money.of(totals.purchaseVat());
+        Money purchaseCreditNoteVat = Money.of(totals.purchaseCreditNoteVat());
+        Money fiscalDebit = salesVat.minus(salesCreditNoteVat);
+        Money fiscalCredit = purchaseVat.minus(purchaseCreditNoteVat);
+
+        return new VatPositionResult(
+                taxpayerId,
+                period.toString(),
+                totals.salesVoucherCount(),
+                salesVat,
+                salesCreditNoteVat,
+                fiscalDebit,
+                totals.purchaseVoucherCount(),
+                purchaseVat,
+                purchaseCreditNoteVat,
+                fiscalCredit,
+                fiscalDebit.minus(fiscalCredit)
+        );
+    }
+}
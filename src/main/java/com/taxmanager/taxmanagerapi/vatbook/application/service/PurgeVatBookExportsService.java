@@ -0,0 +1,41 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.PurgeVatBookExportsUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookExportFileStorage;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class PurgeVatBookExportsService implements PurgeVatBookExportsUseCase {
+
+    private final VatBookExportRepository exportRepository;
+    private final VatBookExportFileStorage fileStorage;
+    private final Duration retention;
+
+    public PurgeVatBookExportsService(VatBookExportRepository exportRepository,
+                                      VatBookExportFileStorage fileStorage,
+                                      @Value("${vat-book.exports.retention:7d}") Duration retention) {
+        this.exportRepository = exportRepository;
+        this.fileStorage = fileStorage;
+        this.retention = retention;
+    }
+
+    @Override
+    public int execute() {
+        List<VatBookExport> expired = exportRepository
+                .findFinishedCreatedBefore(LocalDateTime.now().minus(retention));
+        for (VatBookExport export : expired) {
+            fileStorage.delete(export.getId());
+            exportRepository.delete(export);
+        }
+        return expired.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookBatchResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RequestVatBookBatchUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.progress.VatBookExportProgress;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.domain.event.VatBookBatchRequestedEvent;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queues the month-end batch in one transaction: a purchases and a sales export per
+ * active taxpayer, sharing a batch ID. The batch is not subject to the bounded queue of
+ * single exports; it is handed to {@link RunVatBookBatchService} after commit.
+ */
+@Service
+@Transactional
+public class RequestVatBookBatchService implements RequestVatBookBatchUseCase {
+
+    private final TaxpayerRepository taxpayerRepository;
+    private final VatBookExportRepository exportRepository;
+    private final VatBookExportProgress progress;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RequestVatBookBatchService(TaxpayerRepository taxpayerRepository,
+                                      VatBookExportRepository exportRepository,
+                                      VatBookExportProgress progress,
+                                      ApplicationEventPublisher eventPublisher) {
+        this.taxpayerRepository = taxpayerRepository;
+        this.exportRepository = exportRepository;
+        this.progress = progress;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public VatBookBatchResult execute(YearMonth period, VatBookExportFormat format) {
+        List<UUID> taxpayerIds = taxpayerRepository.findActiveIds();
+        if (taxpayerIds.isEmpty()) {
+            throw new DomainValidationException("No hay contribuyentes activos para generar libros");
+        }
+
+        UUID batchId = UUID.randomUUID();
+        List<VatBookExport> exports = new ArrayList<>(taxpayerIds.size() * 2);
+        for (UUID taxpayerId : taxpayerIds) {
+            for (VoucherCategory category : VoucherCategory.values()) {
+                exports.add(exportRepository.save(
+                        VatBookExport.createInBatch(batchId, taxpayerId, category, period, format)));
+            }
+        }
+
+        eventPublisher.publishEvent(new VatBookBatchRequestedEvent(
+                batchId, exports.stream().map(VatBookExport::getId).toList()));
+
+        return VatBookExportResults.toBatchResult(batchId, exports, progress);
+    }
+}
@@ -0,0 +1,86 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.shared.exception.TooManyRequestsException;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RequestVatBookExportUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.vatbook.domain.event.VatBookExportRequestedEvent;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queues an export for the background workers.
+ *
+ * <p>The queue is bounded: with {@code vat-book.exports.max-queued} exports already
+ * pending or running, new requests are rejected (429) instead of piling up behind
+ * the worker pool. Exports of a month-end batch do not count: they run on their own.
+ * Concurrent requests take the queue lock before counting, so the check and the insert
+ * are atomic and the bound holds under load.</p>
+ */
+@Service
+@Transactional
+public class RequestVatBookExportService implements RequestVatBookExportUseCase {
+
+    private static final List<VatBookExportStatus> UNFINISHED =
+            List.of(VatBookExportStatus.PENDING, VatBookExportStatus.RUNNING);
+
+    private final VatBookExportRepository exportRepository;
+    private final TaxpayerRepository taxpayerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxQueued;
+
+    public RequestVatBookExportService(VatBookExportRepository exportRepository,
+                                       TaxpayerRepository taxpayerRepository,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${vat-book.exports.max-queued:50}") int maxQueued) {
+        this.exportRepository = exportRepository;
+        this.taxpayerRepository = taxpayerRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxQueued = maxQueued;
+    }
+
+    @Override
+    public VatBookExportResult execute(VoucherCategory category,
+                                       YearMonth period,
+                                       UUID taxpayerId,
+                                       VatBookExportFormat format) {
+        if (taxpayerId != null && taxpayerRepository.findById(taxpayerId).isEmpty()) {
+            throw new ResourceNotFoundException(
+                    "No se encontró contribuyente con ID " + taxpayerId);
+        }
+
+        VatBookExport export = VatBookExport.create(taxpayerId, category, period, format);
+        exportRepository.lockQueue();
+        if (exportRepository.countUnbatchedByStatusIn(UNFINISHED) >= maxQueued) {
+            throw new TooManyRequestsException(
+                    "Hay " + maxQueued + " exportaciones en curso; intente nuevamente en unos minutos");
+        }
+        export = exportRepository.save(export);
+
+        // Handed to the export workers after commit
+        eventPublisher.publishEvent(new VatBookExportRequestedEvent(export.getId()));
+
+        return toResult(export);
+    }
+
+    private VatBookExportResult toResult(VatBookExport e) {
+        return new VatBookExportResult(
+                e.getId(), e.getTaxpayerId(), e.getCategory(), e.getYearMonth().toString(),
+                e.getFormat(), e.getStatus(), e.getExpectedCount(), 0, 0,
+                e.getVoucherCount(), e.getFileSize(), e.getError(),
+                e.getCreatedAt(), e.getStartedAt(), e.getFinishedAt()
+        );
+    }
+}
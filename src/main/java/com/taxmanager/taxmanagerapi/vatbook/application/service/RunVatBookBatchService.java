@@ -0,0 +1,69 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RunVatBookBatchUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RunVatBookExportUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs each export of a batch on its own virtual thread through {@link RunVatBookExportUseCase}.
+ *
+ * <p>An export holds at most one connection at a time (its voucher cursor while rendering),
+ * so a semaphore shared by all batches caps them at the Hikari pool size minus
+ * {@code vat-book.batch.reserved-connections}, left for requests, and minus
+ * {@code vat-book.exports.workers}, the connections the export workers may hold at the
+ * same time from the same pool. Hundreds of taxpayers
+ * cost hundreds of parked virtual threads, never more connections than the pool has.</p>
+ */
+@Service
+public class RunVatBookBatchService implements RunVatBookBatchUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RunVatBookBatchService.class);
+
+    private final RunVatBookExportUseCase runVatBookExportUseCase;
+    private final Semaphore connectionBudget;
+
+    public RunVatBookBatchService(RunVatBookExportUseCase runVatBookExportUseCase,
+                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                  @Value("${vat-book.batch.reserved-connections:2}") int reservedConnections,
+                                  @Value("${vat-book.exports.workers:2}") int exportWorkers) {
+        this.runVatBookExportUseCase = runVatBookExportUseCase;
+        this.connectionBudget = new Semaphore(
+                Math.max(1, poolSize - reservedConnections - exportWorkers), true);
+    }
+
+    @Override
+    public void execute(List<UUID> exportIds) {
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (UUID exportId : exportIds) {
+                executor.execute(() -> runWithinBudget(exportId));
+            }
+        }
+        log.info("Lote de {} exportaciones terminado en {} ms",
+                exportIds.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void runWithinBudget(UUID exportId) {
+        try {
+            connectionBudget.acquire();
+        } catch (InterruptedException e) {
+            // Shutting down: the export stays PENDING and is resumed on startup
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            runVatBookExportUseCase.execute(exportId);
+        } finally {
+            connectionBudget.release();
+        }
+    }
+}
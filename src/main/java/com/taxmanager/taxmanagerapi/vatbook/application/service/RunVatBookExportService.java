@@ -0,0 +1,139 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainException;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RunVatBookExportUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookDocumentRenderer;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookExportFileStorage;
+import com.taxmanager.taxmanagerapi.vatbook.application.progress.VatBookExportProgress;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Renders exports to the file storage.
+ *
+ * <p>Not transactional on purpose: the status updates commit on their own so they are
+ * visible while the export runs, and the only connection held during rendering is the
+ * one of the voucher cursor, which is read straight into the file.</p>
+ *
+ * <p>The expected voucher count comes from the period totals (one indexed read) and the
+ * rows written are counted in {@link VatBookExportProgress} while the export runs.</p>
+ */
+@Service
+public class RunVatBookExportService implements RunVatBookExportUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RunVatBookExportService.class);
+
+    private final VatBookExportRepository exportRepository;
+    private final VatBookExportFileStorage fileStorage;
+    private final GetVatBookUseCase getVatBookUseCase;
+    private final VatBookExportProgress progress;
+    private final Map<VatBookExportFormat, VatBookDocumentRenderer> renderers =
+            new EnumMap<>(VatBookExportFormat.class);
+
+    public RunVatBookExportService(VatBookExportRepository exportRepository,
+                                   VatBookExportFileStorage fileStorage,
+                                   GetVatBookUseCase getVatBookUseCase,
+                                   VatBookExportProgress progress,
+                                   List<VatBookDocumentRenderer> renderers) {
+        this.exportRepository = exportRepository;
+        this.fileStorage = fileStorage;
+        this.getVatBookUseCase = getVatBookUseCase;
+        this.progress = progress;
+        renderers.forEach(r -> r.formats().forEach(format -> this.renderers.put(format, r)));
+    }
+
+    @Override
+    public void execute(UUID exportId) {
+        VatBookExport export = exportRepository.findById(exportId).orElse(null);
+        if (export == null || export.isFinished()) {
+            return;
+        }
+
+        YearMonth period = export.getYearMonth();
+        UUID taxpayerId = export.getTaxpayerId();
+        VoucherCategory category = export.getCategory();
+
+        AtomicInteger processed = progress.track(exportId);
+        try {
+            export.start(expectedCount(category, period, taxpayerId));
+            export = exportRepository.save(export);
+
+            Function<Consumer<VatBookEntryResult>, VatBookSummaryResult> book = book(category, period, taxpayerId);
+            VatBookSummaryResult summary;
+            try (OutputStream out = fileStorage.create(exportId)) {
+                summary = renderer(export.getFormat()).render(export.getFormat(), category, period, out,
+                        sink -> book.apply(entry -> {
+                            sink.accept(entry);
+                            processed.incrementAndGet();
+                        }));
+            }
+            export.complete(summary.voucherCount(), fileStorage.size(exportId));
+            log.info("Exportación {} ({} {} {}) terminada: {} comprobantes, {} bytes",
+                    exportId, export.getFormat(), export.getCategory(), period,
+                    export.getVoucherCount(), export.getFileSize());
+        } catch (DomainException e) {
+            fileStorage.delete(exportId);
+            export.fail(e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            log.error("Error al generar la exportación {}", exportId, e);
+            fileStorage.delete(exportId);
+            export.fail("Error interno al generar el archivo");
+        } finally {
+            progress.remove(exportId);
+        }
+        exportRepository.save(export);
+    }
+
+    @Override
+    public List<UUID> findUnfinished() {
+        return exportRepository
+                .findByStatusIn(List.of(VatBookExportStatus.PENDING, VatBookExportStatus.RUNNING))
+                .stream()
+                .map(VatBookExport::getId)
+                .toList();
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────
+
+    private VatBookDocumentRenderer renderer(VatBookExportFormat format) {
+        VatBookDocumentRenderer renderer = renderers.get(format);
+        if (renderer == null) {
+            throw new IllegalStateException("No hay renderer para el formato " + format);
+        }
+        return renderer;
+    }
+
+    private int expectedCount(VoucherCategory category, YearMonth period, UUID taxpayerId) {
+        VatBookSummaryResult totals = category == VoucherCategory.PURCHASE
+                ? getVatBookUseCase.getPurchasesSummary(period, taxpayerId)
+                : getVatBookUseCase.getSalesSummary(period, taxpayerId);
+        return totals.voucherCount();
+    }
+
+    private Function<Consumer<VatBookEntryResult>, VatBookSummaryResult> book(
+            VoucherCategory category, YearMonth period, UUID taxpayerId) {
+        return category == VoucherCategory.PURCHASE
+                ? sink -> getVatBookUseCase.streamPurchases(period, taxpayerId, sink)
+                : sink -> getVatBookUseCase.streamSales(period, taxpayerId, sink);
+    }
+}
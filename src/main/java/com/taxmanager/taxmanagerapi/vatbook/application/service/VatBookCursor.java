@@ -0,0 +1,43 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookKey;
+
+/**
+ * Opaque continuation token of a VAT book page: the {@link VoucherBookKey} of the page's
+ * last row, base64url-encoded so clients pass it back without interpreting it.
+ */
+final class VatBookCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private VatBookCursor() {}
+
+    static String encode(VoucherBookKey key) {
+        String text = key.issueDate() + ":" + key.pointOfSale() + ":" + key.voucherNumber() + ":" + key.id();
+        return ENCODER.encodeToString(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static VoucherBookKey decode(String cursor) {
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII).split(":", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException();
+            }
+            return new VoucherBookKey(
+                    LocalDate.parse(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    Long.parseLong(parts[2]),
+                    UUID.fromString(parts[3])
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Cursor inválido: use el nextCursor de la página anterior");
+        }
+    }
+}
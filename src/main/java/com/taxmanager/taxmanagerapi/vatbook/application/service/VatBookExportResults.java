@@ -0,0 +1,86 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookBatchResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.progress.VatBookExportProgress;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+
+/**
+ * Results of exports and month-end batches, shared by the services that read and queue
+ * them. Exports running on this instance report the live count of {@link VatBookExportProgress}.
+ */
+final class VatBookExportResults {
+
+    private VatBookExportResults() {}
+
+    static VatBookExportResult toResult(VatBookExport e, VatBookExportProgress progress) {
+        Integer processed = switch (e.getStatus()) {
+            case PENDING -> 0;
+            case RUNNING -> progress.processed(e.getId());
+            case DONE -> e.getVoucherCount();
+            case FAILED -> null;
+        };
+        return new VatBookExportResult(
+                e.getId(), e.getTaxpayerId(), e.getCategory(), e.getYearMonth().toString(),
+                e.getFormat(), e.getStatus(), e.getExpectedCount(), processed,
+                percent(e.getStatus(), processed, e.getExpectedCount()),
+                e.getVoucherCount(), e.getFileSize(), e.getError(),
+                e.getCreatedAt(), e.getStartedAt(), e.getFinishedAt()
+        );
+    }
+
+    static VatBookBatchResult toBatchResult(UUID batchId, List<VatBookExport> exports, VatBookExportProgress progress) {
+        List<VatBookExportResult> results = exports.stream()
+                .map(export -> toResult(export, progress))
+                .toList();
+
+        int pending = 0, running = 0, done = 0, failed = 0;
+        long processed = 0, expected = 0;
+        for (VatBookExportResult export : results) {
+            switch (export.status()) {
+                case PENDING -> pending++;
+                case RUNNING -> running++;
+                case DONE -> done++;
+                case FAILED -> failed++;
+            }
+            if (export.processedCount() != null) {
+                processed += export.processedCount();
+            }
+            if (export.expectedCount() != null) {
+                expected += export.expectedCount();
+            }
+        }
+
+        VatBookExport first = exports.getFirst();
+        return new VatBookBatchResult(
+                batchId,
+                first.getYearMonth().toString(),
+                first.getFormat(),
+                results.size(),
+                pending,
+                running,
+                done,
+                failed,
+                processed,
+                expected,
+                (done + failed) * 100 / results.size(),
+                results
+        );
+    }
+
+    // The expected count is read before the cursor opens, so vouchers created in between
+    // can push processed past it: stay below 100 until the export is actually done.
+    private static Integer percent(VatBookExportStatus status, Integer processed, Integer expected) {
+        if (status == VatBookExportStatus.DONE) {
+            return 100;
+        }
+        if (processed == null || expected == null) {
+            return status == VatBookExportStatus.PENDING ? 0 : null;
+        }
+        return expected == 0 ? 0 : (int) Math.min(99, processed * 100L / expected);
+    }
+}
@@ -0,0 +1,123 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSubtotalResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatRateAmountResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+/**
+ * Subtotals per voucher type and book totals, with their breakdown per {@link VatRate},
+ * signed per {@link VoucherType#sign()} so credit notes net against invoices.
+ *
+ * <p>Sums are kept as the {@link Money#scaled()} ten-thousandths: adding a row is four
+ * primitive additions and no intermediate {@code Money} is created until the results are
+ * built. A sum past ~922 trillion pesos fails instead of wrapping.</p>
+ *
+ * <p>Not thread-safe; one instance per book.</p>
+ */
+final class VatBookTotalsAccumulator {
+
+    private static final VoucherType[] TYPES = VoucherType.values();
+    private static final VatRate[] RATES = VatRate.values();
+
+    // [type ordinal] → sums in ten-thousandths
+    private final long[] net = new long[TYPES.length];
+    private final long[] vat = new long[TYPES.length];
+    private final long[] exempt = new long[TYPES.length];
+    private final long[] total = new long[TYPES.length];
+    private final int[] count = new int[TYPES.length];
+
+    // [rate ordinal] → signed sums in ten-thousandths
+    private final long[] rateNet = new long[RATES.length];
+    private final long[] rateVat = new long[RATES.length];
+    private final boolean[] rateSeen = new boolean[RATES.length];
+
+    /** Adds one voucher. */
+    void add(VoucherType type,
+             Money netAmount,
+             Money vatAmount,
+             Money exemptAmount,
+             Money totalAmount) {
+        add(type, 1, netAmount, vatAmount, exemptAmount, totalAmount);
+    }
+
+    /** Adds {@code voucherCount} vouchers already summed (unsigned) by the database. */
+    void add(VoucherType type,
+             long voucherCount,
+             Money netAmount,
+             Money vatAmount,
+             Money exemptAmount,
+             Money totalAmount) {
+        int i = type.ordinal();
+        int sign = type.sign();
+        count[i] = Math.addExact(count[i], Math.toIntExact(voucherCount));
+        net[i] = Math.addExact(net[i], sign * netAmount.scaled());
+        vat[i] = Math.addExact(vat[i], sign * vatAmount.scaled());
+        exempt[i] = Math.addExact(exempt[i], sign * exemptAmount.scaled());
+        total[i] = Math.addExact(total[i], sign * totalAmount.scaled());
+    }
+
+    /** Adds one VAT rate line of a voucher of {@code type}, or the sums of several. */
+    void addVatLine(VoucherType type, VatRate rate, Money netAmount, Money vatAmount) {
+        int i = rate.ordinal();
+        int sign = type.sign();
+        rateNet[i] = Math.addExact(rateNet[i], sign * netAmount.scaled());
+        rateVat[i] = Math.addExact(rateVat[i], sign * vatAmount.scaled());
+        rateSeen[i] = true;
+    }
+
+    int voucherCount() {
+        int vouchers = 0;
+        for (int c : count) {
+            vouchers += c;
+        }
+        return vouchers;
+    }
+
+    /** One subtotal per voucher type present, in {@link VoucherType} order. */
+    List<VatBookSubtotalResult> subtotals() {
+        List<VatBookSubtotalResult> subtotals = new ArrayList<>();
+        for (int i = 0; i < TYPES.length; i++) {
+            if (count[i] > 0) {
+                subtotals.add(new VatBookSubtotalResult(
+                        TYPES[i], count[i],
+                        Money.ofScaled(net[i]), Money.ofScaled(vat[i]),
+                        Money.ofScaled(exempt[i]), Money.ofScaled(total[i])));
+            }
+        }
+        return subtotals;
+    }
+
+    VatBookTotalsResult totals() {
+        return new VatBookTotalsResult(
+                Money.ofScaled(sum(net)), Money.ofScaled(sum(vat)),
+                Money.ofScaled(sum(exempt)), Money.ofScaled(sum(total)),
+                vatRates());
+    }
+
+    /** One amount per rate present, in {@link VatRate} order. */
+    private List<VatRateAmountResult> vatRates() {
+        List<VatRateAmountResult> rates = new ArrayList<>();
+        for (int i = 0; i < RATES.length; i++) {
+            if (rateSeen[i]) {
+                rates.add(new VatRateAmountResult(RATES[i], Money.ofScaled(rateNet[i]), Money.ofScaled(rateVat[i])));
+            }
+        }
+        return rates;
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum = Math.addExact(sum, value);
+        }
+        return sum;
+    }
+}
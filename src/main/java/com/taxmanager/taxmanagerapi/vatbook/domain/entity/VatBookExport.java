@@ -0,0 +1,162 @@
+package com.taxmanager.taxmanagerapi.vatbook.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.id.UuidV7;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * A VAT book rendered to a file in the background. The row tracks the lifecycle
+ * ({@code PENDING → RUNNING → DONE | FAILED}); the file itself lives in the export storage.
+ */
+@Entity
+@Table(name = "vat_book_exports")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA only
+public class VatBookExport {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    /** {@code null} for a book of all taxpayers. */
+    @Column(name = "taxpayer_id", updatable = false)
+    private UUID taxpayerId;
+
+    /** Month-end batch the export belongs to; {@code null} for exports requested one by one. */
+    @Column(name = "batch_id", updatable = false)
+    private UUID batchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 10)
+    private VoucherCategory category;
+
+    /** First day of the exported month. */
+    @Column(nullable = false, updatable = false)
+    private LocalDate period;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 20)
+    private VatBookExportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private VatBookExportStatus status;
+
+    /** Vouchers of the period according to the totals table, set on start; the base for the progress. */
+    @Column(name = "expected_count")
+    private Integer expectedCount;
+
+    @Column(name = "voucher_count")
+    private Integer voucherCount;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String error;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // ── Factory method ───────────────────────────────────────────────────
+
+    public static VatBookExport create(UUID taxpayerId,
+                                       VoucherCategory category,
+                                       YearMonth period,
+                                       VatBookExportFormat format) {
+        if (category == null) {
+            throw new DomainValidationException("La categoría del libro es obligatoria");
+        }
+        if (period == null) {
+            throw new DomainValidationException("El período es obligatorio");
+        }
+        if (format == null) {
+            throw new DomainValidationException("El formato de exportación es obligatorio");
+        }
+        if (format.isAfip() && taxpayerId == null) {
+            throw new DomainValidationException(
+                    "El Libro IVA Digital se exporta por contribuyente: taxpayerId es obligatorio");
+        }
+        var export = new VatBookExport();
+        export.id = UuidV7.generate();
+        export.taxpayerId = taxpayerId;
+        export.category = category;
+        export.period = period.atDay(1);
+        export.format = format;
+        export.status = VatBookExportStatus.PENDING;
+        return export;
+    }
+
+    /** Export of one taxpayer's book queued as part of the month-end batch {@code batchId}. */
+    public static VatBookExport createInBatch(UUID batchId,
+                                              UUID taxpayerId,
+                                              VoucherCategory category,
+                                              YearMonth period,
+                                              VatBookExportFormat format) {
+        if (batchId == null || taxpayerId == null) {
+            throw new DomainValidationException("Las exportaciones de un lote son por contribuyente");
+        }
+        var export = create(taxpayerId, category, period, format);
+        export.batchId = batchId;
+        return export;
+    }
+
+    // ── Lifecycle ────────────────────────────────────────────────────────
+
+    /** Also used to restart an export interrupted by a shutdown: the file is rewritten from scratch. */
+    public void start(int expectedCount) {
+        status = VatBookExportStatus.RUNNING;
+        this.expectedCount = expectedCount;
+        startedAt = LocalDateTime.now();
+    }
+
+    public void complete(int voucherCount, long fileSize) {
+        status = VatBookExportStatus.DONE;
+        this.voucherCount = voucherCount;
+        this.fileSize = fileSize;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        status = VatBookExportStatus.FAILED;
+        this.error = error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH);
+        finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == VatBookExportStatus.DONE || status == VatBookExportStatus.FAILED;
+    }
+
+    public YearMonth getYearMonth() {
+        return YearMonth.from(period);
+    }
+}
@@ -0,0 +1,79 @@
+package com.taxmanager.taxmanagerapi.vatbook.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.id.UuidV7;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * VAT book of a closed period, frozen as gzip-compressed JSON with the same shape
+ * as the {@code GET /vat-books/{purchases|sales}} response.
+ */
+@Entity
+@Table(name = "vat_book_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA only
+public class VatBookSnapshot {
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "taxpayer_id", nullable = false, updatable = false)
+    private UUID taxpayerId;
+
+    /** First day of the closed month. */
+    @Column(nullable = false, updatable = false)
+    private LocalDate period;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 10)
+    private VoucherCategory category;
+
+    @Column(name = "voucher_count", nullable = false, updatable = false)
+    private int voucherCount;
+
+    /** gzip(JSON). */
+    @Column(nullable = false, updatable = false)
+    private byte[] content;
+
+    @Column(name = "uncompressed_size", nullable = false, updatable = false)
+    private int uncompressedSize;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // ── Factory method ───────────────────────────────────────────────────
+
+    public static VatBookSnapshot create(UUID taxpayerId,
+                                         YearMonth period,
+                                         VoucherCategory category,
+                                         int voucherCount,
+                                         byte[] content,
+                                         int uncompressedSize) {
+        var snapshot = new VatBookSnapshot();
+        snapshot.id = UuidV7.generate();
+        snapshot.taxpayerId = taxpayerId;
+        snapshot.period = period.atDay(1);
+        snapshot.category = category;
+        snapshot.voucherCount = voucherCount;
+        snapshot.content = content;
+        snapshot.uncompressedSize = uncompressedSize;
+        return snapshot;
+    }
+}
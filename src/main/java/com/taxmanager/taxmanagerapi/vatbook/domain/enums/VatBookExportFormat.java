@@ -0,0 +1,32 @@
+package com.taxmanager.taxmanagerapi.vatbook.domain.enums;
+
+public enum VatBookExportFormat {
+
+    PDF("pdf", "application/pdf"),
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    NDJSON("ndjson", "application/x-ndjson"),
+    /** Libro IVA Digital (AFIP): vouchers file. Per taxpayer only. */
+    AFIP_VOUCHERS("txt", "text/plain;charset=ISO-8859-1"),
+    /** Libro IVA Digital (AFIP): VAT rates file. Per taxpayer only. */
+    AFIP_RATES("txt", "text/plain;charset=ISO-8859-1");
+
+    private final String extension;
+    private final String contentType;
+
+    VatBookExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public boolean isAfip() {
+        return this == AFIP_VOUCHERS || this == AFIP_RATES;
+    }
+}
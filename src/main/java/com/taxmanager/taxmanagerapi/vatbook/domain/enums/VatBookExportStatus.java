@@ -0,0 +1,8 @@
+package com.taxmanager.taxmanagerapi.vatbook.domain.enums;
+
+public enum VatBookExportStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.taxmanager.taxmanagerapi.vatbook.domain.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published when a month-end batch is queued; its exports are rendered in the
+ * background once the transaction that created them commits.
+ */
+public record VatBookBatchRequestedEvent(UUID batchId, List<UUID> exportIds) {}
@@ -0,0 +1,9 @@
+package com.taxmanager.taxmanagerapi.vatbook.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a VAT book export is queued; the export is rendered in the
+ * background once the transaction that created it commits.
+ */
+public record VatBookExportRequestedEvent(UUID exportId) {}
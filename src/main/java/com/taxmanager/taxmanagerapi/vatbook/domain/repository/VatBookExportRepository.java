@@ -0,0 +1,35 @@
+package com.taxmanager.taxmanagerapi.vatbook.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+
+public interface VatBookExportRepository {
+
+    VatBookExport save(VatBookExport export);
+
+    Optional<VatBookExport> findById(UUID id);
+
+    List<VatBookExport> findByStatusIn(List<VatBookExportStatus> statuses);
+
+    /**
+     * Serializes the queue check of concurrent requests: held until the transaction ends,
+     * so the next request counts this one's export once it commits.
+     */
+    void lockQueue();
+
+    /** Exports requested one by one (outside a batch) in any of {@code statuses}. */
+    long countUnbatchedByStatusIn(List<VatBookExportStatus> statuses);
+
+    /** Exports of a month-end batch, oldest first. */
+    List<VatBookExport> findByBatchId(UUID batchId);
+
+    /** Finished (done or failed) exports created before {@code createdBefore}. */
+    List<VatBookExport> findFinishedCreatedBefore(LocalDateTime createdBefore);
+
+    void delete(VatBookExport export);
+}
@@ -0,0 +1,19 @@
+package com.taxmanager.taxmanagerapi.vatbook.domain.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookSnapshot;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+public interface VatBookSnapshotRepository {
+
+    VatBookSnapshot save(VatBookSnapshot snapshot);
+
+    Optional<VatBookSnapshot> find(UUID taxpayerId, VoucherCategory category, YearMonth period);
+
+    /** Snapshots of the closed periods between {@code from} and {@code to}, both included. */
+    List<VatBookSnapshot> findBetween(UUID taxpayerId, VoucherCategory category, YearMonth from, YearMonth to);
+}
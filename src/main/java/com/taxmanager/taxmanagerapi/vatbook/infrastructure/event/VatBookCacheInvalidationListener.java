@@ -0,0 +1,40 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.event;
+
+import java.time.YearMonth;
+
+import com.taxmanager.taxmanagerapi.taxpayer.domain.event.TaxpayerUpdatedEvent;
+import com.taxmanager.taxmanagerapi.vatbook.application.cache.VatBookCache;
+import com.taxmanager.taxmanagerapi.voucher.domain.event.VoucherCreatedEvent;
+import com.taxmanager.taxmanagerapi.voucher.domain.event.VouchersImportedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts cached VAT books after the write that changes them commits
+ * (evicting earlier would let a concurrent read cache the pre-commit state).
+ */
+@Component
+public class VatBookCacheInvalidationListener {
+
+    private final VatBookCache cache;
+
+    public VatBookCacheInvalidationListener(VatBookCache cache) {
+        this.cache = cache;
+    }
+
+    @TransactionalEventListener
+    public void onVoucherCreated(VoucherCreatedEvent event) {
+        cache.evictPeriod(event.taxpayerId(), event.category(), YearMonth.from(event.issueDate()));
+    }
+
+    @TransactionalEventListener
+    public void onVouchersImported(VouchersImportedEvent event) {
+        cache.evictPeriod(event.taxpayerId(), event.category(), event.period());
+    }
+
+    // Entries carry the taxpayer's business name
+    @TransactionalEventListener
+    public void onTaxpayerUpdated(TaxpayerUpdatedEvent event) {
+        cache.evictTaxpayer(event.taxpayerId());
+    }
+}
@@ -0,0 +1,22 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+/**
+ * The two files AFIP's <em>Libro IVA Digital</em> expects per book: one line per
+ * voucher and one line per VAT rate of each voucher.
+ */
+public enum AfipVatBookFile {
+
+    VOUCHERS("CBTE"),
+    RATES("ALICUOTAS");
+
+    private final String fileSuffix;
+
+    AfipVatBookFile(String fileSuffix) {
+        this.fileSuffix = fileSuffix;
+    }
+
+    /** Suffix AFIP uses in the import file names ({@code ..._CBTE}, {@code ..._ALICUOTAS}). */
+    public String getFileSuffix() {
+        return fileSuffix;
+    }
+}
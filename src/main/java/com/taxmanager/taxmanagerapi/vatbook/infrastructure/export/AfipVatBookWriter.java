@@ -0,0 +1,295 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSubtotalResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatRateAmountResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+/**
+ * Encodes VAT book entries into the fixed-width layout of AFIP's <em>Libro IVA Digital</em>
+ * (RG 4597): {@code REGINFO_CV_VENTAS_CBTE} (266 bytes), {@code REGINFO_CV_VENTAS_ALICUOTAS}
+ * (62), {@code REGINFO_CV_COMPRAS_CBTE} (325) and {@code REGINFO_CV_COMPRAS_ALICUOTAS} (84),
+ * each line terminated by CRLF.
+ *
+ * <p>Fields are written byte by byte into a single reusable buffer that is flushed to the
+ * output stream when it fills up, so a book of any size is exported without building a
+ * {@code String} per line. Text is ISO-8859-1; characters outside it are written as {@code ?}.
+ * Amounts are rounded to cents and written without decimal separator.</p>
+ *
+ * <p>Only A and B vouchers with a taxed net amount have lines in the rates file: one per
+ * VAT rate line of the voucher, or a single one at the rate closest to
+ * {@code vatAmount / netAmount} for a voucher without lines (taxed at 0 %).</p>
+ *
+ * <p>Vouchers do not record their counterparty (the seller of a purchase, the buyer of a
+ * sale), only the taxpayer whose book it is. Sales that AFIP accepts without an identified
+ * buyer (B and C vouchers, receipts and tickets) are written with document type 99
+ * (unidentified), number 0 and "CONSUMIDOR FINAL". Purchases and A sales need the
+ * counterparty's CUIT, so a book with any of them is refused: {@link #checkCounterparties}
+ * before streaming, or a {@link DomainValidationException} on the first such entry.</p>
+ *
+ * <p>Not thread-safe: one instance per exported file.</p>
+ */
+public final class AfipVatBookWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_LINE_LENGTH = 325 + 2;
+
+    /** AFIP document type 99: unidentified buyer, daily global sale. */
+    private static final int DOCUMENT_TYPE_UNIDENTIFIED = 99;
+    private static final String UNIDENTIFIED_BUYER = "CONSUMIDOR FINAL";
+    private static final byte[] CURRENCY_PESOS = {'P', 'E', 'S'};
+    private static final byte[] EXCHANGE_RATE_ONE = {'0', '0', '0', '1', '0', '0', '0', '0', '0', '0'};
+
+    private final OutputStream out;
+    private final VoucherCategory category;
+    private final AfipVatBookFile file;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    public AfipVatBookWriter(OutputStream out, VoucherCategory category, AfipVatBookFile file) {
+        this.out = out;
+        this.category = category;
+        this.file = file;
+    }
+
+    /**
+     * Refuses a book whose vouchers need an identified counterparty; {@code subtotals} is
+     * the book's breakdown by voucher type, so nothing is read voucher by voucher.
+     */
+    public static void checkCounterparties(VoucherCategory category, List<VatBookSubtotalResult> subtotals) {
+        for (VatBookSubtotalResult subtotal : subtotals) {
+            if (subtotal.voucherCount() > 0 && needsIdentifiedCounterparty(category, subtotal.voucherType())) {
+                throw unidentifiedCounterparty(category, subtotal.voucherType());
+            }
+        }
+    }
+
+    /** Appends the entry's line(s) to the file; vouchers without a discriminated rate add none to the rates file. */
+    public void write(VatBookEntryResult entry) {
+        if (needsIdentifiedCounterparty(category, entry.voucherType())) {
+            throw unidentifiedCounterparty(category, entry.voucherType());
+        }
+        int rates = rateCount(entry);
+        if (file == AfipVatBookFile.VOUCHERS) {
+            ensureRoom(1);
+            writeVoucher(entry, rates);
+        } else if (rates > 0) {
+            ensureRoom(rates);
+            if (entry.vatLines().isEmpty()) {
+                writeRate(entry, VatRate.nearest(entry.netAmount(), entry.vatAmount()),
+                        entry.netAmount(), entry.vatAmount());
+            } else {
+                for (VatRateAmountResult line : entry.vatLines()) {
+                    writeRate(entry, line.rate(), line.netAmount(), line.vatAmount());
+                }
+            }
+        }
+    }
+
+    /** Writes whatever is buffered and flushes the underlying stream. */
+    public void flush() {
+        drain();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ── Records ──────────────────────────────────────────────────────────
+
+    private void writeVoucher(VatBookEntryResult entry, int rates) {
+        boolean sale = category == VoucherCategory.SALE;
+        Money zero = Money.ZERO;
+
+        date(entry.issueDate());
+        number(voucherTypeCode(entry.voucherType()), 3);
+        number(entry.pointOfSale(), 5);
+        number(entry.voucherNumber(), 20);
+        if (sale) {
+            number(entry.voucherNumber(), 20);                  // número hasta
+        } else {
+            spaces(16);                                         // despacho de importación
+        }
+        number(DOCUMENT_TYPE_UNIDENTIFIED, 2);
+        number(0, 20);
+        text(UNIDENTIFIED_BUYER, 30);
+        amount(entry.totalAmount());
+        amount(zero);                                           // conceptos no gravados
+        if (sale) {
+            amount(zero);                                       // percepción a no categorizados
+            amount(entry.exemptAmount());
+        } else {
+            amount(entry.exemptAmount());
+            amount(zero);                                       // percepciones de IVA
+        }
+        amount(zero);                                           // percepciones nacionales
+        amount(zero);                                           // percepciones IIBB
+        amount(zero);                                           // percepciones municipales
+        amount(zero);                                           // impuestos internos
+        bytes(CURRENCY_PESOS);
+        bytes(EXCHANGE_RATE_ONE);
+        number(rates, 1);
+        buffer[position++] = (byte) (isExemptOnly(entry) ? 'E' : '0');
+        if (sale) {
+            amount(zero);                                       // otros tributos
+            number(0, 8);                                       // vencimiento de pago
+        } else {
+            amount(entry.vatAmount());                          // crédito fiscal computable
+            amount(zero);                                       // otros tributos
+            number(0, 11);                                      // CUIT del corredor
+            spaces(30);                                         // denominación del corredor
+            amount(zero);                                       // IVA comisión
+        }
+        newLine();
+    }
+
+    private void writeRate(VatBookEntryResult entry, VatRate rate, Money netAmount, Money vatAmount) {
+        number(voucherTypeCode(entry.voucherType()), 3);
+        number(entry.pointOfSale(), 5);
+        number(entry.voucherNumber(), 20);
+        if (category == VoucherCategory.PURCHASE) {
+            number(DOCUMENT_TYPE_UNIDENTIFIED, 2);               // not reached: purchases are refused
+            number(0, 20);
+        }
+        amount(netAmount);
+        number(rate.afipCode(), 4);
+        amount(vatAmount);
+        newLine();
+    }
+
+    // ── Field encoders ───────────────────────────────────────────────────
+
+    private void date(LocalDate date) {
+        number(date.getYear(), 4);
+        number(date.getMonthValue(), 2);
+        number(date.getDayOfMonth(), 2);
+    }
+
+    /** Right-aligned, zero-padded decimal digits. */
+    private void number(long value, int width) {
+        int end = position + width;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        if (value != 0) {
+            throw new IllegalArgumentException("El valor no entra en un campo de " + width + " dígitos");
+        }
+        position = end;
+    }
+
+    /** Amount in cents over 15 digits (13 integer + 2 decimal). */
+    private void amount(Money value) {
+        number(value.toCents(), 15);
+    }
+
+    /** Left-aligned, space-padded, truncated to {@code width}. */
+    private void text(String value, int width) {
+        int length = Math.min(value.length(), width);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            buffer[position++] = (byte) (c <= 0xFF ? c : '?');
+        }
+        spaces(width - length);
+    }
+
+    private void spaces(int count) {
+        for (int i = 0; i < count; i++) {
+            buffer[position++] = ' ';
+        }
+    }
+
+    private void bytes(byte[] value) {
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+    }
+
+    private void ensureRoom(int lines) {
+        if (position + lines * MAX_LINE_LENGTH > buffer.length) {
+            drain();
+        }
+    }
+
+    private void newLine() {
+        buffer[position++] = '\r';
+        buffer[position++] = '\n';
+    }
+
+    private void drain() {
+        if (position == 0) {
+            return;
+        }
+        try {
+            out.write(buffer, 0, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+
+    // ── AFIP codes ───────────────────────────────────────────────────────
+
+    /** Lines of the entry in the rates file; at most one per {@link VatRate}. */
+    private static int rateCount(VatBookEntryResult entry) {
+        if (!discriminatesVat(entry.voucherType()) || entry.netAmount().signum() <= 0) {
+            return 0;
+        }
+        return Math.max(entry.vatLines().size(), 1);
+    }
+
+    private static boolean isExemptOnly(VatBookEntryResult entry) {
+        return entry.netAmount().signum() == 0 && entry.exemptAmount().signum() > 0;
+    }
+
+    /** Purchases name their seller and A vouchers their buyer (a registered taxpayer) by CUIT. */
+    private static boolean needsIdentifiedCounterparty(VoucherCategory category, VoucherType voucherType) {
+        return category == VoucherCategory.PURCHASE || switch (voucherType) {
+            case FACTURA_A, NOTA_CREDITO_A, NOTA_DEBITO_A -> true;
+            default -> false;
+        };
+    }
+
+    private static DomainValidationException unidentifiedCounterparty(VoucherCategory category, VoucherType voucherType) {
+        return new DomainValidationException(category == VoucherCategory.PURCHASE
+                ? "El Libro IVA Digital de compras requiere el CUIT del vendedor de cada comprobante,"
+                        + " que no se registra: no se puede exportar"
+                : "Los comprobantes " + voucherType + " requieren el CUIT del comprador en el Libro IVA"
+                        + " Digital, que no se registra: no se puede exportar");
+    }
+
+    private static boolean discriminatesVat(VoucherType voucherType) {
+        return switch (voucherType) {
+            case FACTURA_A, FACTURA_B, NOTA_CREDITO_A, NOTA_CREDITO_B,
+                 NOTA_DEBITO_A, NOTA_DEBITO_B -> true;
+            default -> false;
+        };
+    }
+
+    private static int voucherTypeCode(VoucherType voucherType) {
+        return switch (voucherType) {
+            case FACTURA_A -> 1;
+            case NOTA_DEBITO_A -> 2;
+            case NOTA_CREDITO_A -> 3;
+            case FACTURA_B -> 6;
+            case NOTA_DEBITO_B -> 7;
+            case NOTA_CREDITO_B -> 8;
+            case FACTURA_C -> 11;
+            case NOTA_DEBITO_C -> 12;
+            case NOTA_CREDITO_C -> 13;
+            // Receipts carry no letter in this model; they are reported as Recibo C
+            case RECIBO -> 15;
+            case TICKET -> 83;
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookExportFileStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps each export as {@code <directory>/<exportId>} on the local disk. With more than
+ * one instance the directory has to be shared (the download may hit another instance).
+ */
+@Component
+public class LocalVatBookExportFileStorage implements VatBookExportFileStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+
+    public LocalVatBookExportFileStorage(
+            @Value("${vat-book.exports.directory:${java.io.tmpdir}/tax-manager-exports}") Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public OutputStream create(UUID exportId) {
+        try {
+            Files.createDirectories(directory);
+            return new BufferedOutputStream(Files.newOutputStream(file(exportId)), BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream open(UUID exportId) {
+        try {
+            return Files.newInputStream(file(exportId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long size(UUID exportId) {
+        try {
+            return Files.size(file(exportId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(UUID exportId) {
+        try {
+            Files.deleteIfExists(file(exportId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path file(UUID exportId) {
+        return directory.resolve(exportId.toString());
+    }
+}
@@ -0,0 +1,59 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookDocumentRenderer;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper.VatBookWebMapper;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Same lines as {@code GET /vat-books/{purchases|sales}/stream}: one entry per line and
+ * the summary last.
+ */
+@Component
+public class NdjsonVatBookRenderer implements VatBookDocumentRenderer {
+
+    private final VatBookWebMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonVatBookRenderer(VatBookWebMapper mapper, ObjectMapper objectMapper) {
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Set<VatBookExportFormat> formats() {
+        return Set.of(VatBookExportFormat.NDJSON);
+    }
+
+    @Override
+    public VatBookSummaryResult render(VatBookExportFormat format,
+                                       VoucherCategory category,
+                                       YearMonth period,
+                                       OutputStream out,
+                                       Function<Consumer<VatBookEntryResult>, VatBookSummaryResult> book) {
+        VatBookSummaryResult summary = book.apply(entry -> writeLine(out, mapper.toEntryResponse(entry)));
+        writeLine(out, mapper.toSummaryResponse(summary));
+        return summary;
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
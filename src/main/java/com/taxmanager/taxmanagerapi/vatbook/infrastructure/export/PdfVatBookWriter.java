@@ -0,0 +1,473 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSubtotalResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+/**
+ * Writes a VAT book as a PDF (A4 landscape, standard Helvetica fonts) page by page while
+ * the entries are being read.
+ *
+ * <p>Each page's content stream is built in a reusable byte buffer and written out,
+ * deflated, as soon as the page is full, followed by its page object; only the byte
+ * offsets of the objects and the page object numbers are kept until the end, where the
+ * page tree, catalog and cross-reference table are appended. Memory does not depend on
+ * the size of the book.</p>
+ *
+ * <p>Layout: title and column headers on every page, one line per voucher, subtotals per
+ * voucher type and the grand total after the last voucher, page number at the bottom.
+ * Text is encoded in WinAnsi; characters outside Latin-1 are written as {@code ?}.</p>
+ *
+ * <p>Not thread-safe: one instance per exported book.</p>
+ */
+public final class PdfVatBookWriter {
+
+    public static final String CONTENT_TYPE = "application/pdf";
+
+    // A4 landscape, in points
+    private static final int PAGE_WIDTH = 842;
+    private static final int PAGE_HEIGHT = 595;
+    private static final int MARGIN = 36;
+    private static final int FONT_SIZE = 8;
+    private static final int LEADING = 12;
+    private static final int TITLE_Y = 559;
+    private static final int HEADER_Y = 535;
+    private static final int FIRST_ROW_Y = 518;
+    private static final int LAST_ROW_Y = 48;
+    private static final int FOOTER_Y = 24;
+
+    // Column positions; amounts are right-aligned on their x
+    private static final int X_DATE = MARGIN;
+    private static final int X_TYPE = 86;
+    private static final int X_NUMBER = 160;
+    private static final int X_NAME = 232;
+    private static final int X_CUIT = 405;
+    private static final int X_NET = 560;
+    private static final int X_VAT = 642;
+    private static final int X_EXEMPT = 724;
+    private static final int X_TOTAL = PAGE_WIDTH - MARGIN;
+    private static final int NAME_MAX_CHARS = 36;
+
+    // Fixed object numbers; each page adds a content stream and a page object after FONT_BOLD
+    private static final int CATALOG = 1;
+    private static final int PAGES = 2;
+    private static final int FONT_REGULAR = 3;
+    private static final int FONT_BOLD = 4;
+
+    private static final int PAGE_BUFFER_SIZE = 64 * 1024;
+
+    private static final Map<VoucherType, byte[]> TYPE_LABELS = new EnumMap<>(VoucherType.class);
+
+    static {
+        for (VoucherType type : VoucherType.values()) {
+            TYPE_LABELS.put(type, ascii(type.name().replace('_', ' ')));
+        }
+    }
+
+    private final OutputStream out;
+    private final byte[] title;
+    private final byte[] page = new byte[PAGE_BUFFER_SIZE];
+    private final byte[] compressed = new byte[PAGE_BUFFER_SIZE + 1024];
+    private final byte[] scratch = new byte[32];
+    private final Deflater deflater = new Deflater();
+
+    private long offset;
+    private int position;
+    private long[] objectOffsets = new long[256];
+    private int lastObject = FONT_BOLD;
+    private int[] pageObjects = new int[128];
+    private int pageCount;
+    private boolean pageOpen;
+    private int rowY;
+
+    /** Writes the PDF header and font objects; entries can be written right after. */
+    public PdfVatBookWriter(OutputStream out, VoucherCategory category, YearMonth period) {
+        this.out = out;
+        this.title = latin1("Libro IVA " + (category == VoucherCategory.PURCHASE ? "Compras" : "Ventas")
+                + " - Período " + period);
+        emit(ascii("%PDF-1.4\n%âãÏÓ\n"));
+        object(FONT_REGULAR, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+        object(FONT_BOLD, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+    }
+
+    public void write(VatBookEntryResult entry) {
+        nextRow();
+        text(X_DATE, date(entry.issueDate()));
+        text(X_TYPE, TYPE_LABELS.get(entry.voucherType()));
+        text(X_NUMBER, voucherNumber(entry.pointOfSale(), entry.voucherNumber()));
+        text(X_NAME, latin1(truncate(entry.taxpayerBusinessName())));
+        text(X_CUIT, ascii(entry.taxpayerCuit()));
+        amountRow(entry.netAmount(), entry.vatAmount(), entry.exemptAmount(), entry.totalAmount());
+    }
+
+    /** Appends subtotals and total, then the page tree, catalog and xref; the output stream is left open. */
+    public void finish(VatBookSummaryResult summary) {
+        int rowsNeeded = summary.subtotals().size() + 2;
+        if (!pageOpen || rowY - rowsNeeded * LEADING < LAST_ROW_Y) {
+            if (pageOpen) {
+                closePage();
+            }
+            openPage();
+        } else {
+            rowY -= LEADING;
+        }
+
+        font(FONT_BOLD);
+        for (VatBookSubtotalResult subtotal : summary.subtotals()) {
+            nextRow();
+            text(X_TYPE, latin1("Subtotal " + subtotal.voucherType().name().replace('_', ' ')
+                    + " (" + subtotal.voucherCount() + ")"));
+            amountRow(subtotal.netAmount(), subtotal.vatAmount(), subtotal.exemptAmount(), subtotal.totalAmount());
+        }
+        VatBookTotalsResult totals = summary.totals();
+        nextRow();
+        text(X_TYPE, latin1("Total del período (" + summary.voucherCount() + " comprobantes)"));
+        amountRow(totals.netAmount(), totals.vatAmount(), totals.exemptAmount(), totals.totalAmount());
+        closePage();
+
+        writePageTree();
+        object(CATALOG, "<< /Type /Catalog /Pages " + PAGES + " 0 R >>");
+        writeXref();
+        deflater.end();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ── Pages ────────────────────────────────────────────────────────────
+
+    private void nextRow() {
+        if (!pageOpen) {
+            openPage();
+        } else if (rowY - LEADING < LAST_ROW_Y) {
+            closePage();
+            openPage();
+        }
+        rowY -= LEADING;
+    }
+
+    private void openPage() {
+        pageOpen = true;
+        position = 0;
+        rowY = FIRST_ROW_Y + LEADING;
+
+        // Rule under the column headers, then all text in one BT block
+        put("0.5 w ");
+        fixed(MARGIN * 100L);
+        put(" ");
+        fixed((HEADER_Y - 4) * 100L);
+        put(" m ");
+        fixed(X_TOTAL * 100L);
+        put(" ");
+        fixed((HEADER_Y - 4) * 100L);
+        put(" l S\nBT\n");
+
+        font(FONT_BOLD, 12);
+        textAt(X_DATE, TITLE_Y, title);
+        font(FONT_BOLD);
+        textAt(X_DATE, HEADER_Y, ascii("Fecha"));
+        textAt(X_TYPE, HEADER_Y, ascii("Tipo"));
+        textAt(X_NUMBER, HEADER_Y, ascii("Comprobante"));
+        textAt(X_NAME, HEADER_Y, latin1("Razón social"));
+        textAt(X_CUIT, HEADER_Y, ascii("CUIT"));
+        rightAt(X_NET, HEADER_Y, ascii("Neto gravado"), headerWidth("Neto gravado"));
+        rightAt(X_VAT, HEADER_Y, ascii("IVA"), headerWidth("IVA"));
+        rightAt(X_EXEMPT, HEADER_Y, ascii("Exento"), headerWidth("Exento"));
+        rightAt(X_TOTAL, HEADER_Y, ascii("Total"), headerWidth("Total"));
+        font(FONT_REGULAR);
+    }
+
+    private void closePage() {
+        font(FONT_REGULAR);
+        textAt(X_DATE, FOOTER_Y, latin1("Página " + (pageCount + 1)));
+        put("ET\n");
+        pageOpen = false;
+
+        deflater.reset();
+        deflater.setInput(page, 0, position);
+        deflater.finish();
+        int length = deflater.deflate(compressed);
+        if (!deflater.finished()) {
+            throw new IllegalStateException("La página comprimida no entra en el buffer");
+        }
+
+        int contentObject = ++lastObject;
+        startObject(contentObject);
+        emit(ascii("<< /Length " + length + " /Filter /FlateDecode >>\nstream\n"));
+        emit(compressed, length);
+        emit(ascii("\nendstream\nendobj\n"));
+
+        int pageObject = ++lastObject;
+        object(pageObject, "<< /Type /Page /Parent " + PAGES + " 0 R /MediaBox [0 0 " + PAGE_WIDTH + " " + PAGE_HEIGHT
+                + "] /Resources << /Font << /F" + FONT_REGULAR + " " + FONT_REGULAR + " 0 R /F" + FONT_BOLD + " "
+                + FONT_BOLD + " 0 R >> >> /Contents " + contentObject + " 0 R >>");
+        if (pageCount == pageObjects.length) {
+            pageObjects = Arrays.copyOf(pageObjects, pageCount * 2);
+        }
+        pageObjects[pageCount++] = pageObject;
+    }
+
+    private void writePageTree() {
+        startObject(PAGES);
+        emit(ascii("<< /Type /Pages /Count " + pageCount + " /Kids ["));
+        for (int i = 0; i < pageCount; i++) {
+            emit(ascii(" " + pageObjects[i] + " 0 R"));
+        }
+        emit(ascii(" ] >>\nendobj\n"));
+    }
+
+    private void writeXref() {
+        long xrefOffset = offset;
+        emit(ascii("xref\n0 " + (lastObject + 1) + "\n0000000000 65535 f \n"));
+        byte[] line = new byte[20];
+        for (int i = 1; i <= lastObject; i++) {
+            long value = objectOffsets[i];
+            for (int d = 9; d >= 0; d--) {
+                line[d] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            System.arraycopy(ascii(" 00000 n \n"), 0, line, 10, 10);
+            emit(line, 20);
+        }
+        emit(ascii("trailer\n<< /Size " + (lastObject + 1) + " /Root " + CATALOG + " 0 R >>\nstartxref\n"
+                + xrefOffset + "\n%%EOF\n"));
+    }
+
+    // ── Content stream ───────────────────────────────────────────────────
+
+    private void amountRow(Money net, Money vat, Money exempt, Money total) {
+        amount(X_NET, net);
+        amount(X_VAT, vat);
+        amount(X_EXEMPT, exempt);
+        amount(X_TOTAL, total);
+    }
+
+    private void font(int font) {
+        font(font, FONT_SIZE);
+    }
+
+    private void font(int font, int size) {
+        put("/F");
+        put(Integer.toString(font));
+        put(" ");
+        put(Integer.toString(size));
+        put(" Tf\n");
+    }
+
+    private void text(int x, byte[] value) {
+        textAt(x, rowY, value);
+    }
+
+    private void textAt(int x, int y, byte[] value) {
+        position(x * 100L, y);
+        string(value, value.length);
+    }
+
+    private void rightAt(int right, int y, byte[] value, long widthHundredths) {
+        position(right * 100L - widthHundredths, y);
+        string(value, value.length);
+    }
+
+    /** Amount as {@code 1.234.567,89}, right-aligned on {@code right}. */
+    private void amount(int right, Money value) {
+        long cents = value.toCents();
+        boolean negative = cents < 0;
+        cents = Math.abs(cents);
+
+        int i = scratch.length;
+        int units = 0;
+        for (int d = 0; d < 2; d++) {
+            scratch[--i] = (byte) ('0' + cents % 10);
+            cents /= 10;
+        }
+        scratch[--i] = ',';
+        int digits = 0;
+        do {
+            if (digits > 0 && digits % 3 == 0) {
+                scratch[--i] = '.';
+                units += 278;
+            }
+            scratch[--i] = (byte) ('0' + cents % 10);
+            cents /= 10;
+            digits++;
+        } while (cents > 0);
+        if (negative) {
+            scratch[--i] = '-';
+            units += 333;
+        }
+        // Helvetica glyph widths in 1/1000 em: digits 556, ',' and '.' 278, '-' 333
+        units += (digits + 2) * 556 + 278;
+
+        position(right * 100L - units * FONT_SIZE / 10, rowY);
+        int length = scratch.length - i;
+        put('(');
+        System.arraycopy(scratch, i, page, position, length);
+        position += length;
+        put(") Tj\n");
+    }
+
+    private void position(long xHundredths, int y) {
+        put("1 0 0 1 ");
+        fixed(xHundredths);
+        put(" ");
+        put(Integer.toString(y));
+        put(" Tm ");
+    }
+
+    private void string(byte[] value, int length) {
+        put('(');
+        for (int i = 0; i < length; i++) {
+            byte b = value[i];
+            if (b == '(' || b == ')' || b == '\\') {
+                put('\\');
+            }
+            put(b);
+        }
+        put(") Tj\n");
+    }
+
+    /** Points with two decimals, from hundredths. */
+    private void fixed(long hundredths) {
+        put(Long.toString(hundredths / 100));
+        long fraction = hundredths % 100;
+        if (fraction != 0) {
+            put('.');
+            put((byte) ('0' + fraction / 10));
+            put((byte) ('0' + fraction % 10));
+        }
+    }
+
+    private byte[] date(LocalDate value) {
+        byte[] bytes = new byte[10];
+        int day = value.getDayOfMonth();
+        int month = value.getMonthValue();
+        int year = value.getYear();
+        bytes[0] = (byte) ('0' + day / 10);
+        bytes[1] = (byte) ('0' + day % 10);
+        bytes[2] = '/';
+        bytes[3] = (byte) ('0' + month / 10);
+        bytes[4] = (byte) ('0' + month % 10);
+        bytes[5] = '/';
+        for (int i = 9; i >= 6; i--) {
+            bytes[i] = (byte) ('0' + year % 10);
+            year /= 10;
+        }
+        return bytes;
+    }
+
+    /** {@code 00001-00001234}: point of sale over 5 digits, number over 8 (or more when it does not fit). */
+    private byte[] voucherNumber(int pointOfSale, long number) {
+        int numberDigits = Math.max(8, Long.toString(number).length());
+        byte[] bytes = new byte[6 + numberDigits];
+        for (int i = 4; i >= 0; i--) {
+            bytes[i] = (byte) ('0' + pointOfSale % 10);
+            pointOfSale /= 10;
+        }
+        bytes[5] = '-';
+        for (int i = bytes.length - 1; i >= 6; i--) {
+            bytes[i] = (byte) ('0' + number % 10);
+            number /= 10;
+        }
+        return bytes;
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= NAME_MAX_CHARS ? value : value.substring(0, NAME_MAX_CHARS - 3) + "...";
+    }
+
+    // Bold header labels only use these glyphs: widths from the Helvetica-Bold metrics
+    private static long headerWidth(String label) {
+        long units = 0;
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            units += switch (c) {
+                case ' ' -> 278;
+                case 'I', 'i', 'l' -> 278;
+                case 't' -> 333;
+                case 'r' -> 389;
+                case 'a', 'c', 'e', 'v', 'x' -> 556;
+                case 'd', 'g', 'n', 'o', 'T' -> 611;
+                case 'E', 'V' -> 667;
+                case 'A', 'N' -> 722;
+                default -> 611;
+            };
+        }
+        return units * FONT_SIZE / 10;
+    }
+
+    // ── Bytes ────────────────────────────────────────────────────────────
+
+    private void put(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            page[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void put(char value) {
+        page[position++] = (byte) value;
+    }
+
+    private void put(byte value) {
+        page[position++] = value;
+    }
+
+    private void object(int number, String dictionary) {
+        startObject(number);
+        emit(ascii(dictionary + "\nendobj\n"));
+    }
+
+    private void startObject(int number) {
+        if (number >= objectOffsets.length) {
+            objectOffsets = Arrays.copyOf(objectOffsets, objectOffsets.length * 2);
+        }
+        objectOffsets[number] = offset;
+        emit(ascii(number + " 0 obj\n"));
+    }
+
+    private void emit(byte[] bytes) {
+        emit(bytes, bytes.length);
+    }
+
+    private void emit(byte[] bytes, int length) {
+        try {
+            out.write(bytes, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        offset += length;
+    }
+
+    private static byte[] ascii(String value) {
+        byte[] bytes = new byte[value.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) value.charAt(i);
+        }
+        return bytes;
+    }
+
+    /** WinAnsi matches Latin-1 for printable characters from 0xA0 up. */
+    private static byte[] latin1(String value) {
+        byte[] bytes = new byte[value.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            char c = value.charAt(i);
+            bytes[i] = (byte) (c < 0x20 ? ' ' : (c < 0x80 || (c >= 0xA0 && c <= 0xFF)) ? c : '?');
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,37 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RunVatBookBatchUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.domain.event.VatBookBatchRequestedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Starts each month-end batch on a virtual thread once the transaction that queued it
+ * commits. On shutdown the running batches are interrupted; their unfinished exports
+ * are resumed on startup by {@link VatBookExportWorker}.
+ */
+@Component
+public class VatBookBatchWorker implements DisposableBean {
+
+    private final RunVatBookBatchUseCase runUseCase;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("vat-book-batch-", 1).factory());
+
+    public VatBookBatchWorker(RunVatBookBatchUseCase runUseCase) {
+        this.runUseCase = runUseCase;
+    }
+
+    @TransactionalEventListener
+    public void onBatchRequested(VatBookBatchRequestedEvent event) {
+        executor.execute(() -> runUseCase.execute(event.exportIds()));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
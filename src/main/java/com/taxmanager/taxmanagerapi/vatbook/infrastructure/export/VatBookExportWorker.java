@@ -0,0 +1,55 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RunVatBookExportUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.domain.event.VatBookExportRequestedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Background workers that render VAT book exports.
+ *
+ * <p>A fixed pool of {@code vat-book.exports.workers} threads, so at most that many
+ * exports (and voucher cursors) run at once no matter how many are requested; the
+ * rest wait in the queue as {@code PENDING}. Exports left unfinished by a shutdown
+ * are queued again on startup.</p>
+ */
+@Component
+public class VatBookExportWorker implements DisposableBean {
+
+    private final RunVatBookExportUseCase runUseCase;
+    private final ExecutorService executor;
+
+    public VatBookExportWorker(RunVatBookExportUseCase runUseCase,
+                               @Value("${vat-book.exports.workers:2}") int workers) {
+        this.runUseCase = runUseCase;
+        this.executor = Executors.newFixedThreadPool(workers,
+                Thread.ofPlatform().name("vat-book-export-", 1).factory());
+    }
+
+    @TransactionalEventListener
+    public void onExportRequested(VatBookExportRequestedEvent event) {
+        submit(event.exportId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        runUseCase.findUnfinished().forEach(this::submit);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void submit(UUID exportId) {
+        executor.execute(() -> runUseCase.execute(exportId));
+    }
+}
@@ -0,0 +1,35 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.io.OutputStream;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookDocumentRenderer;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class XlsxVatBookRenderer implements VatBookDocumentRenderer {
+
+    @Override
+    public Set<VatBookExportFormat> formats() {
+        return Set.of(VatBookExportFormat.XLSX);
+    }
+
+    @Override
+    public VatBookSummaryResult render(VatBookExportFormat format,
+                                       VoucherCategory category,
+                                       YearMonth period,
+                                       OutputStream out,
+                                       Function<Consumer<VatBookEntryResult>, VatBookSummaryResult> book) {
+        var writer = new XlsxVatBookWriter(out, category, period);
+        VatBookSummaryResult summary = book.apply(writer::write);
+        writer.finish(summary);
+        return summary;
+    }
+}
@@ -0,0 +1,278 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSubtotalResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+/**
+ * Writes a VAT book as an Excel workbook (Office Open XML, single sheet) while the
+ * entries are being read, without holding the sheet in memory.
+ *
+ * <p>The package parts (content types, relationships, workbook and styles) are
+ * constant and written up front; the sheet is then encoded row by row into a reusable
+ * byte buffer (the row window) that is deflated into the zip entry whenever it fills
+ * up, so a 200k-row book uses the same heap as a 10-row one. Cells use inline strings
+ * instead of a shared strings table, which would have to be kept in memory until the end.</p>
+ *
+ * <p>Layout: header row, one row per voucher, a blank row, one subtotal row per voucher
+ * type and the grand total. Dates and amounts are numeric cells.</p>
+ *
+ * <p>Not thread-safe: one instance per exported book.</p>
+ */
+public final class XlsxVatBookWriter {
+
+    public static final String CONTENT_TYPE =
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private static final int WINDOW_SIZE = 64 * 1024;
+    // Longest row: a 200-char business name at up to 6 bytes per escaped char, plus the other cells
+    private static final int MAX_ROW_LENGTH = 200 * 6 + 1024;
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+
+    private static final String[] HEADERS = {
+            "Fecha", "Tipo", "Punto de venta", "Número", "Razón social", "CUIT",
+            "Neto gravado", "IVA", "Exento", "Total"
+    };
+
+    private static final String CONTENT_TYPES = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+            <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+            <Default Extension="xml" ContentType="application/xml"/>\
+            <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>\
+            <Override PartName="/xl/worksheets/sheet1.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>\
+            <Override PartName="/xl/styles.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml"/>\
+            </Types>""";
+
+    private static final String ROOT_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>\
+            </Relationships>""";
+
+    private static final String WORKBOOK_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>\
+            <Relationship Id="rId2" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles" Target="styles.xml"/>\
+            </Relationships>""";
+
+    // Cell styles (s="n" in the sheet): 0 general, 1 date, 2 amount, 3 bold, 4 bold amount
+    private static final String STYLES = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <styleSheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">\
+            <fonts count="2"><font><sz val="11"/><name val="Calibri"/></font><font><b/><sz val="11"/><name val="Calibri"/></font></fonts>\
+            <fills count="2"><fill><patternFill patternType="none"/></fill><fill><patternFill patternType="gray125"/></fill></fills>\
+            <borders count="1"><border><left/><right/><top/><bottom/><diagonal/></border></borders>\
+            <cellStyleXfs count="1"><xf numFmtId="0" fontId="0" fillId="0" borderId="0"/></cellStyleXfs>\
+            <cellXfs count="5">\
+            <xf numFmtId="0" fontId="0" fillId="0" borderId="0" xfId="0"/>\
+            <xf numFmtId="14" fontId="0" fillId="0" borderId="0" xfId="0" applyNumberFormat="1"/>\
+            <xf numFmtId="4" fontId="0" fillId="0" borderId="0" xfId="0" applyNumberFormat="1"/>\
+            <xf numFmtId="0" fontId="1" fillId="0" borderId="0" xfId="0" applyFont="1"/>\
+            <xf numFmtId="4" fontId="1" fillId="0" borderId="0" xfId="0" applyNumberFormat="1" applyFont="1"/>\
+            </cellXfs>\
+            </styleSheet>""";
+
+    private static final String SHEET_START = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">\
+            <sheetViews><sheetView workbookViewId="0"><pane ySplit="1" topLeftCell="A2" activePane="bottomLeft" state="frozen"/></sheetView></sheetViews>\
+            <cols><col min="1" max="1" width="12" customWidth="1"/><col min="2" max="2" width="16" customWidth="1"/>\
+            <col min="3" max="4" width="14" customWidth="1"/><col min="5" max="5" width="40" customWidth="1"/>\
+            <col min="6" max="6" width="15" customWidth="1"/><col min="7" max="10" width="16" customWidth="1"/></cols>\
+            <sheetData>""";
+
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    private final ZipOutputStream zip;
+    private final byte[] window = new byte[WINDOW_SIZE];
+    private int position;
+
+    /** Writes the fixed package parts and the header row; entries can be written right after. */
+    public XlsxVatBookWriter(OutputStream out, VoucherCategory category, YearMonth period) {
+        this.zip = new ZipOutputStream(out);
+        String sheetName = (category == VoucherCategory.PURCHASE ? "Compras " : "Ventas ") + period;
+        try {
+            part("[Content_Types].xml", CONTENT_TYPES);
+            part("_rels/.rels", ROOT_RELS);
+            part("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+            part("xl/styles.xml", STYLES);
+            part("xl/workbook.xml", """
+                    <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                    <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+                    xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">\
+                    <sheets><sheet name="%s" sheetId="1" r:id="rId1"/></sheets></workbook>""".formatted(sheetName));
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ascii(SHEET_START);
+        ascii("<row>");
+        for (String header : HEADERS) {
+            text(header, true);
+        }
+        ascii("</row>");
+    }
+
+    public void write(VatBookEntryResult entry) {
+        ensureRowCapacity();
+        ascii("<row>");
+        date(entry.issueDate());
+        text(entry.voucherType().name(), false);
+        number(entry.pointOfSale());
+        number(entry.voucherNumber());
+        text(entry.taxpayerBusinessName(), false);
+        text(entry.taxpayerCuit(), false);
+        amount(entry.netAmount(), false);
+        amount(entry.vatAmount(), false);
+        amount(entry.exemptAmount(), false);
+        amount(entry.totalAmount(), false);
+        ascii("</row>");
+    }
+
+    /** Appends the subtotal and total rows and completes the workbook; the output stream is left open. */
+    public void finish(VatBookSummaryResult summary) {
+        ensureRowCapacity();
+        ascii("<row/>");
+        for (VatBookSubtotalResult subtotal : summary.subtotals()) {
+            totalRow("Subtotal " + subtotal.voucherType().name() + " (" + subtotal.voucherCount() + ")",
+                    subtotal.netAmount(), subtotal.vatAmount(), subtotal.exemptAmount(), subtotal.totalAmount());
+        }
+        VatBookTotalsResult totals = summary.totals();
+        totalRow("Total (" + summary.voucherCount() + ")",
+                totals.netAmount(), totals.vatAmount(), totals.exemptAmount(), totals.totalAmount());
+        ascii(SHEET_END);
+        drain();
+        try {
+            zip.closeEntry();
+            zip.finish();
+            zip.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ── Rows and cells ───────────────────────────────────────────────────
+
+    private void totalRow(String label, Money net, Money vat, Money exempt, Money total) {
+        ensureRowCapacity();
+        ascii("<row>");
+        text(label, true);
+        for (int i = 0; i < 5; i++) {
+            ascii("<c/>");
+        }
+        amount(net, true);
+        amount(vat, true);
+        amount(exempt, true);
+        amount(total, true);
+        ascii("</row>");
+    }
+
+    private void text(String value, boolean bold) {
+        ascii(bold ? "<c t=\"inlineStr\" s=\"3\"><is><t>" : "<c t=\"inlineStr\"><is><t>");
+        escaped(value);
+        ascii("</t></is></c>");
+    }
+
+    private void number(long value) {
+        ascii("<c><v>");
+        ascii(Long.toString(value));
+        ascii("</v></c>");
+    }
+
+    private void amount(Money value, boolean bold) {
+        ascii(bold ? "<c s=\"4\"><v>" : "<c s=\"2\"><v>");
+        ascii(value.toString());
+        ascii("</v></c>");
+    }
+
+    // Excel stores dates as days since 1899-12-30
+    private void date(LocalDate value) {
+        ascii("<c s=\"1\"><v>");
+        ascii(Long.toString(ChronoUnit.DAYS.between(EXCEL_EPOCH, value)));
+        ascii("</v></c>");
+    }
+
+    // ── Byte encoding ────────────────────────────────────────────────────
+
+    private void ascii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            window[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    /** UTF-8 with XML escaping; control characters not allowed in XML 1.0 are dropped. */
+    private void escaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> ascii("&amp;");
+                case '<' -> ascii("&lt;");
+                case '>' -> ascii("&gt;");
+                case '"' -> ascii("&quot;");
+                default -> {
+                    if (c < 0x20 && c != '\t' && c != '\n' && c != '\r') {
+                        continue;
+                    }
+                    if (c < 0x80) {
+                        window[position++] = (byte) c;
+                    } else if (c < 0x800) {
+                        window[position++] = (byte) (0xC0 | (c >> 6));
+                        window[position++] = (byte) (0x80 | (c & 0x3F));
+                    } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                            && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                        window[position++] = (byte) (0xF0 | (codePoint >> 18));
+                        window[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        window[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        window[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    } else if (Character.isSurrogate(c)) {
+                        window[position++] = '?';
+                    } else {
+                        window[position++] = (byte) (0xE0 | (c >> 12));
+                        window[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                        window[position++] = (byte) (0x80 | (c & 0x3F));
+                    }
+                }
+            }
+        }
+    }
+
+    private void part(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private void ensureRowCapacity() {
+        if (position + MAX_ROW_LENGTH > window.length) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        if (position == 0) {
+            return;
+        }
+        try {
+            zip.write(window, 0, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface SpringDataVatBookExportRepository extends JpaRepository<VatBookExport, UUID> {
+
+    List<VatBookExport> findByStatusInOrderByCreatedAt(Collection<VatBookExportStatus> statuses);
+
+    // Transaction-level advisory lock: released on commit or rollback, blocks no table
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('vat_book_exports.queue'))) l",
+            nativeQuery = true)
+    List<Integer> lockQueue();
+
+    long countByStatusInAndBatchIdIsNull(Collection<VatBookExportStatus> statuses);
+
+    List<VatBookExport> findByBatchIdOrderByCreatedAt(UUID batchId);
+
+    List<VatBookExport> findByStatusInAndCreatedAtBefore(Collection<VatBookExportStatus> statuses,
+                                                         LocalDateTime createdBefore);
+}
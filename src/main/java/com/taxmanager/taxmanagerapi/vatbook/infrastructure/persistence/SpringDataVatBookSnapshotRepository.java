@@ -0,0 +1,19 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookSnapshot;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataVatBookSnapshotRepository extends JpaRepository<VatBookSnapshot, UUID> {
+
+    Optional<VatBookSnapshot> findByTaxpayerIdAndCategoryAndPeriod(
+            UUID taxpayerId, VoucherCategory category, LocalDate period);
+
+    List<VatBookSnapshot> findByTaxpayerIdAndCategoryAndPeriodBetween(
+            UUID taxpayerId, VoucherCategory category, LocalDate fromPeriod, LocalDate toPeriod);
+}
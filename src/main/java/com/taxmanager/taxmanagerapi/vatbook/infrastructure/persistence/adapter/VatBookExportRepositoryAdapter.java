@@ -0,0 +1,65 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.persistence.adapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.persistence.SpringDataVatBookExportRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class VatBookExportRepositoryAdapter implements VatBookExportRepository {
+
+    private static final List<VatBookExportStatus> FINISHED =
+            List.of(VatBookExportStatus.DONE, VatBookExportStatus.FAILED);
+
+    private final SpringDataVatBookExportRepository jpaRepository;
+
+    public VatBookExportRepositoryAdapter(SpringDataVatBookExportRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public VatBookExport save(VatBookExport export) {
+        return jpaRepository.save(export);
+    }
+
+    @Override
+    public Optional<VatBookExport> findById(UUID id) {
+        return jpaRepository.findById(id);
+    }
+
+    @Override
+    public List<VatBookExport> findByStatusIn(List<VatBookExportStatus> statuses) {
+        return jpaRepository.findByStatusInOrderByCreatedAt(statuses);
+    }
+
+    @Override
+    public void lockQueue() {
+        jpaRepository.lockQueue();
+    }
+
+    @Override
+    public long countUnbatchedByStatusIn(List<VatBookExportStatus> statuses) {
+        return jpaRepository.countByStatusInAndBatchIdIsNull(statuses);
+    }
+
+    @Override
+    public List<VatBookExport> findByBatchId(UUID batchId) {
+        return jpaRepository.findByBatchIdOrderByCreatedAt(batchId);
+    }
+
+    @Override
+    public List<VatBookExport> findFinishedCreatedBefore(LocalDateTime createdBefore) {
+        return jpaRepository.findByStatusInAndCreatedAtBefore(FINISHED, createdBefore);
+    }
+
+    @Override
+    public void delete(VatBookExport export) {
+        jpaRepository.delete(export);
+    }
+}
@@ -0,0 +1,38 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.persistence.adapter;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookSnapshot;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookSnapshotRepository;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.persistence.SpringDataVatBookSnapshotRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class VatBookSnapshotRepositoryAdapter implements VatBookSnapshotRepository {
+
+    private final SpringDataVatBookSnapshotRepository jpaRepository;
+
+    public VatBookSnapshotRepositoryAdapter(SpringDataVatBookSnapshotRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public VatBookSnapshot save(VatBookSnapshot snapshot) {
+        return jpaRepository.save(snapshot);
+    }
+
+    @Override
+    public Optional<VatBookSnapshot> find(UUID taxpayerId, VoucherCategory category, YearMonth period) {
+        return jpaRepository.findByTaxpayerIdAndCategoryAndPeriod(taxpayerId, category, period.atDay(1));
+    }
+
+    @Override
+    public List<VatBookSnapshot> findBetween(UUID taxpayerId, VoucherCategory category, YearMonth from, YearMonth to) {
+        return jpaRepository.findByTaxpayerIdAndCategoryAndPeriodBetween(
+                taxpayerId, category, from.atDay(1), to.atDay(1));
+    }
+}
@@ -0,0 +1,30 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.scheduling;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.PurgeVatBookExportsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly removal of finished VAT book exports past {@code vat-book.exports.retention}.
+ */
+@Component
+public class VatBookExportPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(VatBookExportPurgeJob.class);
+
+    private final PurgeVatBookExportsUseCase purgeUseCase;
+
+    public VatBookExportPurgeJob(PurgeVatBookExportsUseCase purgeUseCase) {
+        this.purgeUseCase = purgeUseCase;
+    }
+
+    @Scheduled(cron = "${vat-book.exports.purge-cron:0 0 4 * * *}")
+    public void run() {
+        int purged = purgeUseCase.execute();
+        if (purged > 0) {
+            log.info("Exportaciones de libros IVA vencidas eliminadas: {}", purged);
+        }
+    }
+}
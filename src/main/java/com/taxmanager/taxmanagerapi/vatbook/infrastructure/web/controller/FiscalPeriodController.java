@@ -0,0 +1,68 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.controller;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.CloseFiscalPeriodUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatPositionUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.FiscalPeriodClosingResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatPositionResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper.VatBookWebMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Fiscal Periods", description = "Cierre y posición de IVA de períodos fiscales")
+public class FiscalPeriodController {
+
+    private final CloseFiscalPeriodUseCase closeFiscalPeriodUseCase;
+    private final GetVatPositionUseCase getVatPositionUseCase;
+    private final VatBookWebMapper mapper;
+
+    public FiscalPeriodController(CloseFiscalPeriodUseCase closeFiscalPeriodUseCase,
+                                  GetVatPositionUseCase getVatPositionUseCase,
+                                  VatBookWebMapper mapper) {
+        this.closeFiscalPeriodUseCase = closeFiscalPeriodUseCase;
+        this.getVatPositionUseCase = getVatPositionUseCase;
+        this.mapper = mapper;
+    }
+
+    @PostMapping("/taxpayers/{taxpayerId}/fiscal-periods/{period}/close")
+    @Operation(summary = "Cerrar un período fiscal: congela sus libros IVA y rechaza nuevos comprobantes")
+    public ResponseEntity<FiscalPeriodClosingResponse> close(
+            @PathVariable UUID taxpayerId,
+            @PathVariable String period) {
+        YearMonth yearMonth = parsePeriod(period);
+        var result = closeFiscalPeriodUseCase.execute(taxpayerId, yearMonth);
+        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toClosingResponse(result));
+    }
+
+    @GetMapping("/taxpayers/{taxpayerId}/fiscal-periods/{period}/vat-position")
+    @Operation(summary = "Posición de IVA del período: débito fiscal menos crédito fiscal")
+    public ResponseEntity<VatPositionResponse> getVatPosition(
+            @PathVariable UUID taxpayerId,
+            @PathVariable String period) {
+        YearMonth yearMonth = parsePeriod(period);
+        var result = getVatPositionUseCase.execute(taxpayerId, yearMonth);
+        return ResponseEntity.ok(mapper.toPositionResponse(result));
+    }
+
+    private YearMonth parsePeriod(String period) {
+        try {
+            return YearMonth.parse(period);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(
+                    "Formato de período inválido: '" + period + "'. Formato esperado: YYYY-MM");
+        }
+    }
+}
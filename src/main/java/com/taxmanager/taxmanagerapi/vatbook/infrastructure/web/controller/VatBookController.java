@@ -1,19 +1,60 @@
 package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.controller;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
 import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
 import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSnapshotResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookCacheStatsUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookRangeUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookSnapshotUseCase;
 import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookVersionUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.export.AfipVatBookFile;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.export.AfipVatBookWriter;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.export.XlsxVatBookWriter;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookCacheStatsResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookPageResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookRangeResponse;
 import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookSummaryResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookYearToDateResponse;
 import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper.VatBookWebMapper;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 @RestController
 @RequestMapping("/api/v1/vat-books")
@@ -21,28 +62,389 @@ import org.springframework.web.bind.annotation.RestController;
 public class VatBookController {
 
     private final GetVatBookUseCase getVatBookUseCase;
+    private final GetVatBookRangeUseCase getVatBookRangeUseCase;
+    private final GetVatBookSnapshotUseCase getVatBookSnapshotUseCase;
+    private final GetVatBookCacheStatsUseCase getVatBookCacheStatsUseCase;
+    private final GetVatBookVersionUseCase getVatBookVersionUseCase;
     private final VatBookWebMapper mapper;
+    private final ObjectMapper objectMapper;
 
     public VatBookController(GetVatBookUseCase getVatBookUseCase,
-                             VatBookWebMapper mapper) {
+                             GetVatBookRangeUseCase getVatBookRangeUseCase,
+                             GetVatBookSnapshotUseCase getVatBookSnapshotUseCase,
+                             GetVatBookCacheStatsUseCase getVatBookCacheStatsUseCase,
+                             GetVatBookVersionUseCase getVatBookVersionUseCase,
+                             VatBookWebMapper mapper,
+                             ObjectMapper objectMapper) {
         this.getVatBookUseCase = getVatBookUseCase;
+        this.getVatBookRangeUseCase = getVatBookRangeUseCase;
+        this.getVatBookSnapshotUseCase = getVatBookSnapshotUseCase;
+        this.getVatBookCacheStatsUseCase = getVatBookCacheStatsUseCase;
+        this.getVatBookVersionUseCase = getVatBookVersionUseCase;
         this.mapper = mapper;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/purchases")
-    @Operation(summary = "Libro IVA Compras de un período")
-    public ResponseEntity<VatBookResponse> getPurchases(@RequestParam String period) {
+    @Operation(summary = "Libro IVA Compras de un período (JSON, o Excel con format=xlsx)")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = VatBookResponse.class)))
+    public ResponseEntity<?> getPurchases(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId,
+            @RequestParam(defaultValue = "json") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
         YearMonth yearMonth = parsePeriod(period);
-        var result = getVatBookUseCase.getPurchases(yearMonth);
-        return ResponseEntity.ok(mapper.toResponse(result));
+        boolean xlsx = isXlsx(format);
+        return conditional(request, VoucherCategory.PURCHASE, yearMonth, yearMonth, taxpayerId, () -> {
+            if (xlsx) {
+                return xlsx(VoucherCategory.PURCHASE, yearMonth,
+                        sink -> getVatBookUseCase.streamPurchases(yearMonth, taxpayerId, sink));
+            }
+            Optional<VatBookSnapshotResult> snapshot = findSnapshot(taxpayerId, VoucherCategory.PURCHASE, yearMonth);
+            if (snapshot.isPresent()) {
+                return snapshotResponse(snapshot.get(), acceptEncoding);
+            }
+            var result = getVatBookUseCase.getPurchases(yearMonth, taxpayerId);
+            return ResponseEntity.ok(mapper.toResponse(result));
+        });
     }
 
     @GetMapping("/sales")
-    @Operation(summary = "Libro IVA Ventas de un período")
-    public ResponseEntity<VatBookResponse> getSales(@RequestParam String period) {
+    @Operation(summary = "Libro IVA Ventas de un período (JSON, o Excel con format=xlsx)")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = VatBookResponse.class)))
+    public ResponseEntity<?> getSales(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId,
+            @RequestParam(defaultValue = "json") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
         YearMonth yearMonth = parsePeriod(period);
-        var result = getVatBookUseCase.getSales(yearMonth);
-        return ResponseEntity.ok(mapper.toResponse(result));
+        boolean xlsx = isXlsx(format);
+        return conditional(request, VoucherCategory.SALE, yearMonth, yearMonth, taxpayerId, () -> {
+            if (xlsx) {
+                return xlsx(VoucherCategory.SALE, yearMonth,
+                        sink -> getVatBookUseCase.streamSales(yearMonth, taxpayerId, sink));
+            }
+            Optional<VatBookSnapshotResult> snapshot = findSnapshot(taxpayerId, VoucherCategory.SALE, yearMonth);
+            if (snapshot.isPresent()) {
+                return snapshotResponse(snapshot.get(), acceptEncoding);
+            }
+            var result = getVatBookUseCase.getSales(yearMonth, taxpayerId);
+            return ResponseEntity.ok(mapper.toResponse(result));
+        });
+    }
+
+    @GetMapping("/purchases/range")
+    @Operation(summary = "Libro IVA Compras de varios períodos (hasta 12), un libro por mes con el total general")
+    public ResponseEntity<VatBookRangeResponse> getPurchasesRange(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) UUID taxpayerId,
+            WebRequest request) {
+        YearMonth fromMonth = parsePeriod(from);
+        YearMonth toMonth = parsePeriod(to);
+        return conditional(request, VoucherCategory.PURCHASE, fromMonth, toMonth, taxpayerId, () -> {
+            var result = getVatBookRangeUseCase.getPurchases(fromMonth, toMonth, taxpayerId);
+            return ResponseEntity.ok(mapper.toRangeResponse(result));
+        });
+    }
+
+    @GetMapping("/sales/range")
+    @Operation(summary = "Libro IVA Ventas de varios períodos (hasta 12), un libro por mes con el total general")
+    public ResponseEntity<VatBookRangeResponse> getSalesRange(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) UUID taxpayerId,
+            WebRequest request) {
+        YearMonth fromMonth = parsePeriod(from);
+        YearMonth toMonth = parsePeriod(to);
+        return conditional(request, VoucherCategory.SALE, fromMonth, toMonth, taxpayerId, () -> {
+            var result = getVatBookRangeUseCase.getSales(fromMonth, toMonth, taxpayerId);
+            return ResponseEntity.ok(mapper.toRangeResponse(result));
+        });
+    }
+
+    @GetMapping("/purchases/totals")
+    @Operation(summary = "Totales del Libro IVA Compras de un período (sin detalle de comprobantes)")
+    public ResponseEntity<VatBookSummaryResponse> getPurchasesTotals(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId,
+            WebRequest request) {
+        YearMonth yearMonth = parsePeriod(period);
+        return conditional(request, VoucherCategory.PURCHASE, yearMonth, yearMonth, taxpayerId, () -> {
+            var result = getVatBookUseCase.getPurchasesSummary(yearMonth, taxpayerId);
+            return ResponseEntity.ok(mapper.toSummaryResponse(result));
+        });
+    }
+
+    @GetMapping("/sales/totals")
+    @Operation(summary = "Totales del Libro IVA Ventas de un período (sin detalle de comprobantes)")
+    public ResponseEntity<VatBookSummaryResponse> getSalesTotals(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId,
+            WebRequest request) {
+        YearMonth yearMonth = parsePeriod(period);
+        return conditional(request, VoucherCategory.SALE, yearMonth, yearMonth, taxpayerId, () -> {
+            var result = getVatBookUseCase.getSalesSummary(yearMonth, taxpayerId);
+            return ResponseEntity.ok(mapper.toSummaryResponse(result));
+        });
+    }
+
+    @GetMapping("/purchases/ytd")
+    @Operation(summary = "Serie mensual y acumulada del Libro IVA Compras de un año (neto, IVA y total)")
+    public ResponseEntity<VatBookYearToDateResponse> getPurchasesYearToDate(
+            @RequestParam String year,
+            @RequestParam(required = false) UUID taxpayerId,
+            WebRequest request) {
+        Year fiscalYear = parseYear(year);
+        return conditional(request, VoucherCategory.PURCHASE, fiscalYear.atMonth(1), fiscalYear.atMonth(12),
+                taxpayerId, () -> {
+                    var result = getVatBookUseCase.getPurchasesYearToDate(fiscalYear, taxpayerId);
+                    return ResponseEntity.ok(mapper.toYearToDateResponse(result));
+                });
+    }
+
+    @GetMapping("/sales/ytd")
+    @Operation(summary = "Serie mensual y acumulada del Libro IVA Ventas de un año (neto, IVA y total)")
+    public ResponseEntity<VatBookYearToDateResponse> getSalesYearToDate(
+            @RequestParam String year,
+            @RequestParam(required = false) UUID taxpayerId,
+            WebRequest request) {
+        Year fiscalYear = parseYear(year);
+        return conditional(request, VoucherCategory.SALE, fiscalYear.atMonth(1), fiscalYear.atMonth(12),
+                taxpayerId, () -> {
+                    var result = getVatBookUseCase.getSalesYearToDate(fiscalYear, taxpayerId);
+                    return ResponseEntity.ok(mapper.toYearToDateResponse(result));
+                });
+    }
+
+    @GetMapping("/purchases/entries")
+    @Operation(summary = "Comprobantes del Libro IVA Compras de un período, paginados por cursor")
+    public ResponseEntity<VatBookPageResponse> getPurchasesEntries(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
+        YearMonth yearMonth = parsePeriod(period);
+        return conditional(request, VoucherCategory.PURCHASE, yearMonth, yearMonth, taxpayerId, () -> {
+            var result = getVatBookUseCase.getPurchasesPage(yearMonth, taxpayerId, cursor, limit);
+            return ResponseEntity.ok(mapper.toPageResponse(result));
+        });
+    }
+
+    @GetMapping("/sales/entries")
+    @Operation(summary = "Comprobantes del Libro IVA Ventas de un período, paginados por cursor")
+    public ResponseEntity<VatBookPageResponse> getSalesEntries(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
+        YearMonth yearMonth = parsePeriod(period);
+        return conditional(request, VoucherCategory.SALE, yearMonth, yearMonth, taxpayerId, () -> {
+            var result = getVatBookUseCase.getSalesPage(yearMonth, taxpayerId, cursor, limit);
+            return ResponseEntity.ok(mapper.toPageResponse(result));
+        });
+    }
+
+    @GetMapping(value = "/purchases/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Libro IVA Compras de un período en NDJSON (una línea por comprobante, totales al final)")
+    public ResponseEntity<StreamingResponseBody> streamPurchases(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId,
+            WebRequest request) {
+        YearMonth yearMonth = parsePeriod(period);
+        return conditional(request, VoucherCategory.PURCHASE, yearMonth, yearMonth, taxpayerId,
+                () -> ndjson(sink -> getVatBookUseCase.streamPurchases(yearMonth, taxpayerId, sink)));
+    }
+
+    @GetMapping(value = "/sales/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Libro IVA Ventas de un período en NDJSON (una línea por comprobante, totales al final)")
+    public ResponseEntity<StreamingResponseBody> streamSales(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId,
+            WebRequest request) {
+        YearMonth yearMonth = parsePeriod(period);
+        return conditional(request, VoucherCategory.SALE, yearMonth, yearMonth, taxpayerId,
+                () -> ndjson(sink -> getVatBookUseCase.streamSales(yearMonth, taxpayerId, sink)));
+    }
+
+    @GetMapping(value = "/purchases/afip/{file}", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Libro IVA Digital (AFIP) Compras: archivo de comprobantes (vouchers) o de alícuotas (rates)")
+    public ResponseEntity<StreamingResponseBody> exportPurchasesAfip(
+            @PathVariable String file,
+            @RequestParam String period,
+            @RequestParam UUID taxpayerId,
+            WebRequest request) {
+        YearMonth yearMonth = parsePeriod(period);
+        AfipVatBookFile afipFile = parseAfipFile(file);
+        return conditional(request, VoucherCategory.PURCHASE, yearMonth, yearMonth, taxpayerId,
+                () -> afipTxt(VoucherCategory.PURCHASE, afipFile, yearMonth,
+                        getVatBookUseCase.getPurchasesSummary(yearMonth, taxpayerId),
+                        sink -> getVatBookUseCase.streamPurchases(yearMonth, taxpayerId, sink)));
+    }
+
+    @GetMapping(value = "/sales/afip/{file}", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Libro IVA Digital (AFIP) Ventas: archivo de comprobantes (vouchers) o de alícuotas (rates)")
+    public ResponseEntity<StreamingResponseBody> exportSalesAfip(
+            @PathVariable String file,
+            @RequestParam String period,
+            @RequestParam UUID taxpayerId,
+            WebRequest request) {
+        YearMonth yearMonth = parsePeriod(period);
+        AfipVatBookFile afipFile = parseAfipFile(file);
+        return conditional(request, VoucherCategory.SALE, yearMonth, yearMonth, taxpayerId,
+                () -> afipTxt(VoucherCategory.SALE, afipFile, yearMonth,
+                        getVatBookUseCase.getSalesSummary(yearMonth, taxpayerId),
+                        sink -> getVatBookUseCase.streamSales(yearMonth, taxpayerId, sink)));
+    }
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Estadísticas del caché de libros IVA (hits, misses, evictions)")
+    public ResponseEntity<VatBookCacheStatsResponse> getCacheStats() {
+        var result = getVatBookCacheStatsUseCase.execute();
+        return ResponseEntity.ok(mapper.toCacheStatsResponse(result));
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────
+
+    /**
+     * Answers 304 when the client's {@code If-None-Match} still names the books' version,
+     * before any voucher is read; otherwise builds the response and tags it. The version
+     * is read first, so a write committing meanwhile only makes the tag older. The tag is
+     * weak because snapshots go out gzip-encoded or plain under the same version.
+     */
+    private <T> ResponseEntity<T> conditional(WebRequest request,
+                                              VoucherCategory category,
+                                              YearMonth from,
+                                              YearMonth to,
+                                              UUID taxpayerId,
+                                              Supplier<ResponseEntity<? extends T>> response) {
+        String etag = "W/\"" + getVatBookVersionUseCase.execute(category, from, to, taxpayerId) + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        ResponseEntity<? extends T> built = response.get();
+        return ResponseEntity.status(built.getStatusCode())
+                .headers(built.getHeaders())
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(built.getBody());
+    }
+
+    // Closed periods only exist per taxpayer. The stored bytes are sent as they are; every
+    // other view of a closed period is read from the same snapshot by GetVatBookService.
+    private Optional<VatBookSnapshotResult> findSnapshot(UUID taxpayerId, VoucherCategory category, YearMonth period) {
+        return taxpayerId == null
+                ? Optional.empty()
+                : getVatBookSnapshotUseCase.execute(taxpayerId, category, period);
+    }
+
+    /** Sends the frozen book as stored (gzip) or inflated for clients that do not accept gzip. */
+    private ResponseEntity<byte[]> snapshotResponse(VatBookSnapshotResult snapshot, String acceptEncoding) {
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.content());
+        }
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(snapshot.content()))) {
+            return response.body(in.readNBytes(snapshot.uncompressedSize()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(
+            Function<Consumer<VatBookEntryResult>, VatBookSummaryResult> book) {
+        StreamingResponseBody body = out -> {
+            VatBookSummaryResult summary = book.apply(
+                    entry -> writeLine(out, mapper.toEntryResponse(entry)));
+            writeLine(out, mapper.toSummaryResponse(summary));
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /** Streams the book straight into the workbook: from the voucher cursor, or the snapshot of a closed period. */
+    private ResponseEntity<StreamingResponseBody> xlsx(
+            VoucherCategory category,
+            YearMonth period,
+            Function<Consumer<VatBookEntryResult>, VatBookSummaryResult> book) {
+        StreamingResponseBody body = out -> {
+            var writer = new XlsxVatBookWriter(out, category, period);
+            writer.finish(book.apply(writer::write));
+        };
+        String fileName = "LIBRO_IVA_"
+                + (category == VoucherCategory.PURCHASE ? "COMPRAS_" : "VENTAS_")
+                + period + ".xlsx";
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(XlsxVatBookWriter.CONTENT_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    /** Checked against the summary first: once streaming starts, a refusal could no longer be a 422. */
+    private ResponseEntity<StreamingResponseBody> afipTxt(
+            VoucherCategory category,
+            AfipVatBookFile file,
+            YearMonth period,
+            VatBookSummaryResult summary,
+            Function<Consumer<VatBookEntryResult>, VatBookSummaryResult> book) {
+        AfipVatBookWriter.checkCounterparties(category, summary.subtotals());
+        StreamingResponseBody body = out -> {
+            var writer = new AfipVatBookWriter(out, category, file);
+            book.apply(writer::write);
+            writer.flush();
+        };
+        String fileName = "LIBRO_IVA_DIGITAL_"
+                + (category == VoucherCategory.PURCHASE ? "COMPRAS_" : "VENTAS_")
+                + file.getFileSuffix() + "_" + period + ".txt";
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.ISO_8859_1))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isXlsx(String format) {
+        return switch (format) {
+            case "json" -> false;
+            case "xlsx" -> true;
+            default -> throw new BadRequestException(
+                    "Formato inválido: '" + format + "'. Valores posibles: json, xlsx");
+        };
+    }
+
+    private AfipVatBookFile parseAfipFile(String file) {
+        return switch (file) {
+            case "vouchers" -> AfipVatBookFile.VOUCHERS;
+            case "rates" -> AfipVatBookFile.RATES;
+            default -> throw new BadRequestException(
+                    "Archivo inválido: '" + file + "'. Valores posibles: vouchers, rates");
+        };
+    }
+
+    private Year parseYear(String year) {
+        try {
+            return Year.parse(year);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(
+                    "Formato de año inválido: '" + year + "'. Formato esperado: YYYY");
+        }
     }
 
     private YearMonth parsePeriod(String period) {
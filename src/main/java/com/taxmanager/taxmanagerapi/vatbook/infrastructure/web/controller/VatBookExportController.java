@@ -0,0 +1,163 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.controller;
+
+import java.net.URI;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportFileResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RequestVatBookBatchUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RequestVatBookExportUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookBatchUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookExportUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookBatchRequest;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookBatchResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookExportRequest;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookExportResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper.VatBookWebMapper;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/vat-books")
+@Tag(name = "VAT Book Exports", description = "Libros IVA generados en segundo plano (PDF, Excel, NDJSON, AFIP)")
+public class VatBookExportController {
+
+    private final RequestVatBookExportUseCase requestVatBookExportUseCase;
+    private final GetVatBookExportUseCase getVatBookExportUseCase;
+    private final RequestVatBookBatchUseCase requestVatBookBatchUseCase;
+    private final GetVatBookBatchUseCase getVatBookBatchUseCase;
+    private final VatBookWebMapper mapper;
+
+    public VatBookExportController(RequestVatBookExportUseCase requestVatBookExportUseCase,
+                                   GetVatBookExportUseCase getVatBookExportUseCase,
+                                   RequestVatBookBatchUseCase requestVatBookBatchUseCase,
+                                   GetVatBookBatchUseCase getVatBookBatchUseCase,
+                                   VatBookWebMapper mapper) {
+        this.requestVatBookExportUseCase = requestVatBookExportUseCase;
+        this.getVatBookExportUseCase = getVatBookExportUseCase;
+        this.requestVatBookBatchUseCase = requestVatBookBatchUseCase;
+        this.getVatBookBatchUseCase = getVatBookBatchUseCase;
+        this.mapper = mapper;
+    }
+
+    @PostMapping("/exports")
+    @Operation(summary = "Encolar un libro IVA en cualquier formato; se genera en segundo plano")
+    public ResponseEntity<VatBookExportResponse> requestExport(@Valid @RequestBody VatBookExportRequest request) {
+        var result = requestVatBookExportUseCase.execute(
+                parseCategory(request.category()),
+                parsePeriod(request.period()),
+                request.taxpayerId(),
+                parseFormat(request.format()));
+        return accepted(result);
+    }
+
+    @PostMapping("/purchases/pdf")
+    @Operation(summary = "Encolar el Libro IVA Compras en PDF; se genera en segundo plano")
+    public ResponseEntity<VatBookExportResponse> exportPurchasesPdf(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId) {
+        var result = requestVatBookExportUseCase.execute(
+                VoucherCategory.PURCHASE, parsePeriod(period), taxpayerId, VatBookExportFormat.PDF);
+        return accepted(result);
+    }
+
+    @PostMapping("/sales/pdf")
+    @Operation(summary = "Encolar el Libro IVA Ventas en PDF; se genera en segundo plano")
+    public ResponseEntity<VatBookExportResponse> exportSalesPdf(
+            @RequestParam String period,
+            @RequestParam(required = false) UUID taxpayerId) {
+        var result = requestVatBookExportUseCase.execute(
+                VoucherCategory.SALE, parsePeriod(period), taxpayerId, VatBookExportFormat.PDF);
+        return accepted(result);
+    }
+
+    @GetMapping("/exports/{id}")
+    @Operation(summary = "Estado de una exportación")
+    public ResponseEntity<VatBookExportResponse> getExport(@PathVariable UUID id) {
+        var result = getVatBookExportUseCase.execute(id);
+        return ResponseEntity.ok(mapper.toExportResponse(result));
+    }
+
+    @GetMapping("/exports/{id}/file")
+    @Operation(summary = "Descargar el archivo de una exportación terminada")
+    public ResponseEntity<InputStreamResource> downloadExport(@PathVariable UUID id) {
+        VatBookExportFileResult file = getVatBookExportUseCase.openFile(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(file.contentType()))
+                .contentLength(file.size())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.fileName()).build().toString())
+                .body(new InputStreamResource(file.content()));
+    }
+
+    @PostMapping("/batches")
+    @Operation(summary = "Cierre de mes: encolar los libros IVA Compras y Ventas de todos los contribuyentes activos")
+    public ResponseEntity<VatBookBatchResponse> requestBatch(@Valid @RequestBody VatBookBatchRequest request) {
+        var result = requestVatBookBatchUseCase.execute(
+                parsePeriod(request.period()),
+                parseFormat(request.format()));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/vat-books/batches/" + result.batchId()))
+                .body(mapper.toBatchResponse(result));
+    }
+
+    @GetMapping("/batches/{id}")
+    @Operation(summary = "Avance de un lote de cierre de mes")
+    public ResponseEntity<VatBookBatchResponse> getBatch(@PathVariable UUID id) {
+        var result = getVatBookBatchUseCase.execute(id);
+        return ResponseEntity.ok(mapper.toBatchResponse(result));
+    }
+
+    // ── Private helpers ──────────────────────────────────────────────────
+
+    private ResponseEntity<VatBookExportResponse> accepted(VatBookExportResult result) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/vat-books/exports/" + result.id()))
+                .body(mapper.toExportResponse(result));
+    }
+
+    private VoucherCategory parseCategory(String value) {
+        try {
+            return VoucherCategory.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(
+                    "Categoría inválida: '" + value + "'. Valores permitidos: PURCHASE, SALE");
+        }
+    }
+
+    private VatBookExportFormat parseFormat(String value) {
+        try {
+            return VatBookExportFormat.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(
+                    "Formato inválido: '" + value + "'. Valores permitidos: PDF, XLSX, NDJSON, AFIP_VOUCHERS, AFIP_RATES");
+        }
+    }
+
+    private YearMonth parsePeriod(String period) {
+        try {
+            return YearMonth.parse(period);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(
+                    "Formato de período inválido: '" + period + "'. Formato esperado: YYYY-MM");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Cierre de un período fiscal con sus libros IVA congelados")
+public record FiscalPeriodClosingResponse(
+        @Schema(description = "ID del contribuyente")
+        UUID taxpayerId,
+        @Schema(description = "Período cerrado", example = "2026-02")
+        String period,
+        @Schema(description = "Fecha y hora del cierre")
+        LocalDateTime closedAt,
+        @Schema(description = "Comprobantes del Libro IVA Compras congelado", example = "38")
+        int purchasesVoucherCount,
+        @Schema(description = "Comprobantes del Libro IVA Ventas congelado", example = "112")
+        int salesVoucherCount,
+        @Schema(description = "Tamaño comprimido (gzip) de ambos snapshots en bytes", example = "18432")
+        long snapshotBytes
+) {}
@@ -0,0 +1,16 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "Solicitud de generación de cierre de mes: los libros IVA de todos los contribuyentes activos")
+public record VatBookBatchRequest(
+
+        @NotBlank
+        @Schema(description = "Período (YYYY-MM)", example = "2026-02")
+        String period,
+
+        @NotBlank
+        @Schema(description = "Formato: PDF, XLSX, NDJSON, AFIP_VOUCHERS o AFIP_RATES", example = "AFIP_VOUCHERS")
+        String format
+) {}
@@ -0,0 +1,33 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Lote de cierre de mes: una exportación por contribuyente activo y libro")
+public record VatBookBatchResponse(
+        @Schema(description = "ID del lote")
+        UUID batchId,
+        @Schema(description = "Período exportado", example = "2026-02")
+        String period,
+        @Schema(description = "Formato de los archivos", example = "AFIP_VOUCHERS")
+        String format,
+        @Schema(description = "Exportaciones del lote (dos por contribuyente)", example = "640")
+        int exportCount,
+        @Schema(description = "Exportaciones en espera", example = "600")
+        int pendingCount,
+        @Schema(description = "Exportaciones en curso", example = "8")
+        int runningCount,
+        @Schema(description = "Exportaciones terminadas", example = "30")
+        int doneCount,
+        @Schema(description = "Exportaciones fallidas", example = "2")
+        int failedCount,
+        @Schema(description = "Comprobantes escritos hasta el momento", example = "48120")
+        long processedCount,
+        @Schema(description = "Comprobantes esperados de las exportaciones ya iniciadas", example = "51300")
+        long expectedCount,
+        @Schema(description = "Exportaciones terminadas o fallidas, en porcentaje (0 a 100)", example = "5")
+        int progress,
+        List<VatBookExportResponse> exports
+) {}
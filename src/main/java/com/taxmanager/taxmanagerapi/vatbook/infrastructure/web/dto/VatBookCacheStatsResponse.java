@@ -0,0 +1,23 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Estadísticas del caché de libros IVA desde el arranque")
+public record VatBookCacheStatsResponse(
+        @Schema(description = "Consultas resueltas desde el caché", example = "1520")
+        long hits,
+        @Schema(description = "Consultas que fueron a la base", example = "310")
+        long misses,
+        @Schema(description = "hits / (hits + misses)", example = "0.83")
+        double hitRate,
+        @Schema(description = "Entradas descartadas por altas de comprobantes o cambios de contribuyente", example = "42")
+        long writeEvictions,
+        @Schema(description = "Entradas descartadas por el límite de tamaño (LRU)", example = "0")
+        long sizeEvictions,
+        @Schema(description = "Entradas del período en curso vencidas por TTL", example = "18")
+        long expirations,
+        @Schema(description = "Entradas actuales", example = "120")
+        int size,
+        @Schema(description = "Capacidad máxima", example = "500")
+        int maxEntries
+) {}
@@ -1,9 +1,10 @@
 package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Entrada individual del libro IVA")
@@ -15,8 +16,9 @@ public record VatBookEntryResponse(
         long voucherNumber,
         String taxpayerBusinessName,
         String taxpayerCuit,
-        BigDecimal netAmount,
-        BigDecimal vatAmount,
-        BigDecimal exemptAmount,
-        BigDecimal totalAmount
+        Money netAmount,
+        Money vatAmount,
+        Money exemptAmount,
+        Money totalAmount,
+        List<VatRateAmountResponse> vatLines
 ) {}
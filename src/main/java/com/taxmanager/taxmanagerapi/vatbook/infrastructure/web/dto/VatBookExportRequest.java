@@ -0,0 +1,25 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "Solicitud de exportación de un libro IVA en segundo plano")
+public record VatBookExportRequest(
+
+        @NotBlank
+        @Schema(description = "Libro: PURCHASE o SALE", example = "SALE")
+        String category,
+
+        @NotBlank
+        @Schema(description = "Período (YYYY-MM)", example = "2026-02")
+        String period,
+
+        @Schema(description = "Contribuyente (opcional salvo en AFIP_*; sin él, todos)")
+        UUID taxpayerId,
+
+        @NotBlank
+        @Schema(description = "Formato: PDF, XLSX, NDJSON, AFIP_VOUCHERS o AFIP_RATES", example = "XLSX")
+        String format
+) {}
@@ -0,0 +1,42 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Exportación de un libro IVA generada en segundo plano")
+public record VatBookExportResponse(
+        @Schema(description = "ID de la exportación")
+        UUID id,
+        @Schema(description = "Contribuyente del libro (null = todos)")
+        UUID taxpayerId,
+        @Schema(description = "Libro exportado", example = "PURCHASE")
+        String category,
+        @Schema(description = "Período exportado", example = "2026-02")
+        String period,
+        @Schema(description = "Formato del archivo", example = "XLSX")
+        String format,
+        @Schema(description = "Estado: PENDING, RUNNING, DONE o FAILED", example = "DONE")
+        String status,
+        @Schema(description = "Comprobantes del período según los totales (al iniciar)", example = "1250")
+        Integer expectedCount,
+        @Schema(description = "Comprobantes escritos hasta el momento", example = "800")
+        Integer processedCount,
+        @Schema(description = "Avance en porcentaje (0 a 100)", example = "64")
+        Integer progress,
+        @Schema(description = "Comprobantes incluidos (al terminar)", example = "1250")
+        Integer voucherCount,
+        @Schema(description = "Tamaño del archivo en bytes (al terminar)", example = "183422")
+        Long fileSize,
+        @Schema(description = "Motivo del fallo (estado FAILED)")
+        String error,
+        @Schema(description = "Fecha y hora del pedido")
+        LocalDateTime createdAt,
+        @Schema(description = "Inicio de la generación")
+        LocalDateTime startedAt,
+        @Schema(description = "Fin de la generación")
+        LocalDateTime finishedAt,
+        @Schema(description = "URL de descarga (estado DONE)", example = "/api/v1/vat-books/exports/3f2a.../file")
+        String downloadUrl
+) {}
@@ -0,0 +1,24 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Totales de un mes del libro IVA y acumulados desde enero")
+public record VatBookMonthResponse(
+        @Schema(description = "Período fiscal", example = "2026-02")
+        String period,
+        @Schema(description = "Cantidad de comprobantes del mes", example = "25")
+        long voucherCount,
+        @Schema(description = "Monto neto del mes", example = "80000.0000")
+        Money netAmount,
+        @Schema(description = "Monto IVA del mes", example = "16800.0000")
+        Money vatAmount,
+        @Schema(description = "Monto total del mes", example = "96800.0000")
+        Money totalAmount,
+        @Schema(description = "Monto neto acumulado desde enero", example = "150000.0000")
+        Money cumulativeNetAmount,
+        @Schema(description = "Monto IVA acumulado desde enero", example = "31500.0000")
+        Money cumulativeVatAmount,
+        @Schema(description = "Monto total acumulado desde enero", example = "181500.0000")
+        Money cumulativeTotalAmount
+) {}
@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Página de comprobantes del libro IVA, en el orden del libro")
+public record VatBookPageResponse(
+        @Schema(description = "Período fiscal", example = "2026-02")
+        String period,
+        @Schema(description = "Categoría: PURCHASE o SALE", example = "PURCHASE")
+        String category,
+        List<VatBookEntryResponse> vouchers,
+        @Schema(description = "Cursor de la página siguiente; null en la última página",
+                example = "MjAyNi0wMi0xMDoxOjEyMzQ6OWY4YzJlNGEtM2IxZC00YzVlLThhN2YtMWQyZTNmNGE1YjZj")
+        String nextCursor
+) {}
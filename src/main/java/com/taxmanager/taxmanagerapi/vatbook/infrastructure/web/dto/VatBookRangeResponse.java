@@ -0,0 +1,21 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Libros IVA de varios períodos consecutivos, uno por mes, con el total general")
+public record VatBookRangeResponse(
+        @Schema(description = "Primer período (inclusive)", example = "2026-01")
+        String from,
+        @Schema(description = "Último período (inclusive)", example = "2026-12")
+        String to,
+        @Schema(description = "Categoría", example = "SALE")
+        String category,
+        @Schema(description = "Libro de cada mes, en orden cronológico")
+        List<VatBookResponse> periods,
+        @Schema(description = "Totales de todo el rango")
+        VatBookTotalsResponse totals,
+        @Schema(description = "Cantidad de comprobantes de todo el rango", example = "1380")
+        int voucherCount
+) {}
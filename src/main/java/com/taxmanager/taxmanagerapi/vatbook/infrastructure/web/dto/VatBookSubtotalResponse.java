@@ -0,0 +1,20 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Subtotal del libro IVA por tipo de comprobante")
+public record VatBookSubtotalResponse(
+        @Schema(description = "Tipo de comprobante", example = "FACTURA_A")
+        String voucherType,
+        @Schema(description = "Cantidad de comprobantes", example = "12")
+        int voucherCount,
+        @Schema(description = "Monto neto", example = "80000.0000")
+        Money netAmount,
+        @Schema(description = "Monto IVA", example = "16800.0000")
+        Money vatAmount,
+        @Schema(description = "Monto exento", example = "0.0000")
+        Money exemptAmount,
+        @Schema(description = "Monto total", example = "96800.0000")
+        Money totalAmount
+) {}
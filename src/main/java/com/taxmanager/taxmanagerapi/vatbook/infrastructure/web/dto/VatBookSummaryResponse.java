@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Totales del libro IVA para un período, sin el detalle de comprobantes")
+public record VatBookSummaryResponse(
+        @Schema(description = "Período fiscal", example = "2026-02")
+        String period,
+        @Schema(description = "Categoría: PURCHASE o SALE", example = "PURCHASE")
+        String category,
+        VatBookTotalsResponse totals,
+        List<VatBookSubtotalResponse> subtotals,
+        @Schema(description = "Cantidad de comprobantes", example = "25")
+        int voucherCount
+) {}
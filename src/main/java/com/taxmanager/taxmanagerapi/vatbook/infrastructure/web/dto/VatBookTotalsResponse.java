@@ -1,13 +1,15 @@
 package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
 
-import java.math.BigDecimal;
+import java.util.List;
 
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Totales del libro IVA")
 public record VatBookTotalsResponse(
-        BigDecimal netAmount,
-        BigDecimal vatAmount,
-        BigDecimal exemptAmount,
-        BigDecimal totalAmount
+        Money netAmount,
+        Money vatAmount,
+        Money exemptAmount,
+        Money totalAmount,
+        List<VatRateAmountResponse> vatRates
 ) {}
@@ -0,0 +1,14 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Serie mensual y acumulada del libro IVA para un año")
+public record VatBookYearToDateResponse(
+        @Schema(description = "Año fiscal", example = "2026")
+        int year,
+        @Schema(description = "Categoría: PURCHASE o SALE", example = "PURCHASE")
+        String category,
+        List<VatBookMonthResponse> months
+) {}
@@ -0,0 +1,33 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto;
+
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Posición de IVA de un período: débito fiscal menos crédito fiscal")
+public record VatPositionResponse(
+        @Schema(description = "ID del contribuyente")
+        UUID taxpayerId,
+        @Schema(description = "Período fiscal", example = "2026-02")
+        String period,
+        @Schema(description = "Cantidad de comprobantes de venta del período", example = "25")
+        long salesVoucherCount,
+        @Schema(description = "IVA de facturas, notas de débito y tickets de venta", example = "21000.0000")
+        Money salesVat,
+        @Schema(description = "IVA de notas de crédito de venta", example = "1050.0000")
+        Money salesCreditNoteVat,
+        @Schema(description = "Débito fiscal: IVA de ventas menos notas de crédito", example = "19950.0000")
+        Money fiscalDebit,
+        @Schema(description = "Cantidad de comprobantes de compra del período", example = "18")
+        long purchaseVoucherCount,
+        @Schema(description = "IVA de facturas, notas de débito y tickets de compra", example = "12600.0000")
+        Money purchaseVat,
+        @Schema(description = "IVA de notas de crédito de compra", example = "0.0000")
+        Money purchaseCreditNoteVat,
+        @Schema(description = "Crédito fiscal: IVA de compras menos notas de crédito", example = "12600.0000")
+        Money fiscalCredit,
+        @Schema(description = "Débito menos crédito fiscal: positivo a pagar, negativo saldo a favor",
+                example = "7350.0000")
+        Money position
+) {}
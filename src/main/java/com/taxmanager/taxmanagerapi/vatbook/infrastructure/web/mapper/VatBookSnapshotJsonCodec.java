@@ -0,0 +1,52 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSnapshotResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookSnapshotCodec;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookResponse;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Writes snapshots as the {@link VatBookResponse} of the book, through the same mapper and
+ * {@link ObjectMapper} as the live endpoint, so the stored bytes are the response body.
+ */
+@Component
+public class VatBookSnapshotJsonCodec implements VatBookSnapshotCodec {
+
+    private final VatBookWebMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    public VatBookSnapshotJsonCodec(VatBookWebMapper mapper, ObjectMapper objectMapper) {
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public VatBookSnapshotResult encode(VatBookResult book) {
+        byte[] json = objectMapper.writeValueAsBytes(mapper.toResponse(book));
+        var buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (var gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new VatBookSnapshotResult(buffer.toByteArray(), json.length);
+    }
+
+    @Override
+    public VatBookResult decode(byte[] content) {
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return mapper.toResult(objectMapper.readValue(in, VatBookResponse.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
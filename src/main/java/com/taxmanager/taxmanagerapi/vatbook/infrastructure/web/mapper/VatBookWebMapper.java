@@ -1,11 +1,39 @@
 package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper;
 
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.FiscalPeriodClosingResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookBatchResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookCacheStatsResult;
 import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookMonthResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookPageResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookRangeResult;
 import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSubtotalResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
 import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookYearToDateResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatPositionResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatRateAmountResult;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.FiscalPeriodClosingResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookBatchResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookCacheStatsResponse;
 import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookEntryResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookExportResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookMonthResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookPageResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookRangeResponse;
 import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookSubtotalResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookSummaryResponse;
 import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookTotalsResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatBookYearToDateResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatPositionResponse;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.dto.VatRateAmountResponse;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,7 +49,61 @@ public class VatBookWebMapper {
         );
     }
 
-    private VatBookEntryResponse toEntryResponse(VatBookEntryResult entry) {
+    /** Reverse of {@link #toResponse}, for books read back from a snapshot. */
+    public VatBookResult toResult(VatBookResponse response) {
+        return new VatBookResult(
+                response.period(),
+                VoucherCategory.valueOf(response.category()),
+                response.vouchers().stream().map(this::toEntryResult).toList(),
+                new VatBookTotalsResult(
+                        response.totals().netAmount(),
+                        response.totals().vatAmount(),
+                        response.totals().exemptAmount(),
+                        response.totals().totalAmount(),
+                        response.totals().vatRates().stream().map(this::toVatRateResult).toList()),
+                response.voucherCount()
+        );
+    }
+
+    public VatBookRangeResponse toRangeResponse(VatBookRangeResult result) {
+        return new VatBookRangeResponse(
+                result.from(),
+                result.to(),
+                result.category().name(),
+                result.periods().stream().map(this::toResponse).toList(),
+                toTotalsResponse(result.totals()),
+                result.voucherCount()
+        );
+    }
+
+    public VatBookSummaryResponse toSummaryResponse(VatBookSummaryResult result) {
+        return new VatBookSummaryResponse(
+                result.period(),
+                result.category().name(),
+                toTotalsResponse(result.totals()),
+                result.subtotals().stream().map(this::toSubtotalResponse).toList(),
+                result.voucherCount()
+        );
+    }
+
+    public VatBookYearToDateResponse toYearToDateResponse(VatBookYearToDateResult result) {
+        return new VatBookYearToDateResponse(
+                result.year(),
+                result.category().name(),
+                result.months().stream().map(this::toMonthResponse).toList()
+        );
+    }
+
+    public VatBookPageResponse toPageResponse(VatBookPageResult result) {
+        return new VatBookPageResponse(
+                result.period(),
+                result.category().name(),
+                result.entries().stream().map(this::toEntryResponse).toList(),
+                result.nextCursor()
+        );
+    }
+
+    public VatBookEntryResponse toEntryResponse(VatBookEntryResult entry) {
         return new VatBookEntryResponse(
                 entry.id(),
                 entry.issueDate(),
@@ -33,7 +115,49 @@ public class VatBookWebMapper {
                 entry.netAmount(),
                 entry.vatAmount(),
                 entry.exemptAmount(),
-                entry.totalAmount()
+                entry.totalAmount(),
+                entry.vatLines().stream().map(this::toVatRateResponse).toList()
+        );
+    }
+
+    private VatBookEntryResult toEntryResult(VatBookEntryResponse entry) {
+        return new VatBookEntryResult(
+                entry.id(),
+                entry.issueDate(),
+                VoucherType.valueOf(entry.voucherType()),
+                entry.pointOfSale(),
+                entry.voucherNumber(),
+                entry.taxpayerBusinessName(),
+                entry.taxpayerCuit(),
+                entry.netAmount(),
+                entry.vatAmount(),
+                entry.exemptAmount(),
+                entry.totalAmount(),
+                entry.vatLines().stream().map(this::toVatRateResult).toList()
+        );
+    }
+
+    private VatBookSubtotalResponse toSubtotalResponse(VatBookSubtotalResult subtotal) {
+        return new VatBookSubtotalResponse(
+                subtotal.voucherType().name(),
+                subtotal.voucherCount(),
+                subtotal.netAmount(),
+                subtotal.vatAmount(),
+                subtotal.exemptAmount(),
+                subtotal.totalAmount()
+        );
+    }
+
+    private VatBookMonthResponse toMonthResponse(VatBookMonthResult month) {
+        return new VatBookMonthResponse(
+                month.period(),
+                month.voucherCount(),
+                month.netAmount(),
+                month.vatAmount(),
+                month.totalAmount(),
+                month.cumulativeNetAmount(),
+                month.cumulativeVatAmount(),
+                month.cumulativeTotalAmount()
         );
     }
 
@@ -42,7 +166,97 @@ public class VatBookWebMapper {
                 totals.netAmount(),
                 totals.vatAmount(),
                 totals.exemptAmount(),
-                totals.totalAmount()
+                totals.totalAmount(),
+                totals.vatRates().stream().map(this::toVatRateResponse).toList()
+        );
+    }
+
+    private VatRateAmountResponse toVatRateResponse(VatRateAmountResult amount) {
+        return new VatRateAmountResponse(amount.rate().name(), amount.netAmount(), amount.vatAmount());
+    }
+
+    private VatRateAmountResult toVatRateResult(VatRateAmountResponse amount) {
+        return new VatRateAmountResult(VatRate.valueOf(amount.rate()), amount.netAmount(), amount.vatAmount());
+    }
+
+    public VatBookCacheStatsResponse toCacheStatsResponse(VatBookCacheStatsResult result) {
+        return new VatBookCacheStatsResponse(
+                result.hits(),
+                result.misses(),
+                result.hitRate(),
+                result.writeEvictions(),
+                result.sizeEvictions(),
+                result.expirations(),
+                result.size(),
+                result.maxEntries()
+        );
+    }
+
+    public FiscalPeriodClosingResponse toClosingResponse(FiscalPeriodClosingResult result) {
+        return new FiscalPeriodClosingResponse(
+                result.taxpayerId(),
+                result.period(),
+                result.closedAt(),
+                result.purchasesVoucherCount(),
+                result.salesVoucherCount(),
+                result.snapshotBytes()
+        );
+    }
+
+    public VatPositionResponse toPositionResponse(VatPositionResult result) {
+        return new VatPositionResponse(
+                result.taxpayerId(),
+                result.period(),
+                result.salesVoucherCount(),
+                result.salesVat(),
+                result.salesCreditNoteVat(),
+                result.fiscalDebit(),
+                result.purchaseVoucherCount(),
+                result.purchaseVat(),
+                result.purchaseCreditNoteVat(),
+                result.fiscalCredit(),
+                result.position()
+        );
+    }
+
+    public VatBookBatchResponse toBatchResponse(VatBookBatchResult result) {
+        return new VatBookBatchResponse(
+                result.batchId(),
+                result.period(),
+                result.format().name(),
+                result.exportCount(),
+                result.pendingCount(),
+                result.runningCount(),
+                result.doneCount(),
+                result.failedCount(),
+                result.processedCount(),
+                result.expectedCount(),
+                result.progress(),
+                result.exports().stream().map(this::toExportResponse).toList()
+        );
+    }
+
+    public VatBookExportResponse toExportResponse(VatBookExportResult result) {
+        String downloadUrl = result.status() == VatBookExportStatus.DONE
+                ? "/api/v1/vat-books/exports/" + result.id() + "/file"
+                : null;
+        return new VatBookExportResponse(
+                result.id(),
+                result.taxpayerId(),
+                result.category().name(),
+                result.period(),
+                result.format().name(),
+                result.status().name(),
+                result.expectedCount(),
+                result.processedCount(),
+                result.progress(),
+                result.voucherCount(),
+                result.fileSize(),
+                result.error(),
+                result.createdAt(),
+                result.startedAt(),
+                result.finishedAt(),
+                downloadUrl
         );
     }
 }
@@ -0,0 +1,78 @@
+package com.taxmanager.taxmanagerapi.voucher.application.cache;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+
+/**
+ * Bloom filter of the natural keys of one taxpayer's vouchers: {@link #mightContain}
+ * never misses a key that was added, and answers {@code true} for one that was not with
+ * probability {@value #FALSE_POSITIVE_RATE} while it holds up to its capacity.
+ *
+ * <p>About 9.6 bits per key: a taxpayer with a million vouchers fits in 2.4 MB at the
+ * default headroom of {@link VoucherKeyFilterCache}.</p>
+ */
+public final class VoucherKeyBloomFilter {
+
+    static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+    private long size; // guarded by this
+
+    public VoucherKeyBloomFilter(long capacity) {
+        this.capacity = Math.max(1, capacity);
+        // m = -n·ln(p) / ln(2)², k = m/n · ln(2)
+        double bits = -this.capacity * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2));
+        this.words = new long[Math.toIntExact((long) Math.ceil(bits / Long.SIZE))];
+        this.bitCount = (long) words.length * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.capacity * Math.log(2)));
+    }
+
+    public synchronized void add(VoucherNaturalKey key) {
+        long hash = hash(key);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = bit(hash, i);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        size++;
+    }
+
+    public synchronized boolean mightContain(VoucherNaturalKey key) {
+        long hash = hash(key);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = bit(hash, i);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** True once it holds more keys than it was sized for, and false positives climb. */
+    public synchronized boolean isSaturated() {
+        return size > capacity;
+    }
+
+    // Double hashing: the i-th position is h1 + i·h2, from the two halves of one 64-bit hash
+    private long bit(long hash, int i) {
+        long h1 = hash & 0xFFFFFFFFL;
+        long h2 = hash >>> 32;
+        return Math.floorMod(h1 + i * h2, bitCount);
+    }
+
+    private static long hash(VoucherNaturalKey key) {
+        long series = (long) key.pointOfSale() << 16 | key.voucherType().ordinal() << 8 | key.category().ordinal();
+        return mix(mix(key.voucherNumber()) ^ series);
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
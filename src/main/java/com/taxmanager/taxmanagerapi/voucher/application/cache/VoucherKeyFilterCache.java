@@ -0,0 +1,111 @@
+package com.taxmanager.taxmanagerapi.voucher.application.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded LRU of {@link VoucherKeyBloomFilter}s, one per taxpayer that imported lately.
+ * Imports ask it before looking a voucher up: a key the filter does not know cannot
+ * exist, so only the (rare) keys it might know need a query.
+ *
+ * <p>A filter is built from the taxpayer's vouchers on first use, with room for twice
+ * as many, and rebuilt once it fills up. Every write through the application (single
+ * creates and import batches) adds its keys, and the bulk loader drops the filter; both
+ * happen once the writing transaction commits, so a rolled-back voucher is never added
+ * and a rebuild never runs on a table that still lacks the loaded rows. Writes it does
+ * not see (another instance, a write during the build) can make it miss a key;
+ * {@code uk_vouchers_natural_key} still rejects the duplicate and the import then checks
+ * that batch key by key.</p>
+ */
+@Component
+public class VoucherKeyFilterCache {
+
+    /** Room for this many times the vouchers the taxpayer has when the filter is built. */
+    private static final int GROWTH_FACTOR = 2;
+    private static final long MIN_CAPACITY = 10_000;
+
+    private final VoucherRepository voucherRepository;
+    private final Map<UUID, VoucherKeyBloomFilter> filters; // guarded by this
+
+    public VoucherKeyFilterCache(VoucherRepository voucherRepository,
+                                 @Value("${voucher.key-filter.max-taxpayers:100}") int maxTaxpayers) {
+        this.voucherRepository = voucherRepository;
+        this.filters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, VoucherKeyBloomFilter> eldest) {
+                return size() > maxTaxpayers;
+            }
+        };
+    }
+
+    /** The taxpayer's filter, built with one pass over its vouchers if missing or full. */
+    @Transactional(readOnly = true)
+    public VoucherKeyBloomFilter get(UUID taxpayerId) {
+        synchronized (this) {
+            VoucherKeyBloomFilter filter = filters.get(taxpayerId);
+            if (filter != null && !filter.isSaturated()) {
+                return filter;
+            }
+        }
+        long count = voucherRepository.countByTaxpayerId(taxpayerId);
+        var filter = new VoucherKeyBloomFilter(Math.max(MIN_CAPACITY, count * GROWTH_FACTOR));
+        try (Stream<VoucherNaturalKey> keys = voucherRepository.streamNaturalKeys(taxpayerId)) {
+            keys.forEach(filter::add);
+        }
+        synchronized (this) {
+            filters.put(taxpayerId, filter);
+        }
+        return filter;
+    }
+
+    /**
+     * Adds a new voucher to the taxpayer's filter, if there is one, after the current
+     * transaction commits; never builds it.
+     */
+    public void add(UUID taxpayerId, VoucherNaturalKey key) {
+        afterCommit(() -> {
+            synchronized (this) {
+                VoucherKeyBloomFilter filter = filters.get(taxpayerId);
+                if (filter != null) {
+                    filter.add(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops the taxpayer's filter after the current transaction commits; the next import
+     * rebuilds it from the table.
+     */
+    public void evict(UUID taxpayerId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                filters.remove(taxpayerId);
+            }
+        });
+    }
+
+    // Outside a transaction (or with synchronization off) there is nothing to wait for
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
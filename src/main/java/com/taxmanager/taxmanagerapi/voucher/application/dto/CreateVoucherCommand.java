@@ -1,8 +1,9 @@
 package com.taxmanager.taxmanagerapi.voucher.application.dto;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
 
@@ -12,9 +13,10 @@ public record CreateVoucherCommand(
         LocalDate issueDate,
         int pointOfSale,
         long voucherNumber,
-        BigDecimal netAmount,
-        BigDecimal vatAmount,
-        BigDecimal exemptAmount,
-        BigDecimal totalAmount,
+        Money netAmount,
+        Money vatAmount,
+        Money exemptAmount,
+        Money totalAmount,
+        List<VatLineCommand> vatLines,
         String description
 ) {}
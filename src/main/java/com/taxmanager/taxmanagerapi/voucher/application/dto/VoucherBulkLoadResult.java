@@ -0,0 +1,21 @@
+package com.taxmanager.taxmanagerapi.voucher.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk load, with the time of each phase. {@code errors} lists the first
+ * rejected lines only; the counts cover the whole file.
+ */
+public record VoucherBulkLoadResult(
+        UUID loadId,
+        long rowCount,
+        long loadedCount,
+        long rejectedCount,
+        long stageMillis,
+        long validateMillis,
+        long insertMillis,
+        long elapsedMillis,
+        long rowsPerSecond,
+        List<VoucherImportErrorResult> errors
+) {}
@@ -1,10 +1,11 @@
 package com.taxmanager.taxmanagerapi.voucher.application.dto;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
 
@@ -18,10 +19,11 @@ public record VoucherDetailResult(
         LocalDate issueDate,
         int pointOfSale,
         long voucherNumber,
-        BigDecimal netAmount,
-        BigDecimal vatAmount,
-        BigDecimal exemptAmount,
-        BigDecimal totalAmount,
+        Money netAmount,
+        Money vatAmount,
+        Money exemptAmount,
+        Money totalAmount,
+        List<VatLineResult> vatLines,
         String description,
         LocalDateTime createdAt
 ) {}
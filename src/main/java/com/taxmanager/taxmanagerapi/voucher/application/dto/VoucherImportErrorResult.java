@@ -0,0 +1,6 @@
+package com.taxmanager.taxmanagerapi.voucher.application.dto;
+
+public record VoucherImportErrorResult(
+        long line,
+        String message
+) {}
@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.voucher.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of an import. {@code errors} lists the first rejected lines only; the
+ * counts cover the whole file.
+ */
+public record VoucherImportResult(
+        UUID taxpayerId,
+        long rowCount,
+        long importedCount,
+        long rejectedCount,
+        long elapsedMillis,
+        List<VoucherImportErrorResult> errors
+) {}
@@ -0,0 +1,20 @@
+package com.taxmanager.taxmanagerapi.voucher.application.dto;
+
+/**
+ * One data line of an import file: the voucher it describes, or why it could not be
+ * read. {@code line} is the 1-based line number in the file, for the error report.
+ */
+public record VoucherImportRow(
+        long line,
+        CreateVoucherCommand command,
+        String error
+) {
+
+    public static VoucherImportRow of(long line, CreateVoucherCommand command) {
+        return new VoucherImportRow(line, command, null);
+    }
+
+    public static VoucherImportRow rejected(long line, String error) {
+        return new VoucherImportRow(line, null, error);
+    }
+}
@@ -1,9 +1,9 @@
 package com.taxmanager.taxmanagerapi.voucher.application.dto;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
 
@@ -14,6 +14,6 @@ public record VoucherItemResult(
         LocalDate issueDate,
         int pointOfSale,
         long voucherNumber,
-        BigDecimal totalAmount,
+        Money totalAmount,
         String description
 ) {}
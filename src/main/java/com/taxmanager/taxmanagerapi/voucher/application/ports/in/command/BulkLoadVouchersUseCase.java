@@ -0,0 +1,14 @@
+package com.taxmanager.taxmanagerapi.voucher.application.ports.in.command;
+
+import java.io.Reader;
+
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherBulkLoadResult;
+
+/**
+ * Loads a large CSV of vouchers of many taxpayers, such as the history of a previous
+ * system, in one transaction. Invalid rows are rejected; the valid ones are loaded.
+ */
+public interface BulkLoadVouchersUseCase {
+
+    VoucherBulkLoadResult execute(Reader csv);
+}
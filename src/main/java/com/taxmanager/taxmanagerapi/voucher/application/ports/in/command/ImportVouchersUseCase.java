@@ -0,0 +1,16 @@
+package com.taxmanager.taxmanagerapi.voucher.application.ports.in.command;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportRow;
+
+/**
+ * Registers many vouchers of one taxpayer. Rows are consumed as they are read and
+ * rejected one by one: a bad row never keeps the good ones out.
+ */
+public interface ImportVouchersUseCase {
+
+    VoucherImportResult execute(UUID taxpayerId, Stream<VoucherImportRow> rows);
+}
@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.voucher.application.ports.in.command;
+
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodTotalsDrift;
+
+/**
+ * Checks and repairs the {@code vat_period_totals} aggregate against the vouchers table.
+ */
+public interface ReconcileVatPeriodTotalsUseCase {
+
+    /** Buckets whose stored sums differ from the vouchers; empty when the table is consistent. */
+    List<VatPeriodTotalsDrift> verify();
+
+    /** Recomputes the whole table from scratch and returns the number of buckets written. */
+    int rebuild();
+}
@@ -13,4 +13,7 @@ public interface GetVoucherUseCase {
     VoucherDetailResult findById(UUID id);
 
     Page<VoucherItemResult> findAllByTaxpayerId(UUID taxpayerId, VoucherCategory category, Pageable pageable);
+
+    /** Changes whenever the taxpayer's voucher list may have changed; reads no voucher. */
+    long findListVersion(UUID taxpayerId, VoucherCategory category);
 }
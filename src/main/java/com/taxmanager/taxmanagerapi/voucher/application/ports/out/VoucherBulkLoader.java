@@ -0,0 +1,39 @@
+package com.taxmanager.taxmanagerapi.voucher.application.ports.out;
+
+import java.io.Reader;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportErrorResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherLoadPeriod;
+
+/**
+ * Loads vouchers of many taxpayers through a staging area: rows are copied as they
+ * come, then validated and inserted by the database in set-based statements. Every
+ * step of a load must run in the same transaction.
+ */
+public interface VoucherBulkLoader {
+
+    /** Columns of the CSV file, in order; the first line must name them. */
+    List<String> COLUMNS = List.of(
+            "taxpayerCuit", "category", "voucherType", "issueDate", "pointOfSale", "voucherNumber",
+            "netAmount", "vatAmount", "exemptAmount", "totalAmount", "description");
+
+    /** Copies the CSV rows to staging under {@code loadId}; returns the rows staged. */
+    long stage(UUID loadId, Reader csv);
+
+    /** Records the first error of each staged row; returns the rows rejected. */
+    long validate(UUID loadId);
+
+    /**
+     * Inserts the valid rows with their VAT lines and adds them to the period totals and
+     * versions; returns what was added per taxpayer, category and period.
+     */
+    List<VoucherLoadPeriod> insertValid(UUID loadId);
+
+    /** First {@code limit} rejected rows, by line. */
+    List<VoucherImportErrorResult> findRejected(UUID loadId, int limit);
+
+    /** Removes the staged rows of the load. */
+    void clear(UUID loadId);
+}
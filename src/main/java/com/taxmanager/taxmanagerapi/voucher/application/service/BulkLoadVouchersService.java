@@ -0,0 +1,91 @@
+package com.taxmanager.taxmanagerapi.voucher.application.service;
+
+import java.io.Reader;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.application.cache.VoucherKeyFilterCache;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherBulkLoadResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportErrorResult;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.BulkLoadVouchersUseCase;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.out.VoucherBulkLoader;
+import com.taxmanager.taxmanagerapi.voucher.domain.event.VouchersImportedEvent;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherLoadPeriod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs a bulk load through {@link VoucherBulkLoader}: stage, validate, insert, all in
+ * one transaction, so a load either adds its valid rows with their totals and versions
+ * or nothing at all. Unlike {@link ImportVouchersService}, rows never become
+ * {@code Voucher} instances: the database checks the same rules on the whole file at once.
+ */
+@Service
+@Transactional
+public class BulkLoadVouchersService implements BulkLoadVouchersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkLoadVouchersService.class);
+
+    private final VoucherBulkLoader loader;
+    private final VoucherKeyFilterCache keyFilters;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BulkLoadVouchersService(VoucherBulkLoader loader,
+                                   VoucherKeyFilterCache keyFilters,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.loader = loader;
+        this.keyFilters = keyFilters;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public VoucherBulkLoadResult execute(Reader csv) {
+        UUID loadId = UUID.randomUUID();
+        long start = System.nanoTime();
+
+        long rowCount = loader.stage(loadId, csv);
+        long staged = System.nanoTime();
+
+        long rejectedCount = loader.validate(loadId);
+        long validated = System.nanoTime();
+
+        List<VoucherLoadPeriod> periods = rejectedCount < rowCount ? loader.insertValid(loadId) : List.of();
+        List<VoucherImportErrorResult> errors = loader.findRejected(loadId, ImportVouchersService.MAX_REPORTED_ERRORS);
+        loader.clear(loadId);
+        long inserted = System.nanoTime();
+
+        for (VoucherLoadPeriod period : periods) {
+            // Loaded in SQL, so the filter never saw these keys: dropped on commit, the next
+            // import rebuilds it with them
+            keyFilters.evict(period.taxpayerId());
+            eventPublisher.publishEvent(new VouchersImportedEvent(
+                    period.taxpayerId(), period.category(), period.period(), period.voucherCount()));
+        }
+
+        long elapsedMillis = millis(start, inserted);
+        long rowsPerSecond = rowCount * 1_000_000_000L / Math.max(1, inserted - start);
+        log.info("Carga masiva {}: {} filas, {} cargadas, {} rechazadas en {} ms ({} filas/s; copia {} ms, "
+                        + "validación {} ms, inserción {} ms)",
+                loadId, rowCount, rowCount - rejectedCount, rejectedCount, elapsedMillis, rowsPerSecond,
+                millis(start, staged), millis(staged, validated), millis(validated, inserted));
+        return new VoucherBulkLoadResult(
+                loadId,
+                rowCount,
+                rowCount - rejectedCount,
+                rejectedCount,
+                millis(start, staged),
+                millis(staged, validated),
+                millis(validated, inserted),
+                elapsedMillis,
+                rowsPerSecond,
+                errors
+        );
+    }
+
+    private static long millis(long from, long to) {
+        return (to - from) / 1_000_000;
+    }
+}
@@ -1,16 +1,27 @@
 package com.taxmanager.taxmanagerapi.voucher.application.service;
 
+import java.time.YearMonth;
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.repository.FiscalPeriodClosingRepository;
+import com.taxmanager.taxmanagerapi.shared.exception.ConflictException;
 import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
 import com.taxmanager.taxmanagerapi.shared.fiscal.CuitValidator;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.voucher.application.cache.VoucherKeyFilterCache;
 import com.taxmanager.taxmanagerapi.voucher.application.dto.CreateVoucherCommand;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VatLineResult;
 import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherDetailResult;
 import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.CreateVoucherUseCase;
 import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.VoucherVatLine;
+import com.taxmanager.taxmanagerapi.voucher.domain.event.VoucherCreatedEvent;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
 import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,11 +31,26 @@ public class CreateVoucherService implements CreateVoucherUseCase {
 
     private final VoucherRepository voucherRepository;
     private final TaxpayerRepository taxpayerRepository;
+    private final VatPeriodTotalsRepository vatPeriodTotalsRepository;
+    private final FiscalPeriodClosingRepository fiscalPeriodClosingRepository;
+    private final VoucherPeriodVersionRepository voucherPeriodVersionRepository;
+    private final VoucherKeyFilterCache keyFilters;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CreateVoucherService(VoucherRepository voucherRepository,
-                                TaxpayerRepository taxpayerRepository) {
+                                TaxpayerRepository taxpayerRepository,
+                                VatPeriodTotalsRepository vatPeriodTotalsRepository,
+                                FiscalPeriodClosingRepository fiscalPeriodClosingRepository,
+                                VoucherPeriodVersionRepository voucherPeriodVersionRepository,
+                                VoucherKeyFilterCache keyFilters,
+                                ApplicationEventPublisher eventPublisher) {
         this.voucherRepository = voucherRepository;
         this.taxpayerRepository = taxpayerRepository;
+        this.vatPeriodTotalsRepository = vatPeriodTotalsRepository;
+        this.fiscalPeriodClosingRepository = fiscalPeriodClosingRepository;
+        this.voucherPeriodVersionRepository = voucherPeriodVersionRepository;
+        this.keyFilters = keyFilters;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -44,10 +70,30 @@ public class CreateVoucherService implements CreateVoucherUseCase {
                 command.vatAmount(),
                 command.exemptAmount(),
                 command.totalAmount(),
+                command.vatLines().stream()
+                        .map(line -> VoucherVatLine.create(line.rate(), line.netAmount(), line.vatAmount()))
+                        .toList(),
                 command.description()
         );
 
+        YearMonth period = YearMonth.from(voucher.getIssueDate());
+        if (fiscalPeriodClosingRepository.isClosed(taxpayerId, period)) {
+            throw new ConflictException("El período " + period
+                    + " está cerrado para el contribuyente: no admite nuevos comprobantes");
+        }
+        VoucherNaturalKey key = VoucherNaturalKey.of(voucher);
+        if (voucherRepository.existsByNaturalKey(taxpayerId, key)) {
+            throw new ConflictException("Ya existe el comprobante " + key.label() + " del contribuyente");
+        }
+
         voucher = voucherRepository.save(voucher);
+        // Reaches the import filter only once this transaction commits
+        keyFilters.add(taxpayerId, key);
+        // Same transaction: the period totals and version never see a voucher that was rolled back
+        vatPeriodTotalsRepository.add(voucher);
+        voucherPeriodVersionRepository.bump(taxpayerId, voucher.getCategory(), period);
+        eventPublisher.publishEvent(new VoucherCreatedEvent(
+                voucher.getId(), taxpayerId, voucher.getCategory(), voucher.getIssueDate()));
         return toDetailResult(voucher, taxpayer);
     }
 
@@ -58,6 +104,9 @@ public class CreateVoucherService implements CreateVoucherUseCase {
                 v.getCategory(), v.getVoucherType(),
                 v.getIssueDate(), v.getPointOfSale(), v.getVoucherNumber(),
                 v.getNetAmount(), v.getVatAmount(), v.getExemptAmount(), v.getTotalAmount(),
+                v.getVatLines().stream()
+                        .map(line -> new VatLineResult(line.getRate(), line.getNetAmount(), line.getVatAmount()))
+                        .toList(),
                 v.getDescription(), v.getCreatedAt()
         );
     }
@@ -6,11 +6,13 @@ import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
 import com.taxmanager.taxmanagerapi.shared.fiscal.CuitValidator;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VatLineResult;
 import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherDetailResult;
 import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherItemResult;
 import com.taxmanager.taxmanagerapi.voucher.application.ports.in.query.GetVoucherUseCase;
 import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
 import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -23,11 +25,14 @@ public class GetVoucherService implements GetVoucherUseCase {
 
     private final VoucherRepository voucherRepository;
     private final TaxpayerRepository taxpayerRepository;
+    private final VoucherPeriodVersionRepository voucherPeriodVersionRepository;
 
     public GetVoucherService(VoucherRepository voucherRepository,
-                             TaxpayerRepository taxpayerRepository) {
+                             TaxpayerRepository taxpayerRepository,
+                             VoucherPeriodVersionRepository voucherPeriodVersionRepository) {
         this.voucherRepository = voucherRepository;
         this.taxpayerRepository = taxpayerRepository;
+        this.voucherPeriodVersionRepository = voucherPeriodVersionRepository;
     }
 
     @Override
@@ -63,6 +68,11 @@ public class GetVoucherService implements GetVoucherUseCase {
         return page.map(this::toItemResult);
     }
 
+    @Override
+    public long findListVersion(UUID taxpayerId, VoucherCategory category) {
+        return voucherPeriodVersionRepository.findTaxpayerVersion(taxpayerId, category);
+    }
+
     private VoucherDetailResult toDetailResult(Voucher v, Taxpayer t) {
         return new VoucherDetailResult(
                 v.getId(), v.getTaxpayerId(),
@@ -70,6 +80,9 @@ public class GetVoucherService implements GetVoucherUseCase {
                 v.getCategory(), v.getVoucherType(),
                 v.getIssueDate(), v.getPointOfSale(), v.getVoucherNumber(),
                 v.getNetAmount(), v.getVatAmount(), v.getExemptAmount(), v.getTotalAmount(),
+                v.getVatLines().stream()
+                        .map(line -> new VatLineResult(line.getRate(), line.getNetAmount(), line.getVatAmount()))
+                        .toList(),
                 v.getDescription(), v.getCreatedAt()
         );
     }
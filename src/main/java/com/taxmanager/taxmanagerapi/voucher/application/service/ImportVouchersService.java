@@ -0,0 +1,231 @@
+package com.taxmanager.taxmanagerapi.voucher.application.service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainException;
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.voucher.application.cache.VoucherKeyBloomFilter;
+import com.taxmanager.taxmanagerapi.voucher.application.cache.VoucherKeyFilterCache;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.CreateVoucherCommand;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportErrorResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportRow;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.ImportVouchersUseCase;
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.VoucherVatLine;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Validates each row with {@link Voucher#create} as it is read and saves the valid ones
+ * in batches of {@value #BATCH_SIZE}, each in its own transaction through
+ * {@link SaveVoucherBatchService}. Memory holds one batch, whatever the file size.
+ *
+ * <p>Rows whose voucher the taxpayer already has are rejected before saving. The
+ * taxpayer's {@link VoucherKeyBloomFilter} screens every row, and only those it might
+ * know are looked up, once per batch. If the unique key still rejects a batch (a voucher
+ * the filter had not seen), every row of the batch is looked up and the rest saved again.</p>
+ *
+ * <p>A batch that fails to save rejects its rows only; batches saved before it stay.</p>
+ */
+@Service
+public class ImportVouchersService implements ImportVouchersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportVouchersService.class);
+
+    /** Vouchers per transaction; a multiple of {@code hibernate.jdbc.batch_size}. */
+    static final int BATCH_SIZE = 500;
+
+    /** Rejected lines listed in the result; the rest are only counted. */
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TaxpayerRepository taxpayerRepository;
+    private final VoucherRepository voucherRepository;
+    private final VoucherKeyFilterCache keyFilters;
+    private final SaveVoucherBatchService saveVoucherBatchService;
+
+    public ImportVouchersService(TaxpayerRepository taxpayerRepository,
+                                 VoucherRepository voucherRepository,
+                                 VoucherKeyFilterCache keyFilters,
+                                 SaveVoucherBatchService saveVoucherBatchService) {
+        this.taxpayerRepository = taxpayerRepository;
+        this.voucherRepository = voucherRepository;
+        this.keyFilters = keyFilters;
+        this.saveVoucherBatchService = saveVoucherBatchService;
+    }
+
+    @Override
+    public VoucherImportResult execute(UUID taxpayerId, Stream<VoucherImportRow> rows) {
+        if (taxpayerRepository.findById(taxpayerId).isEmpty()) {
+            throw new ResourceNotFoundException("No se encontró contribuyente con ID " + taxpayerId);
+        }
+
+        long start = System.nanoTime();
+        var report = new Report();
+        List<Voucher> vouchers = new ArrayList<>(BATCH_SIZE);
+        List<Long> lines = new ArrayList<>(BATCH_SIZE);
+        try (rows) {
+            Iterator<VoucherImportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                VoucherImportRow row = iterator.next();
+                report.rowCount++;
+                if (row.error() != null) {
+                    report.reject(row.line(), row.error());
+                    continue;
+                }
+                try {
+                    vouchers.add(toVoucher(taxpayerId, row.command()));
+                    lines.add(row.line());
+                } catch (DomainException e) {
+                    report.reject(row.line(), e.getMessage());
+                }
+                if (vouchers.size() == BATCH_SIZE) {
+                    saveBatch(taxpayerId, vouchers, lines, report);
+                }
+            }
+        }
+        if (!vouchers.isEmpty()) {
+            saveBatch(taxpayerId, vouchers, lines, report);
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Importación de comprobantes del contribuyente {}: {} filas, {} guardadas, {} rechazadas en {} ms "
+                        + "({} claves consultadas tras el filtro)",
+                taxpayerId, report.rowCount, report.importedCount, report.rejectedCount, elapsedMillis,
+                report.lookedUpCount);
+        report.errors.sort(Comparator.comparingLong(VoucherImportErrorResult::line));
+        return new VoucherImportResult(taxpayerId, report.rowCount, report.importedCount,
+                report.rejectedCount, elapsedMillis, List.copyOf(report.errors));
+    }
+
+    private void saveBatch(UUID taxpayerId, List<Voucher> vouchers, List<Long> lines, Report report) {
+        rejectExisting(taxpayerId, vouchers, lines, report, keyFilters.get(taxpayerId));
+        try {
+            save(taxpayerId, vouchers, lines, report);
+        } catch (DataIntegrityViolationException e) {
+            // Possibly a voucher the filter never saw (another instance, the bulk loader): check them all
+            keyFilters.evict(taxpayerId);
+            rejectExisting(taxpayerId, vouchers, lines, report, null);
+            try {
+                save(taxpayerId, vouchers, lines, report);
+            } catch (DataAccessException retryFailure) {
+                rejectBatch(taxpayerId, lines, report, retryFailure);
+            }
+        } catch (DataAccessException e) {
+            rejectBatch(taxpayerId, lines, report, e);
+        }
+        vouchers.clear();
+        lines.clear();
+    }
+
+    private void save(UUID taxpayerId, List<Voucher> vouchers, List<Long> lines, Report report) {
+        if (vouchers.isEmpty()) {
+            return;
+        }
+        Set<YearMonth> closed = saveVoucherBatchService.save(taxpayerId, vouchers);
+        for (int i = 0; i < vouchers.size(); i++) {
+            YearMonth period = YearMonth.from(vouchers.get(i).getIssueDate());
+            if (closed.contains(period)) {
+                report.reject(lines.get(i), "El período " + period
+                        + " está cerrado para el contribuyente: no admite nuevos comprobantes");
+            } else {
+                report.importedCount++;
+            }
+        }
+    }
+
+    /**
+     * Rejects (and removes from the batch) the rows repeated within it and those whose
+     * voucher already exists. With a {@code filter}, only the keys it might contain are
+     * looked up; without one, all of them.
+     */
+    private void rejectExisting(UUID taxpayerId, List<Voucher> vouchers, List<Long> lines, Report report,
+                                VoucherKeyBloomFilter filter) {
+        Map<VoucherNaturalKey, Long> firstLines = new HashMap<>();
+        List<VoucherNaturalKey> candidates = new ArrayList<>();
+        for (int i = 0; i < vouchers.size(); i++) {
+            VoucherNaturalKey key = VoucherNaturalKey.of(vouchers.get(i));
+            if (firstLines.putIfAbsent(key, lines.get(i)) == null && (filter == null || filter.mightContain(key))) {
+                candidates.add(key);
+            }
+        }
+        report.lookedUpCount += candidates.size();
+        Set<VoucherNaturalKey> existing = candidates.isEmpty()
+                ? Set.of()
+                : voucherRepository.findExistingNaturalKeys(taxpayerId, candidates);
+
+        int kept = 0;
+        for (int i = 0; i < vouchers.size(); i++) {
+            Voucher voucher = vouchers.get(i);
+            long line = lines.get(i);
+            VoucherNaturalKey key = VoucherNaturalKey.of(voucher);
+            long firstLine = firstLines.get(key);
+            if (existing.contains(key)) {
+                report.reject(line, "Ya existe el comprobante " + key.label() + " del contribuyente");
+            } else if (firstLine != line) {
+                report.reject(line, "El comprobante " + key.label() + " está repetido en la línea " + firstLine);
+            } else {
+                vouchers.set(kept, voucher);
+                lines.set(kept, line);
+                kept++;
+            }
+        }
+        vouchers.subList(kept, vouchers.size()).clear();
+        lines.subList(kept, lines.size()).clear();
+    }
+
+    private static void rejectBatch(UUID taxpayerId, List<Long> lines, Report report, DataAccessException e) {
+        log.warn("No se pudo guardar un lote de la importación del contribuyente {}", taxpayerId, e);
+        String message = "No se pudo guardar el lote de esta fila: " + e.getMostSpecificCause().getMessage();
+        lines.forEach(line -> report.reject(line, message));
+    }
+
+    private Voucher toVoucher(UUID taxpayerId, CreateVoucherCommand command) {
+        return Voucher.create(
+                taxpayerId,
+                command.category(),
+                command.voucherType(),
+                command.issueDate(),
+                command.pointOfSale(),
+                command.voucherNumber(),
+                command.netAmount(),
+                command.vatAmount(),
+                command.exemptAmount(),
+                command.totalAmount(),
+                command.vatLines().stream()
+                        .map(line -> VoucherVatLine.create(line.rate(), line.netAmount(), line.vatAmount()))
+                        .toList(),
+                command.description()
+        );
+    }
+
+    private static final class Report {
+        private long rowCount;
+        private long importedCount;
+        private long rejectedCount;
+        private long lookedUpCount;
+        private final List<VoucherImportErrorResult> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            rejectedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new VoucherImportErrorResult(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.taxmanager.taxmanagerapi.voucher.application.service;
+
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.ReconcileVatPeriodTotalsUseCase;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodTotalsDrift;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class ReconcileVatPeriodTotalsService implements ReconcileVatPeriodTotalsUseCase {
+
+    private final VatPeriodTotalsRepository vatPeriodTotalsRepository;
+
+    public ReconcileVatPeriodTotalsService(VatPeriodTotalsRepository vatPeriodTotalsRepository) {
+        this.vatPeriodTotalsRepository = vatPeriodTotalsRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VatPeriodTotalsDrift> verify() {
+        return vatPeriodTotalsRepository.findDrift();
+    }
+
+    @Override
+    public int rebuild() {
+        return vatPeriodTotalsRepository.rebuild();
+    }
+}
@@ -0,0 +1,91 @@
+package com.taxmanager.taxmanagerapi.voucher.application.service;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.repository.FiscalPeriodClosingRepository;
+import com.taxmanager.taxmanagerapi.voucher.application.cache.VoucherKeyFilterCache;
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.event.VouchersImportedEvent;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes one batch of an import in one transaction, with the same side effects as
+ * {@link CreateVoucherService} but once per batch: one upsert per period totals bucket,
+ * one version bump and one event per period and category.
+ */
+@Service
+@Transactional
+public class SaveVoucherBatchService {
+
+    private final VoucherRepository voucherRepository;
+    private final VatPeriodTotalsRepository vatPeriodTotalsRepository;
+    private final FiscalPeriodClosingRepository fiscalPeriodClosingRepository;
+    private final VoucherPeriodVersionRepository voucherPeriodVersionRepository;
+    private final VoucherKeyFilterCache keyFilters;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SaveVoucherBatchService(VoucherRepository voucherRepository,
+                                   VatPeriodTotalsRepository vatPeriodTotalsRepository,
+                                   FiscalPeriodClosingRepository fiscalPeriodClosingRepository,
+                                   VoucherPeriodVersionRepository voucherPeriodVersionRepository,
+                                   VoucherKeyFilterCache keyFilters,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.voucherRepository = voucherRepository;
+        this.vatPeriodTotalsRepository = vatPeriodTotalsRepository;
+        this.fiscalPeriodClosingRepository = fiscalPeriodClosingRepository;
+        this.voucherPeriodVersionRepository = voucherPeriodVersionRepository;
+        this.keyFilters = keyFilters;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Saves the taxpayer's vouchers except those of closed periods.
+     *
+     * @return the closed periods whose vouchers were left out
+     */
+    public Set<YearMonth> save(UUID taxpayerId, List<Voucher> vouchers) {
+        Set<YearMonth> closed = new HashSet<>();
+        Set<YearMonth> open = new HashSet<>();
+        for (Voucher voucher : vouchers) {
+            YearMonth period = YearMonth.from(voucher.getIssueDate());
+            if (!closed.contains(period) && !open.contains(period)) {
+                (fiscalPeriodClosingRepository.isClosed(taxpayerId, period) ? closed : open).add(period);
+            }
+        }
+        List<Voucher> accepted = closed.isEmpty()
+                ? vouchers
+                : vouchers.stream().filter(v -> !closed.contains(YearMonth.from(v.getIssueDate()))).toList();
+        if (accepted.isEmpty()) {
+            return closed;
+        }
+
+        voucherRepository.insertAll(accepted);
+        accepted.forEach(voucher -> keyFilters.add(taxpayerId, VoucherNaturalKey.of(voucher)));
+        // Same transaction: the period totals and versions never see a batch that was rolled back
+        vatPeriodTotalsRepository.addAll(accepted);
+        Map<PeriodKey, Integer> counts = new HashMap<>();
+        for (Voucher voucher : accepted) {
+            counts.merge(new PeriodKey(voucher.getCategory(), YearMonth.from(voucher.getIssueDate())), 1, Integer::sum);
+        }
+        counts.forEach((key, count) -> {
+            voucherPeriodVersionRepository.bump(taxpayerId, key.category(), key.period());
+            eventPublisher.publishEvent(new VouchersImportedEvent(taxpayerId, key.category(), key.period(), count));
+        });
+        return closed;
+    }
+
+    private record PeriodKey(VoucherCategory category, YearMonth period) {}
+}
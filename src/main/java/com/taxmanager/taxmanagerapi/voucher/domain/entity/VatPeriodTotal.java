@@ -0,0 +1,85 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running sums of the vouchers of one taxpayer, category, fiscal period and voucher type.
+ * <p>
+ * Rows are never written through JPA: they are upserted by
+ * {@link com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository}
+ * in the same transaction that creates the voucher.
+ */
+@Entity
+@Table(name = "vat_period_totals")
+@IdClass(VatPeriodTotal.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA only
+public class VatPeriodTotal {
+
+    @Id
+    @Column(name = "taxpayer_id", nullable = false, updatable = false)
+    private UUID taxpayerId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 10)
+    private VoucherCategory category;
+
+    /** First day of the fiscal period (month). */
+    @Id
+    @Column(nullable = false, updatable = false)
+    private LocalDate period;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "voucher_type", nullable = false, updatable = false, length = 20)
+    private VoucherType voucherType;
+
+    @Column(name = "voucher_count", nullable = false)
+    private long voucherCount;
+
+    @Column(name = "net_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal netAmount;
+
+    @Column(name = "vat_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal vatAmount;
+
+    @Column(name = "exempt_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal exemptAmount;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID taxpayerId;
+        private VoucherCategory category;
+        private LocalDate period;
+        private VoucherType voucherType;
+    }
+}
@@ -1,20 +1,33 @@
 package com.taxmanager.taxmanagerapi.voucher.domain.entity;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.id.UuidV7;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.shared.money.MoneyConverter;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,7 +35,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "vouchers")
+@Table(name = "vouchers", uniqueConstraints = @UniqueConstraint(
+        name = "uk_vouchers_natural_key",
+        columnNames = {"taxpayer_id", "category", "voucher_type", "point_of_sale", "voucher_number"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA only
 public class Voucher {
@@ -51,21 +66,31 @@ public class Voucher {
     @Column(name = "voucher_number", nullable = false)
     private long voucherNumber;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "net_amount", nullable = false, precision = 19, scale = 4)
-    private BigDecimal netAmount;
+    private Money netAmount;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "vat_amount", nullable = false, precision = 19, scale = 4)
-    private BigDecimal vatAmount;
+    private Money vatAmount;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "exempt_amount", nullable = false, precision = 19, scale = 4)
-    private BigDecimal exemptAmount;
+    private Money exemptAmount;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
     @Column(length = 500)
     private String description;
 
+    /** Breakdown of {@code netAmount} and {@code vatAmount} per rate; empty when there is no VAT. */
+    @ElementCollection
+    @CollectionTable(name = "voucher_vat_lines", joinColumns = @JoinColumn(name = "voucher_id"))
+    @Getter(AccessLevel.NONE)
+    private List<VoucherVatLine> vatLines = new ArrayList<>();
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -82,13 +107,14 @@ public class Voucher {
                                  LocalDate issueDate,
                                  int pointOfSale,
                                  long voucherNumber,
-                                 BigDecimal netAmount,
-                                 BigDecimal vatAmount,
-                                 BigDecimal exemptAmount,
-                                 BigDecimal totalAmount,
+                                 Money netAmount,
+                                 Money vatAmount,
+                                 Money exemptAmount,
+                                 Money totalAmount,
+                                 List<VoucherVatLine> vatLines,
                                  String description) {
         var voucher = new Voucher();
-        voucher.id = UUID.randomUUID();
+        voucher.id = UuidV7.generate();
         voucher.setTaxpayerId(taxpayerId);
         voucher.setCategory(category);
         voucher.setVoucherType(voucherType);
@@ -96,10 +122,17 @@ public class Voucher {
         voucher.setPointOfSale(pointOfSale);
         voucher.setVoucherNumber(voucherNumber);
         voucher.setAmounts(netAmount, vatAmount, exemptAmount, totalAmount);
+        voucher.setVatLines(vatLines);
         voucher.description = description;
         return voucher;
     }
 
+    // ── VAT lines ────────────────────────────────────────────────────────
+
+    public List<VoucherVatLine> getVatLines() {
+        return Collections.unmodifiableList(vatLines);
+    }
+
     // ── Private validation setters ───────────────────────────────────────
 
     private void setTaxpayerId(UUID taxpayerId) {
@@ -144,28 +177,29 @@ public class Voucher {
         this.voucherNumber = voucherNumber;
     }
 
-    private void setAmounts(BigDecimal netAmount,
-                            BigDecimal vatAmount,
-                            BigDecimal exemptAmount,
-                            BigDecimal totalAmount) {
+    private void setAmounts(Money netAmount,
+                            Money vatAmount,
+                            Money exemptAmount,
+                            Money totalAmount) {
         if (netAmount == null || vatAmount == null || exemptAmount == null || totalAmount == null) {
             throw new DomainValidationException("Todos los montos son obligatorios");
         }
-        if (netAmount.compareTo(BigDecimal.ZERO) < 0) {
+        if (netAmount.isNegative()) {
             throw new DomainValidationException("El monto neto no puede ser negativo");
         }
-        if (vatAmount.compareTo(BigDecimal.ZERO) < 0) {
+        if (vatAmount.isNegative()) {
             throw new DomainValidationException("El monto de IVA no puede ser negativo");
         }
-        if (exemptAmount.compareTo(BigDecimal.ZERO) < 0) {
+        if (exemptAmount.isNegative()) {
             throw new DomainValidationException("El monto exento no puede ser negativo");
         }
-        if (totalAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (totalAmount.signum() <= 0) {
             throw new DomainValidationException("El monto total debe ser mayor a 0");
         }
 
-        BigDecimal expectedTotal = netAmount.add(vatAmount).add(exemptAmount);
-        if (expectedTotal.compareTo(totalAmount) != 0) {
+        // Exact at scale 4: the sum is three long additions
+        Money expectedTotal = netAmount.plus(vatAmount).plus(exemptAmount);
+        if (!expectedTotal.equals(totalAmount)) {
             throw new DomainValidationException(
                     "Los montos no cuadran: neto + IVA + exento (" + expectedTotal +
                     ") ≠ total (" + totalAmount + ")");
@@ -176,4 +210,34 @@ public class Voucher {
         this.exemptAmount = exemptAmount;
         this.totalAmount = totalAmount;
     }
+
+    /**
+     * Without lines, a voucher with VAT gets a single one at the rate closest to
+     * {@code vat / net}, as vouchers loaded before the breakdown existed.
+     */
+    private void setVatLines(List<VoucherVatLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            if (vatAmount.signum() > 0 && netAmount.signum() > 0) {
+                vatLines.add(VoucherVatLine.derive(netAmount, vatAmount));
+            }
+            return;
+        }
+
+        Set<VatRate> rates = EnumSet.noneOf(VatRate.class);
+        Money linesNet = Money.ZERO;
+        Money linesVat = Money.ZERO;
+        for (VoucherVatLine line : lines) {
+            if (!rates.add(line.getRate())) {
+                throw new DomainValidationException("La alícuota " + line.getRate() + " está repetida");
+            }
+            linesNet = linesNet.plus(line.getNetAmount());
+            linesVat = linesVat.plus(line.getVatAmount());
+        }
+        if (!linesNet.equals(netAmount) || !linesVat.equals(vatAmount)) {
+            throw new DomainValidationException(
+                    "Las alícuotas no cuadran con el comprobante: neto " + linesNet + " / IVA " + linesVat +
+                    " ≠ neto " + netAmount + " / IVA " + vatAmount);
+        }
+        vatLines.addAll(lines);
+    }
 }
@@ -0,0 +1,65 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change counter of the vouchers of one taxpayer, category and fiscal period.
+ * <p>
+ * Rows are never written through JPA: they are bumped by
+ * {@link com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository}
+ * in the same transaction as the write they version.
+ */
+@Entity
+@Table(name = "voucher_period_versions")
+@IdClass(VoucherPeriodVersion.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA only
+public class VoucherPeriodVersion {
+
+    @Id
+    @Column(name = "taxpayer_id", nullable = false, updatable = false)
+    private UUID taxpayerId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 10)
+    private VoucherCategory category;
+
+    /** First day of the fiscal period (month). */
+    @Id
+    @Column(nullable = false, updatable = false)
+    private LocalDate period;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID taxpayerId;
+        private VoucherCategory category;
+        private LocalDate period;
+    }
+}
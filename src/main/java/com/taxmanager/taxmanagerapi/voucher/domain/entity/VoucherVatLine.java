@@ -0,0 +1,79 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.entity;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.shared.money.MoneyConverter;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Taxed net and VAT of a {@link Voucher} at one rate. A voucher has at most one line
+ * per rate, and its lines add up to its net and VAT amounts.
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA only
+public class VoucherVatLine {
+
+    /** Difference tolerated between the VAT of a line and {@code net × rate}, as AFIP does. */
+    private static final Money ROUNDING_TOLERANCE = Money.of("1");
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private VatRate rate;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "net_amount", nullable = false, precision = 19, scale = 4)
+    private Money netAmount;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "vat_amount", nullable = false, precision = 19, scale = 4)
+    private Money vatAmount;
+
+    // ── Factory method ───────────────────────────────────────────────────
+
+    public static VoucherVatLine create(VatRate rate, Money netAmount, Money vatAmount) {
+        if (rate == null) {
+            throw new DomainValidationException("La alícuota de IVA es obligatoria");
+        }
+        if (netAmount == null || vatAmount == null) {
+            throw new DomainValidationException("Los montos de la alícuota " + rate + " son obligatorios");
+        }
+        if (netAmount.isNegative() || vatAmount.isNegative()) {
+            throw new DomainValidationException("Los montos de la alícuota " + rate + " no pueden ser negativos");
+        }
+        Money expectedVat = rate.vatOf(netAmount);
+        if (expectedVat.minus(vatAmount).compareTo(ROUNDING_TOLERANCE) > 0
+                || vatAmount.minus(expectedVat).compareTo(ROUNDING_TOLERANCE) > 0) {
+            throw new DomainValidationException("El IVA de la alícuota " + rate + " (" + vatAmount
+                    + ") no corresponde al neto gravado (" + netAmount + " → " + expectedVat + ")");
+        }
+        var line = new VoucherVatLine();
+        line.rate = rate;
+        line.netAmount = netAmount;
+        line.vatAmount = vatAmount;
+        return line;
+    }
+
+    /**
+     * Line of a voucher given without breakdown: its whole net at the rate closest to
+     * {@code vat / net}, without checking the VAT against the rate.
+     */
+    static VoucherVatLine derive(Money netAmount, Money vatAmount) {
+        var line = new VoucherVatLine();
+        line.rate = VatRate.nearest(netAmount, vatAmount);
+        line.netAmount = netAmount;
+        line.vatAmount = vatAmount;
+        return line;
+    }
+}
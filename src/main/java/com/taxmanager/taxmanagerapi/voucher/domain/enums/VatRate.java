@@ -0,0 +1,54 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.enums;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+
+/**
+ * VAT rates in force in Argentina, with their AFIP code (table of "alícuotas").
+ */
+public enum VatRate {
+    IVA_0(0, 3),
+    IVA_2_5(250, 9),
+    IVA_5(500, 8),
+    IVA_10_5(1050, 4),
+    IVA_21(2100, 5),
+    IVA_27(2700, 6);
+
+    private static final VatRate[] RATES = values();
+
+    private final int basisPoints;
+    private final int afipCode;
+
+    VatRate(int basisPoints, int afipCode) {
+        this.basisPoints = basisPoints;
+        this.afipCode = afipCode;
+    }
+
+    /** The rate in hundredths of a percent: {@code 1050} for 10.5 %. */
+    public int basisPoints() {
+        return basisPoints;
+    }
+
+    public int afipCode() {
+        return afipCode;
+    }
+
+    /** VAT of {@code net} at this rate, rounded half-up to the ten-thousandth. */
+    public Money vatOf(Money net) {
+        long product = Math.multiplyExact(net.scaled(), basisPoints);
+        long vat = product / 10_000;
+        return Money.ofScaled(Math.abs(product % 10_000) >= 5_000 ? vat + Long.signum(product) : vat);
+    }
+
+    /** Rate closest to {@code vat / net}; {@code net} must be positive. */
+    public static VatRate nearest(Money net, Money vat) {
+        // Only picks the nearest rate, so double precision is plenty
+        double basisPoints = vat.scaled() * 10_000.0 / net.scaled();
+        VatRate best = RATES[0];
+        for (VatRate rate : RATES) {
+            if (Math.abs(rate.basisPoints - basisPoints) < Math.abs(best.basisPoints - basisPoints)) {
+                best = rate;
+            }
+        }
+        return best;
+    }
+}
@@ -11,5 +11,18 @@ public enum VoucherType {
     NOTA_DEBITO_B,
     NOTA_DEBITO_C,
     RECIBO,
-    TICKET
+    TICKET;
+
+    public boolean isCreditNote() {
+        return this == NOTA_CREDITO_A || this == NOTA_CREDITO_B || this == NOTA_CREDITO_C;
+    }
+
+    /**
+     * Sign of the voucher's amounts in book totals: credit notes reverse an earlier
+     * invoice, so they subtract ({@code -1}); every other type adds ({@code 1}).
+     * Voucher amounts themselves are always stored as positive values.
+     */
+    public int sign() {
+        return isCreditNote() ? -1 : 1;
+    }
 }
@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.event;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+/**
+ * Published by the voucher write path; listeners that react after commit
+ * (e.g. the VAT book cache) only see vouchers that were actually persisted.
+ */
+public record VoucherCreatedEvent(
+        UUID voucherId,
+        UUID taxpayerId,
+        VoucherCategory category,
+        LocalDate issueDate
+) {}
@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.event;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+/**
+ * Published once per period and category of each batch an import writes, instead of a
+ * {@link VoucherCreatedEvent} per voucher; like it, listeners react after commit.
+ */
+public record VouchersImportedEvent(
+        UUID taxpayerId,
+        VoucherCategory category,
+        YearMonth period,
+        int voucherCount
+) {}
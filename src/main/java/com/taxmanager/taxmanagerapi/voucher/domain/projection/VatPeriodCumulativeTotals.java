@@ -0,0 +1,20 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import java.time.YearMonth;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+
+/**
+ * Signed book totals of one period and their running sums since the first period
+ * queried, computed by the database with a window over the monthly sums.
+ */
+public record VatPeriodCumulativeTotals(
+        YearMonth period,
+        long voucherCount,
+        Money netAmount,
+        Money vatAmount,
+        Money totalAmount,
+        Money cumulativeNetAmount,
+        Money cumulativeVatAmount,
+        Money cumulativeTotalAmount
+) {}
@@ -0,0 +1,26 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+/**
+ * A {@code vat_period_totals} row that disagrees with the vouchers it summarizes.
+ * The {@code stored*} values are null when the row is missing and the {@code actual*}
+ * values are null when it should not exist.
+ */
+public record VatPeriodTotalsDrift(
+        UUID taxpayerId,
+        VoucherCategory category,
+        YearMonth period,
+        VoucherType voucherType,
+        Long storedVoucherCount,
+        Long actualVoucherCount,
+        BigDecimal storedVatAmount,
+        BigDecimal actualVatAmount,
+        BigDecimal storedTotalAmount,
+        BigDecimal actualTotalAmount
+) {}
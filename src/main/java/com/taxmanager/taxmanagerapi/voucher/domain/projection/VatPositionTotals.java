@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * VAT of a taxpayer's period split by book and by credit notes, computed by the
+ * database with one conditional aggregation over the period totals. Amounts are
+ * unsigned: credit notes are reported apart so the caller decides how they net.
+ */
+public record VatPositionTotals(
+        BigDecimal salesVat,
+        BigDecimal salesCreditNoteVat,
+        BigDecimal purchaseVat,
+        BigDecimal purchaseCreditNoteVat,
+        long salesVoucherCount,
+        long purchaseVoucherCount
+) {}
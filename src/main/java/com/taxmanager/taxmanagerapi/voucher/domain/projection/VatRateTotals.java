@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import java.math.BigDecimal;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+/**
+ * Net and VAT sums of one rate over the vouchers of one {@link VoucherType}, computed
+ * by the database with a {@code GROUP BY}; the type gives the sign in book totals.
+ */
+public record VatRateTotals(
+        VoucherType voucherType,
+        VatRate rate,
+        BigDecimal netAmount,
+        BigDecimal vatAmount
+) {}
@@ -0,0 +1,20 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Position of a row in VAT book order: {@code (issueDate, pointOfSale, voucherNumber, id)}.
+ * The id breaks ties, so every row has a distinct key and a page can resume right after it.
+ */
+public record VoucherBookKey(
+        LocalDate issueDate,
+        int pointOfSale,
+        long voucherNumber,
+        UUID id
+) {
+
+    public static VoucherBookKey of(VoucherBookRow row) {
+        return new VoucherBookKey(row.issueDate(), row.pointOfSale(), row.voucherNumber(), row.id());
+    }
+}
@@ -0,0 +1,28 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+/**
+ * One VAT book line: voucher columns joined with the issuing taxpayer, read as a
+ * constructor projection so no managed entity is hydrated.
+ *
+ * <p>{@code taxpayerBusinessName} and {@code taxpayerCuit} are {@code null} when the
+ * taxpayer row is missing (left join).</p>
+ */
+public record VoucherBookRow(
+        UUID id,
+        LocalDate issueDate,
+        VoucherType voucherType,
+        int pointOfSale,
+        long voucherNumber,
+        String taxpayerBusinessName,
+        String taxpayerCuit,
+        Money netAmount,
+        Money vatAmount,
+        Money exemptAmount,
+        Money totalAmount
+) {}
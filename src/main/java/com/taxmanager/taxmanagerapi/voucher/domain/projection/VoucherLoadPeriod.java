@@ -0,0 +1,14 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+/** Vouchers a bulk load added to one taxpayer's period and category. */
+public record VoucherLoadPeriod(
+        UUID taxpayerId,
+        VoucherCategory category,
+        YearMonth period,
+        int voucherCount
+) {}
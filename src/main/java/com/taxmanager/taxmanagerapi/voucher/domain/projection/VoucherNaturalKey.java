@@ -0,0 +1,27 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+/**
+ * What identifies a voucher within its taxpayer: no two vouchers of a taxpayer share
+ * category, type, point of sale and number ({@code uk_vouchers_natural_key}).
+ */
+public record VoucherNaturalKey(
+        VoucherCategory category,
+        VoucherType voucherType,
+        int pointOfSale,
+        long voucherNumber
+) {
+
+    public static VoucherNaturalKey of(Voucher voucher) {
+        return new VoucherNaturalKey(voucher.getCategory(), voucher.getVoucherType(),
+                voucher.getPointOfSale(), voucher.getVoucherNumber());
+    }
+
+    /** {@code FACTURA_A 00001-00001542 (SALE)}, as printed on the voucher. */
+    public String label() {
+        return "%s %05d-%08d (%s)".formatted(voucherType, pointOfSale, voucherNumber, category);
+    }
+}
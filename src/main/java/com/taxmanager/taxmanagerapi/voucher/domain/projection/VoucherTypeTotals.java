@@ -0,0 +1,18 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import java.math.BigDecimal;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+
+/**
+ * Amount sums for one {@link VoucherType}, computed by the database with a
+ * {@code GROUP BY} instead of loading and folding {@code Voucher} entities.
+ */
+public record VoucherTypeTotals(
+        VoucherType voucherType,
+        long voucherCount,
+        BigDecimal netAmount,
+        BigDecimal vatAmount,
+        BigDecimal exemptAmount,
+        BigDecimal totalAmount
+) {}
@@ -0,0 +1,17 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.projection;
+
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+
+/**
+ * One VAT rate line of a voucher, read together with the lines of a batch of vouchers
+ * to complete their {@link VoucherBookRow}s.
+ */
+public record VoucherVatLineRow(
+        UUID voucherId,
+        VatRate rate,
+        Money netAmount,
+        Money vatAmount
+) {}
@@ -0,0 +1,47 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodCumulativeTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodTotalsDrift;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPositionTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherTypeTotals;
+
+/**
+ * Incrementally maintained sums per (taxpayer, category, period, voucher type).
+ */
+public interface VatPeriodTotalsRepository {
+
+    /** Adds the voucher to its bucket; must run in the transaction that saves it. */
+    void add(Voucher voucher);
+
+    /**
+     * Adds the vouchers with one upsert per bucket they fall in, summed in memory first;
+     * must run in the transaction that saves them.
+     */
+    void addAll(List<Voucher> vouchers);
+
+    /** Totals per voucher type of a period; a null {@code taxpayerId} means all taxpayers. */
+    List<VoucherTypeTotals> findByPeriod(UUID taxpayerId, VoucherCategory category, YearMonth period);
+
+    /** VAT of both books of one taxpayer's period, with credit notes apart, in one query. */
+    VatPositionTotals findPosition(UUID taxpayerId, YearMonth period);
+
+    /**
+     * Signed totals per period from {@code from} to {@code to} with their running sums,
+     * in period order. Periods without vouchers are missing; a null {@code taxpayerId}
+     * means all taxpayers.
+     */
+    List<VatPeriodCumulativeTotals> findCumulativeByPeriod(UUID taxpayerId, VoucherCategory category,
+                                                           YearMonth from, YearMonth to);
+
+    /** Recomputes every bucket from the vouchers table and returns the ones that differ. */
+    List<VatPeriodTotalsDrift> findDrift();
+
+    /** Replaces the whole table with sums recomputed from the vouchers table. */
+    int rebuild();
+}
@@ -0,0 +1,26 @@
+package com.taxmanager.taxmanagerapi.voucher.domain.repository;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+
+/**
+ * Change counters per (taxpayer, category, period). Counters only grow, so a sum of
+ * counters changes whenever any of them does and serves as the version of a whole book
+ * or voucher list.
+ */
+public interface VoucherPeriodVersionRepository {
+
+    /** Bumps the period's counter; must run in the transaction that writes its vouchers. */
+    void bump(UUID taxpayerId, VoucherCategory category, YearMonth period);
+
+    /** Bumps every counter of the taxpayer (its data is shown next to its vouchers). */
+    void bumpTaxpayer(UUID taxpayerId);
+
+    /** Version of the periods {@code from..to}; a null {@code taxpayerId} means all taxpayers. */
+    long findVersion(UUID taxpayerId, VoucherCategory category, YearMonth from, YearMonth to);
+
+    /** Version of all the taxpayer's periods; a null {@code category} means both. */
+    long findTaxpayerVersion(UUID taxpayerId, VoucherCategory category);
+}
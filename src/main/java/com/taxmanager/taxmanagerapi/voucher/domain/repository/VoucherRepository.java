@@ -1,12 +1,20 @@
 package com.taxmanager.taxmanagerapi.voucher.domain.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatRateTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookRow;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherVatLineRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,12 +22,67 @@ public interface VoucherRepository {
 
     Voucher save(Voucher voucher);
 
+    /**
+     * Inserts new vouchers in JDBC batches and detaches them, so a long import keeps
+     * the persistence context small. Must run inside a transaction.
+     */
+    void insertAll(List<Voucher> vouchers);
+
     Optional<Voucher> findById(UUID id);
 
+    boolean existsByNaturalKey(UUID taxpayerId, VoucherNaturalKey key);
+
+    long countByTaxpayerId(UUID taxpayerId);
+
+    /**
+     * Natural keys of all the taxpayer's vouchers through a forward-only cursor. Must be
+     * consumed inside a transaction and closed by the caller.
+     */
+    Stream<VoucherNaturalKey> streamNaturalKeys(UUID taxpayerId);
+
+    /**
+     * Which of {@code candidates} the taxpayer already has, with one query per category,
+     * type and point of sale among them instead of one per key.
+     */
+    Set<VoucherNaturalKey> findExistingNaturalKeys(UUID taxpayerId, Collection<VoucherNaturalKey> candidates);
+
     Page<Voucher> findAllByTaxpayerId(UUID taxpayerId, Pageable pageable);
 
     Page<Voucher> findAllByTaxpayerIdAndCategory(UUID taxpayerId, VoucherCategory category, Pageable pageable);
 
-    List<Voucher> findAllByCategoryAndIssueDateBetweenOrderByIssueDateAsc(
-            VoucherCategory category, LocalDate startDate, LocalDate endDate);
+    /**
+     * VAT book lines of a period, ordered by issue date, with the taxpayer's business
+     * name and CUIT resolved by a join in the same query.
+     *
+     * @param taxpayerId restricts the book to one taxpayer; {@code null} for all of them
+     */
+    List<VoucherBookRow> findBookRows(
+            UUID taxpayerId, VoucherCategory category, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Same rows as {@link #findBookRows} read through a forward-only cursor, so memory
+     * stays flat regardless of the period size. Must be consumed inside a transaction
+     * and closed by the caller.
+     */
+    Stream<VoucherBookRow> streamBookRows(
+            UUID taxpayerId, VoucherCategory category, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Up to {@code limit} rows of {@link #findBookRows} that come after {@code after}
+     * in book order, or the first ones when {@code after} is {@code null}. Seeks on the
+     * book-order index, so the cost does not grow with the position of the page.
+     */
+    List<VoucherBookRow> findBookRowsAfter(UUID taxpayerId, VoucherCategory category,
+                                           LocalDate startDate, LocalDate endDate,
+                                           VoucherBookKey after, int limit);
+
+    /**
+     * VAT rate lines of the given vouchers in one query. Callers batch the ids of the
+     * book rows instead of asking voucher by voucher.
+     */
+    List<VoucherVatLineRow> findVatLines(Collection<UUID> voucherIds);
+
+    /** Net and VAT per voucher type and rate of a period, summed by the database. */
+    List<VatRateTotals> sumVatLines(
+            UUID taxpayerId, VoucherCategory category, LocalDate startDate, LocalDate endDate);
 }
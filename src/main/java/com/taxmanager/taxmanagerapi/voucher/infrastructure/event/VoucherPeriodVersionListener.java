@@ -0,0 +1,27 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.event;
+
+import com.taxmanager.taxmanagerapi.taxpayer.domain.event.TaxpayerUpdatedEvent;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bumps the taxpayer's voucher versions when its data changes: VAT books show its
+ * business name and CUIT next to each voucher. Runs before commit, inside the update's
+ * transaction, so the new version and the new data become visible together.
+ */
+@Component
+public class VoucherPeriodVersionListener {
+
+    private final VoucherPeriodVersionRepository voucherPeriodVersionRepository;
+
+    public VoucherPeriodVersionListener(VoucherPeriodVersionRepository voucherPeriodVersionRepository) {
+        this.voucherPeriodVersionRepository = voucherPeriodVersionRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaxpayerUpdated(TaxpayerUpdatedEvent event) {
+        voucherPeriodVersionRepository.bumpTaxpayer(event.taxpayerId());
+    }
+}
@@ -0,0 +1,299 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.shared.exception.DomainException;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportRow;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.CreateVoucherRequest;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VatLineRequest;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.mapper.VoucherWebMapper;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Reads an import file line by line into {@link VoucherImportRow}s, lazily: the stream
+ * pulls from the request body as the importer consumes it.
+ *
+ * <ul>
+ *   <li><b>NDJSON</b>: one {@link CreateVoucherRequest} per line.</li>
+ *   <li><b>CSV</b>: a header with the same field names (any order; {@code vatLines} and
+ *       {@code description} optional), then one voucher per line. Fields may be quoted;
+ *       {@code vatLines} is {@code RATE:net:vat} separated by {@code |}, e.g.
+ *       {@code IVA_21:1000.00:210.00|IVA_10_5:500:52.50}.</li>
+ * </ul>
+ *
+ * <p>Each line is checked like a single {@code POST}: Bean Validation, then
+ * {@link VoucherWebMapper#toCommand}. A line that fails becomes a rejected row; blank
+ * lines are skipped.</p>
+ */
+@Component
+public class VoucherImportParser {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "category", "voucherType", "issueDate", "pointOfSale", "voucherNumber",
+            "netAmount", "vatAmount", "exemptAmount", "totalAmount");
+
+    private final VoucherWebMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public VoucherImportParser(VoucherWebMapper mapper, ObjectMapper objectMapper, Validator validator) {
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    /** Rows of {@code body}; the stream closes the body when it is closed. */
+    public Stream<VoucherImportRow> parse(InputStream body, MediaType contentType) {
+        var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Iterator<VoucherImportRow> rows;
+        if (APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            rows = new RowIterator(reader, 0, this::parseJsonLine);
+        } else if (TEXT_CSV.isCompatibleWith(contentType)) {
+            Map<String, Integer> columns = readHeader(reader);
+            rows = new RowIterator(reader, 1, (lineNumber, line) -> parseCsvLine(columns, lineNumber, line));
+        } else {
+            throw new BadRequestException("Formato de importación no soportado: " + contentType
+                    + ". Formatos aceptados: text/csv, application/x-ndjson");
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+                .onClose(() -> close(reader));
+    }
+
+    // ── NDJSON ───────────────────────────────────────────────────────────
+
+    private VoucherImportRow parseJsonLine(long lineNumber, String line) {
+        CreateVoucherRequest request;
+        try {
+            request = objectMapper.readValue(line, CreateVoucherRequest.class);
+        } catch (JacksonException e) {
+            return VoucherImportRow.rejected(lineNumber, "JSON inválido: " + e.getOriginalMessage());
+        }
+        return toRow(lineNumber, request);
+    }
+
+    // ── CSV ──────────────────────────────────────────────────────────────
+
+    private Map<String, Integer> readHeader(BufferedReader reader) {
+        String header = readLine(reader);
+        if (header == null) {
+            throw new BadRequestException("El archivo CSV está vacío: falta el encabezado");
+        }
+        // Spreadsheets often save UTF-8 with a byte order mark
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new BadRequestException("Faltan columnas en el encabezado CSV: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private VoucherImportRow parseCsvLine(Map<String, Integer> columns, long lineNumber, String line) {
+        List<String> fields;
+        try {
+            fields = splitCsv(line);
+        } catch (IllegalArgumentException e) {
+            return VoucherImportRow.rejected(lineNumber, e.getMessage());
+        }
+        CreateVoucherRequest request;
+        try {
+            request = new CreateVoucherRequest(
+                    field(fields, columns, "category"),
+                    field(fields, columns, "voucherType"),
+                    field(fields, columns, "issueDate"),
+                    parse(fields, columns, "pointOfSale", Integer::valueOf),
+                    parse(fields, columns, "voucherNumber", Long::valueOf),
+                    parse(fields, columns, "netAmount", BigDecimal::new),
+                    parse(fields, columns, "vatAmount", BigDecimal::new),
+                    parse(fields, columns, "exemptAmount", BigDecimal::new),
+                    parse(fields, columns, "totalAmount", BigDecimal::new),
+                    parseVatLines(field(fields, columns, "vatLines")),
+                    field(fields, columns, "description")
+            );
+        } catch (IllegalArgumentException e) {
+            return VoucherImportRow.rejected(lineNumber, e.getMessage());
+        }
+        return toRow(lineNumber, request);
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <T> T parse(List<String> fields, Map<String, Integer> columns, String name,
+                               Function<String, T> parser) {
+        String value = field(fields, columns, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor numérico inválido en " + name + ": '" + value + "'");
+        }
+    }
+
+    private static List<VatLineRequest> parseVatLines(String value) {
+        if (value == null) {
+            return null;
+        }
+        List<VatLineRequest> lines = new ArrayList<>();
+        for (String part : value.split("\\|")) {
+            String[] pieces = part.trim().split(":");
+            if (pieces.length != 3) {
+                throw new IllegalArgumentException(
+                        "Alícuota inválida en vatLines: '" + part + "'. Formato esperado: ALICUOTA:neto:iva");
+            }
+            try {
+                lines.add(new VatLineRequest(pieces[0].trim(),
+                        new BigDecimal(pieces[1].trim()), new BigDecimal(pieces[2].trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Monto inválido en vatLines: '" + part + "'");
+            }
+        }
+        return lines;
+    }
+
+    /** Splits one CSV record: comma separated, double-quoted fields with {@code ""} as a quote. */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Comillas sin cerrar en la línea");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // ── Shared ───────────────────────────────────────────────────────────
+
+    private VoucherImportRow toRow(long lineNumber, CreateVoucherRequest request) {
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return VoucherImportRow.rejected(lineNumber, violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        try {
+            return VoucherImportRow.of(lineNumber, mapper.toCommand(request));
+        } catch (DomainException e) {
+            return VoucherImportRow.rejected(lineNumber, e.getMessage());
+        }
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void close(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Non-blank lines of the reader as rows, numbered from the start of the file. */
+    private static final class RowIterator implements Iterator<VoucherImportRow> {
+
+        private final BufferedReader reader;
+        private final BiFunction<Long, String, VoucherImportRow> parser;
+        private long lineNumber;
+        private String next;
+
+        RowIterator(BufferedReader reader, long linesRead, BiFunction<Long, String, VoucherImportRow> parser) {
+            this.reader = reader;
+            this.lineNumber = linesRead;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                String line = readLine(reader);
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    next = line;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public VoucherImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String line = next;
+            next = null;
+            return parser.apply(lineNumber, line);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.VatPeriodTotal;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPositionTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherTypeTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpringDataVatPeriodTotalRepository extends JpaRepository<VatPeriodTotal, VatPeriodTotal.Key> {
+
+    String TYPE_TOTALS_SELECT = """
+            SELECT new com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherTypeTotals(
+                       t.voucherType, SUM(t.voucherCount),
+                       SUM(t.netAmount), SUM(t.vatAmount), SUM(t.exemptAmount), SUM(t.totalAmount))
+            FROM VatPeriodTotal t
+            WHERE t.category = :category
+              AND t.period = :period
+            """;
+
+    String TYPE_TOTALS_GROUP = " GROUP BY t.voucherType ORDER BY t.voucherType";
+
+    /**
+     * Both books of a period in one pass over its buckets (at most one per category and
+     * voucher type), each CASE picking the rows of one column.
+     */
+    @Query("""
+            SELECT new com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPositionTotals(
+                       COALESCE(SUM(CASE WHEN t.category = :sale AND t.voucherType NOT IN :creditNotes
+                                         THEN t.vatAmount END), 0),
+                       COALESCE(SUM(CASE WHEN t.category = :sale AND t.voucherType IN :creditNotes
+                                         THEN t.vatAmount END), 0),
+                       COALESCE(SUM(CASE WHEN t.category = :purchase AND t.voucherType NOT IN :creditNotes
+                                         THEN t.vatAmount END), 0),
+                       COALESCE(SUM(CASE WHEN t.category = :purchase AND t.voucherType IN :creditNotes
+                                         THEN t.vatAmount END), 0),
+                       COALESCE(SUM(CASE WHEN t.category = :sale THEN t.voucherCount END), 0L),
+                       COALESCE(SUM(CASE WHEN t.category = :purchase THEN t.voucherCount END), 0L))
+            FROM VatPeriodTotal t
+            WHERE t.taxpayerId = :taxpayerId
+              AND t.period = :period
+            """)
+    VatPositionTotals sumPosition(@Param("taxpayerId") UUID taxpayerId,
+                                  @Param("period") LocalDate period,
+                                  @Param("sale") VoucherCategory sale,
+                                  @Param("purchase") VoucherCategory purchase,
+                                  @Param("creditNotes") Collection<VoucherType> creditNotes);
+
+    /**
+     * Signed sums per period and their running sums (PostgreSQL): the window runs over
+     * the grouped rows, so one pass over the buckets of the range yields both series.
+     * Columns: period (YYYY-MM), voucher_count, net, vat, total, cumulative net, vat, total.
+     */
+    String CUMULATIVE_SELECT = """
+            SELECT to_char(period, 'YYYY-MM'),
+                   SUM(voucher_count),
+                   SUM(CASE WHEN voucher_type LIKE 'NOTA_CREDITO%' THEN -net_amount ELSE net_amount END),
+                   SUM(CASE WHEN voucher_type LIKE 'NOTA_CREDITO%' THEN -vat_amount ELSE vat_amount END),
+                   SUM(CASE WHEN voucher_type LIKE 'NOTA_CREDITO%' THEN -total_amount ELSE total_amount END),
+                   SUM(SUM(CASE WHEN voucher_type LIKE 'NOTA_CREDITO%' THEN -net_amount ELSE net_amount END))
+                       OVER (ORDER BY period ROWS UNBOUNDED PRECEDING),
+                   SUM(SUM(CASE WHEN voucher_type LIKE 'NOTA_CREDITO%' THEN -vat_amount ELSE vat_amount END))
+                       OVER (ORDER BY period ROWS UNBOUNDED PRECEDING),
+                   SUM(SUM(CASE WHEN voucher_type LIKE 'NOTA_CREDITO%' THEN -total_amount ELSE total_amount END))
+                       OVER (ORDER BY period ROWS UNBOUNDED PRECEDING)
+            FROM vat_period_totals
+            WHERE category = :category
+              AND period BETWEEN :fromPeriod AND :toPeriod
+            """;
+
+    String CUMULATIVE_GROUP = " GROUP BY period ORDER BY period";
+
+    /** Per-bucket sums recomputed from the vouchers table (source of truth). */
+    String ACTUAL_TOTALS = """
+            SELECT taxpayer_id, category,
+                   CAST(date_trunc('month', issue_date) AS DATE) AS period,
+                   voucher_type,
+                   COUNT(*)           AS voucher_count,
+                   SUM(net_amount)    AS net_amount,
+                   SUM(vat_amount)    AS vat_amount,
+                   SUM(exempt_amount) AS exempt_amount,
+                   SUM(total_amount)  AS total_amount
+            FROM vouchers
+            GROUP BY taxpayer_id, category, CAST(date_trunc('month', issue_date) AS DATE), voucher_type
+            """;
+
+    @Query(TYPE_TOTALS_SELECT + TYPE_TOTALS_GROUP)
+    List<VoucherTypeTotals> sumByVoucherType(@Param("category") VoucherCategory category,
+                                             @Param("period") LocalDate period);
+
+    @Query(TYPE_TOTALS_SELECT + " AND t.taxpayerId = :taxpayerId " + TYPE_TOTALS_GROUP)
+    List<VoucherTypeTotals> sumByVoucherTypeAndTaxpayer(@Param("taxpayerId") UUID taxpayerId,
+                                                        @Param("category") VoucherCategory category,
+                                                        @Param("period") LocalDate period);
+
+    @Query(value = CUMULATIVE_SELECT + CUMULATIVE_GROUP, nativeQuery = true)
+    List<Object[]> sumCumulativeByPeriod(@Param("category") String category,
+                                         @Param("fromPeriod") LocalDate fromPeriod,
+                                         @Param("toPeriod") LocalDate toPeriod);
+
+    @Query(value = CUMULATIVE_SELECT + " AND taxpayer_id = :taxpayerId " + CUMULATIVE_GROUP, nativeQuery = true)
+    List<Object[]> sumCumulativeByPeriodAndTaxpayer(@Param("taxpayerId") UUID taxpayerId,
+                                                    @Param("category") String category,
+                                                    @Param("fromPeriod") LocalDate fromPeriod,
+                                                    @Param("toPeriod") LocalDate toPeriod);
+
+    // ── Maintenance (PostgreSQL) ─────────────────────────────────────────
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO vat_period_totals AS t (
+                taxpayer_id, category, period, voucher_type, voucher_count,
+                net_amount, vat_amount, exempt_amount, total_amount, updated_at)
+            VALUES (:taxpayerId, :category, :period, :voucherType, :voucherCount,
+                    :netAmount, :vatAmount, :exemptAmount, :totalAmount, now())
+            ON CONFLICT (taxpayer_id, category, period, voucher_type) DO UPDATE SET
+                voucher_count = t.voucher_count + EXCLUDED.voucher_count,
+                net_amount    = t.net_amount + EXCLUDED.net_amount,
+                vat_amount    = t.vat_amount + EXCLUDED.vat_amount,
+                exempt_amount = t.exempt_amount + EXCLUDED.exempt_amount,
+                total_amount  = t.total_amount + EXCLUDED.total_amount,
+                updated_at    = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void upsert(@Param("taxpayerId") UUID taxpayerId,
+                @Param("category") String category,
+                @Param("period") LocalDate period,
+                @Param("voucherType") String voucherType,
+                @Param("voucherCount") long voucherCount,
+                @Param("netAmount") BigDecimal netAmount,
+                @Param("vatAmount") BigDecimal vatAmount,
+                @Param("exemptAmount") BigDecimal exemptAmount,
+                @Param("totalAmount") BigDecimal totalAmount);
+
+    /**
+     * Columns: taxpayer_id, category, period (YYYY-MM), voucher_type,
+     * stored/actual voucher_count, stored/actual vat_amount, stored/actual total_amount.
+     */
+    @Query(value = "WITH actual AS (" + ACTUAL_TOTALS + """
+            )
+            SELECT taxpayer_id, category, to_char(period, 'YYYY-MM'), voucher_type,
+                   s.voucher_count, a.voucher_count,
+                   s.vat_amount,    a.vat_amount,
+                   s.total_amount,  a.total_amount
+            FROM vat_period_totals s
+            FULL OUTER JOIN actual a USING (taxpayer_id, category, period, voucher_type)
+            WHERE s.voucher_count IS DISTINCT FROM a.voucher_count
+               OR s.net_amount    IS DISTINCT FROM a.net_amount
+               OR s.vat_amount    IS DISTINCT FROM a.vat_amount
+               OR s.exempt_amount IS DISTINCT FROM a.exempt_amount
+               OR s.total_amount  IS DISTINCT FROM a.total_amount
+            ORDER BY period, taxpayer_id, category, voucher_type
+            """, nativeQuery = true)
+    List<Object[]> findDrift();
+
+    /** Blocks concurrent upserts until the rebuilding transaction commits. */
+    @Modifying
+    @Query(value = "LOCK TABLE vat_period_totals IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM vat_period_totals", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO vat_period_totals (
+                taxpayer_id, category, period, voucher_type, voucher_count,
+                net_amount, vat_amount, exempt_amount, total_amount, updated_at)
+            SELECT taxpayer_id, category, period, voucher_type, voucher_count,
+                   net_amount, vat_amount, exempt_amount, total_amount, now()
+            FROM (""" + ACTUAL_TOTALS + ") actual", nativeQuery = true)
+    int insertFromVouchers();
+}
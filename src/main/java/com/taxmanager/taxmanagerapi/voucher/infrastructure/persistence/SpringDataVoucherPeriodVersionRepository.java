@@ -0,0 +1,59 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.VoucherPeriodVersion;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpringDataVoucherPeriodVersionRepository
+        extends JpaRepository<VoucherPeriodVersion, VoucherPeriodVersion.Key> {
+
+    String VERSION_SELECT = "SELECT COALESCE(SUM(v.version), 0) FROM VoucherPeriodVersion v";
+
+    String PERIOD_RANGE = " WHERE v.category = :category AND v.period BETWEEN :from AND :to";
+
+    @Query(VERSION_SELECT + PERIOD_RANGE)
+    long sumVersions(@Param("category") VoucherCategory category,
+                     @Param("from") LocalDate from,
+                     @Param("to") LocalDate to);
+
+    @Query(VERSION_SELECT + PERIOD_RANGE + " AND v.taxpayerId = :taxpayerId")
+    long sumVersionsByTaxpayer(@Param("taxpayerId") UUID taxpayerId,
+                               @Param("category") VoucherCategory category,
+                               @Param("from") LocalDate from,
+                               @Param("to") LocalDate to);
+
+    @Query(VERSION_SELECT + " WHERE v.taxpayerId = :taxpayerId")
+    long sumTaxpayerVersions(@Param("taxpayerId") UUID taxpayerId);
+
+    @Query(VERSION_SELECT + " WHERE v.taxpayerId = :taxpayerId AND v.category = :category")
+    long sumTaxpayerVersionsByCategory(@Param("taxpayerId") UUID taxpayerId,
+                                       @Param("category") VoucherCategory category);
+
+    // ── Maintenance (PostgreSQL) ─────────────────────────────────────────
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO voucher_period_versions AS v (taxpayer_id, category, period, version, updated_at)
+            VALUES (:taxpayerId, :category, :period, 1, now())
+            ON CONFLICT (taxpayer_id, category, period) DO UPDATE SET
+                version    = v.version + 1,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void upsert(@Param("taxpayerId") UUID taxpayerId,
+                @Param("category") String category,
+                @Param("period") LocalDate period);
+
+    @Modifying
+    @Query(value = """
+            UPDATE voucher_period_versions
+            SET version = version + 1, updated_at = now()
+            WHERE taxpayer_id = :taxpayerId
+            """, nativeQuery = true)
+    void bumpTaxpayer(@Param("taxpayerId") UUID taxpayerId);
+}
@@ -1,21 +1,181 @@
 package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatRateTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookRow;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherVatLineRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface SpringDataVoucherRepository extends JpaRepository<Voucher, UUID> {
 
+    /** VAT book lines joined with their taxpayer in a single round trip. */
+    String BOOK_ROWS_SELECT = """
+            SELECT new com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookRow(
+                       v.id, v.issueDate, v.voucherType, v.pointOfSale, v.voucherNumber,
+                       t.businessName, t.cuit,
+                       v.netAmount, v.vatAmount, v.exemptAmount, v.totalAmount)
+            FROM Voucher v
+            LEFT JOIN Taxpayer t ON t.id = v.taxpayerId
+            WHERE v.category = :category
+              AND v.issueDate BETWEEN :startDate AND :endDate
+            """;
+
+    // Served by idx_vouchers_taxpayer_category_book_order (index-only scan)
+    String AND_TAXPAYER = " AND v.taxpayerId = :taxpayerId ";
+
+    // The id makes the order total, so keyset pages never skip or repeat a row
+    String BOOK_ROWS_ORDER = " ORDER BY v.issueDate, v.pointOfSale, v.voucherNumber, v.id";
+
+    /** Seek past the last row of the previous page (row-value comparison on the index key). */
+    String AFTER_KEY = """
+             AND (v.issueDate, v.pointOfSale, v.voucherNumber, v.id)
+                 > (:afterIssueDate, :afterPointOfSale, :afterVoucherNumber, :afterId)
+            """;
+
+    /** Per-rate sums of a period, by voucher type so the caller can sign them. */
+    String VAT_RATE_TOTALS_SELECT = """
+            SELECT new com.taxmanager.taxmanagerapi.voucher.domain.projection.VatRateTotals(
+                       v.voucherType, l.rate, SUM(l.netAmount), SUM(l.vatAmount))
+            FROM Voucher v
+            JOIN v.vatLines l
+            WHERE v.category = :category
+              AND v.issueDate BETWEEN :startDate AND :endDate
+            """;
+
+    String VAT_RATE_TOTALS_GROUP = " GROUP BY v.voucherType, l.rate";
+
     Page<Voucher> findAllByTaxpayerId(UUID taxpayerId, Pageable pageable);
 
     Page<Voucher> findAllByTaxpayerIdAndCategory(UUID taxpayerId, VoucherCategory category, Pageable pageable);
 
-    List<Voucher> findAllByCategoryAndIssueDateBetweenOrderByIssueDateAsc(
-            VoucherCategory category, LocalDate startDate, LocalDate endDate);
+    // ── Natural key (uk_vouchers_natural_key) ────────────────────────────
+
+    boolean existsByTaxpayerIdAndCategoryAndVoucherTypeAndPointOfSaleAndVoucherNumber(
+            UUID taxpayerId, VoucherCategory category, VoucherType voucherType, int pointOfSale, long voucherNumber);
+
+    long countByTaxpayerId(UUID taxpayerId);
+
+    @Query("""
+            SELECT new com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey(
+                       v.category, v.voucherType, v.pointOfSale, v.voucherNumber)
+            FROM Voucher v
+            WHERE v.taxpayerId = :taxpayerId
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<VoucherNaturalKey> streamNaturalKeys(@Param("taxpayerId") UUID taxpayerId);
+
+    // Every column of the unique index is bound, so each number is one index probe
+    @Query("""
+            SELECT new com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey(
+                       v.category, v.voucherType, v.pointOfSale, v.voucherNumber)
+            FROM Voucher v
+            WHERE v.taxpayerId = :taxpayerId
+              AND v.category = :category
+              AND v.voucherType = :voucherType
+              AND v.pointOfSale = :pointOfSale
+              AND v.voucherNumber IN :voucherNumbers
+            """)
+    List<VoucherNaturalKey> findNaturalKeys(@Param("taxpayerId") UUID taxpayerId,
+                                            @Param("category") VoucherCategory category,
+                                            @Param("voucherType") VoucherType voucherType,
+                                            @Param("pointOfSale") int pointOfSale,
+                                            @Param("voucherNumbers") Collection<Long> voucherNumbers);
+
+    // ── VAT book rows (all taxpayers) ────────────────────────────────────
+
+    @Query(BOOK_ROWS_SELECT + BOOK_ROWS_ORDER)
+    List<VoucherBookRow> findBookRows(@Param("category") VoucherCategory category,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+
+    // Forward-only cursor: rows are fetched from PostgreSQL in chunks of 500
+    @Query(BOOK_ROWS_SELECT + BOOK_ROWS_ORDER)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<VoucherBookRow> streamBookRows(@Param("category") VoucherCategory category,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+
+    @Query(BOOK_ROWS_SELECT + AFTER_KEY + BOOK_ROWS_ORDER)
+    List<VoucherBookRow> findBookRowsAfter(@Param("category") VoucherCategory category,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate,
+                                           @Param("afterIssueDate") LocalDate afterIssueDate,
+                                           @Param("afterPointOfSale") int afterPointOfSale,
+                                           @Param("afterVoucherNumber") long afterVoucherNumber,
+                                           @Param("afterId") UUID afterId,
+                                           Pageable limit);
+
+    // ── VAT book rows (one taxpayer) ─────────────────────────────────────
+
+    @Query(BOOK_ROWS_SELECT + AND_TAXPAYER + BOOK_ROWS_ORDER)
+    List<VoucherBookRow> findBookRowsByTaxpayer(@Param("taxpayerId") UUID taxpayerId,
+                                                @Param("category") VoucherCategory category,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+
+    @Query(BOOK_ROWS_SELECT + AND_TAXPAYER + BOOK_ROWS_ORDER)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<VoucherBookRow> streamBookRowsByTaxpayer(@Param("taxpayerId") UUID taxpayerId,
+                                                    @Param("category") VoucherCategory category,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+
+    @Query(BOOK_ROWS_SELECT + AND_TAXPAYER + AFTER_KEY + BOOK_ROWS_ORDER)
+    List<VoucherBookRow> findBookRowsAfterByTaxpayer(@Param("taxpayerId") UUID taxpayerId,
+                                                     @Param("category") VoucherCategory category,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate,
+                                                     @Param("afterIssueDate") LocalDate afterIssueDate,
+                                                     @Param("afterPointOfSale") int afterPointOfSale,
+                                                     @Param("afterVoucherNumber") long afterVoucherNumber,
+                                                     @Param("afterId") UUID afterId,
+                                                     Pageable limit);
+
+    // ── VAT rate lines ───────────────────────────────────────────────────
+
+    // Served by pk_voucher_vat_lines (voucher_id, rate)
+    @Query("""
+            SELECT new com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherVatLineRow(
+                       v.id, l.rate, l.netAmount, l.vatAmount)
+            FROM Voucher v
+            JOIN v.vatLines l
+            WHERE v.id IN :voucherIds
+            """)
+    List<VoucherVatLineRow> findVatLines(@Param("voucherIds") Collection<UUID> voucherIds);
+
+    @Query(VAT_RATE_TOTALS_SELECT + VAT_RATE_TOTALS_GROUP)
+    List<VatRateTotals> sumVatLines(@Param("category") VoucherCategory category,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+
+    @Query(VAT_RATE_TOTALS_SELECT + AND_TAXPAYER + VAT_RATE_TOTALS_GROUP)
+    List<VatRateTotals> sumVatLinesByTaxpayer(@Param("taxpayerId") UUID taxpayerId,
+                                              @Param("category") VoucherCategory category,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
 }
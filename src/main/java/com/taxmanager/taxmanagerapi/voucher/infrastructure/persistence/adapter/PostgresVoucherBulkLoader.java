@@ -0,0 +1,289 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.adapter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportErrorResult;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.out.VoucherBulkLoader;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherLoadPeriod;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.stereotype.Repository;
+
+/**
+ * {@link VoucherBulkLoader} on PostgreSQL: {@code COPY ... FROM STDIN} into the unlogged
+ * {@code voucher_staging} table, then plain SQL over the whole load. Works on the
+ * connection of the surrounding transaction, so the copy, the checks and the inserts
+ * commit or roll back together.
+ *
+ * <p>The checks mirror {@code Voucher.create}, except that a voucher's VAT lines are
+ * always derived from {@code vat / net} (as in V10): the file has no breakdown per rate.</p>
+ */
+@Repository
+public class PostgresVoucherBulkLoader implements VoucherBulkLoader {
+
+    private static final String COPY = """
+            COPY voucher_staging (
+                load_id, line, taxpayer_cuit, category, voucher_type, issue_date, point_of_sale,
+                voucher_number, net_amount, vat_amount, exempt_amount, total_amount, description, error)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String VALID_ROWS = "load_id = :loadId AND error IS NULL";
+
+    private static final String AMOUNT = "'^[0-9]{1,15}(\\.[0-9]{1,4})?$'";
+
+    /** {@code FACTURA_A 00001-00001542 (SALE)}, as {@code VoucherNaturalKey.label()}; valid rows only. */
+    private static final String LABEL = """
+            s.voucher_type || ' ' || lpad(s.point_of_sale::integer::text, 5, '0') || '-'
+                || lpad(s.voucher_number::bigint::text, greatest(8, length(s.voucher_number::bigint::text)), '0')
+                || ' (' || s.category || ')'""";
+
+    // Rows of other loads keep running; only this load's taxpayers are resolved
+    private static final String RESOLVE_TAXPAYERS = """
+            UPDATE voucher_staging s
+            SET taxpayer_id = t.id
+            FROM taxpayers t
+            WHERE s.load_id = :loadId
+              AND t.cuit = replace(s.taxpayer_cuit, '-', '')
+            """;
+
+    // FOR SHARE, as CreateVoucherService: waits for closings in progress and blocks new ones
+    private static final String LOCK_TAXPAYERS = """
+            SELECT t.id
+            FROM taxpayers t
+            WHERE t.id IN (SELECT DISTINCT taxpayer_id FROM voucher_staging WHERE load_id = :loadId)
+            ORDER BY t.id
+            FOR SHARE
+            """;
+
+    // First failed check per row. Only CASE fixes the order of evaluation (OR does not), so each
+    // cast sits in a WHEN after the one that proves it castable
+    private static final String VALIDATE = """
+            UPDATE voucher_staging s
+            SET error = CASE
+                WHEN s.taxpayer_id IS NULL
+                    THEN 'No se encontró contribuyente con CUIT ' || COALESCE(s.taxpayer_cuit, '(vacío)')
+                WHEN COALESCE(s.category, '') NOT IN ('PURCHASE', 'SALE')
+                    THEN 'Categoría inválida: ''' || COALESCE(s.category, '') || ''''
+                WHEN COALESCE(s.voucher_type, '') NOT IN (
+                        'FACTURA_A', 'FACTURA_B', 'FACTURA_C',
+                        'NOTA_CREDITO_A', 'NOTA_CREDITO_B', 'NOTA_CREDITO_C',
+                        'NOTA_DEBITO_A', 'NOTA_DEBITO_B', 'NOTA_DEBITO_C',
+                        'RECIBO', 'TICKET')
+                    THEN 'Tipo de comprobante inválido: ''' || COALESCE(s.voucher_type, '') || ''''
+                WHEN COALESCE(s.issue_date, '') !~ '^[0-9]{4}-[0-9]{2}-[0-9]{2}$'
+                     OR NOT pg_input_is_valid(s.issue_date, 'date')
+                    THEN 'Fecha de emisión inválida: ''' || COALESCE(s.issue_date, '') || '''. Formato esperado: YYYY-MM-DD'
+                WHEN COALESCE(s.point_of_sale, '') !~ '^[0-9]{1,5}$'
+                    THEN 'El punto de venta debe estar entre 1 y 99999'
+                WHEN s.point_of_sale::integer = 0
+                    THEN 'El punto de venta debe estar entre 1 y 99999'
+                WHEN COALESCE(s.voucher_number, '') !~ '^[0-9]{1,18}$'
+                    THEN 'El número de comprobante debe ser mayor a 0'
+                WHEN s.voucher_number::bigint = 0
+                    THEN 'El número de comprobante debe ser mayor a 0'
+                WHEN COALESCE(s.net_amount, '') !~ %1$s
+                     OR COALESCE(s.vat_amount, '') !~ %1$s
+                     OR COALESCE(s.exempt_amount, '') !~ %1$s
+                     OR COALESCE(s.total_amount, '') !~ %1$s
+                    THEN 'Los montos son obligatorios, no negativos y con hasta 4 decimales'
+                WHEN s.total_amount::numeric = 0
+                    THEN 'El monto total debe ser mayor a 0'
+                WHEN s.net_amount::numeric + s.vat_amount::numeric + s.exempt_amount::numeric
+                     <> s.total_amount::numeric
+                    THEN 'Los montos no cuadran: neto + IVA + exento ('
+                         || (s.net_amount::numeric + s.vat_amount::numeric + s.exempt_amount::numeric)::numeric(19, 4)
+                         || ') ≠ total (' || s.total_amount::numeric(19, 4) || ')'
+                WHEN length(s.description) > 500
+                    THEN 'La descripción no puede superar los 500 caracteres'
+                WHEN EXISTS (SELECT 1
+                             FROM fiscal_period_closings c
+                             WHERE c.taxpayer_id = s.taxpayer_id
+                               AND c.period = date_trunc('month', s.issue_date::date))
+                    THEN 'El período ' || to_char(s.issue_date::date, 'YYYY-MM')
+                         || ' está cerrado para el contribuyente: no admite nuevos comprobantes'
+                WHEN EXISTS (SELECT 1
+                             FROM vouchers v
+                             WHERE v.taxpayer_id = s.taxpayer_id
+                               AND v.category = s.category
+                               AND v.voucher_type = s.voucher_type
+                               AND v.point_of_sale = s.point_of_sale::integer
+                               AND v.voucher_number = s.voucher_number::bigint)
+                    THEN 'Ya existe el comprobante ' || %2$s || ' del contribuyente'
+            END
+            WHERE s.load_id = :loadId
+              AND s.error IS NULL
+            """.formatted(AMOUNT, LABEL);
+
+    // Keeps the first line of each natural key; window functions see only the rows WHERE kept
+    private static final String REJECT_REPEATED = """
+            UPDATE voucher_staging s
+            SET error = 'El comprobante ' || %s || ' está repetido en la línea ' || d.first_line
+            FROM (
+                SELECT line, min(line) OVER (
+                           PARTITION BY taxpayer_id, category, voucher_type,
+                                        point_of_sale::integer, voucher_number::bigint) AS first_line
+                FROM voucher_staging
+                WHERE %s
+            ) d
+            WHERE s.load_id = :loadId
+              AND s.line = d.line
+              AND d.line <> d.first_line
+            """.formatted(LABEL, VALID_ROWS);
+
+    private static final String INSERT_VOUCHERS = """
+            INSERT INTO vouchers (
+                id, taxpayer_id, category, voucher_type, issue_date, point_of_sale, voucher_number,
+                net_amount, vat_amount, exempt_amount, total_amount, description)
+            SELECT voucher_id, taxpayer_id, category, voucher_type, issue_date::date, point_of_sale::integer,
+                   voucher_number::bigint, net_amount::numeric, vat_amount::numeric, exempt_amount::numeric,
+                   total_amount::numeric, description
+            FROM voucher_staging
+            WHERE %s
+            """.formatted(VALID_ROWS);
+
+    // Same rule as Voucher.create without lines: one line at the rate closest to vat / net,
+    // the lower one on a tie. The CTE casts only valid rows (WHERE conditions have no order)
+    private static final String INSERT_VAT_LINES = """
+            WITH valid AS MATERIALIZED (
+                SELECT voucher_id, net_amount::numeric AS net, vat_amount::numeric AS vat
+                FROM voucher_staging
+                WHERE %s
+            )
+            INSERT INTO voucher_vat_lines (voucher_id, rate, net_amount, vat_amount)
+            SELECT v.voucher_id, r.rate, v.net, v.vat
+            FROM valid v
+            CROSS JOIN LATERAL (
+                SELECT rates.rate
+                FROM (VALUES ('IVA_0', 0.0), ('IVA_2_5', 0.025), ('IVA_5', 0.05),
+                             ('IVA_10_5', 0.105), ('IVA_21', 0.21), ('IVA_27', 0.27)) AS rates (rate, value)
+                ORDER BY abs(v.vat / v.net - rates.value), rates.value
+                LIMIT 1
+            ) r
+            WHERE v.vat > 0
+              AND v.net > 0
+            """.formatted(VALID_ROWS);
+
+    private static final String ADD_TO_TOTALS = """
+            INSERT INTO vat_period_totals AS t (
+                taxpayer_id, category, period, voucher_type, voucher_count,
+                net_amount, vat_amount, exempt_amount, total_amount, updated_at)
+            SELECT taxpayer_id, category, date_trunc('month', issue_date::date)::date, voucher_type, count(*),
+                   sum(net_amount::numeric), sum(vat_amount::numeric),
+                   sum(exempt_amount::numeric), sum(total_amount::numeric), now()
+            FROM voucher_staging
+            WHERE %s
+            GROUP BY 1, 2, 3, 4
+            ON CONFLICT (taxpayer_id, category, period, voucher_type) DO UPDATE SET
+                voucher_count = t.voucher_count + EXCLUDED.voucher_count,
+                net_amount    = t.net_amount + EXCLUDED.net_amount,
+                vat_amount    = t.vat_amount + EXCLUDED.vat_amount,
+                exempt_amount = t.exempt_amount + EXCLUDED.exempt_amount,
+                total_amount  = t.total_amount + EXCLUDED.total_amount,
+                updated_at    = EXCLUDED.updated_at
+            """.formatted(VALID_ROWS);
+
+    private static final String BUMP_VERSIONS = """
+            INSERT INTO voucher_period_versions AS v (taxpayer_id, category, period, version, updated_at)
+            SELECT DISTINCT taxpayer_id, category, date_trunc('month', issue_date::date)::date, 1, now()
+            FROM voucher_staging
+            WHERE %s
+            ON CONFLICT (taxpayer_id, category, period) DO UPDATE SET
+                version    = v.version + 1,
+                updated_at = EXCLUDED.updated_at
+            """.formatted(VALID_ROWS);
+
+    private static final String LOADED_PERIODS = """
+            SELECT taxpayer_id, category, to_char(issue_date::date, 'YYYY-MM') AS period, count(*) AS voucher_count
+            FROM voucher_staging
+            WHERE %s
+            GROUP BY 1, 2, 3
+            """.formatted(VALID_ROWS);
+
+    private static final String REJECTED = """
+            SELECT line, error
+            FROM voucher_staging
+            WHERE load_id = :loadId
+              AND error IS NOT NULL
+            ORDER BY line
+            LIMIT :limit
+            """;
+
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public PostgresVoucherBulkLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public long stage(UUID loadId, Reader csv) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (var rows = new VoucherStagingReader(csv, loadId)) {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY, rows);
+            // Fresh statistics, or the planner treats a table of millions as empty
+            try (var statement = connection.createStatement()) {
+                statement.execute("ANALYZE voucher_staging");
+            }
+            return rows.rowCount();
+        } catch (SQLException e) {
+            throw new SQLErrorCodeSQLExceptionTranslator(dataSource).translate("COPY voucher_staging", COPY, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @Override
+    public long validate(UUID loadId) {
+        Map<String, UUID> params = Map.of("loadId", loadId);
+        jdbc.update(RESOLVE_TAXPAYERS, params);
+        jdbc.queryForList(LOCK_TAXPAYERS, params, UUID.class);
+        jdbc.update(VALIDATE, params);
+        jdbc.update(REJECT_REPEATED, params);
+        Long rejected = jdbc.queryForObject(
+                "SELECT count(*) FROM voucher_staging WHERE load_id = :loadId AND error IS NOT NULL",
+                params, Long.class);
+        return rejected == null ? 0 : rejected;
+    }
+
+    @Override
+    public List<VoucherLoadPeriod> insertValid(UUID loadId) {
+        Map<String, UUID> params = Map.of("loadId", loadId);
+        jdbc.update(INSERT_VOUCHERS, params);
+        jdbc.update(INSERT_VAT_LINES, params);
+        jdbc.update(ADD_TO_TOTALS, params);
+        jdbc.update(BUMP_VERSIONS, params);
+        return jdbc.query(LOADED_PERIODS, params, (rs, i) -> new VoucherLoadPeriod(
+                rs.getObject("taxpayer_id", UUID.class),
+                VoucherCategory.valueOf(rs.getString("category")),
+                YearMonth.parse(rs.getString("period")),
+                rs.getInt("voucher_count")));
+    }
+
+    @Override
+    public List<VoucherImportErrorResult> findRejected(UUID loadId, int limit) {
+        return jdbc.query(REJECTED, Map.of("loadId", loadId, "limit", limit),
+                (rs, i) -> new VoucherImportErrorResult(rs.getLong("line"), rs.getString("error")));
+    }
+
+    @Override
+    public void clear(UUID loadId) {
+        jdbc.update("DELETE FROM voucher_staging WHERE load_id = :loadId", Map.of("loadId", loadId));
+    }
+}
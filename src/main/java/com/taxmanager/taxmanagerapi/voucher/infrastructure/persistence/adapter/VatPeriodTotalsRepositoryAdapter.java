@@ -0,0 +1,160 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodCumulativeTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodTotalsDrift;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPositionTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherTypeTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.SpringDataVatPeriodTotalRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class VatPeriodTotalsRepositoryAdapter implements VatPeriodTotalsRepository {
+
+    private static final List<VoucherType> CREDIT_NOTES = Arrays.stream(VoucherType.values())
+            .filter(VoucherType::isCreditNote)
+            .toList();
+
+    private final SpringDataVatPeriodTotalRepository jpaRepository;
+
+    public VatPeriodTotalsRepositoryAdapter(SpringDataVatPeriodTotalRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void add(Voucher voucher) {
+        jpaRepository.upsert(
+                voucher.getTaxpayerId(),
+                voucher.getCategory().name(),
+                YearMonth.from(voucher.getIssueDate()).atDay(1),
+                voucher.getVoucherType().name(),
+                1,
+                voucher.getNetAmount().toBigDecimal(),
+                voucher.getVatAmount().toBigDecimal(),
+                voucher.getExemptAmount().toBigDecimal(),
+                voucher.getTotalAmount().toBigDecimal()
+        );
+    }
+
+    @Override
+    public void addAll(List<Voucher> vouchers) {
+        Map<Bucket, BucketSums> buckets = new LinkedHashMap<>();
+        for (Voucher voucher : vouchers) {
+            var bucket = new Bucket(voucher.getTaxpayerId(), voucher.getCategory(),
+                    YearMonth.from(voucher.getIssueDate()), voucher.getVoucherType());
+            buckets.computeIfAbsent(bucket, b -> new BucketSums()).add(voucher);
+        }
+        buckets.forEach((bucket, sums) -> jpaRepository.upsert(
+                bucket.taxpayerId(),
+                bucket.category().name(),
+                bucket.period().atDay(1),
+                bucket.voucherType().name(),
+                sums.voucherCount,
+                sums.net.toBigDecimal(),
+                sums.vat.toBigDecimal(),
+                sums.exempt.toBigDecimal(),
+                sums.total.toBigDecimal()
+        ));
+    }
+
+    @Override
+    public List<VoucherTypeTotals> findByPeriod(UUID taxpayerId, VoucherCategory category, YearMonth period) {
+        return taxpayerId == null
+                ? jpaRepository.sumByVoucherType(category, period.atDay(1))
+                : jpaRepository.sumByVoucherTypeAndTaxpayer(taxpayerId, category, period.atDay(1));
+    }
+
+    @Override
+    public VatPositionTotals findPosition(UUID taxpayerId, YearMonth period) {
+        return jpaRepository.sumPosition(
+                taxpayerId, period.atDay(1), VoucherCategory.SALE, VoucherCategory.PURCHASE, CREDIT_NOTES);
+    }
+
+    @Override
+    public List<VatPeriodCumulativeTotals> findCumulativeByPeriod(UUID taxpayerId, VoucherCategory category,
+                                                                  YearMonth from, YearMonth to) {
+        List<Object[]> rows = taxpayerId == null
+                ? jpaRepository.sumCumulativeByPeriod(category.name(), from.atDay(1), to.atDay(1))
+                : jpaRepository.sumCumulativeByPeriodAndTaxpayer(
+                        taxpayerId, category.name(), from.atDay(1), to.atDay(1));
+        return rows.stream()
+                .map(this::toCumulativeTotals)
+                .toList();
+    }
+
+    @Override
+    public List<VatPeriodTotalsDrift> findDrift() {
+        return jpaRepository.findDrift().stream()
+                .map(this::toDrift)
+                .toList();
+    }
+
+    @Override
+    public int rebuild() {
+        jpaRepository.lockForRebuild();
+        jpaRepository.deleteAllRows();
+        return jpaRepository.insertFromVouchers();
+    }
+
+    private VatPeriodTotalsDrift toDrift(Object[] row) {
+        return new VatPeriodTotalsDrift(
+                (UUID) row[0],
+                VoucherCategory.valueOf((String) row[1]),
+                YearMonth.parse((String) row[2]),
+                VoucherType.valueOf((String) row[3]),
+                toLong(row[4]),
+                toLong(row[5]),
+                (BigDecimal) row[6],
+                (BigDecimal) row[7],
+                (BigDecimal) row[8],
+                (BigDecimal) row[9]
+        );
+    }
+
+    private VatPeriodCumulativeTotals toCumulativeTotals(Object[] row) {
+        return new VatPeriodCumulativeTotals(
+                YearMonth.parse((String) row[0]),
+                ((Number) row[1]).longValue(),
+                Money.of((BigDecimal) row[2]),
+                Money.of((BigDecimal) row[3]),
+                Money.of((BigDecimal) row[4]),
+                Money.of((BigDecimal) row[5]),
+                Money.of((BigDecimal) row[6]),
+                Money.of((BigDecimal) row[7])
+        );
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    private record Bucket(UUID taxpayerId, VoucherCategory category, YearMonth period, VoucherType voucherType) {}
+
+    private static final class BucketSums {
+        private long voucherCount;
+        private Money net = Money.ZERO;
+        private Money vat = Money.ZERO;
+        private Money exempt = Money.ZERO;
+        private Money total = Money.ZERO;
+
+        void add(Voucher voucher) {
+            voucherCount++;
+            net = net.plus(voucher.getNetAmount());
+            vat = vat.plus(voucher.getVatAmount());
+            exempt = exempt.plus(voucher.getExemptAmount());
+            total = total.plus(voucher.getTotalAmount());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.adapter;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.SpringDataVoucherPeriodVersionRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class VoucherPeriodVersionRepositoryAdapter implements VoucherPeriodVersionRepository {
+
+    private final SpringDataVoucherPeriodVersionRepository jpaRepository;
+
+    public VoucherPeriodVersionRepositoryAdapter(SpringDataVoucherPeriodVersionRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void bump(UUID taxpayerId, VoucherCategory category, YearMonth period) {
+        jpaRepository.upsert(taxpayerId, category.name(), period.atDay(1));
+    }
+
+    @Override
+    public void bumpTaxpayer(UUID taxpayerId) {
+        jpaRepository.bumpTaxpayer(taxpayerId);
+    }
+
+    @Override
+    public long findVersion(UUID taxpayerId, VoucherCategory category, YearMonth from, YearMonth to) {
+        return taxpayerId == null
+                ? jpaRepository.sumVersions(category, from.atDay(1), to.atDay(1))
+                : jpaRepository.sumVersionsByTaxpayer(taxpayerId, category, from.atDay(1), to.atDay(1));
+    }
+
+    @Override
+    public long findTaxpayerVersion(UUID taxpayerId, VoucherCategory category) {
+        return category == null
+                ? jpaRepository.sumTaxpayerVersions(taxpayerId)
+                : jpaRepository.sumTaxpayerVersionsByCategory(taxpayerId, category);
+    }
+}
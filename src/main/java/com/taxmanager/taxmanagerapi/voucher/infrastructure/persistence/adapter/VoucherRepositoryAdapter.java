@@ -1,25 +1,44 @@
 package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.adapter;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatRateTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookRow;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherVatLineRow;
 import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
 import com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.SpringDataVoucherRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class VoucherRepositoryAdapter implements VoucherRepository {
 
+    /** Lowest UUID (both PostgreSQL and H2 compare UUIDs as unsigned bytes). */
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
     private final SpringDataVoucherRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public VoucherRepositoryAdapter(SpringDataVoucherRepository jpaRepository) {
+    public VoucherRepositoryAdapter(SpringDataVoucherRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -27,11 +46,49 @@ public class VoucherRepositoryAdapter implements VoucherRepository {
         return jpaRepository.save(voucher);
     }
 
+    @Override
+    public void insertAll(List<Voucher> vouchers) {
+        // persist, not save: ids are assigned by Voucher.create, so save would merge and
+        // SELECT every voucher first; persist queues plain INSERTs that Hibernate batches
+        for (Voucher voucher : vouchers) {
+            entityManager.persist(voucher);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
     @Override
     public Optional<Voucher> findById(UUID id) {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public boolean existsByNaturalKey(UUID taxpayerId, VoucherNaturalKey key) {
+        return jpaRepository.existsByTaxpayerIdAndCategoryAndVoucherTypeAndPointOfSaleAndVoucherNumber(
+                taxpayerId, key.category(), key.voucherType(), key.pointOfSale(), key.voucherNumber());
+    }
+
+    @Override
+    public long countByTaxpayerId(UUID taxpayerId) {
+        return jpaRepository.countByTaxpayerId(taxpayerId);
+    }
+
+    @Override
+    public Stream<VoucherNaturalKey> streamNaturalKeys(UUID taxpayerId) {
+        return jpaRepository.streamNaturalKeys(taxpayerId);
+    }
+
+    @Override
+    public Set<VoucherNaturalKey> findExistingNaturalKeys(UUID taxpayerId, Collection<VoucherNaturalKey> candidates) {
+        Map<Series, List<Long>> numbersBySeries = candidates.stream().collect(Collectors.groupingBy(
+                key -> new Series(key.category(), key.voucherType(), key.pointOfSale()),
+                Collectors.mapping(VoucherNaturalKey::voucherNumber, Collectors.toList())));
+        Set<VoucherNaturalKey> existing = new HashSet<>();
+        numbersBySeries.forEach((series, numbers) -> existing.addAll(jpaRepository.findNaturalKeys(
+                taxpayerId, series.category(), series.voucherType(), series.pointOfSale(), numbers)));
+        return existing;
+    }
+
     @Override
     public Page<Voucher> findAllByTaxpayerId(UUID taxpayerId, Pageable pageable) {
         return jpaRepository.findAllByTaxpayerId(taxpayerId, pageable);
@@ -45,9 +102,48 @@ public class VoucherRepositoryAdapter implements VoucherRepository {
     }
 
     @Override
-    public List<Voucher> findAllByCategoryAndIssueDateBetweenOrderByIssueDateAsc(
-            VoucherCategory category, LocalDate startDate, LocalDate endDate) {
-        return jpaRepository.findAllByCategoryAndIssueDateBetweenOrderByIssueDateAsc(
-                category, startDate, endDate);
+    public List<VoucherBookRow> findBookRows(
+            UUID taxpayerId, VoucherCategory category, LocalDate startDate, LocalDate endDate) {
+        return taxpayerId == null
+                ? jpaRepository.findBookRows(category, startDate, endDate)
+                : jpaRepository.findBookRowsByTaxpayer(taxpayerId, category, startDate, endDate);
+    }
+
+    @Override
+    public Stream<VoucherBookRow> streamBookRows(
+            UUID taxpayerId, VoucherCategory category, LocalDate startDate, LocalDate endDate) {
+        return taxpayerId == null
+                ? jpaRepository.streamBookRows(category, startDate, endDate)
+                : jpaRepository.streamBookRowsByTaxpayer(taxpayerId, category, startDate, endDate);
+    }
+
+    @Override
+    public List<VoucherBookRow> findBookRowsAfter(UUID taxpayerId, VoucherCategory category,
+                                                  LocalDate startDate, LocalDate endDate,
+                                                  VoucherBookKey after, int limit) {
+        // The first page starts after a key below every row of the period
+        VoucherBookKey key = after != null ? after : new VoucherBookKey(startDate, 0, 0, FIRST_ID);
+        Pageable firstRows = PageRequest.ofSize(limit);
+        return taxpayerId == null
+                ? jpaRepository.findBookRowsAfter(category, startDate, endDate,
+                        key.issueDate(), key.pointOfSale(), key.voucherNumber(), key.id(), firstRows)
+                : jpaRepository.findBookRowsAfterByTaxpayer(taxpayerId, category, startDate, endDate,
+                        key.issueDate(), key.pointOfSale(), key.voucherNumber(), key.id(), firstRows);
     }
+
+    @Override
+    public List<VoucherVatLineRow> findVatLines(Collection<UUID> voucherIds) {
+        return voucherIds.isEmpty() ? List.of() : jpaRepository.findVatLines(voucherIds);
+    }
+
+    @Override
+    public List<VatRateTotals> sumVatLines(
+            UUID taxpayerId, VoucherCategory category, LocalDate startDate, LocalDate endDate) {
+        return taxpayerId == null
+                ? jpaRepository.sumVatLines(category, startDate, endDate)
+                : jpaRepository.sumVatLinesByTaxpayer(taxpayerId, category, startDate, endDate);
+    }
+
+    /** Vouchers numbered together: one category, type and point of sale. */
+    private record Series(VoucherCategory category, VoucherType voucherType, int pointOfSale) {}
 }
@@ -0,0 +1,117 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.adapter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.out.VoucherBulkLoader;
+
+/**
+ * Turns the loader's CSV into the input of {@code COPY voucher_staging}, one line at a
+ * time: checks the header, prefixes each row with the load id and its line number, and
+ * appends the {@code error} column. A row with the wrong number of fields would abort
+ * the whole COPY, so it is staged with empty fields and its error already set.
+ */
+class VoucherStagingReader extends Reader {
+
+    private static final List<String> COLUMNS = VoucherBulkLoader.COLUMNS;
+
+    private final BufferedReader csv;
+    private final String prefix;
+    private final String emptyFields;
+    private long lineNumber;
+    private long rowCount;
+    private String pending = "";
+    private int position;
+    private boolean headerRead;
+
+    VoucherStagingReader(Reader csv, UUID loadId) {
+        this.csv = csv instanceof BufferedReader buffered ? buffered : new BufferedReader(csv, 64 * 1024);
+        this.prefix = loadId + ",";
+        this.emptyFields = ",".repeat(COLUMNS.size());
+    }
+
+    /** Data rows handed to COPY so far. */
+    long rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (position == pending.length() && !nextLine()) {
+            return -1;
+        }
+        int count = Math.min(length, pending.length() - position);
+        pending.getChars(position, position + count, buffer, offset);
+        position += count;
+        return count;
+    }
+
+    private boolean nextLine() throws IOException {
+        if (!headerRead) {
+            readHeader();
+        }
+        String line;
+        do {
+            line = csv.readLine();
+            if (line == null) {
+                return false;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        rowCount++;
+        int fields = countFields(line);
+        if (fields == COLUMNS.size()) {
+            pending = prefix + lineNumber + "," + line + ",\n";
+        } else {
+            String error = fields < 0
+                    ? "Comillas sin cerrar en la línea"
+                    : "Cantidad de columnas inválida: " + fields + " (se esperaban " + COLUMNS.size() + ")";
+            pending = prefix + lineNumber + emptyFields + ",\"" + error + "\"\n";
+        }
+        position = 0;
+        return true;
+    }
+
+    private void readHeader() throws IOException {
+        headerRead = true;
+        String header = csv.readLine();
+        lineNumber++;
+        if (header == null) {
+            throw new BadRequestException("El archivo CSV está vacío: falta el encabezado");
+        }
+        // Spreadsheets often save UTF-8 with a byte order mark
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> names = List.of(header.split(",", -1)).stream().map(String::trim).toList();
+        if (!names.equals(COLUMNS)) {
+            throw new BadRequestException("Encabezado CSV inválido. Columnas esperadas, en este orden: "
+                    + String.join(",", COLUMNS));
+        }
+    }
+
+    // Commas outside double quotes, plus one; -1 when a quote is left open
+    static int countFields(String line) {
+        int fields = 1;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields++;
+            }
+        }
+        return quoted ? -1 : fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        csv.close();
+    }
+}
@@ -0,0 +1,57 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.scheduling;
+
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.ReconcileVatPeriodTotalsUseCase;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodTotalsDrift;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly check of {@code vat_period_totals} against the vouchers table.
+ *
+ * <p>Drift is logged bucket by bucket; when {@code vat-period-totals.rebuild-on-drift}
+ * is enabled the table is then rebuilt from scratch. A voucher committed while the
+ * check runs can show up as a transient drift.</p>
+ */
+@Component
+public class VatPeriodTotalsVerificationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(VatPeriodTotalsVerificationJob.class);
+
+    private final ReconcileVatPeriodTotalsUseCase reconcileUseCase;
+    private final boolean rebuildOnDrift;
+
+    public VatPeriodTotalsVerificationJob(
+            ReconcileVatPeriodTotalsUseCase reconcileUseCase,
+            @Value("${vat-period-totals.rebuild-on-drift:false}") boolean rebuildOnDrift) {
+        this.reconcileUseCase = reconcileUseCase;
+        this.rebuildOnDrift = rebuildOnDrift;
+    }
+
+    @Scheduled(cron = "${vat-period-totals.verify-cron:0 30 3 * * *}")
+    public void run() {
+        List<VatPeriodTotalsDrift> drift = reconcileUseCase.verify();
+        if (drift.isEmpty()) {
+            log.info("vat_period_totals consistente con vouchers");
+            return;
+        }
+
+        for (VatPeriodTotalsDrift d : drift) {
+            log.warn("Drift en vat_period_totals: contribuyente={} {} {} {} — cantidad {} vs {}, IVA {} vs {}, total {} vs {}",
+                    d.taxpayerId(), d.category(), d.period(), d.voucherType(),
+                    d.storedVoucherCount(), d.actualVoucherCount(),
+                    d.storedVatAmount(), d.actualVatAmount(),
+                    d.storedTotalAmount(), d.actualTotalAmount());
+        }
+        log.warn("vat_period_totals: {} buckets con drift", drift.size());
+
+        if (rebuildOnDrift) {
+            int buckets = reconcileUseCase.rebuild();
+            log.info("vat_period_totals reconstruida: {} buckets", buckets);
+        }
+    }
+}
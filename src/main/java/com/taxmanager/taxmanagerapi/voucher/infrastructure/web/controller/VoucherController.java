@@ -1,12 +1,21 @@
 package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.controller;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.idempotency.infrastructure.web.IdempotentRequestHandler;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.BulkLoadVouchersUseCase;
 import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.CreateVoucherUseCase;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.ImportVouchersUseCase;
 import com.taxmanager.taxmanagerapi.voucher.application.ports.in.query.GetVoucherUseCase;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.importing.VoucherImportParser;
 import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.CreateVoucherRequest;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VoucherBulkLoadResponse;
 import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VoucherDetailResponse;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VoucherImportResponse;
 import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VoucherListResponse;
 import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.mapper.VoucherWebMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,15 +23,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -30,14 +44,26 @@ import org.springframework.web.bind.annotation.RestController;
 public class VoucherController {
 
     private final CreateVoucherUseCase createVoucherUseCase;
+    private final ImportVouchersUseCase importVouchersUseCase;
+    private final BulkLoadVouchersUseCase bulkLoadVouchersUseCase;
     private final GetVoucherUseCase getVoucherUseCase;
+    private final VoucherImportParser importParser;
+    private final IdempotentRequestHandler idempotentRequestHandler;
     private final VoucherWebMapper mapper;
 
     public VoucherController(CreateVoucherUseCase createVoucherUseCase,
+                             ImportVouchersUseCase importVouchersUseCase,
+                             BulkLoadVouchersUseCase bulkLoadVouchersUseCase,
                              GetVoucherUseCase getVoucherUseCase,
+                             VoucherImportParser importParser,
+                             IdempotentRequestHandler idempotentRequestHandler,
                              VoucherWebMapper mapper) {
         this.createVoucherUseCase = createVoucherUseCase;
+        this.importVouchersUseCase = importVouchersUseCase;
+        this.bulkLoadVouchersUseCase = bulkLoadVouchersUseCase;
         this.getVoucherUseCase = getVoucherUseCase;
+        this.importParser = importParser;
+        this.idempotentRequestHandler = idempotentRequestHandler;
         this.mapper = mapper;
     }
 
@@ -45,10 +71,32 @@ public class VoucherController {
     @Operation(summary = "Crear comprobante para un contribuyente")
     public ResponseEntity<VoucherDetailResponse> create(
             @PathVariable UUID taxpayerId,
+            @RequestHeader(value = IdempotentRequestHandler.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
             @Valid @RequestBody CreateVoucherRequest request) {
-        var command = mapper.toCommand(request);
-        var result = createVoucherUseCase.execute(taxpayerId, command);
-        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(result));
+        return idempotentRequestHandler.execute(idempotencyKey, request, HttpStatus.CREATED,
+                VoucherDetailResponse.class, () -> {
+                    var command = mapper.toCommand(request);
+                    var result = createVoucherUseCase.execute(taxpayerId, command);
+                    return mapper.toResponse(result);
+                });
+    }
+
+    // The body is read as the import goes, never buffered whole
+    @PostMapping(value = "/taxpayers/{taxpayerId}/vouchers/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Importar comprobantes de un contribuyente desde CSV o NDJSON")
+    public ResponseEntity<VoucherImportResponse> importVouchers(
+            @PathVariable UUID taxpayerId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        var result = importVouchersUseCase.execute(taxpayerId, importParser.parse(body, contentType));
+        return ResponseEntity.ok(mapper.toImportResponse(result));
+    }
+
+    @PostMapping(value = "/vouchers/bulk-load", consumes = "text/csv")
+    @Operation(summary = "Carga masiva de comprobantes de varios contribuyentes (COPY de PostgreSQL)")
+    public ResponseEntity<VoucherBulkLoadResponse> bulkLoad(InputStream body) {
+        var result = bulkLoadVouchersUseCase.execute(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return ResponseEntity.ok(mapper.toBulkLoadResponse(result));
     }
 
     @GetMapping("/taxpayers/{taxpayerId}/vouchers")
@@ -56,11 +104,20 @@ public class VoucherController {
     public ResponseEntity<Page<VoucherListResponse>> findAllByTaxpayerId(
             @PathVariable UUID taxpayerId,
             @RequestParam(required = false) String category,
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest request) {
         VoucherCategory cat = category != null ? VoucherCategory.valueOf(category) : null;
+        // Read before the page: a write committing in between only makes the tag older
+        String etag = "W/\"" + getVoucherUseCase.findListVersion(taxpayerId, cat) + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         var page = getVoucherUseCase.findAllByTaxpayerId(taxpayerId, cat, pageable)
                 .map(mapper::toListResponse);
-        return ResponseEntity.ok(page);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(page);
     }
 
     @GetMapping("/vouchers/{id}")
@@ -1,8 +1,11 @@
 package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -35,24 +38,33 @@ public record CreateVoucherRequest(
 
         @NotNull
         @PositiveOrZero
+        @Digits(integer = 15, fraction = 4)
         @Schema(description = "Monto neto", example = "100000.0000")
         BigDecimal netAmount,
 
         @NotNull
         @PositiveOrZero
+        @Digits(integer = 15, fraction = 4)
         @Schema(description = "Monto IVA", example = "21000.0000")
         BigDecimal vatAmount,
 
         @NotNull
         @PositiveOrZero
+        @Digits(integer = 15, fraction = 4)
         @Schema(description = "Monto exento", example = "0.0000")
         BigDecimal exemptAmount,
 
         @NotNull
         @Positive
+        @Digits(integer = 15, fraction = 4)
         @Schema(description = "Monto total", example = "121000.0000")
         BigDecimal totalAmount,
 
+        @Valid
+        @Schema(description = "Neto gravado e IVA por alícuota (opcional). Deben sumar netAmount y vatAmount; "
+                + "sin alícuotas, un comprobante con IVA se registra con la más cercana a vatAmount / netAmount")
+        List<VatLineRequest> vatLines,
+
         @Schema(description = "Descripción (opcional)", example = "Servicios de consultoría febrero 2026")
         String description
 ) {}
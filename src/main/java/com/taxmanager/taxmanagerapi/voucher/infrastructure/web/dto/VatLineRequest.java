@@ -0,0 +1,29 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Schema(description = "Neto gravado e IVA de una alícuota del comprobante")
+public record VatLineRequest(
+
+        @NotBlank
+        @Schema(description = "Alícuota: IVA_0, IVA_2_5, IVA_5, IVA_10_5, IVA_21 o IVA_27", example = "IVA_21")
+        String rate,
+
+        @NotNull
+        @PositiveOrZero
+        @Digits(integer = 15, fraction = 4)
+        @Schema(description = "Neto gravado a esta alícuota", example = "80000.0000")
+        BigDecimal netAmount,
+
+        @NotNull
+        @PositiveOrZero
+        @Digits(integer = 15, fraction = 4)
+        @Schema(description = "IVA de esta alícuota", example = "16800.0000")
+        BigDecimal vatAmount
+) {}
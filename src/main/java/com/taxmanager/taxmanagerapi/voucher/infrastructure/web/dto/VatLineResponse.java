@@ -0,0 +1,11 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Neto gravado e IVA de una alícuota")
+public record VatLineResponse(
+        String rate,
+        Money netAmount,
+        Money vatAmount
+) {}
@@ -0,0 +1,30 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de una carga masiva de comprobantes")
+public record VoucherBulkLoadResponse(
+        @Schema(description = "ID de la carga (figura en los logs)")
+        UUID loadId,
+        @Schema(description = "Filas de datos leídas", example = "2500000")
+        long rowCount,
+        @Schema(description = "Comprobantes cargados", example = "2499870")
+        long loadedCount,
+        @Schema(description = "Filas rechazadas", example = "130")
+        long rejectedCount,
+        @Schema(description = "Milisegundos de copia a la tabla de staging", example = "21400")
+        long stageMillis,
+        @Schema(description = "Milisegundos de validación", example = "9800")
+        long validateMillis,
+        @Schema(description = "Milisegundos de inserción en comprobantes, alícuotas y totales", example = "38600")
+        long insertMillis,
+        @Schema(description = "Duración total en milisegundos", example = "69800")
+        long elapsedMillis,
+        @Schema(description = "Filas procesadas por segundo", example = "35816")
+        long rowsPerSecond,
+        @Schema(description = "Filas rechazadas y su motivo (hasta 1000, por número de línea)")
+        List<VoucherImportErrorResponse> errors
+) {}
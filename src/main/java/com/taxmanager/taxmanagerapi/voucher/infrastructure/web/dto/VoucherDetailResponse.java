@@ -1,10 +1,11 @@
 package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Detalle completo de un comprobante")
@@ -18,10 +19,11 @@ public record VoucherDetailResponse(
         LocalDate issueDate,
         int pointOfSale,
         long voucherNumber,
-        BigDecimal netAmount,
-        BigDecimal vatAmount,
-        BigDecimal exemptAmount,
-        BigDecimal totalAmount,
+        Money netAmount,
+        Money vatAmount,
+        Money exemptAmount,
+        Money totalAmount,
+        List<VatLineResponse> vatLines,
         String description,
         LocalDateTime createdAt
 ) {}
@@ -0,0 +1,11 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Fila rechazada de una importación")
+public record VoucherImportErrorResponse(
+        @Schema(description = "Número de línea en el archivo (1 es la primera)", example = "42")
+        long line,
+        @Schema(description = "Motivo del rechazo", example = "El monto total debe ser mayor a 0")
+        String message
+) {}
@@ -0,0 +1,22 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de una importación de comprobantes")
+public record VoucherImportResponse(
+        @Schema(description = "ID del contribuyente")
+        UUID taxpayerId,
+        @Schema(description = "Filas de datos leídas", example = "12000")
+        long rowCount,
+        @Schema(description = "Comprobantes guardados", example = "11997")
+        long importedCount,
+        @Schema(description = "Filas rechazadas", example = "3")
+        long rejectedCount,
+        @Schema(description = "Duración de la importación en milisegundos", example = "4210")
+        long elapsedMillis,
+        @Schema(description = "Filas rechazadas y su motivo (hasta 1000, por número de línea)")
+        List<VoucherImportErrorResponse> errors
+) {}
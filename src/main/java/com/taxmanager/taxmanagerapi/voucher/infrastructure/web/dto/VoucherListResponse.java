@@ -1,9 +1,9 @@
 package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Resumen de comprobante para listado")
@@ -14,6 +14,6 @@ public record VoucherListResponse(
         LocalDate issueDate,
         int pointOfSale,
         long voucherNumber,
-        BigDecimal totalAmount,
+        Money totalAmount,
         String description
 ) {}
@@ -2,15 +2,28 @@ package com.taxmanager.taxmanagerapi.voucher.infrastructure.web.mapper;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 
 import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import com.taxmanager.taxmanagerapi.voucher.application.dto.CreateVoucherCommand;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VatLineCommand;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VatLineResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherBulkLoadResult;
 import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherDetailResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportErrorResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportResult;
 import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherItemResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
 import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.CreateVoucherRequest;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VatLineRequest;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VatLineResponse;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VoucherBulkLoadResponse;
 import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VoucherDetailResponse;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VoucherImportErrorResponse;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VoucherImportResponse;
 import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.dto.VoucherListResponse;
 import org.springframework.stereotype.Component;
 
@@ -24,10 +37,11 @@ public class VoucherWebMapper {
                 parseIssueDate(request.issueDate()),
                 request.pointOfSale(),
                 request.voucherNumber(),
-                request.netAmount(),
-                request.vatAmount(),
-                request.exemptAmount(),
-                request.totalAmount(),
+                Money.of(request.netAmount()),
+                Money.of(request.vatAmount()),
+                Money.of(request.exemptAmount()),
+                Money.of(request.totalAmount()),
+                request.vatLines() == null ? List.of() : request.vatLines().stream().map(this::toCommand).toList(),
                 request.description()
         );
     }
@@ -47,6 +61,7 @@ public class VoucherWebMapper {
                 result.vatAmount(),
                 result.exemptAmount(),
                 result.totalAmount(),
+                result.vatLines().stream().map(this::toResponse).toList(),
                 result.description(),
                 result.createdAt()
         );
@@ -65,6 +80,48 @@ public class VoucherWebMapper {
         );
     }
 
+    public VoucherImportResponse toImportResponse(VoucherImportResult result) {
+        return new VoucherImportResponse(
+                result.taxpayerId(),
+                result.rowCount(),
+                result.importedCount(),
+                result.rejectedCount(),
+                result.elapsedMillis(),
+                result.errors().stream().map(this::toErrorResponse).toList()
+        );
+    }
+
+    public VoucherBulkLoadResponse toBulkLoadResponse(VoucherBulkLoadResult result) {
+        return new VoucherBulkLoadResponse(
+                result.loadId(),
+                result.rowCount(),
+                result.loadedCount(),
+                result.rejectedCount(),
+                result.stageMillis(),
+                result.validateMillis(),
+                result.insertMillis(),
+                result.elapsedMillis(),
+                result.rowsPerSecond(),
+                result.errors().stream().map(this::toErrorResponse).toList()
+        );
+    }
+
+    private VoucherImportErrorResponse toErrorResponse(VoucherImportErrorResult result) {
+        return new VoucherImportErrorResponse(result.line(), result.message());
+    }
+
+    private VatLineCommand toCommand(VatLineRequest request) {
+        return new VatLineCommand(
+                parseVatRate(request.rate()),
+                Money.of(request.netAmount()),
+                Money.of(request.vatAmount())
+        );
+    }
+
+    private VatLineResponse toResponse(VatLineResult result) {
+        return new VatLineResponse(result.rate().name(), result.netAmount(), result.vatAmount());
+    }
+
     // ── Parse helpers ────────────────────────────────────────────────────
 
     private VoucherCategory parseCategory(String value) {
@@ -87,6 +144,16 @@ public class VoucherWebMapper {
         }
     }
 
+    private VatRate parseVatRate(String value) {
+        try {
+            return VatRate.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(
+                    "Alícuota de IVA inválida: '" + value + "'. Valores permitidos: " +
+                    "IVA_0, IVA_2_5, IVA_5, IVA_10_5, IVA_21, IVA_27");
+        }
+    }
+
     private LocalDate parseIssueDate(String value) {
         try {
             return LocalDate.parse(value);
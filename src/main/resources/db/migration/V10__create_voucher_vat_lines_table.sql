@@ -0,0 +1,37 @@
+-- ============================================================================
+-- V10: Create voucher_vat_lines table
+-- ============================================================================
+-- Taxed net and VAT of a voucher per rate (21 %, 10.5 %, 27 %, ...). The lines add
+-- up to the voucher's net_amount and vat_amount. A voucher without VAT has none.
+-- The primary key leads with voucher_id, so the VAT book fetches the lines of a
+-- batch of vouchers with one index scan.
+
+CREATE TABLE voucher_vat_lines (
+    voucher_id      UUID            NOT NULL,
+    rate            VARCHAR(10)     NOT NULL,
+    net_amount      NUMERIC(19, 4)  NOT NULL,
+    vat_amount      NUMERIC(19, 4)  NOT NULL,
+
+    CONSTRAINT pk_voucher_vat_lines PRIMARY KEY (voucher_id, rate),
+    CONSTRAINT fk_voucher_vat_lines_voucher_id FOREIGN KEY (voucher_id)
+        REFERENCES vouchers (id) ON DELETE CASCADE,
+    CONSTRAINT ck_voucher_vat_lines_rate CHECK (
+        rate IN ('IVA_0', 'IVA_2_5', 'IVA_5', 'IVA_10_5', 'IVA_21', 'IVA_27')
+    ),
+    CONSTRAINT ck_voucher_vat_lines_net_amount CHECK (net_amount >= 0),
+    CONSTRAINT ck_voucher_vat_lines_vat_amount CHECK (vat_amount >= 0)
+);
+
+-- Backfill: vouchers loaded before this migration carry one rate, the nearest to vat / net
+INSERT INTO voucher_vat_lines (voucher_id, rate, net_amount, vat_amount)
+SELECT v.id, r.rate, v.net_amount, v.vat_amount
+FROM vouchers v
+CROSS JOIN LATERAL (
+    SELECT rates.rate
+    FROM (VALUES ('IVA_0', 0.0), ('IVA_2_5', 0.025), ('IVA_5', 0.05),
+                 ('IVA_10_5', 0.105), ('IVA_21', 0.21), ('IVA_27', 0.27)) AS rates (rate, value)
+    ORDER BY abs(v.vat_amount / v.net_amount - rates.value)
+    LIMIT 1
+) r
+WHERE v.vat_amount > 0
+  AND v.net_amount > 0;
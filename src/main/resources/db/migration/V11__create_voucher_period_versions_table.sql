@@ -0,0 +1,25 @@
+-- ============================================================================
+-- V11: Create voucher_period_versions table
+-- ============================================================================
+-- Change counter per (taxpayer, category, fiscal period), bumped in the same
+-- transaction as every write that changes the vouchers of the period (or the
+-- taxpayer data shown next to them). The VAT book and voucher list endpoints
+-- send it as an ETag and answer If-None-Match with 304 from this table alone,
+-- without reading vouchers. period is the first day of the month.
+
+CREATE TABLE voucher_period_versions (
+    taxpayer_id     UUID            NOT NULL,
+    category        VARCHAR(10)     NOT NULL,
+    period          DATE            NOT NULL,
+    version         BIGINT          NOT NULL,
+    updated_at      TIMESTAMP       NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_voucher_period_versions PRIMARY KEY (taxpayer_id, category, period),
+    CONSTRAINT fk_voucher_period_versions_taxpayer_id FOREIGN KEY (taxpayer_id)
+        REFERENCES taxpayers (id) ON DELETE RESTRICT,
+    CONSTRAINT ck_voucher_period_versions_period CHECK (EXTRACT(DAY FROM period) = 1),
+    CONSTRAINT ck_voucher_period_versions_version CHECK (version > 0)
+);
+
+-- Version of a period across all taxpayers (VAT books without taxpayerId)
+CREATE INDEX idx_voucher_period_versions_category_period ON voucher_period_versions (category, period);
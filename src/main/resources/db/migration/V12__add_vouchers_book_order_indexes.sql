@@ -0,0 +1,21 @@
+-- ============================================================================
+-- V12: Indexes in VAT book order for keyset pagination
+-- ============================================================================
+-- VAT book pages are read with
+--   WHERE category = ? [AND taxpayer_id = ?] AND issue_date BETWEEN ? AND ?
+--     AND (issue_date, point_of_sale, voucher_number, id) > (last row of the previous page)
+--   ORDER BY issue_date, point_of_sale, voucher_number, id LIMIT ?
+-- With the whole sort key in the index, PostgreSQL seeks straight to the first row of
+-- the page and stops after LIMIT rows, so page 1000 costs the same as page 1.
+-- Both indexes replace the ones on (…, issue_date) they extend.
+
+CREATE INDEX idx_vouchers_taxpayer_category_book_order
+    ON vouchers (taxpayer_id, category, issue_date, point_of_sale, voucher_number, id)
+    INCLUDE (voucher_type, net_amount, vat_amount, exempt_amount, total_amount);
+
+DROP INDEX idx_vouchers_taxpayer_category_issue_date;
+
+CREATE INDEX idx_vouchers_category_book_order
+    ON vouchers (category, issue_date, point_of_sale, voucher_number, id);
+
+DROP INDEX idx_vouchers_category_issue_date;
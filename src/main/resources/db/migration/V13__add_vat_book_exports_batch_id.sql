@@ -0,0 +1,13 @@
+-- ============================================================================
+-- V13: Month-end batches of VAT book exports
+-- ============================================================================
+-- A month-end batch queues one export per active taxpayer and book for the same
+-- period and format, all sharing batch_id. The batch has no row of its own: its
+-- progress is read from the statuses of its exports. Exports requested one by
+-- one keep batch_id NULL.
+
+ALTER TABLE vat_book_exports ADD COLUMN batch_id UUID;
+
+-- Progress of a batch; partial, since most exports are not part of one
+CREATE INDEX idx_vat_book_exports_batch_id ON vat_book_exports (batch_id)
+    WHERE batch_id IS NOT NULL;
@@ -0,0 +1,32 @@
+-- ============================================================================
+-- V14: Create voucher_staging table
+-- ============================================================================
+-- Landing table of the bulk voucher loader. Files arrive with COPY as raw text,
+-- so a malformed value never aborts the copy: validation runs afterwards as one
+-- UPDATE that records the first error of each row, and the valid rows go to
+-- vouchers with INSERT ... SELECT. Rows of a load share load_id and are deleted
+-- by the same transaction that loads them.
+--
+-- UNLOGGED: staged rows are not written to the WAL (nor replicated); a crash
+-- empties the table, which only loses loads that had not committed anyway.
+
+CREATE UNLOGGED TABLE voucher_staging (
+    load_id         UUID    NOT NULL,
+    line            BIGINT  NOT NULL,
+    taxpayer_cuit   TEXT,
+    category        TEXT,
+    voucher_type    TEXT,
+    issue_date      TEXT,
+    point_of_sale   TEXT,
+    voucher_number  TEXT,
+    net_amount      TEXT,
+    vat_amount      TEXT,
+    exempt_amount   TEXT,
+    total_amount    TEXT,
+    description     TEXT,
+    error           TEXT,
+    taxpayer_id     UUID,
+    voucher_id      UUID    NOT NULL DEFAULT gen_random_uuid(),
+
+    CONSTRAINT pk_voucher_staging PRIMARY KEY (load_id, line)
+);
@@ -0,0 +1,28 @@
+-- ============================================================================
+-- V15: Create idempotency_keys table
+-- ============================================================================
+-- Idempotency-Key of the create endpoints (vouchers, taxpayers) with the response
+-- they produced. The row is inserted in the same transaction as the resource, so a
+-- retried request either finds it and gets the stored response back, or finds
+-- nothing because the original never committed. Concurrent requests with the same
+-- key serialize on the primary key: the loser rolls back and replays the winner.
+--
+-- request_hash is the SHA-256 (hex) of method, path and body, to tell a retry from
+-- a different request that reuses the key. Rows older than idempotency.retention
+-- are deleted by the purge job.
+
+CREATE TABLE idempotency_keys (
+    user_id          UUID            NOT NULL,
+    idempotency_key  VARCHAR(255)    NOT NULL,
+    request_hash     VARCHAR(64)     NOT NULL,
+    response_status  INTEGER         NOT NULL,
+    response_body    TEXT            NOT NULL,
+    created_at       TIMESTAMP       NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (user_id, idempotency_key),
+    CONSTRAINT fk_idempotency_keys_user_id FOREIGN KEY (user_id)
+        REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- Purge of expired keys
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
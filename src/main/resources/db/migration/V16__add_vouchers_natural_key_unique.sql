@@ -0,0 +1,41 @@
+-- ============================================================================
+-- V16: One voucher per natural key
+-- ============================================================================
+-- A taxpayer cannot have two vouchers with the same category, type, point of sale
+-- and number: a voucher loaded twice would count twice in the VAT books and in
+-- vat_period_totals.
+--
+-- Existing copies are not deleted here (which one is right, and the totals to
+-- correct, is the accountant's call): each group is reported as a WARNING with
+-- the ids of its copies, and the migration stops until they are removed.
+
+DO $$
+DECLARE
+    duplicate RECORD;
+    groups    BIGINT := 0;
+BEGIN
+    FOR duplicate IN
+        SELECT taxpayer_id, category, voucher_type, point_of_sale, voucher_number,
+               count(*) AS copies,
+               string_agg(id::text, ', ' ORDER BY created_at, id) AS ids
+        FROM vouchers
+        GROUP BY taxpayer_id, category, voucher_type, point_of_sale, voucher_number
+        HAVING count(*) > 1
+        ORDER BY taxpayer_id, category, voucher_type, point_of_sale, voucher_number
+    LOOP
+        groups := groups + 1;
+        RAISE WARNING 'Comprobante duplicado: contribuyente %, % % %-%, % copias (ids: %)',
+            duplicate.taxpayer_id, duplicate.category, duplicate.voucher_type,
+            lpad(duplicate.point_of_sale::text, 5, '0'), lpad(duplicate.voucher_number::text, greatest(8, length(duplicate.voucher_number::text)), '0'),
+            duplicate.copies, duplicate.ids;
+    END LOOP;
+
+    IF groups > 0 THEN
+        RAISE EXCEPTION '% comprobantes están cargados más de una vez (ver los WARNING anteriores)', groups
+            USING HINT = 'Eliminar las copias sobrantes, reconstruir vat_period_totals y volver a migrar';
+    END IF;
+END $$;
+
+ALTER TABLE vouchers
+    ADD CONSTRAINT uk_vouchers_natural_key
+        UNIQUE (taxpayer_id, category, voucher_type, point_of_sale, voucher_number);
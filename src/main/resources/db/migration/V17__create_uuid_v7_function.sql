@@ -0,0 +1,31 @@
+-- ============================================================================
+-- V17: Time-ordered UUID defaults
+-- ============================================================================
+-- Random UUIDs (gen_random_uuid) land on any leaf of a primary-key B-tree: each
+-- insert dirties a random page, and full pages split in half, leaving the index
+-- around 70 % full. UUIDv7 (RFC 9562) starts with the Unix time in milliseconds,
+-- so new ids append to the rightmost leaf like a sequence would.
+--
+-- The application generates its ids with UuidV7; these defaults cover rows built
+-- in SQL, such as the vouchers of the bulk load (voucher_staging.voucher_id).
+-- PostgreSQL 18 ships uuidv7(); until then, uuid_v7() stamps the time over the
+-- first 48 bits of a random UUID and turns its version nibble from 4 into 7.
+
+CREATE FUNCTION uuid_v7() RETURNS UUID AS $$
+    SELECT encode(
+               set_bit(set_bit(
+                   overlay(uuid_send(gen_random_uuid())
+                           PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                           FROM 1 FOR 6),
+                   52, 1), 53, 1),
+               'hex')::UUID
+$$ LANGUAGE sql VOLATILE PARALLEL SAFE;
+
+ALTER TABLE users                  ALTER COLUMN id         SET DEFAULT uuid_v7();
+ALTER TABLE refresh_tokens         ALTER COLUMN id         SET DEFAULT uuid_v7();
+ALTER TABLE taxpayers              ALTER COLUMN id         SET DEFAULT uuid_v7();
+ALTER TABLE vouchers               ALTER COLUMN id         SET DEFAULT uuid_v7();
+ALTER TABLE fiscal_period_closings ALTER COLUMN id         SET DEFAULT uuid_v7();
+ALTER TABLE vat_book_snapshots     ALTER COLUMN id         SET DEFAULT uuid_v7();
+ALTER TABLE vat_book_exports       ALTER COLUMN id         SET DEFAULT uuid_v7();
+ALTER TABLE voucher_staging        ALTER COLUMN voucher_id SET DEFAULT uuid_v7();
@@ -0,0 +1,14 @@
+-- ============================================================================
+-- V5: Covering index for per-taxpayer VAT books
+-- ============================================================================
+-- The VAT book of one taxpayer filters by (taxpayer_id, category, issue_date) and
+-- reads only the columns listed in INCLUDE, so PostgreSQL can answer it with an
+-- index-only scan (as long as autovacuum keeps the visibility map current).
+
+CREATE INDEX idx_vouchers_taxpayer_category_issue_date
+    ON vouchers (taxpayer_id, category, issue_date)
+    INCLUDE (id, voucher_type, point_of_sale, voucher_number,
+             net_amount, vat_amount, exempt_amount, total_amount);
+
+-- Its leading column already serves lookups by taxpayer (and the FK check)
+DROP INDEX idx_vouchers_taxpayer_id;
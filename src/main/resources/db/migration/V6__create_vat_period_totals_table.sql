@@ -0,0 +1,38 @@
+-- ============================================================================
+-- V6: Create vat_period_totals table
+-- ============================================================================
+-- Running sums per (taxpayer, category, fiscal period, voucher type), upserted in
+-- the same transaction that inserts each voucher. VAT book totals read a handful
+-- of rows from here instead of scanning the vouchers of the period.
+-- period is the first day of the month.
+
+CREATE TABLE vat_period_totals (
+    taxpayer_id     UUID            NOT NULL,
+    category        VARCHAR(10)     NOT NULL,
+    period          DATE            NOT NULL,
+    voucher_type    VARCHAR(20)     NOT NULL,
+    voucher_count   BIGINT          NOT NULL,
+    net_amount      NUMERIC(19, 4)  NOT NULL,
+    vat_amount      NUMERIC(19, 4)  NOT NULL,
+    exempt_amount   NUMERIC(19, 4)  NOT NULL,
+    total_amount    NUMERIC(19, 4)  NOT NULL,
+    updated_at      TIMESTAMP       NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_vat_period_totals PRIMARY KEY (taxpayer_id, category, period, voucher_type),
+    CONSTRAINT fk_vat_period_totals_taxpayer_id FOREIGN KEY (taxpayer_id)
+        REFERENCES taxpayers (id) ON DELETE RESTRICT,
+    CONSTRAINT ck_vat_period_totals_period CHECK (EXTRACT(DAY FROM period) = 1),
+    CONSTRAINT ck_vat_period_totals_voucher_count CHECK (voucher_count > 0)
+);
+
+-- Totals of a period for all taxpayers
+CREATE INDEX idx_vat_period_totals_category_period ON vat_period_totals (category, period);
+
+-- Backfill from the vouchers already loaded
+INSERT INTO vat_period_totals (
+    taxpayer_id, category, period, voucher_type, voucher_count,
+    net_amount, vat_amount, exempt_amount, total_amount)
+SELECT taxpayer_id, category, CAST(date_trunc('month', issue_date) AS DATE), voucher_type,
+       COUNT(*), SUM(net_amount), SUM(vat_amount), SUM(exempt_amount), SUM(total_amount)
+FROM vouchers
+GROUP BY taxpayer_id, category, CAST(date_trunc('month', issue_date) AS DATE), voucher_type;
@@ -0,0 +1,39 @@
+-- ============================================================================
+-- V7: Create fiscal_period_closings and vat_book_snapshots tables
+-- ============================================================================
+-- A closed period is final: vouchers can no longer be added to it and its VAT
+-- books are served from the snapshot taken at closing time (gzip-compressed JSON,
+-- same shape as the GET /vat-books response).
+
+CREATE TABLE fiscal_period_closings (
+    id              UUID            NOT NULL DEFAULT gen_random_uuid(),
+    taxpayer_id     UUID            NOT NULL,
+    period          DATE            NOT NULL,
+    closed_at       TIMESTAMP       NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_fiscal_period_closings PRIMARY KEY (id),
+    CONSTRAINT uk_fiscal_period_closings_taxpayer_period UNIQUE (taxpayer_id, period),
+    CONSTRAINT fk_fiscal_period_closings_taxpayer_id FOREIGN KEY (taxpayer_id)
+        REFERENCES taxpayers (id) ON DELETE RESTRICT,
+    CONSTRAINT ck_fiscal_period_closings_period CHECK (EXTRACT(DAY FROM period) = 1)
+);
+
+CREATE TABLE vat_book_snapshots (
+    id                  UUID            NOT NULL DEFAULT gen_random_uuid(),
+    taxpayer_id         UUID            NOT NULL,
+    period              DATE            NOT NULL,
+    category            VARCHAR(10)     NOT NULL,
+    voucher_count       INTEGER         NOT NULL,
+    content             BYTEA           NOT NULL,
+    uncompressed_size   INTEGER         NOT NULL,
+    created_at          TIMESTAMP       NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_vat_book_snapshots PRIMARY KEY (id),
+    CONSTRAINT uk_vat_book_snapshots_taxpayer_period_category UNIQUE (taxpayer_id, period, category),
+    CONSTRAINT fk_vat_book_snapshots_closing FOREIGN KEY (taxpayer_id, period)
+        REFERENCES fiscal_period_closings (taxpayer_id, period) ON DELETE RESTRICT,
+    CONSTRAINT ck_vat_book_snapshots_category CHECK (category IN ('PURCHASE', 'SALE'))
+);
+
+-- The snapshot is already compressed: skip TOAST compression, keep out-of-line storage
+ALTER TABLE vat_book_snapshots ALTER COLUMN content SET STORAGE EXTERNAL;
@@ -0,0 +1,32 @@
+-- ============================================================================
+-- V8: Create vat_book_exports table
+-- ============================================================================
+-- VAT books rendered in the background (PDF). The row tracks the export's
+-- lifecycle; the rendered file lives in the export storage under the row's id
+-- and is removed together with the row by the nightly purge.
+
+CREATE TABLE vat_book_exports (
+    id              UUID            NOT NULL DEFAULT gen_random_uuid(),
+    taxpayer_id     UUID,
+    category        VARCHAR(10)     NOT NULL,
+    period          DATE            NOT NULL,
+    format          VARCHAR(10)     NOT NULL,
+    status          VARCHAR(10)     NOT NULL,
+    voucher_count   INTEGER,
+    file_size       BIGINT,
+    error           VARCHAR(500),
+    created_at      TIMESTAMP       NOT NULL DEFAULT now(),
+    started_at      TIMESTAMP,
+    finished_at     TIMESTAMP,
+
+    CONSTRAINT pk_vat_book_exports PRIMARY KEY (id),
+    CONSTRAINT fk_vat_book_exports_taxpayer_id FOREIGN KEY (taxpayer_id)
+        REFERENCES taxpayers (id) ON DELETE RESTRICT,
+    CONSTRAINT ck_vat_book_exports_category CHECK (category IN ('PURCHASE', 'SALE')),
+    CONSTRAINT ck_vat_book_exports_format CHECK (format IN ('PDF')),
+    CONSTRAINT ck_vat_book_exports_status CHECK (status IN ('PENDING', 'RUNNING', 'DONE', 'FAILED')),
+    CONSTRAINT ck_vat_book_exports_period CHECK (EXTRACT(DAY FROM period) = 1)
+);
+
+-- Startup recovery (unfinished) and purge (finished, by age)
+CREATE INDEX idx_vat_book_exports_status_created_at ON vat_book_exports (status, created_at);
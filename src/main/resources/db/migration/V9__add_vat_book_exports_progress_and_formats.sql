@@ -0,0 +1,19 @@
+-- ============================================================================
+-- V9: Export jobs for every VAT book format, with progress
+-- ============================================================================
+-- Exports are no longer PDF only: XLSX, NDJSON and the two Libro IVA Digital
+-- (AFIP) files are generated in the background too. expected_count is the
+-- period's voucher count taken from vat_period_totals when the export starts;
+-- together with the rows written so far it gives the job's progress.
+
+ALTER TABLE vat_book_exports ALTER COLUMN format TYPE VARCHAR(20);
+
+ALTER TABLE vat_book_exports DROP CONSTRAINT ck_vat_book_exports_format;
+ALTER TABLE vat_book_exports ADD CONSTRAINT ck_vat_book_exports_format
+    CHECK (format IN ('PDF', 'XLSX', 'NDJSON', 'AFIP_VOUCHERS', 'AFIP_RATES'));
+
+ALTER TABLE vat_book_exports ADD COLUMN expected_count INTEGER;
+
+-- The Libro IVA Digital is filed per taxpayer
+ALTER TABLE vat_book_exports ADD CONSTRAINT ck_vat_book_exports_afip_taxpayer
+    CHECK (format NOT IN ('AFIP_VOUCHERS', 'AFIP_RATES') OR taxpayer_id IS NOT NULL);
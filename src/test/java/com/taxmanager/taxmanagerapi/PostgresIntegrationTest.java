@@ -0,0 +1,47 @@
+package com.taxmanager.taxmanagerapi;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base of the tests that need PostgreSQL itself (native SQL, {@code COPY}) rather than H2:
+ * the application context against one container for the whole run, migrated with the
+ * application's Flyway scripts. Skipped where Docker is not available.
+ */
+@SpringBootTest
+@ActiveProfiles("ci")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    private static PostgreSQLContainer<?> postgres;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgreSQLContainer<?> container = start();
+        registry.add("spring.datasource.url", container::getJdbcUrl);
+        registry.add("spring.datasource.username", container::getUsername);
+        registry.add("spring.datasource.password", container::getPassword);
+        // Migrated once below; the schema is Flyway's, not Hibernate's
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    // Started on first use and left to Testcontainers' reaper, so every subclass shares it
+    private static synchronized PostgreSQLContainer<?> start() {
+        if (postgres == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+            Flyway.configure()
+                    .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,57 @@
+package com.taxmanager.taxmanagerapi.idempotency.application.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.idempotency.domain.entity.IdempotencyRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0);
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private final IdempotencyCache cache = new IdempotencyCache(2, Duration.ofHours(24), clock);
+
+    @Test
+    @DisplayName("Descarta la clave usada hace más tiempo al superar el máximo")
+    void evictsLeastRecentlyUsed() {
+        cache.put(record("a", NOW));
+        cache.put(record("b", NOW));
+        cache.get(USER_ID, "a");
+        cache.put(record("c", NOW));
+
+        assertTrue(cache.get(USER_ID, "a").isPresent());
+        assertTrue(cache.get(USER_ID, "b").isEmpty());
+        assertTrue(cache.get(USER_ID, "c").isPresent());
+    }
+
+    @Test
+    @DisplayName("Una clave más vieja que la retención ya no se devuelve, como tras la purga")
+    void dropsKeysPastRetention() {
+        cache.put(record("vieja", NOW.minusHours(25)));
+        cache.put(record("nueva", NOW.minusHours(23)));
+
+        assertTrue(cache.get(USER_ID, "vieja").isEmpty());
+        assertTrue(cache.get(USER_ID, "nueva").isPresent());
+    }
+
+    @Test
+    @DisplayName("Las claves son por usuario")
+    void keysAreScopedToTheUser() {
+        cache.put(record("a", NOW));
+
+        assertTrue(cache.get(UUID.randomUUID(), "a").isEmpty());
+    }
+
+    private static IdempotencyRecord record(String key, LocalDateTime createdAt) {
+        return IdempotencyRecord.create(USER_ID, key, "hash", 201, "{}", createdAt);
+    }
+}
@@ -0,0 +1,148 @@
+package com.taxmanager.taxmanagerapi.idempotency.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.taxmanager.taxmanagerapi.idempotency.application.cache.IdempotencyCache;
+import com.taxmanager.taxmanagerapi.idempotency.application.dto.IdempotentResponse;
+import com.taxmanager.taxmanagerapi.idempotency.domain.entity.IdempotencyRecord;
+import com.taxmanager.taxmanagerapi.idempotency.domain.repository.IdempotencyRecordRepository;
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecuteIdempotentServiceTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String KEY = "7f3c2a9e-alta-comprobante-100";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0);
+    private static final LocalDateTime EXPIRED_BEFORE = NOW.minusHours(24);
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecuteIdempotentService service;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        service = new ExecuteIdempotentService(repository,
+                new IdempotencyCache(100, Duration.ofHours(24), clock), transactionManager,
+                Duration.ofHours(24), clock);
+        runs = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("La primera solicitud crea y guarda la respuesta; el reintento la repite sin escribir ni consultar")
+    void retryReplaysFromMemory() {
+        when(repository.find(USER_ID, KEY, EXPIRED_BEFORE)).thenReturn(Optional.empty());
+
+        IdempotentResponse first = service.execute(USER_ID, KEY, "hash", this::create);
+        IdempotentResponse retry = service.execute(USER_ID, KEY, "hash", this::create);
+
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(201, retry.status());
+        assertEquals(first.body(), retry.body());
+        assertEquals(1, runs.get());
+        verify(repository).insert(any());
+        verify(repository, times(1)).find(USER_ID, KEY, EXPIRED_BEFORE);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Una clave guardada por otra instancia se repite desde la tabla")
+    void replaysStoredKey() {
+        when(repository.find(USER_ID, KEY, EXPIRED_BEFORE)).thenReturn(Optional.of(stored("hash")));
+
+        IdempotentResponse response = service.execute(USER_ID, KEY, "hash", this::create);
+
+        assertTrue(response.replayed());
+        assertEquals("{\"id\":\"guardado\"}", response.body());
+        assertEquals(0, runs.get());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Reusar la clave con otra solicitud es un error 422")
+    void rejectsKeyReusedForAnotherRequest() {
+        when(repository.find(USER_ID, KEY, EXPIRED_BEFORE)).thenReturn(Optional.of(stored("hash")));
+
+        assertThrows(DomainValidationException.class,
+                () -> service.execute(USER_ID, KEY, "otro-hash", this::create));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    @DisplayName("Si una solicitud concurrente guardó la clave primero, se descarta esta y se repite aquella")
+    void concurrentDuplicateReplaysWinner() {
+        when(repository.find(USER_ID, KEY, EXPIRED_BEFORE))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(stored("hash")));
+        doThrow(new DataIntegrityViolationException("pk_idempotency_keys")).when(repository).insert(any());
+
+        IdempotentResponse response = service.execute(USER_ID, KEY, "hash", this::create);
+
+        assertTrue(response.replayed());
+        assertEquals("{\"id\":\"guardado\"}", response.body());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Si la acción falla no se guarda la clave: el reintento vuelve a ejecutarla")
+    void failedActionStoresNothing() {
+        when(repository.find(USER_ID, KEY, EXPIRED_BEFORE)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> service.execute(USER_ID, KEY, "hash", () -> {
+            throw new IllegalStateException("falla");
+        }));
+        service.execute(USER_ID, KEY, "hash", this::create);
+
+        assertEquals(1, runs.get());
+        verify(repository, times(1)).insert(any());
+    }
+
+    @Test
+    @DisplayName("Una clave vencida que la purga todavía no borró se ejecuta de nuevo y reemplaza la fila")
+    void expiredKeyRunsAgain() {
+        when(repository.find(USER_ID, KEY, EXPIRED_BEFORE)).thenReturn(Optional.empty());
+
+        IdempotentResponse response = service.execute(USER_ID, KEY, "hash", this::create);
+
+        assertFalse(response.replayed());
+        assertEquals(1, runs.get());
+        var inOrder = inOrder(repository);
+        inOrder.verify(repository).deleteCreatedBefore(USER_ID, KEY, EXPIRED_BEFORE);
+        inOrder.verify(repository).insert(argThat(record -> record.getCreatedAt().equals(NOW)));
+    }
+
+    private IdempotentResponse create() {
+        return IdempotentResponse.of(201, "{\"id\":\"" + runs.incrementAndGet() + "\"}");
+    }
+
+    private static IdempotencyRecord stored(String requestHash) {
+        return IdempotencyRecord.create(USER_ID, KEY, requestHash, 201, "{\"id\":\"guardado\"}",
+                NOW.minusMinutes(5));
+    }
+}
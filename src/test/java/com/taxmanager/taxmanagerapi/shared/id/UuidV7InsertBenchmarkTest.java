@@ -0,0 +1,129 @@
+package com.taxmanager.taxmanagerapi.shared.id;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inserts into a UUID primary key on PostgreSQL: {@code UUID.randomUUID()} against
+ * {@link UuidV7}, the same number of rows each, in batches as {@code SaveVoucherBatchService}
+ * writes vouchers.
+ *
+ * <p>Without deletes every leaf page of a B-tree but the first comes from a split, so
+ * {@code pgstatindex} leaf pages − 1 counts the leaf splits. Random ids split pages all
+ * over the index and leave them about 70 % full; ordered ids split only the rightmost
+ * leaf, at the 90 % fill factor.</p>
+ *
+ * <p>Not part of the regular build; run with {@code mvn test -Pbenchmark} (needs Docker).
+ * 10 million rows by default, {@code -Dbenchmark.uuid.rows=...} to change it.</p>
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class UuidV7InsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidV7InsertBenchmarkTest.class);
+
+    private static final long ROWS = Long.getLong("benchmark.uuid.rows", 10_000_000L);
+    private static final int BATCH_SIZE = 500;
+    private static final int BATCHES_PER_COMMIT = 20;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    @DisplayName("UUIDv7 inserta más rápido y con menos divisiones de página que UUIDv4")
+    void orderedIdsSplitFewerPages() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true", POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            execute(connection, "CREATE EXTENSION pgstattuple");
+
+            Measurement random = insert(connection, "ids_v4", UUID::randomUUID);
+            Measurement ordered = insert(connection, "ids_v7", UuidV7::generate);
+            log.info("{} filas", "%,d".formatted(ROWS));
+            log.info("UUIDv4: {}", random);
+            log.info("UUIDv7: {}", ordered);
+
+            assertTrue(ordered.leafSplits() < random.leafSplits(), "UUIDv7 debería dividir menos páginas");
+            assertTrue(ordered.leafDensity() > random.leafDensity(), "UUIDv7 debería dejar las hojas más llenas");
+            assertTrue(ordered.rowsPerSecond() > random.rowsPerSecond(), "UUIDv7 debería insertar más rápido");
+        }
+    }
+
+    private static Measurement insert(Connection connection, String table, Supplier<UUID> ids) throws SQLException {
+        execute(connection, "CREATE TABLE " + table + " (id UUID PRIMARY KEY, line BIGINT NOT NULL,"
+                + " created_at TIMESTAMP NOT NULL DEFAULT now())");
+        execute(connection, "CHECKPOINT");
+        long walBefore = queryLong(connection, "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')");
+
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, line) VALUES (?, ?)")) {
+            for (long line = 1; line <= ROWS; line++) {
+                statement.setObject(1, ids.get());
+                statement.setLong(2, line);
+                statement.addBatch();
+                if (line % BATCH_SIZE == 0 || line == ROWS) {
+                    statement.executeBatch();
+                }
+                if (line % (BATCH_SIZE * BATCHES_PER_COMMIT) == 0 || line == ROWS) {
+                    connection.commit();
+                }
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        connection.setAutoCommit(true);
+
+        long walBytes = queryLong(connection, "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')") - walBefore;
+        try (Statement statement = connection.createStatement();
+             ResultSet index = statement.executeQuery(
+                     "SELECT leaf_pages, avg_leaf_density, pg_relation_size('" + table + "_pkey')"
+                             + " FROM pgstatindex('" + table + "_pkey')")) {
+            index.next();
+            return new Measurement(
+                    (long) (ROWS * 1_000_000_000.0 / nanos),
+                    index.getLong(1) - 1,
+                    index.getDouble(2),
+                    index.getLong(3),
+                    walBytes);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private record Measurement(long rowsPerSecond, long leafSplits, double leafDensity, long indexBytes, long walBytes) {
+
+        @Override
+        public String toString() {
+            return "%,d filas/s, %,d divisiones de hoja, hojas al %.1f %%, índice de %,d MB, %,d MB de WAL".formatted(
+                    rowsPerSecond, leafSplits, leafDensity, indexBytes >> 20, walBytes >> 20);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.taxmanager.taxmanagerapi.shared.id;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("should set version 7, the RFC variant and the current time in milliseconds")
+    void layout() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(UuidV7.timestamp(id) >= before && UuidV7.timestamp(id) <= after + 1,
+                "timestamp fuera de rango: " + UuidV7.timestamp(id));
+    }
+
+    @Test
+    @DisplayName("should generate strictly increasing ids, also within the same millisecond")
+    void strictlyIncreasing() {
+        Set<UUID> ids = new HashSet<>();
+        UUID previous = UuidV7.generate();
+        for (int i = 0; i < 100_000; i++) {
+            UUID id = UuidV7.generate();
+            assertTrue(previous.compareTo(id) < 0, previous + " no es menor que " + id);
+            // Also in unsigned byte order, the order PostgreSQL compares UUIDs in
+            assertTrue(previous.toString().compareTo(id.toString()) < 0);
+            ids.add(id);
+            previous = id;
+        }
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("should reject reading the time of a random UUID")
+    void timestampOfRandomUuid() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestamp(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.taxmanager.taxmanagerapi.shared.money;
+
+import java.math.BigDecimal;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+
+    @Nested
+    @DisplayName("of()")
+    class Of {
+
+        @ParameterizedTest
+        @CsvSource({
+                "1234.5678, 12345678",
+                "96800, 968000000",
+                "0.5, 5000",
+                "-0.0001, -1",
+                "0.00000, 0"
+        })
+        @DisplayName("should convert exactly to ten-thousandths")
+        void exact(String amount, long scaled) {
+            assertEquals(scaled, Money.of(amount).scaled());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"0.00001", "1.23456", "922337203685478", "abc"})
+        @DisplayName("should reject amounts that NUMERIC(19,4) would round or overflow")
+        void rejectsInexact(String amount) {
+            assertThrows(DomainValidationException.class, () -> Money.of(amount));
+        }
+
+        @Test
+        @DisplayName("should round-trip through BigDecimal with scale 4")
+        void roundTrip() {
+            BigDecimal amount = Money.of("-12.5").toBigDecimal();
+
+            assertEquals(new BigDecimal("-12.5000"), amount);
+            assertEquals(Money.of("-12.5"), Money.of(amount));
+        }
+    }
+
+    @Nested
+    @DisplayName("arithmetic")
+    class Arithmetic {
+
+        @Test
+        @DisplayName("should add, subtract and multiply without rounding")
+        void exactArithmetic() {
+            Money net = Money.of("100000.0000");
+
+            assertEquals(Money.of("121000"), net.plus(Money.of("21000")));
+            assertEquals(Money.of("-0.0001"), Money.ZERO.minus(Money.ofScaled(1)));
+            assertEquals(Money.of("300000"), net.times(3));
+            assertTrue(Money.of("-1").compareTo(Money.ZERO) < 0);
+        }
+
+        @Test
+        @DisplayName("should fail on overflow instead of wrapping")
+        void overflow() {
+            Money max = Money.ofScaled(Long.MAX_VALUE);
+
+            assertThrows(ArithmeticException.class, () -> max.plus(Money.ofScaled(1)));
+            assertThrows(ArithmeticException.class, () -> max.times(2));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "1234.5650, 123457",
+                "1234.5649, 123456",
+                "-1234.5650, -123457",
+                "-0.0049, 0"
+        })
+        @DisplayName("should round to cents half-up away from zero")
+        void cents(String amount, long cents) {
+            assertEquals(cents, Money.of(amount).toCents());
+        }
+    }
+
+    @Nested
+    @DisplayName("text and JSON")
+    class Text {
+
+        @ParameterizedTest
+        @CsvSource({
+                "96800, 96800.0000",
+                "-0.5, -0.5000",
+                "0, 0.0000",
+                "-12.0001, -12.0001"
+        })
+        @DisplayName("should print a plain decimal with four places")
+        void plainText(String amount, String text) {
+            assertEquals(text, Money.of(amount).toString());
+        }
+
+        @Test
+        @DisplayName("should be written as a JSON number and read from a number or a string")
+        void json() {
+            JsonMapper mapper = JsonMapper.builder().addModule(new MoneyJacksonModule()).build();
+
+            assertEquals("96800.0000", mapper.writeValueAsString(Money.of("96800")));
+            assertEquals(Money.of("0.5"), mapper.readValue("0.5", Money.class));
+            assertEquals(Money.of("0.5"), mapper.readValue("\"0.5\"", Money.class));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.cache.VatBookCache.Key;
+import com.taxmanager.taxmanagerapi.vatbook.application.cache.VatBookCache.View;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookCacheStatsResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VatBookCacheTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 3);
+    private static final YearMonth PAST = YearMonth.of(2026, 2);
+
+    private MutableClock clock;
+    private VatBookCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-03-10T12:00:00Z"));
+        cache = new VatBookCache(3, Duration.ofMinutes(5), clock);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("La segunda lectura del mismo libro sale del caché")
+    void secondReadIsAHit() {
+        Key key = new Key(View.BOOK, VoucherCategory.SALE, PAST, null);
+
+        assertEquals("libro-1", cache.get(key, this::load));
+        assertEquals("libro-1", cache.get(key, this::load));
+
+        VatBookCacheStatsResult stats = cache.stats();
+        assertEquals(1, loads.get());
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    @DisplayName("Un comprobante nuevo sólo desaloja los libros de su período que lo incluyen")
+    void evictsOnlyMatchingPeriodAndTaxpayer() {
+        UUID taxpayerId = UUID.randomUUID();
+        Key allTaxpayers = new Key(View.BOOK, VoucherCategory.SALE, PAST, null);
+        Key sameTaxpayer = new Key(View.SUMMARY, VoucherCategory.SALE, PAST, taxpayerId);
+        Key otherTaxpayer = new Key(View.BOOK, VoucherCategory.SALE, PAST, UUID.randomUUID());
+        cache.get(allTaxpayers, this::load);
+        cache.get(sameTaxpayer, this::load);
+        cache.get(otherTaxpayer, this::load);
+
+        cache.evictPeriod(taxpayerId, VoucherCategory.SALE, PAST);
+
+        assertEquals(2, cache.stats().writeEvictions());
+        assertEquals(1, cache.stats().size());
+        cache.get(otherTaxpayer, this::load);
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    @DisplayName("Un comprobante de cualquier mes desaloja la serie acumulada de su año")
+    void evictsYearToDateSeriesOfTheYear() {
+        Key thisYear = new Key(View.YEAR_TO_DATE, VoucherCategory.SALE, YearMonth.of(2026, 12), null);
+        Key lastYear = new Key(View.YEAR_TO_DATE, VoucherCategory.SALE, YearMonth.of(2025, 12), null);
+        cache.get(thisYear, this::load);
+        cache.get(lastYear, this::load);
+
+        cache.evictPeriod(UUID.randomUUID(), VoucherCategory.SALE, PAST);
+
+        assertEquals(1, cache.stats().writeEvictions());
+        cache.get(lastYear, this::load);
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    @DisplayName("El período en curso vence por TTL y los meses cerrados no")
+    void onlyOpenPeriodExpires() {
+        Key open = new Key(View.BOOK, VoucherCategory.PURCHASE, CURRENT, null);
+        Key closed = new Key(View.BOOK, VoucherCategory.PURCHASE, PAST, null);
+        cache.get(open, this::load);
+        cache.get(closed, this::load);
+
+        clock.advance(Duration.ofDays(30));
+        cache.get(open, this::load);
+        cache.get(closed, this::load);
+
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    @DisplayName("Respeta la capacidad máxima desalojando la entrada menos usada")
+    void boundedByLru() {
+        for (int month = 1; month <= 4; month++) {
+            cache.get(new Key(View.BOOK, VoucherCategory.SALE, YearMonth.of(2025, month), null), this::load);
+        }
+
+        assertEquals(3, cache.stats().size());
+        assertEquals(1, cache.stats().sizeEvictions());
+    }
+
+    @Test
+    @DisplayName("Un resultado calculado antes de un desalojo no queda en caché")
+    void loadOverlappingEvictionIsNotStored() {
+        Key key = new Key(View.BOOK, VoucherCategory.SALE, PAST, null);
+
+        cache.get(key, () -> {
+            cache.evictPeriod(UUID.randomUUID(), VoucherCategory.SALE, PAST);
+            return load();
+        });
+
+        assertEquals(0, cache.stats().size());
+    }
+
+    private String load() {
+        return "libro-" + loads.incrementAndGet();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.entity.FiscalPeriodClosing;
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.repository.FiscalPeriodClosingRepository;
+import com.taxmanager.taxmanagerapi.shared.exception.ConflictException;
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.shared.money.MoneyJacksonModule;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.enums.TaxCondition;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.FiscalPeriodClosingResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookSnapshot;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookSnapshotRepository;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper.VatBookSnapshotJsonCodec;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper.VatBookWebMapper;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CloseFiscalPeriodServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 2);
+
+    @Mock
+    private TaxpayerRepository taxpayerRepository;
+
+    @Mock
+    private FiscalPeriodClosingRepository closingRepository;
+
+    @Mock
+    private VatBookSnapshotRepository snapshotRepository;
+
+    @Mock
+    private GetVatBookService getVatBookService;
+
+    private CloseFiscalPeriodService service;
+    private Taxpayer taxpayer;
+
+    @BeforeEach
+    void setUp() {
+        service = new CloseFiscalPeriodService(taxpayerRepository, closingRepository,
+                snapshotRepository, getVatBookService, new VatBookSnapshotJsonCodec(new VatBookWebMapper(),
+                        JsonMapper.builder().addModule(new MoneyJacksonModule()).build()));
+        taxpayer = Taxpayer.create(
+                "López S.R.L.", "30712345671", TaxCondition.RESPONSABLE_INSCRIPTO,
+                "Av. Corrientes 1234, CABA", null, null
+        );
+    }
+
+    @Test
+    @DisplayName("Cerrar un período congela ambos libros IVA como JSON comprimido")
+    void closesPeriodWithSnapshots() throws IOException {
+        UUID taxpayerId = taxpayer.getId();
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(taxpayer));
+        when(closingRepository.save(any(FiscalPeriodClosing.class))).thenAnswer(i -> i.getArgument(0));
+        when(snapshotRepository.save(any(VatBookSnapshot.class))).thenAnswer(i -> i.getArgument(0));
+        when(getVatBookService.getPurchases(PERIOD, taxpayerId)).thenReturn(book(VoucherCategory.PURCHASE, 0));
+        when(getVatBookService.getSales(PERIOD, taxpayerId)).thenReturn(book(VoucherCategory.SALE, 1));
+
+        FiscalPeriodClosingResult result = service.execute(taxpayerId, PERIOD);
+
+        assertEquals("2026-02", result.period());
+        assertEquals(0, result.purchasesVoucherCount());
+        assertEquals(1, result.salesVoucherCount());
+        verify(closingRepository).lockForClosing(taxpayerId);
+
+        ArgumentCaptor<VatBookSnapshot> captor = ArgumentCaptor.forClass(VatBookSnapshot.class);
+        verify(snapshotRepository, times(2)).save(captor.capture());
+        VatBookSnapshot sales = captor.getAllValues().get(1);
+        assertEquals(VoucherCategory.SALE, sales.getCategory());
+        assertEquals(LocalDate.of(2026, 2, 1), sales.getPeriod());
+
+        String json = gunzip(sales.getContent());
+        assertEquals(sales.getUncompressedSize(), json.getBytes(StandardCharsets.UTF_8).length);
+        assertTrue(json.contains("\"category\":\"SALE\""));
+        assertTrue(json.contains("\"taxpayerCuit\":\"30-71234567-1\""));
+        assertTrue(json.contains("\"totalAmount\":1210.0000"));
+    }
+
+    @Test
+    @DisplayName("Falla si el período ya está cerrado")
+    void failsWhenAlreadyClosed() {
+        UUID taxpayerId = taxpayer.getId();
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(taxpayer));
+        when(closingRepository.isClosed(taxpayerId, PERIOD)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> service.execute(taxpayerId, PERIOD));
+
+        verify(closingRepository, never()).save(any());
+        verifyNoInteractions(getVatBookService, snapshotRepository);
+    }
+
+    @Test
+    @DisplayName("No permite cerrar el período en curso")
+    void failsForOpenPeriod() {
+        UUID taxpayerId = taxpayer.getId();
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(taxpayer));
+
+        assertThrows(DomainValidationException.class, () ->
+                service.execute(taxpayerId, YearMonth.now().plusMonths(1)));
+
+        verifyNoInteractions(closingRepository, getVatBookService, snapshotRepository);
+    }
+
+    private VatBookResult book(VoucherCategory category, int vouchers) {
+        List<VatBookEntryResult> entries = vouchers == 0 ? List.of() : List.of(new VatBookEntryResult(
+                UUID.randomUUID(), LocalDate.of(2026, 2, 10), VoucherType.FACTURA_A, 1, 100,
+                "López S.R.L.", "30-71234567-1",
+                Money.of("1000.0000"), Money.of("210.0000"),
+                Money.of("0.0000"), Money.of("1210.0000"), List.of()));
+        VatBookTotalsResult totals = vouchers == 0
+                ? new VatBookTotalsResult(Money.ZERO, Money.ZERO, Money.ZERO, Money.ZERO, List.of())
+                : new VatBookTotalsResult(Money.of("1000.0000"), Money.of("210.0000"),
+                        Money.of("0.0000"), Money.of("1210.0000"), List.of());
+        return new VatBookResult(PERIOD.toString(), category, entries, totals, entries.size());
+    }
+
+    private static String gunzip(byte[] content) throws IOException {
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
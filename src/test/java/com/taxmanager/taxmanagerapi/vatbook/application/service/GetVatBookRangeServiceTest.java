@@ -0,0 +1,144 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookRangeResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookSnapshotCodec;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookSnapshot;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookSnapshotRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetVatBookRangeServiceTest {
+
+    @Mock
+    private GetVatBookUseCase getVatBookUseCase;
+
+    private GetVatBookRangeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GetVatBookRangeService(getVatBookUseCase, 2);
+    }
+
+    @Test
+    @DisplayName("Un rango de meses devuelve un libro por mes en orden y el total general")
+    void mergesMonthsInOrder() {
+        when(getVatBookUseCase.getSales(any(YearMonth.class), isNull()))
+                .thenAnswer(i -> book(i.getArgument(0), i.<YearMonth>getArgument(0).getMonthValue()));
+
+        VatBookRangeResult result = service.getSales(YearMonth.of(2026, 1), YearMonth.of(2026, 3), null);
+
+        assertEquals("2026-01", result.from());
+        assertEquals("2026-03", result.to());
+        assertEquals(VoucherCategory.SALE, result.category());
+        assertEquals(List.of("2026-01", "2026-02", "2026-03"),
+                result.periods().stream().map(VatBookResult::period).toList());
+        assertEquals(6, result.voucherCount());
+        assertEquals(Money.of("726.0000"), result.totals().totalAmount());
+    }
+
+    @Test
+    @DisplayName("No calcula más meses a la vez que el presupuesto de conexiones")
+    void respectsConcurrencyBudget() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(getVatBookUseCase.getPurchases(any(YearMonth.class), isNull())).thenAnswer(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return book(i.getArgument(0), 1);
+        });
+
+        VatBookRangeResult result = service.getPurchases(YearMonth.of(2025, 1), YearMonth.of(2025, 12), null);
+
+        assertEquals(12, result.periods().size());
+        assertTrue(maxRunning.get() <= 2);
+        verify(getVatBookUseCase, times(12)).getPurchases(any(YearMonth.class), isNull());
+    }
+
+    @Test
+    @DisplayName("Rechaza rangos invertidos o de más de 12 períodos")
+    void rejectsInvalidRanges() {
+        assertThrows(BadRequestException.class, () ->
+                service.getSales(YearMonth.of(2026, 3), YearMonth.of(2026, 1), null));
+        assertThrows(BadRequestException.class, () ->
+                service.getSales(YearMonth.of(2025, 1), YearMonth.of(2026, 1), null));
+
+        verifyNoInteractions(getVatBookUseCase);
+    }
+
+    @Test
+    @DisplayName("Propaga la excepción original de un mes")
+    void propagatesMonthFailure() {
+        UUID taxpayerId = UUID.randomUUID();
+        when(getVatBookUseCase.getSales(any(YearMonth.class), any(UUID.class)))
+                .thenThrow(new ResourceNotFoundException("No se encontró contribuyente con ID " + taxpayerId));
+
+        assertThrows(ResourceNotFoundException.class, () ->
+                service.getSales(YearMonth.of(2026, 1), YearMonth.of(2026, 2), taxpayerId));
+    }
+
+    @Test
+    @DisplayName("Los meses cerrados del rango salen del snapshot sin volver a leer comprobantes")
+    void closedMonthsComeFromSnapshot() {
+        UUID taxpayerId = UUID.randomUUID();
+        YearMonth closed = YearMonth.of(2026, 2);
+        VoucherRepository voucherRepository = mock(VoucherRepository.class);
+        TaxpayerRepository taxpayerRepository = mock(TaxpayerRepository.class);
+        VatBookSnapshotRepository snapshotRepository = mock(VatBookSnapshotRepository.class);
+        VatBookSnapshotCodec snapshotCodec = mock(VatBookSnapshotCodec.class);
+        VatBookSnapshot snapshot = VatBookSnapshot.create(
+                taxpayerId, closed, VoucherCategory.SALE, 2, new byte[] {1}, 1);
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(mock(Taxpayer.class)));
+        when(snapshotRepository.find(eq(taxpayerId), eq(VoucherCategory.SALE), any(YearMonth.class)))
+                .thenAnswer(i -> closed.equals(i.getArgument(2)) ? Optional.of(snapshot) : Optional.empty());
+        when(snapshotCodec.decode(snapshot.getContent())).thenReturn(book(closed, 2));
+        var books = new GetVatBookService(voucherRepository, taxpayerRepository,
+                mock(VatPeriodTotalsRepository.class), snapshotRepository, snapshotCodec);
+
+        VatBookRangeResult result = new GetVatBookRangeService(books, 2)
+                .getSales(YearMonth.of(2026, 1), YearMonth.of(2026, 3), taxpayerId);
+
+        assertEquals(2, result.voucherCount());
+        assertEquals(Money.of("242.0000"), result.totals().totalAmount());
+        verify(voucherRepository).findBookRows(
+                taxpayerId, VoucherCategory.SALE, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        verify(voucherRepository).findBookRows(
+                taxpayerId, VoucherCategory.SALE, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+        verifyNoMoreInteractions(voucherRepository);
+    }
+
+    private VatBookResult book(YearMonth period, int vouchers) {
+        Money total = Money.of("121.0000").times(vouchers);
+        return new VatBookResult(period.toString(), VoucherCategory.SALE, List.of(),
+                new VatBookTotalsResult(total, Money.ZERO, Money.ZERO, total, List.of()), vouchers);
+    }
+}
@@ -2,30 +2,58 @@ package com.taxmanager.taxmanagerapi.vatbook.application.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.enums.TaxCondition;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookMonthResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookPageResult;
 import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
-import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookYearToDateResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatRateAmountResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookSnapshotCodec;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookSnapshot;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookSnapshotRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodCumulativeTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatRateTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookRow;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherTypeTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherVatLineRow;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
 import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +65,15 @@ class GetVatBookServiceTest {
     @Mock
     private TaxpayerRepository taxpayerRepository;
 
+    @Mock
+    private VatPeriodTotalsRepository vatPeriodTotalsRepository;
+
+    @Mock
+    private VatBookSnapshotRepository snapshotRepository;
+
+    @Mock
+    private VatBookSnapshotCodec snapshotCodec;
+
     @InjectMocks
     private GetVatBookService service;
 
@@ -45,35 +82,16 @@ class GetVatBookServiceTest {
     void salesBookWithVouchers() {
         YearMonth period = YearMonth.of(2026, 2);
 
-        Taxpayer taxpayer = Taxpayer.create(
-                "López S.R.L.", "30712345671", TaxCondition.RESPONSABLE_INSCRIPTO,
-                "Av. Corrientes 1234, CABA", null, null
-        );
-
-        Voucher v1 = Voucher.create(
-                taxpayer.getId(), VoucherCategory.SALE, VoucherType.FACTURA_A,
-                LocalDate.of(2026, 2, 5), 1, 100,
-                new BigDecimal("80000.0000"), new BigDecimal("16800.0000"),
-                new BigDecimal("0.0000"), new BigDecimal("96800.0000"),
-                null
-        );
-
-        Voucher v2 = Voucher.create(
-                taxpayer.getId(), VoucherCategory.SALE, VoucherType.FACTURA_A,
-                LocalDate.of(2026, 2, 15), 1, 101,
-                new BigDecimal("55000.0000"), new BigDecimal("11550.0000"),
-                new BigDecimal("0.0000"), new BigDecimal("66550.0000"),
-                null
-        );
+        VoucherBookRow v1 = row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 5), 100,
+                "80000.0000", "16800.0000", "0.0000", "96800.0000");
+        VoucherBookRow v2 = row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 15), 101,
+                "55000.0000", "11550.0000", "0.0000", "66550.0000");
 
-        when(voucherRepository.findAllByCategoryAndIssueDateBetweenOrderByIssueDateAsc(
-                eq(VoucherCategory.SALE), any(LocalDate.class), any(LocalDate.class)))
+        when(voucherRepository.findBookRows(
+                isNull(), eq(VoucherCategory.SALE), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(List.of(v1, v2));
 
-        when(taxpayerRepository.findById(taxpayer.getId()))
-                .thenReturn(Optional.of(taxpayer));
-
-        VatBookResult result = service.getSales(period);
+        VatBookResult result = service.getSales(period, null);
 
         assertEquals("2026-02", result.period());
         assertEquals(VoucherCategory.SALE, result.category());
@@ -81,35 +99,54 @@ class GetVatBookServiceTest {
         assertEquals(2, result.vouchers().size());
 
         // Verificar totales
-        assertEquals(0, new BigDecimal("135000.0000").compareTo(result.totals().netAmount()));
-        assertEquals(0, new BigDecimal("28350.0000").compareTo(result.totals().vatAmount()));
-        assertEquals(0, new BigDecimal("0.0000").compareTo(result.totals().exemptAmount()));
-        assertEquals(0, new BigDecimal("163350.0000").compareTo(result.totals().totalAmount()));
+        assertEquals(Money.of("135000.0000"), result.totals().netAmount());
+        assertEquals(Money.of("28350.0000"), result.totals().vatAmount());
+        assertEquals(Money.of("0.0000"), result.totals().exemptAmount());
+        assertEquals(Money.of("163350.0000"), result.totals().totalAmount());
 
         // Verificar datos del contribuyente en las entradas
         assertEquals("López S.R.L.", result.vouchers().getFirst().taxpayerBusinessName());
         assertEquals("30-71234567-1", result.vouchers().getFirst().taxpayerCuit());
     }
 
+    @Test
+    @DisplayName("Comprobante sin contribuyente se muestra como eliminado")
+    void entryWithoutTaxpayer() {
+        VoucherBookRow orphan = new VoucherBookRow(
+                UUID.randomUUID(), LocalDate.of(2026, 2, 5), VoucherType.FACTURA_A, 1, 100,
+                null, null,
+                Money.of("100.0000"), Money.of("21.0000"),
+                Money.of("0.0000"), Money.of("121.0000"));
+
+        when(voucherRepository.findBookRows(
+                isNull(), eq(VoucherCategory.SALE), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(orphan));
+
+        VatBookResult result = service.getSales(YearMonth.of(2026, 2), null);
+
+        assertEquals("Contribuyente eliminado", result.vouchers().getFirst().taxpayerBusinessName());
+        assertEquals("00-00000000-0", result.vouchers().getFirst().taxpayerCuit());
+    }
+
     @Test
     @DisplayName("Libro IVA Compras vacío devuelve totales en cero")
     void emptyPurchaseBook() {
         YearMonth period = YearMonth.of(2026, 3);
 
-        when(voucherRepository.findAllByCategoryAndIssueDateBetweenOrderByIssueDateAsc(
-                eq(VoucherCategory.PURCHASE), any(LocalDate.class), any(LocalDate.class)))
+        when(voucherRepository.findBookRows(
+                isNull(), eq(VoucherCategory.PURCHASE), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(Collections.emptyList());
 
-        VatBookResult result = service.getPurchases(period);
+        VatBookResult result = service.getPurchases(period, null);
 
         assertEquals("2026-03", result.period());
         assertEquals(VoucherCategory.PURCHASE, result.category());
         assertEquals(0, result.voucherCount());
         assertTrue(result.vouchers().isEmpty());
-        assertEquals(0, BigDecimal.ZERO.compareTo(result.totals().netAmount()));
-        assertEquals(0, BigDecimal.ZERO.compareTo(result.totals().vatAmount()));
-        assertEquals(0, BigDecimal.ZERO.compareTo(result.totals().exemptAmount()));
-        assertEquals(0, BigDecimal.ZERO.compareTo(result.totals().totalAmount()));
+        assertEquals(Money.ZERO, result.totals().netAmount());
+        assertEquals(Money.ZERO, result.totals().vatAmount());
+        assertEquals(Money.ZERO, result.totals().exemptAmount());
+        assertEquals(Money.ZERO, result.totals().totalAmount());
     }
 
     @Test
@@ -117,18 +154,385 @@ class GetVatBookServiceTest {
     void usesCorrectDateRange() {
         YearMonth period = YearMonth.of(2026, 2);
 
-        when(voucherRepository.findAllByCategoryAndIssueDateBetweenOrderByIssueDateAsc(
-                eq(VoucherCategory.SALE),
+        when(voucherRepository.findBookRows(
+                isNull(), eq(VoucherCategory.SALE),
                 eq(LocalDate.of(2026, 2, 1)),
                 eq(LocalDate.of(2026, 2, 28))))
                 .thenReturn(Collections.emptyList());
 
-        service.getSales(period);
+        service.getSales(period, null);
 
-        verify(voucherRepository).findAllByCategoryAndIssueDateBetweenOrderByIssueDateAsc(
+        verify(voucherRepository).findBookRows(
+                null,
                 VoucherCategory.SALE,
                 LocalDate.of(2026, 2, 1),
                 LocalDate.of(2026, 2, 28)
         );
     }
+
+    @Test
+    @DisplayName("Totales del Libro IVA Compras se leen de vat_period_totals sin leer comprobantes")
+    void purchasesSummaryFromAggregate() {
+        YearMonth period = YearMonth.of(2026, 2);
+        LocalDate start = LocalDate.of(2026, 2, 1);
+        LocalDate end = LocalDate.of(2026, 2, 28);
+
+        when(vatPeriodTotalsRepository.findByPeriod(null, VoucherCategory.PURCHASE, period))
+                .thenReturn(List.of(
+                        new VoucherTypeTotals(VoucherType.FACTURA_A, 2,
+                                new BigDecimal("135000.0000"), new BigDecimal("28350.0000"),
+                                new BigDecimal("0.0000"), new BigDecimal("163350.0000")),
+                        new VoucherTypeTotals(VoucherType.FACTURA_C, 1,
+                                new BigDecimal("0.0000"), new BigDecimal("0.0000"),
+                                new BigDecimal("5000.0000"), new BigDecimal("5000.0000"))
+                ));
+        when(voucherRepository.sumVatLines(null, VoucherCategory.PURCHASE, start, end))
+                .thenReturn(List.of(
+                        new VatRateTotals(VoucherType.FACTURA_A, VatRate.IVA_21,
+                                new BigDecimal("125000.0000"), new BigDecimal("26250.0000")),
+                        new VatRateTotals(VoucherType.FACTURA_A, VatRate.IVA_10_5,
+                                new BigDecimal("10000.0000"), new BigDecimal("1050.0000")),
+                        new VatRateTotals(VoucherType.FACTURA_A, VatRate.IVA_21,
+                                new BigDecimal("0.0000"), new BigDecimal("1050.0000"))
+                ));
+
+        VatBookSummaryResult result = service.getPurchasesSummary(period, null);
+
+        assertEquals("2026-02", result.period());
+        assertEquals(VoucherCategory.PURCHASE, result.category());
+        assertEquals(3, result.voucherCount());
+        assertEquals(2, result.subtotals().size());
+        assertEquals(VoucherType.FACTURA_A, result.subtotals().getFirst().voucherType());
+        assertEquals(Money.of("135000.0000"), result.totals().netAmount());
+        assertEquals(Money.of("28350.0000"), result.totals().vatAmount());
+        assertEquals(Money.of("5000.0000"), result.totals().exemptAmount());
+        assertEquals(Money.of("168350.0000"), result.totals().totalAmount());
+        assertEquals(List.of(
+                new VatRateAmountResult(VatRate.IVA_10_5, Money.of("10000.0000"), Money.of("1050.0000")),
+                new VatRateAmountResult(VatRate.IVA_21, Money.of("125000.0000"), Money.of("27300.0000"))
+        ), result.totals().vatRates());
+
+        // Only the grouped rate query touches vouchers; no row is read
+        verify(voucherRepository).sumVatLines(null, VoucherCategory.PURCHASE, start, end);
+        verifyNoMoreInteractions(voucherRepository);
+    }
+
+    @Test
+    @DisplayName("Las notas de crédito restan en los totales del libro y de vat_period_totals")
+    void creditNotesNetAgainstInvoices() {
+        YearMonth period = YearMonth.of(2026, 2);
+
+        VoucherBookRow invoice = row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 5), 100,
+                "80000.0000", "16800.0000", "0.0000", "96800.0000");
+        VoucherBookRow creditNote = row(VoucherType.NOTA_CREDITO_A, LocalDate.of(2026, 2, 20), 7,
+                "10000.0000", "2100.0000", "0.0000", "12100.0000");
+        when(voucherRepository.findBookRows(
+                isNull(), eq(VoucherCategory.SALE), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(invoice, creditNote));
+        when(vatPeriodTotalsRepository.findByPeriod(null, VoucherCategory.SALE, period))
+                .thenReturn(List.of(
+                        new VoucherTypeTotals(VoucherType.FACTURA_A, 1,
+                                new BigDecimal("80000.0000"), new BigDecimal("16800.0000"),
+                                new BigDecimal("0.0000"), new BigDecimal("96800.0000")),
+                        new VoucherTypeTotals(VoucherType.NOTA_CREDITO_A, 1,
+                                new BigDecimal("10000.0000"), new BigDecimal("2100.0000"),
+                                new BigDecimal("0.0000"), new BigDecimal("12100.0000"))
+                ));
+
+        VatBookResult book = service.getSales(period, null);
+        VatBookSummaryResult summary = service.getSalesSummary(period, null);
+
+        // Entries keep the voucher's own (positive) amounts
+        assertEquals(Money.of("12100.0000"), book.vouchers().get(1).totalAmount());
+        assertEquals(Money.of("70000.0000"), book.totals().netAmount());
+        assertEquals(Money.of("14700.0000"), book.totals().vatAmount());
+        assertEquals(Money.of("84700.0000"), book.totals().totalAmount());
+        assertEquals(book.totals(), summary.totals());
+        assertEquals(Money.of("-12100.0000"), summary.subtotals().get(1).totalAmount());
+    }
+
+    @Test
+    @DisplayName("Libro IVA Ventas en streaming emite cada entrada y devuelve los totales al final")
+    void streamsSalesBook() {
+        YearMonth period = YearMonth.of(2026, 2);
+
+        VoucherBookRow v1 = row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 5), 100,
+                "80000.0000", "16800.0000", "0.0000", "96800.0000");
+        VoucherBookRow v2 = row(VoucherType.FACTURA_B, LocalDate.of(2026, 2, 15), 101,
+                "55000.0000", "11550.0000", "0.0000", "66550.0000");
+
+        when(voucherRepository.streamBookRows(
+                isNull(), eq(VoucherCategory.SALE), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Stream.of(v1, v2));
+
+        List<VatBookEntryResult> emitted = new ArrayList<>();
+        VatBookSummaryResult summary = service.streamSales(period, null, emitted::add);
+
+        assertEquals(2, emitted.size());
+        assertEquals(100, emitted.getFirst().voucherNumber());
+        assertEquals("30-71234567-1", emitted.getFirst().taxpayerCuit());
+
+        assertEquals(2, summary.voucherCount());
+        assertEquals(2, summary.subtotals().size());
+        assertEquals(Money.of("135000.0000"), summary.totals().netAmount());
+        assertEquals(Money.of("163350.0000"), summary.totals().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Lee las alícuotas del libro en lotes, una consulta por lote y no por comprobante")
+    void readsVatLinesInBatches() {
+        int count = GetVatBookService.VAT_LINES_BATCH + 1;
+        List<VoucherBookRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 5), 100 + i,
+                    "1000.0000", "175.0000", "0.0000", "1175.0000"));
+        }
+        VoucherBookRow first = rows.getFirst();
+
+        when(voucherRepository.findBookRows(
+                isNull(), eq(VoucherCategory.SALE), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(rows);
+        when(voucherRepository.findVatLines(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.contains(first.id())
+                    ? List.of(
+                            new VoucherVatLineRow(first.id(), VatRate.IVA_21,
+                                    Money.of("500.0000"), Money.of("105.0000")),
+                            new VoucherVatLineRow(first.id(), VatRate.IVA_10_5,
+                                    Money.of("500.0000"), Money.of("52.5000")))
+                    : List.of();
+        });
+
+        VatBookResult result = service.getSales(YearMonth.of(2026, 2), null);
+
+        verify(voucherRepository, times(2)).findVatLines(anyCollection());
+        // Lines come sorted by rate; vouchers without lines carry none
+        assertEquals(List.of(VatRate.IVA_10_5, VatRate.IVA_21),
+                result.vouchers().getFirst().vatLines().stream().map(VatRateAmountResult::rate).toList());
+        assertTrue(result.vouchers().get(1).vatLines().isEmpty());
+        assertEquals(List.of(
+                new VatRateAmountResult(VatRate.IVA_10_5, Money.of("500.0000"), Money.of("52.5000")),
+                new VatRateAmountResult(VatRate.IVA_21, Money.of("500.0000"), Money.of("105.0000"))
+        ), result.totals().vatRates());
+    }
+
+    @Test
+    @DisplayName("Libro IVA Compras de un contribuyente filtra por su ID")
+    void purchasesBookForOneTaxpayer() {
+        Taxpayer taxpayer = Taxpayer.create(
+                "López S.R.L.", "30712345671", TaxCondition.RESPONSABLE_INSCRIPTO,
+                "Av. Corrientes 1234, CABA", null, null
+        );
+        UUID taxpayerId = taxpayer.getId();
+
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(taxpayer));
+        when(voucherRepository.findBookRows(
+                taxpayerId, VoucherCategory.PURCHASE, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28)))
+                .thenReturn(List.of(row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 5), 100,
+                        "80000.0000", "16800.0000", "0.0000", "96800.0000")));
+
+        VatBookResult result = service.getPurchases(YearMonth.of(2026, 2), taxpayerId);
+
+        assertEquals(1, result.voucherCount());
+        assertEquals("López S.R.L.", result.vouchers().getFirst().taxpayerBusinessName());
+    }
+
+    @Test
+    @DisplayName("Libro IVA de un contribuyente inexistente falla sin consultar comprobantes")
+    void failsWhenTaxpayerNotFound() {
+        UUID taxpayerId = UUID.randomUUID();
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () ->
+                service.getSales(YearMonth.of(2026, 2), taxpayerId));
+
+        verifyNoInteractions(voucherRepository);
+    }
+
+    @Test
+    @DisplayName("Serie anual sale de una consulta acumulada y completa los meses sin comprobantes")
+    void yearToDateFillsMonthsWithoutVouchers() {
+        when(vatPeriodTotalsRepository.findCumulativeByPeriod(
+                null, VoucherCategory.PURCHASE, YearMonth.of(2026, 1), YearMonth.of(2026, 12)))
+                .thenReturn(List.of(
+                        new VatPeriodCumulativeTotals(YearMonth.of(2026, 1), 2,
+                                Money.of("1000"), Money.of("210"), Money.of("1210"),
+                                Money.of("1000"), Money.of("210"), Money.of("1210")),
+                        new VatPeriodCumulativeTotals(YearMonth.of(2026, 3), 1,
+                                Money.of("-100"), Money.of("-21"), Money.of("-121"),
+                                Money.of("900"), Money.of("189"), Money.of("1089"))));
+
+        VatBookYearToDateResult result = service.getPurchasesYearToDate(Year.of(2026), null);
+
+        assertEquals(12, result.months().size());
+        VatBookMonthResult february = result.months().get(1);
+        assertEquals("2026-02", february.period());
+        assertEquals(0, february.voucherCount());
+        assertEquals(Money.ZERO, february.netAmount());
+        assertEquals(Money.of("1210"), february.cumulativeTotalAmount());
+        assertEquals(Money.of("-121"), result.months().get(2).totalAmount());
+        assertEquals(Money.of("189"), result.months().getLast().cumulativeVatAmount());
+        verifyNoInteractions(voucherRepository);
+    }
+
+    @Test
+    @DisplayName("Página del libro pide una fila de más y devuelve el cursor de su última entrada")
+    void pageReturnsCursorOfLastEntry() {
+        VoucherBookRow first = row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 5), 100,
+                "1000.0000", "210.0000", "0.0000", "1210.0000");
+        VoucherBookRow second = row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 6), 101,
+                "1000.0000", "210.0000", "0.0000", "1210.0000");
+        VoucherBookRow third = row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 7), 102,
+                "1000.0000", "210.0000", "0.0000", "1210.0000");
+
+        when(voucherRepository.findBookRowsAfter(isNull(), eq(VoucherCategory.SALE),
+                eq(LocalDate.of(2026, 2, 1)), eq(LocalDate.of(2026, 2, 28)), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, third));
+        when(voucherRepository.findVatLines(anyCollection())).thenReturn(List.of());
+
+        VatBookPageResult page = service.getSalesPage(YearMonth.of(2026, 2), null, null, 2);
+
+        assertEquals(List.of(first.id(), second.id()),
+                page.entries().stream().map(VatBookEntryResult::id).toList());
+        assertEquals(VoucherBookKey.of(second), VatBookCursor.decode(page.nextCursor()));
+        verify(voucherRepository).findVatLines(List.of(first.id(), second.id()));
+    }
+
+    @Test
+    @DisplayName("Última página del libro sigue al cursor y no devuelve cursor siguiente")
+    void lastPageHasNoCursor() {
+        VoucherBookRow previous = row(VoucherType.FACTURA_A, LocalDate.of(2026, 2, 5), 100,
+                "1000.0000", "210.0000", "0.0000", "1210.0000");
+        VoucherBookRow last = row(VoucherType.NOTA_CREDITO_A, LocalDate.of(2026, 2, 6), 101,
+                "100.0000", "21.0000", "0.0000", "121.0000");
+        VoucherBookKey after = VoucherBookKey.of(previous);
+
+        when(voucherRepository.findBookRowsAfter(isNull(), eq(VoucherCategory.PURCHASE),
+                any(LocalDate.class), any(LocalDate.class), eq(after), eq(51)))
+                .thenReturn(List.of(last));
+        when(voucherRepository.findVatLines(anyCollection())).thenReturn(List.of());
+
+        VatBookPageResult page = service.getPurchasesPage(
+                YearMonth.of(2026, 2), null, VatBookCursor.encode(after), 50);
+
+        assertEquals(1, page.entries().size());
+        assertNull(page.nextCursor());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, GetVatBookService.MAX_PAGE_SIZE + 1})
+    @DisplayName("Página del libro con tamaño fuera de rango falla sin consultar comprobantes")
+    void rejectsPageSizeOutOfRange(int limit) {
+        assertThrows(BadRequestException.class, () ->
+                service.getSalesPage(YearMonth.of(2026, 2), null, null, limit));
+
+        verifyNoInteractions(voucherRepository);
+    }
+
+    @Test
+    @DisplayName("Período cerrado: libro, resumen, páginas y exportación salen del snapshot sin consultar comprobantes")
+    void closedPeriodIsReadFromSnapshot() {
+        UUID taxpayerId = UUID.randomUUID();
+        YearMonth period = YearMonth.of(2026, 2);
+        VatBookEntryResult first = entry(LocalDate.of(2026, 2, 5), 100, "1000.0000", "210.0000", "1210.0000");
+        VatBookEntryResult second = entry(LocalDate.of(2026, 2, 6), 101, "500.0000", "105.0000", "605.0000");
+        VatBookResult frozen = frozenBook(period, first, second);
+        givenClosed(taxpayerId, period, frozen);
+
+        assertSame(frozen, service.getSales(period, taxpayerId));
+
+        VatBookSummaryResult summary = service.getSalesSummary(period, taxpayerId);
+        assertEquals(2, summary.voucherCount());
+        assertEquals(Money.of("1815.0000"), summary.totals().totalAmount());
+
+        List<VatBookEntryResult> streamed = new ArrayList<>();
+        VatBookSummaryResult streamedSummary = service.streamSales(period, taxpayerId, streamed::add);
+        assertEquals(List.of(first, second), streamed);
+        assertEquals(summary.totals(), streamedSummary.totals());
+
+        VatBookPageResult firstPage = service.getSalesPage(period, taxpayerId, null, 1);
+        assertEquals(List.of(first), firstPage.entries());
+        VatBookPageResult lastPage = service.getSalesPage(period, taxpayerId, firstPage.nextCursor(), 1);
+        assertEquals(List.of(second), lastPage.entries());
+        assertNull(lastPage.nextCursor());
+
+        verifyNoInteractions(voucherRepository, vatPeriodTotalsRepository);
+    }
+
+    @Test
+    @DisplayName("Serie anual toma del snapshot los meses cerrados y corrige los acumulados siguientes")
+    void yearToDateUsesSnapshotOfClosedMonths() {
+        UUID taxpayerId = UUID.randomUUID();
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(mock(Taxpayer.class)));
+        when(vatPeriodTotalsRepository.findCumulativeByPeriod(
+                taxpayerId, VoucherCategory.SALE, YearMonth.of(2026, 1), YearMonth.of(2026, 12)))
+                .thenReturn(List.of(
+                        new VatPeriodCumulativeTotals(YearMonth.of(2026, 1), 3,
+                                Money.of("1200"), Money.of("252"), Money.of("1452"),
+                                Money.of("1200"), Money.of("252"), Money.of("1452")),
+                        new VatPeriodCumulativeTotals(YearMonth.of(2026, 2), 1,
+                                Money.of("100"), Money.of("21"), Money.of("121"),
+                                Money.of("1300"), Money.of("273"), Money.of("1573"))));
+        // January was closed with two vouchers; a third one was loaded afterwards
+        VatBookResult january = frozenBook(YearMonth.of(2026, 1),
+                entry(LocalDate.of(2026, 1, 5), 100, "1000.0000", "210.0000", "1210.0000"),
+                entry(LocalDate.of(2026, 1, 6), 101, "0.0000", "0.0000", "0.0000"));
+        VatBookSnapshot snapshot = VatBookSnapshot.create(
+                taxpayerId, YearMonth.of(2026, 1), VoucherCategory.SALE, 2, new byte[] {1}, 1);
+        when(snapshotRepository.findBetween(
+                taxpayerId, VoucherCategory.SALE, YearMonth.of(2026, 1), YearMonth.of(2026, 12)))
+                .thenReturn(List.of(snapshot));
+        when(snapshotCodec.decode(snapshot.getContent())).thenReturn(january);
+
+        VatBookYearToDateResult result = service.getSalesYearToDate(Year.of(2026), taxpayerId);
+
+        VatBookMonthResult closed = result.months().getFirst();
+        assertEquals(2, closed.voucherCount());
+        assertEquals(Money.of("1210"), closed.totalAmount());
+        assertEquals(Money.of("1210"), closed.cumulativeTotalAmount());
+        VatBookMonthResult february = result.months().get(1);
+        assertEquals(Money.of("121"), february.totalAmount());
+        assertEquals(Money.of("1331"), february.cumulativeTotalAmount());
+        assertEquals(Money.of("231"), result.months().getLast().cumulativeVatAmount());
+        verifyNoInteractions(voucherRepository);
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────
+
+    private VoucherBookRow row(VoucherType type, LocalDate issueDate, long number,
+                               String net, String vat, String exempt, String total) {
+        return new VoucherBookRow(
+                UUID.randomUUID(), issueDate, type, 1, number,
+                "López S.R.L.", "30712345671",
+                Money.of(net), Money.of(vat),
+                Money.of(exempt), Money.of(total));
+    }
+
+    private void givenClosed(UUID taxpayerId, YearMonth period, VatBookResult book) {
+        VatBookSnapshot snapshot = VatBookSnapshot.create(
+                taxpayerId, period, book.category(), book.voucherCount(), new byte[] {1}, 1);
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(mock(Taxpayer.class)));
+        when(snapshotRepository.find(taxpayerId, book.category(), period)).thenReturn(Optional.of(snapshot));
+        when(snapshotCodec.decode(snapshot.getContent())).thenReturn(book);
+    }
+
+    private VatBookResult frozenBook(YearMonth period, VatBookEntryResult... entries) {
+        Money net = Money.ZERO;
+        Money vat = Money.ZERO;
+        Money total = Money.ZERO;
+        for (VatBookEntryResult entry : entries) {
+            net = net.plus(entry.netAmount());
+            vat = vat.plus(entry.vatAmount());
+            total = total.plus(entry.totalAmount());
+        }
+        return new VatBookResult(period.toString(), VoucherCategory.SALE, List.of(entries),
+                new VatBookTotalsResult(net, vat, Money.ZERO, total, List.of()), entries.length);
+    }
+
+    private VatBookEntryResult entry(LocalDate issueDate, long number, String net, String vat, String total) {
+        return new VatBookEntryResult(
+                UUID.randomUUID(), issueDate, VoucherType.FACTURA_A, 1, number,
+                "López S.A.", "30-71234567-1",
+                Money.of(net), Money.of(vat), Money.ZERO, Money.of(total), List.of());
+    }
 }
@@ -0,0 +1,74 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.enums.TaxCondition;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatPositionResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPositionTotals;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetVatPositionServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 2);
+
+    @Mock
+    private TaxpayerRepository taxpayerRepository;
+
+    @Mock
+    private VatPeriodTotalsRepository vatPeriodTotalsRepository;
+
+    private GetVatPositionService service;
+    private Taxpayer taxpayer;
+
+    @BeforeEach
+    void setUp() {
+        service = new GetVatPositionService(taxpayerRepository, vatPeriodTotalsRepository);
+        taxpayer = Taxpayer.create(
+                "López S.R.L.", "30712345671", TaxCondition.RESPONSABLE_INSCRIPTO,
+                "Av. Corrientes 1234, CABA", null, null
+        );
+    }
+
+    @Test
+    @DisplayName("Resta las notas de crédito de cada libro y el crédito fiscal del débito fiscal")
+    void computesPositionNetOfCreditNotes() {
+        when(taxpayerRepository.findById(taxpayer.getId())).thenReturn(Optional.of(taxpayer));
+        when(vatPeriodTotalsRepository.findPosition(taxpayer.getId(), PERIOD)).thenReturn(new VatPositionTotals(
+                new BigDecimal("21000.0000"), new BigDecimal("1050.0000"),
+                new BigDecimal("25200.0000"), new BigDecimal("2100.0000"), 12, 9));
+
+        VatPositionResult result = service.execute(taxpayer.getId(), PERIOD);
+
+        assertEquals("2026-02", result.period());
+        assertEquals(Money.of("19950"), result.fiscalDebit());
+        assertEquals(Money.of("23100"), result.fiscalCredit());
+        assertEquals(Money.of("-3150"), result.position());
+        assertEquals(12, result.salesVoucherCount());
+        assertEquals(9, result.purchaseVoucherCount());
+    }
+
+    @Test
+    @DisplayName("Lanza ResourceNotFoundException si el contribuyente no existe")
+    void failsForUnknownTaxpayer() {
+        when(taxpayerRepository.findById(taxpayer.getId())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.execute(taxpayer.getId(), PERIOD));
+        verifyNoInteractions(vatPeriodTotalsRepository);
+    }
+}
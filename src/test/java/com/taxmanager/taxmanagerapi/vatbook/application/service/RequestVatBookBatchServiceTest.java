@@ -0,0 +1,121 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookBatchResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookExportResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.progress.VatBookExportProgress;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.vatbook.domain.event.VatBookBatchRequestedEvent;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestVatBookBatchServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 2);
+
+    @Mock
+    private TaxpayerRepository taxpayerRepository;
+
+    @Mock
+    private VatBookExportRepository exportRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RequestVatBookBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RequestVatBookBatchService(
+                taxpayerRepository, exportRepository, new VatBookExportProgress(), eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Encola los libros Compras y Ventas de cada contribuyente activo en un mismo lote")
+    void queuesBothBooksPerActiveTaxpayer() {
+        List<UUID> taxpayerIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(taxpayerRepository.findActiveIds()).thenReturn(taxpayerIds);
+        when(exportRepository.save(any(VatBookExport.class))).thenAnswer(i -> i.getArgument(0));
+
+        VatBookBatchResult result = service.execute(PERIOD, VatBookExportFormat.AFIP_VOUCHERS);
+
+        assertEquals(6, result.exportCount());
+        assertEquals(6, result.pendingCount());
+        assertEquals(0, result.progress());
+        assertEquals("2026-02", result.period());
+        for (UUID taxpayerId : taxpayerIds) {
+            assertEquals(List.of(VoucherCategory.PURCHASE, VoucherCategory.SALE), result.exports().stream()
+                    .filter(e -> e.taxpayerId().equals(taxpayerId))
+                    .map(VatBookExportResult::category)
+                    .toList());
+        }
+
+        ArgumentCaptor<VatBookBatchRequestedEvent> event = ArgumentCaptor.forClass(VatBookBatchRequestedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(result.batchId(), event.getValue().batchId());
+        assertEquals(result.exports().stream().map(VatBookExportResult::id).toList(), event.getValue().exportIds());
+        // The batch does not go through the bounded queue of single exports
+        verify(exportRepository, never()).countUnbatchedByStatusIn(any());
+    }
+
+    @Test
+    @DisplayName("Sin contribuyentes activos falla sin encolar nada")
+    void failsWithoutActiveTaxpayers() {
+        when(taxpayerRepository.findActiveIds()).thenReturn(List.of());
+
+        assertThrows(DomainValidationException.class, () -> service.execute(PERIOD, VatBookExportFormat.PDF));
+
+        verify(exportRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("El avance del lote cuenta las exportaciones terminadas y fallidas")
+    void batchProgressCountsFinishedExports() {
+        UUID batchId = UUID.randomUUID();
+        VatBookExport done = VatBookExport.createInBatch(
+                batchId, UUID.randomUUID(), VoucherCategory.PURCHASE, PERIOD, VatBookExportFormat.PDF);
+        done.start(40);
+        done.complete(40, 1_024);
+        VatBookExport failed = VatBookExport.createInBatch(
+                batchId, UUID.randomUUID(), VoucherCategory.SALE, PERIOD, VatBookExportFormat.PDF);
+        failed.start(10);
+        failed.fail("Error interno al generar el archivo");
+        VatBookExport pending = VatBookExport.createInBatch(
+                batchId, UUID.randomUUID(), VoucherCategory.SALE, PERIOD, VatBookExportFormat.PDF);
+        VatBookExport alsoPending = VatBookExport.createInBatch(
+                batchId, UUID.randomUUID(), VoucherCategory.PURCHASE, PERIOD, VatBookExportFormat.PDF);
+        when(exportRepository.findByBatchId(batchId)).thenReturn(List.of(done, failed, pending, alsoPending));
+
+        VatBookBatchResult result = new GetVatBookBatchService(exportRepository, new VatBookExportProgress())
+                .execute(batchId);
+
+        assertEquals(1, result.doneCount());
+        assertEquals(1, result.failedCount());
+        assertEquals(2, result.pendingCount());
+        assertEquals(40, result.processedCount());
+        assertEquals(50, result.expectedCount());
+        assertEquals(50, result.progress());
+        assertEquals(VatBookExportStatus.FAILED, result.exports().get(1).status());
+    }
+}
@@ -0,0 +1,96 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.YearMonth;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.exception.TooManyRequestsException;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.vatbook.domain.event.VatBookExportRequestedEvent;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestVatBookExportServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 2);
+
+    @Mock
+    private VatBookExportRepository exportRepository;
+
+    @Mock
+    private TaxpayerRepository taxpayerRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RequestVatBookExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RequestVatBookExportService(exportRepository, taxpayerRepository, eventPublisher, 3);
+    }
+
+    @Test
+    @DisplayName("Encola la exportación en PENDING y avisa a los workers")
+    void queuesExport() {
+        when(exportRepository.countUnbatchedByStatusIn(anyList())).thenReturn(2L);
+        when(exportRepository.save(any(VatBookExport.class))).thenAnswer(i -> i.getArgument(0));
+
+        var result = service.execute(VoucherCategory.SALE, PERIOD, null, VatBookExportFormat.XLSX);
+
+        assertEquals(VatBookExportStatus.PENDING, result.status());
+        assertEquals(VatBookExportFormat.XLSX, result.format());
+        assertEquals(0, result.progress());
+        verify(eventPublisher).publishEvent(new VatBookExportRequestedEvent(result.id()));
+    }
+
+    @Test
+    @DisplayName("Cuenta la cola bajo el lock, así dos pedidos concurrentes no la desbordan")
+    void countsUnderQueueLock() {
+        when(exportRepository.countUnbatchedByStatusIn(anyList())).thenReturn(0L);
+        when(exportRepository.save(any(VatBookExport.class))).thenAnswer(i -> i.getArgument(0));
+
+        service.execute(VoucherCategory.SALE, PERIOD, null, VatBookExportFormat.XLSX);
+
+        var order = inOrder(exportRepository);
+        order.verify(exportRepository).lockQueue();
+        order.verify(exportRepository).countUnbatchedByStatusIn(anyList());
+        order.verify(exportRepository).save(any(VatBookExport.class));
+    }
+
+    @Test
+    @DisplayName("Con la cola llena rechaza el pedido sin guardarlo")
+    void rejectsWhenQueueIsFull() {
+        when(exportRepository.countUnbatchedByStatusIn(anyList())).thenReturn(3L);
+
+        assertThrows(TooManyRequestsException.class,
+                () -> service.execute(VoucherCategory.SALE, PERIOD, null, VatBookExportFormat.PDF));
+
+        verify(exportRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("El Libro IVA Digital exige contribuyente")
+    void afipRequiresTaxpayer() {
+        assertThrows(DomainValidationException.class,
+                () -> service.execute(VoucherCategory.PURCHASE, PERIOD, null, VatBookExportFormat.AFIP_VOUCHERS));
+
+        verify(exportRepository, never()).save(any());
+    }
+}
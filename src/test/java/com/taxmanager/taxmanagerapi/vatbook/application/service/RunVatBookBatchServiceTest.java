@@ -0,0 +1,64 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.command.RunVatBookExportUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunVatBookBatchServiceTest {
+
+    @Mock
+    private RunVatBookExportUseCase runVatBookExportUseCase;
+
+    @Test
+    @DisplayName("Corre todas las exportaciones del lote sin superar el pool menos la reserva y los workers de exportación")
+    void runsEveryExportWithinPoolBudget() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            running.decrementAndGet();
+            return null;
+        }).when(runVatBookExportUseCase).execute(any(UUID.class));
+        List<UUID> exportIds = Stream.generate(UUID::randomUUID).limit(40).toList();
+
+        new RunVatBookBatchService(runVatBookExportUseCase, 7, 2, 2).execute(exportIds);
+
+        assertTrue(maxRunning.get() <= 3, "a lo sumo 7 - 2 - 2 exportaciones a la vez");
+        for (UUID exportId : exportIds) {
+            verify(runVatBookExportUseCase).execute(exportId);
+        }
+    }
+
+    @Test
+    @DisplayName("Con un pool menor que la reserva corre de a una exportación")
+    void keepsAtLeastOnePermit() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return null;
+        }).when(runVatBookExportUseCase).execute(any(UUID.class));
+
+        new RunVatBookBatchService(runVatBookExportUseCase, 2, 4, 2)
+                .execute(Stream.generate(UUID::randomUUID).limit(6).toList());
+
+        assertEquals(1, maxRunning.get());
+        verify(runVatBookExportUseCase, times(6)).execute(any(UUID.class));
+    }
+}
@@ -0,0 +1,161 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.io.ByteArrayOutputStream;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookDocumentRenderer;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.out.VatBookExportFileStorage;
+import com.taxmanager.taxmanagerapi.vatbook.application.progress.VatBookExportProgress;
+import com.taxmanager.taxmanagerapi.vatbook.domain.entity.VatBookExport;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportFormat;
+import com.taxmanager.taxmanagerapi.vatbook.domain.enums.VatBookExportStatus;
+import com.taxmanager.taxmanagerapi.vatbook.domain.repository.VatBookExportRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunVatBookExportServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 2);
+
+    @Mock
+    private VatBookExportRepository exportRepository;
+
+    @Mock
+    private VatBookExportFileStorage fileStorage;
+
+    @Mock
+    private GetVatBookUseCase getVatBookUseCase;
+
+    @Mock
+    private VatBookDocumentRenderer renderer;
+
+    private final VatBookExportProgress progress = new VatBookExportProgress();
+    private RunVatBookExportService service;
+    private VatBookExport export;
+
+    @BeforeEach
+    void setUp() {
+        when(renderer.formats()).thenReturn(Set.of(VatBookExportFormat.PDF));
+        service = new RunVatBookExportService(exportRepository, fileStorage, getVatBookUseCase,
+                progress, List.of(renderer));
+        export = VatBookExport.create(null, VoucherCategory.PURCHASE, PERIOD, VatBookExportFormat.PDF);
+    }
+
+    @Test
+    @DisplayName("Genera el archivo y deja la exportación en DONE con cantidad y tamaño")
+    void rendersExport() {
+        UUID id = export.getId();
+        when(exportRepository.findById(id)).thenReturn(Optional.of(export));
+        when(exportRepository.save(any(VatBookExport.class))).thenAnswer(i -> i.getArgument(0));
+        when(getVatBookUseCase.getPurchasesSummary(PERIOD, null)).thenReturn(summary(12));
+        when(fileStorage.create(id)).thenReturn(new ByteArrayOutputStream());
+        when(fileStorage.size(id)).thenReturn(2048L);
+        when(renderer.render(eq(VatBookExportFormat.PDF), eq(VoucherCategory.PURCHASE), eq(PERIOD), any(), any()))
+                .thenReturn(summary(12));
+
+        service.execute(id);
+
+        assertEquals(VatBookExportStatus.DONE, export.getStatus());
+        assertEquals(12, export.getExpectedCount());
+        assertEquals(12, export.getVoucherCount());
+        assertEquals(2048L, export.getFileSize());
+        assertNotNull(export.getStartedAt());
+        assertNotNull(export.getFinishedAt());
+        verify(exportRepository, times(2)).save(export);
+        verify(fileStorage, never()).delete(id);
+        assertNull(progress.processed(id));
+    }
+
+    @Test
+    @DisplayName("Cuenta los comprobantes escritos mientras la exportación corre")
+    @SuppressWarnings("unchecked")
+    void tracksProgress() {
+        UUID id = export.getId();
+        when(exportRepository.findById(id)).thenReturn(Optional.of(export));
+        when(exportRepository.save(any(VatBookExport.class))).thenAnswer(i -> i.getArgument(0));
+        when(getVatBookUseCase.getPurchasesSummary(PERIOD, null)).thenReturn(summary(2));
+        when(fileStorage.create(id)).thenReturn(new ByteArrayOutputStream());
+        when(getVatBookUseCase.streamPurchases(eq(PERIOD), isNull(), any())).thenAnswer(i -> {
+            Consumer<VatBookEntryResult> sink = i.getArgument(2);
+            sink.accept(null);
+            sink.accept(null);
+            return summary(2);
+        });
+        Integer[] seen = new Integer[1];
+        when(renderer.render(any(), any(), any(), any(), any())).thenAnswer(i -> {
+            Function<Consumer<VatBookEntryResult>, VatBookSummaryResult> book = i.getArgument(4);
+            VatBookSummaryResult summary = book.apply(entry -> { });
+            seen[0] = progress.processed(id);
+            return summary;
+        });
+
+        service.execute(id);
+
+        assertEquals(2, seen[0]);
+        assertEquals(VatBookExportStatus.DONE, export.getStatus());
+    }
+
+    @Test
+    @DisplayName("Si la generación falla la exportación queda FAILED y se borra el archivo parcial")
+    void failsExport() {
+        UUID id = export.getId();
+        when(exportRepository.findById(id)).thenReturn(Optional.of(export));
+        when(exportRepository.save(any(VatBookExport.class))).thenAnswer(i -> i.getArgument(0));
+        when(getVatBookUseCase.getPurchasesSummary(PERIOD, null)).thenReturn(summary(0));
+        when(fileStorage.create(id)).thenReturn(new ByteArrayOutputStream());
+        when(renderer.render(any(), any(), any(), any(), any()))
+                .thenThrow(new ResourceNotFoundException("No se encontró contribuyente con ID x"));
+
+        service.execute(id);
+
+        assertEquals(VatBookExportStatus.FAILED, export.getStatus());
+        assertEquals("No se encontró contribuyente con ID x", export.getError());
+        verify(fileStorage).delete(id);
+    }
+
+    @Test
+    @DisplayName("Una exportación ya terminada no se vuelve a generar")
+    void skipsFinishedExport() {
+        export.complete(3, 100L);
+        when(exportRepository.findById(export.getId())).thenReturn(Optional.of(export));
+
+        service.execute(export.getId());
+
+        verifyNoInteractions(fileStorage);
+        verify(exportRepository, never()).save(any());
+    }
+
+    private VatBookSummaryResult summary(int voucherCount) {
+        return new VatBookSummaryResult(
+                PERIOD.toString(),
+                VoucherCategory.PURCHASE,
+                new VatBookTotalsResult(Money.ZERO, Money.ZERO, Money.ZERO, Money.ZERO, List.of()),
+                List.of(),
+                voucherCount
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherBookKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VatBookCursorTest {
+
+    @Test
+    @DisplayName("El cursor se decodifica a la misma clave y es seguro en una URL")
+    void roundTrip() {
+        var key = new VoucherBookKey(LocalDate.of(2026, 2, 28), 12, 99_999_999L, UUID.randomUUID());
+
+        String cursor = VatBookCursor.encode(key);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        assertEquals(key, VatBookCursor.decode(cursor));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "no-es-un-cursor", "MjAyNi0wMi0yODoxMg", "!!!"})
+    @DisplayName("Un cursor alterado o inventado falla con 400")
+    void rejectsInvalidCursor(String cursor) {
+        assertThrows(BadRequestException.class, () -> VatBookCursor.decode(cursor));
+    }
+}
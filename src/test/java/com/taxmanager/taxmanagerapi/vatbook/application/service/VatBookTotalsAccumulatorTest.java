@@ -0,0 +1,81 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatRateAmountResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VatBookTotalsAccumulatorTest {
+
+    @Test
+    @DisplayName("Las notas de crédito restan de los totales y su subtotal es negativo")
+    void creditNotesSubtract() {
+        var accumulator = new VatBookTotalsAccumulator();
+        accumulator.add(VoucherType.FACTURA_A,
+                amount("1000.0000"), amount("210.0000"), amount("0.0000"), amount("1210.0000"));
+        accumulator.add(VoucherType.NOTA_CREDITO_A,
+                amount("100.0000"), amount("21.0000"), amount("0.0000"), amount("121.0000"));
+        accumulator.add(VoucherType.NOTA_DEBITO_A,
+                amount("10.0000"), amount("2.1000"), amount("0.0000"), amount("12.1000"));
+
+        assertEquals(3, accumulator.voucherCount());
+        assertEquals(Money.of("910.0000"), accumulator.totals().netAmount());
+        assertEquals(Money.of("191.1000"), accumulator.totals().vatAmount());
+        assertEquals(Money.of("1101.1000"), accumulator.totals().totalAmount());
+
+        var subtotals = accumulator.subtotals();
+        assertEquals(3, subtotals.size());
+        assertEquals(VoucherType.NOTA_CREDITO_A, subtotals.get(1).voucherType());
+        assertEquals(Money.of("-121.0000"), subtotals.get(1).totalAmount());
+    }
+
+    @Test
+    @DisplayName("Suma filas ya agregadas por tipo y devuelve los subtotales en orden de tipo")
+    void addsAggregatedRows() {
+        var accumulator = new VatBookTotalsAccumulator();
+        accumulator.add(VoucherType.TICKET, 5,
+                amount("0"), amount("0"), amount("50.5"), amount("50.5"));
+        accumulator.add(VoucherType.FACTURA_B, 2,
+                amount("200.00"), amount("42.00"), amount("0"), amount("242.00"));
+
+        var subtotals = accumulator.subtotals();
+        assertEquals(VoucherType.FACTURA_B, subtotals.getFirst().voucherType());
+        assertEquals(5, subtotals.get(1).voucherCount());
+        assertEquals(7, accumulator.voucherCount());
+        assertEquals(Money.of("292.5000"), accumulator.totals().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Desglosa neto e IVA por alícuota con signo, en orden de alícuota")
+    void vatRatesAreSignedPerRate() {
+        var accumulator = new VatBookTotalsAccumulator();
+        accumulator.addVatLine(VoucherType.FACTURA_A, VatRate.IVA_21, amount("1000"), amount("210"));
+        accumulator.addVatLine(VoucherType.FACTURA_A, VatRate.IVA_10_5, amount("200"), amount("21"));
+        accumulator.addVatLine(VoucherType.NOTA_CREDITO_A, VatRate.IVA_21, amount("100"), amount("21"));
+
+        assertEquals(List.of(
+                new VatRateAmountResult(VatRate.IVA_10_5, amount("200"), amount("21")),
+                new VatRateAmountResult(VatRate.IVA_21, amount("900"), amount("189"))
+        ), accumulator.totals().vatRates());
+    }
+
+    @Test
+    @DisplayName("Falla ante overflow en lugar de dar la vuelta")
+    void overflowFails() {
+        var accumulator = new VatBookTotalsAccumulator();
+        Money huge = amount("900000000000000");
+        accumulator.add(VoucherType.FACTURA_A, huge, huge, huge, huge);
+        assertThrows(ArithmeticException.class,
+                () -> accumulator.add(VoucherType.FACTURA_A, huge, huge, huge, huge));
+    }
+
+    private static Money amount(String value) {
+        return Money.of(value);
+    }
+}
@@ -0,0 +1,109 @@
+package com.taxmanager.taxmanagerapi.vatbook.application.service;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.function.LongSupplier;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Allocation and time of folding a book's amounts: {@code BigDecimal} sums (one new
+ * instance per addition, as before {@link Money}) against {@link VatBookTotalsAccumulator}.
+ *
+ * <p>Not part of the regular build; run with {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+class VatBookTotalsBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VatBookTotalsBenchmarkTest.class);
+
+    private static final int ROWS = 200_000;
+    private static final int ROUNDS = 15;
+
+    private static final VoucherType[] TYPES = {
+            VoucherType.FACTURA_A, VoucherType.FACTURA_B, VoucherType.NOTA_CREDITO_A, VoucherType.TICKET
+    };
+
+    @Test
+    @DisplayName("Sumar en Money no asigna memoria por fila, BigDecimal sí")
+    void moneyAccumulationDoesNotAllocatePerRow() {
+        VoucherType[] types = new VoucherType[ROWS];
+        BigDecimal[][] decimals = new BigDecimal[ROWS][];
+        Money[][] amounts = new Money[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            types[i] = TYPES[i % TYPES.length];
+            Money net = Money.ofScaled(1_000_000L + i * 37L);
+            Money vat = Money.ofScaled(net.scaled() * 21 / 100);
+            amounts[i] = new Money[] {net, vat, Money.ZERO, net.plus(vat)};
+            decimals[i] = new BigDecimal[] {
+                    net.toBigDecimal(), vat.toBigDecimal(), BigDecimal.ZERO, net.plus(vat).toBigDecimal()
+            };
+        }
+
+        LongSupplier bigDecimal = () -> {
+            BigDecimal net = BigDecimal.ZERO;
+            BigDecimal vat = BigDecimal.ZERO;
+            BigDecimal exempt = BigDecimal.ZERO;
+            BigDecimal total = BigDecimal.ZERO;
+            for (int i = 0; i < ROWS; i++) {
+                BigDecimal[] row = decimals[i];
+                boolean subtract = types[i].isCreditNote();
+                net = subtract ? net.subtract(row[0]) : net.add(row[0]);
+                vat = subtract ? vat.subtract(row[1]) : vat.add(row[1]);
+                exempt = subtract ? exempt.subtract(row[2]) : exempt.add(row[2]);
+                total = subtract ? total.subtract(row[3]) : total.add(row[3]);
+            }
+            return Money.of(total).scaled() + net.signum() + vat.signum() + exempt.signum();
+        };
+        LongSupplier money = () -> {
+            var accumulator = new VatBookTotalsAccumulator();
+            for (int i = 0; i < ROWS; i++) {
+                Money[] row = amounts[i];
+                accumulator.add(types[i], row[0], row[1], row[2], row[3]);
+            }
+            var totals = accumulator.totals();
+            return totals.totalAmount().scaled()
+                    + totals.netAmount().signum() + totals.vatAmount().signum() + totals.exemptAmount().signum();
+        };
+
+        Measurement decimalRun = measure(bigDecimal);
+        Measurement moneyRun = measure(money);
+        log.info("BigDecimal: {}", "%,d bytes/fila, %.1f ns/fila".formatted(decimalRun.bytesPerRow(), decimalRun.nanosPerRow()));
+        log.info("Money:      {}", "%,d bytes/fila, %.1f ns/fila".formatted(moneyRun.bytesPerRow(), moneyRun.nanosPerRow()));
+
+        assertEquals(decimalRun.result(), moneyRun.result());
+        assertTrue(moneyRun.bytesPerRow() < 1, "Money no debería asignar memoria por fila");
+        assertTrue(decimalRun.bytesPerRow() > 50, "BigDecimal asigna al menos una instancia por suma");
+    }
+
+    // Best of ROUNDS after the same number of warm-up rounds
+    private static Measurement measure(LongSupplier run) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long result = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            result = run.getAsLong();
+        }
+        long bestBytes = Long.MAX_VALUE;
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long bytes = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            result = run.getAsLong();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            bestBytes = Math.min(bestBytes, threads.getThreadAllocatedBytes(threadId) - bytes);
+        }
+        return new Measurement(result, bestBytes / ROWS, (double) bestNanos / ROWS);
+    }
+
+    private record Measurement(long result, long bytesPerRow, double nanosPerRow) {}
+}
@@ -0,0 +1,195 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSubtotalResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatRateAmountResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AfipVatBookWriterTest {
+
+    private static final VatBookEntryResult FACTURA_B = new VatBookEntryResult(
+            UUID.randomUUID(),
+            LocalDate.of(2026, 3, 15),
+            VoucherType.FACTURA_B,
+            1,
+            123L,
+            "Empresa Test S.A.",
+            "30-71234567-1",
+            Money.of("1000.0000"),
+            Money.of("210.0000"),
+            Money.of("0.0000"),
+            Money.of("1210.0000"),
+            List.of()
+    );
+
+    private static final VatBookEntryResult FACTURA_C = new VatBookEntryResult(
+            UUID.randomUUID(),
+            LocalDate.of(2026, 3, 16),
+            VoucherType.FACTURA_C,
+            2,
+            7L,
+            "Monotributista Güemes",
+            "20-12345678-6",
+            Money.of("500.0000"),
+            Money.of("0.0000"),
+            Money.of("0.0000"),
+            Money.of("500.0000"),
+            List.of()
+    );
+
+    @Test
+    @DisplayName("Ventas: una línea de 266 caracteres por comprobante con los campos en su posición")
+    void writesSalesVoucherLines() {
+        String[] lines = export(VoucherCategory.SALE, AfipVatBookFile.VOUCHERS, FACTURA_B, FACTURA_C);
+
+        assertEquals(2, lines.length);
+        assertEquals(266, lines[0].length());
+        assertEquals(266, lines[1].length());
+
+        String line = lines[0];
+        assertEquals("20260315", line.substring(0, 8));
+        assertEquals("006", line.substring(8, 11));
+        assertEquals("00001", line.substring(11, 16));
+        assertEquals("00000000000000000123", line.substring(16, 36));
+        assertEquals("00000000000000000123", line.substring(36, 56));
+        assertEquals("99", line.substring(56, 58));
+        assertEquals("00000000000000000000", line.substring(58, 78));
+        assertEquals("CONSUMIDOR FINAL              ", line.substring(78, 108));
+        assertEquals("000000000121000", line.substring(108, 123));
+        assertEquals("PES", line.substring(228, 231));
+        assertEquals("0001000000", line.substring(231, 241));
+        assertEquals("1", line.substring(241, 242));
+        assertEquals("011", lines[1].substring(8, 11));
+        assertEquals("CONSUMIDOR FINAL              ", lines[1].substring(78, 108));
+        assertEquals("0", lines[1].substring(241, 242));
+    }
+
+    @Test
+    @DisplayName("La contraparte nunca es el propio contribuyente del libro")
+    void counterpartyIsNotTheTaxpayer() {
+        String[] lines = export(VoucherCategory.SALE, AfipVatBookFile.VOUCHERS, FACTURA_B, FACTURA_C);
+
+        for (String line : lines) {
+            assertFalse(line.substring(58, 78).endsWith("30712345671"));
+            assertFalse(line.substring(58, 78).endsWith("20123456786"));
+            assertFalse(line.substring(78, 108).startsWith("Empresa Test"));
+            assertFalse(line.substring(78, 108).startsWith("Monotributista"));
+        }
+    }
+
+    @Test
+    @DisplayName("Compras y comprobantes A de ventas necesitan el CUIT de la contraparte: se rechazan")
+    void refusesVouchersWithoutIdentifiedCounterparty() {
+        var facturaA = new VatBookEntryResult(
+                UUID.randomUUID(), LocalDate.of(2026, 3, 1), VoucherType.FACTURA_A, 1, 5L,
+                "Empresa Test S.A.", "30-71234567-1",
+                Money.of("1000.0000"), Money.of("210.0000"), Money.of("0.0000"), Money.of("1210.0000"), List.of());
+
+        var purchase = assertThrows(DomainValidationException.class,
+                () -> export(VoucherCategory.PURCHASE, AfipVatBookFile.VOUCHERS, FACTURA_C));
+        assertTrue(purchase.getMessage().contains("CUIT del vendedor"));
+        assertThrows(DomainValidationException.class,
+                () -> export(VoucherCategory.SALE, AfipVatBookFile.RATES, facturaA));
+        // An empty purchases book is still a valid (empty) file
+        assertEquals(0, export(VoucherCategory.PURCHASE, AfipVatBookFile.VOUCHERS).length);
+    }
+
+    @Test
+    @DisplayName("El rechazo se decide con los subtotales por tipo, antes de leer comprobantes")
+    void checksCounterpartiesFromSubtotals() {
+        var salesB = List.of(subtotal(VoucherType.FACTURA_B, 3), subtotal(VoucherType.FACTURA_A, 0));
+        var salesA = List.of(subtotal(VoucherType.FACTURA_A, 1));
+
+        assertDoesNotThrow(() -> AfipVatBookWriter.checkCounterparties(VoucherCategory.SALE, salesB));
+        assertDoesNotThrow(() -> AfipVatBookWriter.checkCounterparties(VoucherCategory.PURCHASE, List.of()));
+        var refused = assertThrows(DomainValidationException.class,
+                () -> AfipVatBookWriter.checkCounterparties(VoucherCategory.SALE, salesA));
+        assertTrue(refused.getMessage().contains("FACTURA_A"));
+        assertThrows(DomainValidationException.class,
+                () -> AfipVatBookWriter.checkCounterparties(VoucherCategory.PURCHASE, salesB));
+    }
+
+    @Test
+    @DisplayName("Ventas: sin desglose, la alícuota se deduce de IVA / neto")
+    void derivesRateCode() {
+        var reducedRate = new VatBookEntryResult(
+                UUID.randomUUID(), LocalDate.of(2026, 3, 1), VoucherType.FACTURA_B, 3, 9L,
+                "Cliente", "20-12345678-6",
+                Money.of("200.0000"), Money.of("21.0000"),
+                Money.of("0.0000"), Money.of("221.0000"), List.of());
+
+        String[] rates = export(VoucherCategory.SALE, AfipVatBookFile.RATES, reducedRate);
+
+        assertEquals(62, rates[0].length());
+        assertEquals("0004", rates[0].substring(43, 47));
+    }
+
+    @Test
+    @DisplayName("Una línea de alícuota por cada alícuota del comprobante, y su cantidad en la línea del comprobante")
+    void writesOneLinePerVatRate() {
+        var mixedRates = new VatBookEntryResult(
+                UUID.randomUUID(), LocalDate.of(2026, 3, 1), VoucherType.FACTURA_B, 3, 10L,
+                "Cliente", "30-71234567-1",
+                Money.of("1200.0000"), Money.of("231.0000"),
+                Money.of("0.0000"), Money.of("1431.0000"),
+                List.of(new VatRateAmountResult(VatRate.IVA_10_5, Money.of("200.0000"), Money.of("21.0000")),
+                        new VatRateAmountResult(VatRate.IVA_21, Money.of("1000.0000"), Money.of("210.0000"))));
+
+        String[] vouchers = export(VoucherCategory.SALE, AfipVatBookFile.VOUCHERS, mixedRates);
+        String[] rates = export(VoucherCategory.SALE, AfipVatBookFile.RATES, mixedRates);
+
+        assertEquals("2", vouchers[0].substring(241, 242));
+        assertEquals(2, rates.length);
+        assertEquals("000000000020000", rates[0].substring(28, 43));
+        assertEquals("0004", rates[0].substring(43, 47));
+        assertEquals("000000000002100", rates[0].substring(47, 62));
+        assertEquals("0005", rates[1].substring(43, 47));
+        assertEquals("000000000021000", rates[1].substring(47, 62));
+    }
+
+    @Test
+    @DisplayName("El buffer se vacía al llenarse: miles de líneas salen completas")
+    void flushesFullBuffer() {
+        var entries = new VatBookEntryResult[1_000];
+        Arrays.fill(entries, FACTURA_B);
+
+        String[] lines = export(VoucherCategory.SALE, AfipVatBookFile.VOUCHERS, entries);
+
+        assertEquals(1_000, lines.length);
+        assertEquals(lines[0], lines[999]);
+    }
+
+    private static VatBookSubtotalResult subtotal(VoucherType type, int count) {
+        return new VatBookSubtotalResult(type, count, Money.ZERO, Money.ZERO, Money.ZERO, Money.ZERO);
+    }
+
+    private static String[] export(VoucherCategory category, AfipVatBookFile file, VatBookEntryResult... entries) {
+        var out = new ByteArrayOutputStream();
+        var writer = new AfipVatBookWriter(out, category, file);
+        for (VatBookEntryResult entry : entries) {
+            writer.write(entry);
+        }
+        writer.flush();
+        String content = out.toString(StandardCharsets.ISO_8859_1);
+        return content.isEmpty() ? new String[0] : content.split("\r\n");
+    }
+}
@@ -0,0 +1,100 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Inflater;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSubtotalResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfVatBookWriterTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 2);
+
+    @Test
+    @DisplayName("Una página por cada 39 comprobantes y la tabla xref apunta a cada objeto")
+    void writesPagesAndXref() {
+        String pdf = export(100, "Empresa Test S.A.");
+
+        assertTrue(pdf.startsWith("%PDF-1.4"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+        assertTrue(pdf.contains("/Type /Pages /Count 3 "));
+
+        // Every xref entry points at "<n> 0 obj"
+        int xref = Integer.parseInt(pdf.substring(pdf.lastIndexOf("startxref\n") + 10, pdf.lastIndexOf("\n%%EOF")));
+        String[] lines = pdf.substring(xref).split("\n");
+        int objects = Integer.parseInt(lines[1].split(" ")[1]);
+        for (int n = 1; n < objects; n++) {
+            int offset = Integer.parseInt(lines[2 + n].substring(0, 10));
+            assertTrue(pdf.startsWith(n + " 0 obj", offset), "objeto " + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Las páginas llevan los comprobantes, importes con formato local y el total al final")
+    void writesPageContent() {
+        String pdf = export(2, "Pérez (Hijos)");
+
+        String page = firstPageContent(pdf);
+        assertTrue(page.contains("(Libro IVA Ventas - Período 2026-02) Tj"));
+        assertTrue(page.contains("(03/02/2026) Tj"));
+        assertTrue(page.contains("(00001-00000002) Tj"));
+        assertTrue(page.contains("(Pérez \\(Hijos\\)) Tj"));
+        assertTrue(page.contains("(1.234,57) Tj"));
+        assertTrue(page.contains("(Total del período \\(2 comprobantes\\)) Tj"));
+        assertTrue(page.contains("(Página 1) Tj"));
+    }
+
+    private static String export(int rows, String businessName) {
+        var out = new ByteArrayOutputStream();
+        var writer = new PdfVatBookWriter(out, VoucherCategory.SALE, PERIOD);
+        Money net = Money.of("1234.5678");
+        for (int i = 1; i <= rows; i++) {
+            writer.write(new VatBookEntryResult(
+                    UUID.randomUUID(), LocalDate.of(2026, 2, 3), VoucherType.FACTURA_A, 1, i,
+                    businessName, "30-71234567-1", net, Money.ZERO, Money.ZERO, net, List.of()));
+        }
+        Money total = net.times(rows);
+        writer.finish(new VatBookSummaryResult(
+                PERIOD.toString(),
+                VoucherCategory.SALE,
+                new VatBookTotalsResult(total, Money.ZERO, Money.ZERO, total, List.of()),
+                List.of(new VatBookSubtotalResult(VoucherType.FACTURA_A, rows,
+                        total, Money.ZERO, Money.ZERO, total)),
+                rows));
+        return out.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String firstPageContent(String pdf) {
+        Matcher m = Pattern.compile("/Length (\\d+) /Filter /FlateDecode >>\nstream\n").matcher(pdf);
+        assertTrue(m.find());
+        byte[] compressed = pdf.substring(m.end(), m.end() + Integer.parseInt(m.group(1)))
+                .getBytes(StandardCharsets.ISO_8859_1);
+        try {
+            var inflater = new Inflater();
+            inflater.setInput(compressed);
+            byte[] content = new byte[64 * 1024];
+            int length = inflater.inflate(content);
+            inflater.end();
+            return new String(content, 0, length, StandardCharsets.ISO_8859_1);
+        } catch (java.util.zip.DataFormatException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSubtotalResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSummaryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class XlsxVatBookWriterTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 2);
+
+    @Test
+    @DisplayName("Genera las partes del paquete y una fila por comprobante más subtotales y total")
+    void writesWorkbookParts() throws Exception {
+        Map<String, byte[]> parts = export(2, "Empresa Test S.A.");
+
+        assertTrue(parts.keySet().containsAll(List.of(
+                "[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/styles.xml", "xl/worksheets/sheet1.xml")));
+        assertTrue(new String(parts.get("xl/workbook.xml")).contains("name=\"Ventas 2026-02\""));
+
+        Document sheet = parse(parts.get("xl/worksheets/sheet1.xml"));
+        // header + 2 vouchers + blank + 1 subtotal + total
+        assertEquals(6, sheet.getElementsByTagName("row").getLength());
+        String text = sheet.getDocumentElement().getTextContent();
+        assertTrue(text.contains("Número"));
+        assertTrue(text.contains("Empresa Test S.A."));
+        assertTrue(text.contains("46056"));   // 2026-02-03 as an Excel serial date
+        assertTrue(text.contains("Total (2)"));
+    }
+
+    @Test
+    @DisplayName("Escapa los caracteres reservados de XML en los textos")
+    void escapesText() throws Exception {
+        Map<String, byte[]> parts = export(1, "Pérez & Hijos <S.R.L.> \"ñandú\"");
+
+        Document sheet = parse(parts.get("xl/worksheets/sheet1.xml"));
+
+        assertTrue(sheet.getDocumentElement().getTextContent().contains("Pérez & Hijos <S.R.L.> \"ñandú\""));
+    }
+
+    @Test
+    @DisplayName("Miles de filas atraviesan la ventana sin cortar el XML")
+    void drainsRowWindow() throws Exception {
+        Map<String, byte[]> parts = export(5_000, "Razón social de 200 caracteres ".repeat(7).substring(0, 200));
+
+        Document sheet = parse(parts.get("xl/worksheets/sheet1.xml"));
+
+        assertEquals(5_000 + 4, sheet.getElementsByTagName("row").getLength());
+    }
+
+    private static Map<String, byte[]> export(int rows, String businessName) throws IOException {
+        var out = new ByteArrayOutputStream();
+        var writer = new XlsxVatBookWriter(out, VoucherCategory.SALE, PERIOD);
+        Money net = Money.of("1000.0000");
+        Money vat = Money.of("210.0000");
+        Money total = Money.of("1210.0000");
+        for (int i = 1; i <= rows; i++) {
+            writer.write(new VatBookEntryResult(
+                    UUID.randomUUID(), LocalDate.of(2026, 2, 3), VoucherType.FACTURA_A, 1, i,
+                    businessName, "30-71234567-1", net, vat, Money.ZERO, total, List.of()));
+        }
+        writer.finish(new VatBookSummaryResult(
+                PERIOD.toString(),
+                VoucherCategory.SALE,
+                new VatBookTotalsResult(net.times(rows), vat.times(rows), Money.ZERO, total.times(rows), List.of()),
+                List.of(new VatBookSubtotalResult(VoucherType.FACTURA_A, rows,
+                        net.times(rows), vat.times(rows), Money.ZERO, total.times(rows))),
+                rows));
+
+        Map<String, byte[]> parts = new HashMap<>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                parts.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        return parts;
+    }
+
+    private static Document parse(byte[] xml) throws Exception {
+        return DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder()
+                .parse(new ByteArrayInputStream(xml));
+    }
+}
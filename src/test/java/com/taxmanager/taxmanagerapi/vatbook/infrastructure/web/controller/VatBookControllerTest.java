@@ -0,0 +1,115 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.controller;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.shared.money.MoneyJacksonModule;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookCacheStatsUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookRangeUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookSnapshotUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.application.ports.in.query.GetVatBookVersionUseCase;
+import com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper.VatBookWebMapper;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class VatBookControllerTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 2);
+
+    @Mock
+    private GetVatBookUseCase getVatBookUseCase;
+
+    @Mock
+    private GetVatBookRangeUseCase getVatBookRangeUseCase;
+
+    @Mock
+    private GetVatBookSnapshotUseCase getVatBookSnapshotUseCase;
+
+    @Mock
+    private GetVatBookCacheStatsUseCase getVatBookCacheStatsUseCase;
+
+    @Mock
+    private GetVatBookVersionUseCase getVatBookVersionUseCase;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        JsonMapper jsonMapper = JsonMapper.builder().addModule(new MoneyJacksonModule()).build();
+        var controller = new VatBookController(getVatBookUseCase, getVatBookRangeUseCase,
+                getVatBookSnapshotUseCase, getVatBookCacheStatsUseCase, getVatBookVersionUseCase,
+                new VatBookWebMapper(), jsonMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new JacksonJsonHttpMessageConverter(jsonMapper))
+                .build();
+    }
+
+    @Test
+    @DisplayName("El libro sale con un ETag débil de la versión del período")
+    void tagsBookWithVersion() throws Exception {
+        when(getVatBookVersionUseCase.execute(VoucherCategory.SALE, PERIOD, PERIOD, null)).thenReturn(42L);
+        when(getVatBookUseCase.getSales(eq(PERIOD), isNull())).thenReturn(emptyBook());
+
+        mockMvc.perform(get("/api/v1/vat-books/sales").param("period", "2026-02"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"42\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.period").value("2026-02"));
+    }
+
+    @Test
+    @DisplayName("Con If-None-Match de la versión vigente responde 304 sin armar el libro")
+    void notModifiedBeforeReadingVouchers() throws Exception {
+        when(getVatBookVersionUseCase.execute(VoucherCategory.SALE, PERIOD, PERIOD, null)).thenReturn(42L);
+
+        mockMvc.perform(get("/api/v1/vat-books/sales").param("period", "2026-02")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"42\""))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(getVatBookUseCase, getVatBookSnapshotUseCase);
+    }
+
+    @Test
+    @DisplayName("Si la versión cambió, el If-None-Match viejo recibe el libro nuevo con su ETag")
+    void rebuildsWhenVersionChanged() throws Exception {
+        when(getVatBookVersionUseCase.execute(VoucherCategory.PURCHASE, PERIOD, PERIOD, null)).thenReturn(43L);
+        when(getVatBookUseCase.getPurchases(eq(PERIOD), isNull())).thenReturn(emptyBook());
+
+        mockMvc.perform(get("/api/v1/vat-books/purchases").param("period", "2026-02")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"42\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"43\""));
+
+        verify(getVatBookUseCase).getPurchases(eq(PERIOD), isNull());
+    }
+
+    private static VatBookResult emptyBook() {
+        return new VatBookResult(PERIOD.toString(), VoucherCategory.SALE, List.of(),
+                new VatBookTotalsResult(Money.ZERO, Money.ZERO, Money.ZERO, Money.ZERO, List.of()), 0);
+    }
+}
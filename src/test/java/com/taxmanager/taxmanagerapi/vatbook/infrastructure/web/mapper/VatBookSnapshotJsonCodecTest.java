@@ -0,0 +1,68 @@
+package com.taxmanager.taxmanagerapi.vatbook.infrastructure.web.mapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.shared.money.MoneyJacksonModule;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookEntryResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookSnapshotResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatBookTotalsResult;
+import com.taxmanager.taxmanagerapi.vatbook.application.dto.VatRateAmountResult;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VatBookSnapshotJsonCodecTest {
+
+    private final VatBookWebMapper mapper = new VatBookWebMapper();
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new MoneyJacksonModule()).build();
+    private final VatBookSnapshotJsonCodec codec = new VatBookSnapshotJsonCodec(mapper, objectMapper);
+
+    private final VatBookResult book = new VatBookResult(
+            "2026-02",
+            VoucherCategory.PURCHASE,
+            List.of(new VatBookEntryResult(
+                    UUID.randomUUID(), LocalDate.of(2026, 2, 10), VoucherType.FACTURA_A, 3, 1542L,
+                    "López S.R.L.", "30-71234567-1",
+                    Money.of("1100.0000"), Money.of("231.0000"), Money.of("50.0000"), Money.of("1381.0000"),
+                    List.of(new VatRateAmountResult(VatRate.IVA_10_5, Money.of("100.0000"), Money.of("10.5000")),
+                            new VatRateAmountResult(VatRate.IVA_21, Money.of("1000.0000"), Money.of("210.0000"))))),
+            new VatBookTotalsResult(Money.of("1100.0000"), Money.of("231.0000"), Money.of("50.0000"),
+                    Money.of("1381.0000"),
+                    List.of(new VatRateAmountResult(VatRate.IVA_10_5, Money.of("100.0000"), Money.of("10.5000")))),
+            1
+    );
+
+    @Test
+    @DisplayName("El snapshot guarda exactamente el cuerpo que devuelve el libro en vivo")
+    void storesTheLiveResponseBody() throws IOException {
+        VatBookSnapshotResult snapshot = codec.encode(book);
+
+        byte[] live = objectMapper.writeValueAsBytes(mapper.toResponse(book));
+        byte[] stored;
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(snapshot.content()))) {
+            stored = in.readAllBytes();
+        }
+        assertArrayEquals(live, stored);
+        assertEquals(live.length, snapshot.uncompressedSize());
+    }
+
+    @Test
+    @DisplayName("Leer el snapshot devuelve el mismo libro que se congeló")
+    void decodesTheFrozenBook() {
+        assertEquals(book, codec.decode(codec.encode(book).content()));
+    }
+}
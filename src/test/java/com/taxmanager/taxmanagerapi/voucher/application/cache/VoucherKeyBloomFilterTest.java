@@ -0,0 +1,65 @@
+package com.taxmanager.taxmanagerapi.voucher.application.cache;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoucherKeyBloomFilterTest {
+
+    private static final int KEYS = 20_000;
+
+    @Test
+    @DisplayName("Nunca descarta una clave agregada")
+    void neverMissesAnAddedKey() {
+        var filter = new VoucherKeyBloomFilter(KEYS);
+        for (int i = 1; i <= KEYS; i++) {
+            filter.add(key(VoucherType.FACTURA_A, i));
+        }
+
+        for (int i = 1; i <= KEYS; i++) {
+            assertTrue(filter.mightContain(key(VoucherType.FACTURA_A, i)));
+        }
+    }
+
+    @Test
+    @DisplayName("A su capacidad, los falsos positivos rondan el 1 %")
+    void falsePositiveRateAtCapacity() {
+        var filter = new VoucherKeyBloomFilter(KEYS);
+        for (int i = 1; i <= KEYS; i++) {
+            filter.add(key(VoucherType.FACTURA_A, i));
+        }
+
+        // Same numbers of another type, and later numbers of the same one: none were added
+        int falsePositives = 0;
+        for (int i = 1; i <= KEYS; i++) {
+            if (filter.mightContain(key(VoucherType.FACTURA_B, i))) {
+                falsePositives++;
+            }
+            if (filter.mightContain(key(VoucherType.FACTURA_A, KEYS + i))) {
+                falsePositives++;
+            }
+        }
+        double rate = falsePositives / (2.0 * KEYS);
+        assertTrue(rate < VoucherKeyBloomFilter.FALSE_POSITIVE_RATE * 2, "tasa de falsos positivos: " + rate);
+    }
+
+    @Test
+    @DisplayName("Se satura al superar la capacidad para la que se dimensionó")
+    void saturatesPastCapacity() {
+        var filter = new VoucherKeyBloomFilter(2);
+        filter.add(key(VoucherType.FACTURA_A, 1));
+        filter.add(key(VoucherType.FACTURA_A, 2));
+        assertFalse(filter.isSaturated());
+
+        filter.add(key(VoucherType.FACTURA_A, 3));
+        assertTrue(filter.isSaturated());
+    }
+
+    private static VoucherNaturalKey key(VoucherType type, long number) {
+        return new VoucherNaturalKey(VoucherCategory.PURCHASE, type, 4, number);
+    }
+}
@@ -0,0 +1,73 @@
+package com.taxmanager.taxmanagerapi.voucher.application.cache;
+
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VoucherKeyFilterCacheTest {
+
+    private static final UUID TAXPAYER_ID = UUID.randomUUID();
+    private static final VoucherNaturalKey KEY =
+            new VoucherNaturalKey(VoucherCategory.SALE, VoucherType.FACTURA_A, 1, 1542);
+
+    private final VoucherRepository voucherRepository = mock(VoucherRepository.class);
+    private final VoucherKeyFilterCache cache = new VoucherKeyFilterCache(voucherRepository, 10);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Una clave nueva llega al filtro recién al confirmar la transacción")
+    void addsKeyAfterCommit() {
+        VoucherKeyBloomFilter filter = cache.get(TAXPAYER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.add(TAXPAYER_ID, KEY);
+        assertFalse(filter.mightContain(KEY));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(filter.mightContain(KEY));
+    }
+
+    @Test
+    @DisplayName("Si la transacción se revierte la clave nunca entra al filtro")
+    void rolledBackKeyIsNeverAdded() {
+        VoucherKeyBloomFilter filter = cache.get(TAXPAYER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.add(TAXPAYER_ID, KEY);
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync ->
+                sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(filter.mightContain(KEY));
+    }
+
+    @Test
+    @DisplayName("La carga masiva descarta el filtro al confirmar, no antes")
+    void evictsAfterCommit() {
+        VoucherKeyBloomFilter filter = cache.get(TAXPAYER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(TAXPAYER_ID);
+        assertSame(filter, cache.get(TAXPAYER_ID));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertNotSame(filter, cache.get(TAXPAYER_ID));
+        verify(voucherRepository, times(2)).streamNaturalKeys(TAXPAYER_ID);
+    }
+}
@@ -0,0 +1,96 @@
+package com.taxmanager.taxmanagerapi.voucher.application.service;
+
+import java.io.StringReader;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.application.cache.VoucherKeyFilterCache;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherBulkLoadResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportErrorResult;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.out.VoucherBulkLoader;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.event.VouchersImportedEvent;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherLoadPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkLoadVouchersServiceTest {
+
+    @Mock
+    private VoucherBulkLoader loader;
+
+    @Mock
+    private VoucherKeyFilterCache keyFilters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BulkLoadVouchersService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkLoadVouchersService(loader, keyFilters, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Copia, valida, inserta y limpia la carga en ese orden, e informa los rechazos")
+    void runsPhasesInOrder() {
+        UUID taxpayerId = UUID.randomUUID();
+        var csv = new StringReader("");
+        when(loader.stage(any(), eq(csv))).thenReturn(1_000L);
+        when(loader.validate(any())).thenReturn(2L);
+        when(loader.insertValid(any())).thenReturn(List.of(
+                new VoucherLoadPeriod(taxpayerId, VoucherCategory.SALE, YearMonth.of(2024, 1), 600),
+                new VoucherLoadPeriod(taxpayerId, VoucherCategory.PURCHASE, YearMonth.of(2024, 1), 398)));
+        when(loader.findRejected(any(), anyInt())).thenReturn(List.of(
+                new VoucherImportErrorResult(17, "El punto de venta debe estar entre 1 y 99999"),
+                new VoucherImportErrorResult(512, "No se encontró contribuyente con CUIT 20123456786")));
+
+        VoucherBulkLoadResult result = service.execute(csv);
+
+        InOrder order = inOrder(loader);
+        order.verify(loader).stage(result.loadId(), csv);
+        order.verify(loader).validate(result.loadId());
+        order.verify(loader).insertValid(result.loadId());
+        order.verify(loader).findRejected(result.loadId(), ImportVouchersService.MAX_REPORTED_ERRORS);
+        order.verify(loader).clear(result.loadId());
+
+        assertEquals(1_000, result.rowCount());
+        assertEquals(998, result.loadedCount());
+        assertEquals(2, result.rejectedCount());
+        assertEquals(17, result.errors().get(0).line());
+        assertTrue(result.rowsPerSecond() > 0);
+        verify(keyFilters, times(2)).evict(taxpayerId);
+        verify(eventPublisher).publishEvent(
+                new VouchersImportedEvent(taxpayerId, VoucherCategory.SALE, YearMonth.of(2024, 1), 600));
+        verify(eventPublisher).publishEvent(
+                new VouchersImportedEvent(taxpayerId, VoucherCategory.PURCHASE, YearMonth.of(2024, 1), 398));
+    }
+
+    @Test
+    @DisplayName("No inserta nada si todas las filas fueron rechazadas")
+    void skipsInsertWhenEveryRowIsRejected() {
+        when(loader.stage(any(), any())).thenReturn(3L);
+        when(loader.validate(any())).thenReturn(3L);
+
+        VoucherBulkLoadResult result = service.execute(new StringReader(""));
+
+        assertEquals(0, result.loadedCount());
+        verify(loader, never()).insertValid(any());
+        verify(loader).clear(result.loadId());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -1,20 +1,29 @@
 package com.taxmanager.taxmanagerapi.voucher.application.service;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.repository.FiscalPeriodClosingRepository;
+import com.taxmanager.taxmanagerapi.shared.exception.ConflictException;
 import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.enums.TaxCondition;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.voucher.application.cache.VoucherKeyFilterCache;
 import com.taxmanager.taxmanagerapi.voucher.application.dto.CreateVoucherCommand;
 import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherDetailResult;
 import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.event.VoucherCreatedEvent;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
 import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +46,21 @@ class CreateVoucherServiceTest {
     @Mock
     private TaxpayerRepository taxpayerRepository;
 
+    @Mock
+    private VatPeriodTotalsRepository vatPeriodTotalsRepository;
+
+    @Mock
+    private FiscalPeriodClosingRepository fiscalPeriodClosingRepository;
+
+    @Mock
+    private VoucherPeriodVersionRepository voucherPeriodVersionRepository;
+
+    @Mock
+    private VoucherKeyFilterCache keyFilters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CreateVoucherService service;
 
@@ -55,8 +80,9 @@ class CreateVoucherServiceTest {
         CreateVoucherCommand command = new CreateVoucherCommand(
                 VoucherCategory.SALE, VoucherType.FACTURA_A,
                 LocalDate.of(2026, 2, 15), 1, 1542,
-                new BigDecimal("100000.0000"), new BigDecimal("21000.0000"),
-                new BigDecimal("0.0000"), new BigDecimal("121000.0000"),
+                Money.of("100000.0000"), Money.of("21000.0000"),
+                Money.of("0.0000"), Money.of("121000.0000"),
+                List.of(),
                 "Consultoría"
         );
 
@@ -70,9 +96,14 @@ class CreateVoucherServiceTest {
         assertEquals("30-71234567-1", result.taxpayerCuit());
         assertEquals(VoucherCategory.SALE, result.category());
         assertEquals(VoucherType.FACTURA_A, result.voucherType());
-        assertEquals(0, new BigDecimal("121000.0000").compareTo(result.totalAmount()));
+        assertEquals(Money.of("121000.0000"), result.totalAmount());
 
         verify(voucherRepository).save(any(Voucher.class));
+        verify(vatPeriodTotalsRepository).add(any(Voucher.class));
+        verify(voucherPeriodVersionRepository).bump(taxpayerId, VoucherCategory.SALE, YearMonth.of(2026, 2));
+        verify(keyFilters).add(taxpayerId, new VoucherNaturalKey(VoucherCategory.SALE, VoucherType.FACTURA_A, 1, 1542));
+        verify(eventPublisher).publishEvent(new VoucherCreatedEvent(
+                result.id(), taxpayerId, VoucherCategory.SALE, LocalDate.of(2026, 2, 15)));
     }
 
     @Test
@@ -84,8 +115,9 @@ class CreateVoucherServiceTest {
         CreateVoucherCommand command = new CreateVoucherCommand(
                 VoucherCategory.SALE, VoucherType.FACTURA_A,
                 LocalDate.of(2026, 2, 15), 1, 1542,
-                new BigDecimal("100000.0000"), new BigDecimal("21000.0000"),
-                new BigDecimal("0.0000"), new BigDecimal("121000.0000"),
+                Money.of("100000.0000"), Money.of("21000.0000"),
+                Money.of("0.0000"), Money.of("121000.0000"),
+                List.of(),
                 null
         );
 
@@ -93,5 +125,64 @@ class CreateVoucherServiceTest {
                 service.execute(taxpayerId, command));
 
         verify(voucherRepository, never()).save(any());
+        verifyNoInteractions(vatPeriodTotalsRepository);
+    }
+
+    @Test
+    @DisplayName("Rechaza comprobantes de un período cerrado")
+    void rejectsVoucherInClosedPeriod() {
+        Taxpayer taxpayer = Taxpayer.create(
+                "López S.R.L.", "30712345671", TaxCondition.RESPONSABLE_INSCRIPTO,
+                "Av. Corrientes 1234, CABA", null, null
+        );
+        UUID taxpayerId = taxpayer.getId();
+
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(taxpayer));
+        when(fiscalPeriodClosingRepository.isClosed(taxpayerId, YearMonth.of(2026, 2))).thenReturn(true);
+
+        CreateVoucherCommand command = new CreateVoucherCommand(
+                VoucherCategory.PURCHASE, VoucherType.FACTURA_A,
+                LocalDate.of(2026, 2, 27), 3, 88,
+                Money.of("1000.0000"), Money.of("210.0000"),
+                Money.of("0.0000"), Money.of("1210.0000"),
+                List.of(),
+                null
+        );
+
+        assertThrows(ConflictException.class, () ->
+                service.execute(taxpayerId, command));
+
+        verify(voucherRepository, never()).save(any());
+        verifyNoInteractions(vatPeriodTotalsRepository, voucherPeriodVersionRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Rechaza un comprobante que el contribuyente ya tiene (misma categoría, tipo, punto de venta y número)")
+    void rejectsDuplicateVoucher() {
+        Taxpayer taxpayer = Taxpayer.create(
+                "López S.R.L.", "30712345671", TaxCondition.RESPONSABLE_INSCRIPTO,
+                "Av. Corrientes 1234, CABA", null, null
+        );
+        UUID taxpayerId = taxpayer.getId();
+
+        when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(taxpayer));
+        when(voucherRepository.existsByNaturalKey(taxpayerId,
+                new VoucherNaturalKey(VoucherCategory.SALE, VoucherType.FACTURA_A, 1, 1542))).thenReturn(true);
+
+        CreateVoucherCommand command = new CreateVoucherCommand(
+                VoucherCategory.SALE, VoucherType.FACTURA_A,
+                LocalDate.of(2026, 2, 15), 1, 1542,
+                Money.of("100000.0000"), Money.of("21000.0000"),
+                Money.of("0.0000"), Money.of("121000.0000"),
+                List.of(),
+                null
+        );
+
+        ConflictException ex = assertThrows(ConflictException.class, () ->
+                service.execute(taxpayerId, command));
+
+        assertEquals("Ya existe el comprobante FACTURA_A 00001-00001542 (SALE) del contribuyente", ex.getMessage());
+        verify(voucherRepository, never()).save(any());
+        verifyNoInteractions(vatPeriodTotalsRepository, keyFilters, eventPublisher);
     }
 }
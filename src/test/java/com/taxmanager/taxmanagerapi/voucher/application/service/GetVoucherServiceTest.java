@@ -1,11 +1,11 @@
 package com.taxmanager.taxmanagerapi.voucher.application.service;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.enums.TaxCondition;
 import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
@@ -14,6 +14,7 @@ import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherItemResult;
 import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
 import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,9 @@ class GetVoucherServiceTest {
     @Mock
     private TaxpayerRepository taxpayerRepository;
 
+    @Mock
+    private VoucherPeriodVersionRepository voucherPeriodVersionRepository;
+
     @InjectMocks
     private GetVoucherService service;
 
@@ -57,8 +61,9 @@ class GetVoucherServiceTest {
         Voucher voucher = Voucher.create(
                 taxpayerId, VoucherCategory.SALE, VoucherType.FACTURA_A,
                 LocalDate.of(2026, 2, 15), 1, 1542,
-                new BigDecimal("100000.0000"), new BigDecimal("21000.0000"),
-                new BigDecimal("0.0000"), new BigDecimal("121000.0000"),
+                Money.of("100000.0000"), Money.of("21000.0000"),
+                Money.of("0.0000"), Money.of("121000.0000"),
+                List.of(),
                 "Consultoría"
         );
 
@@ -94,8 +99,9 @@ class GetVoucherServiceTest {
         Voucher voucher = Voucher.create(
                 taxpayerId, VoucherCategory.SALE, VoucherType.FACTURA_A,
                 LocalDate.of(2026, 2, 15), 1, 1542,
-                new BigDecimal("100000.0000"), new BigDecimal("21000.0000"),
-                new BigDecimal("0.0000"), new BigDecimal("121000.0000"),
+                Money.of("100000.0000"), Money.of("21000.0000"),
+                Money.of("0.0000"), Money.of("121000.0000"),
+                List.of(),
                 null
         );
 
@@ -143,4 +149,14 @@ class GetVoucherServiceTest {
         assertThrows(ResourceNotFoundException.class, () ->
                 service.findAllByTaxpayerId(taxpayerId, null, PageRequest.of(0, 20)));
     }
+
+    @Test
+    @DisplayName("La versión del listado se lee de los contadores, sin consultar comprobantes")
+    void listVersionReadsNoVouchers() {
+        UUID taxpayerId = UUID.randomUUID();
+        when(voucherPeriodVersionRepository.findTaxpayerVersion(taxpayerId, VoucherCategory.SALE)).thenReturn(7L);
+
+        assertEquals(7L, service.findListVersion(taxpayerId, VoucherCategory.SALE));
+        verifyNoInteractions(voucherRepository, taxpayerRepository);
+    }
 }
@@ -0,0 +1,233 @@
+package com.taxmanager.taxmanagerapi.voucher.application.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.taxmanager.taxmanagerapi.fiscalperiod.domain.repository.FiscalPeriodClosingRepository;
+import com.taxmanager.taxmanagerapi.shared.exception.ResourceNotFoundException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.entity.Taxpayer;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.enums.TaxCondition;
+import com.taxmanager.taxmanagerapi.taxpayer.domain.repository.TaxpayerRepository;
+import com.taxmanager.taxmanagerapi.voucher.application.cache.VoucherKeyFilterCache;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.CreateVoucherCommand;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportErrorResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportRow;
+import com.taxmanager.taxmanagerapi.voucher.domain.entity.Voucher;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.event.VouchersImportedEvent;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VoucherNaturalKey;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VatPeriodTotalsRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportVouchersServiceTest {
+
+    @Mock
+    private TaxpayerRepository taxpayerRepository;
+
+    @Mock
+    private VoucherRepository voucherRepository;
+
+    @Mock
+    private VatPeriodTotalsRepository vatPeriodTotalsRepository;
+
+    @Mock
+    private FiscalPeriodClosingRepository fiscalPeriodClosingRepository;
+
+    @Mock
+    private VoucherPeriodVersionRepository voucherPeriodVersionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ImportVouchersService service;
+    private UUID taxpayerId;
+
+    @BeforeEach
+    void setUp() {
+        var keyFilters = new VoucherKeyFilterCache(voucherRepository, 10);
+        var saveBatchService = new SaveVoucherBatchService(voucherRepository, vatPeriodTotalsRepository,
+                fiscalPeriodClosingRepository, voucherPeriodVersionRepository, keyFilters, eventPublisher);
+        service = new ImportVouchersService(taxpayerRepository, voucherRepository, keyFilters, saveBatchService);
+        Taxpayer taxpayer = Taxpayer.create(
+                "López S.R.L.", "30712345671", TaxCondition.RESPONSABLE_INSCRIPTO,
+                "Av. Corrientes 1234, CABA", null, null
+        );
+        taxpayerId = taxpayer.getId();
+        lenient().when(taxpayerRepository.findById(taxpayerId)).thenReturn(Optional.of(taxpayer));
+    }
+
+    @Test
+    @DisplayName("Guarda las filas válidas e informa las rechazadas con su línea")
+    void savesValidRowsAndReportsRejected() {
+        List<List<Voucher>> batches = captureBatches();
+
+        VoucherImportResult result = service.execute(taxpayerId, Stream.of(
+                VoucherImportRow.of(2, command(LocalDate.of(2026, 2, 5), 1, "121000.0000")),
+                VoucherImportRow.rejected(3, "JSON inválido: Unexpected character"),
+                VoucherImportRow.of(4, command(LocalDate.of(2026, 2, 6), 2, "999.0000")),
+                VoucherImportRow.of(5, command(LocalDate.of(2026, 3, 1), 3, "121000.0000"))
+        ));
+
+        assertEquals(4, result.rowCount());
+        assertEquals(2, result.importedCount());
+        assertEquals(2, result.rejectedCount());
+        assertEquals(List.of(3L, 4L), result.errors().stream().map(VoucherImportErrorResult::line).toList());
+        assertTrue(result.errors().get(1).message().startsWith("Los montos no cuadran"));
+
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        verify(vatPeriodTotalsRepository).addAll(anyList());
+        verify(voucherPeriodVersionRepository).bump(taxpayerId, VoucherCategory.SALE, YearMonth.of(2026, 2));
+        verify(voucherPeriodVersionRepository).bump(taxpayerId, VoucherCategory.SALE, YearMonth.of(2026, 3));
+        verify(eventPublisher).publishEvent(
+                new VouchersImportedEvent(taxpayerId, VoucherCategory.SALE, YearMonth.of(2026, 2), 1));
+    }
+
+    @Test
+    @DisplayName("Guarda en lotes de BATCH_SIZE comprobantes")
+    void savesInBatches() {
+        List<List<Voucher>> batches = captureBatches();
+        int rows = ImportVouchersService.BATCH_SIZE * 2 + 1;
+
+        VoucherImportResult result = service.execute(taxpayerId, LongStream.rangeClosed(1, rows)
+                .mapToObj(n -> VoucherImportRow.of(n, command(LocalDate.of(2026, 2, 5), n, "121000.0000"))));
+
+        assertEquals(rows, result.importedCount());
+        assertEquals(List.of(ImportVouchersService.BATCH_SIZE, ImportVouchersService.BATCH_SIZE, 1),
+                batches.stream().map(List::size).toList());
+        verify(fiscalPeriodClosingRepository, times(3)).isClosed(taxpayerId, YearMonth.of(2026, 2));
+    }
+
+    @Test
+    @DisplayName("Rechaza las filas de períodos cerrados y guarda las demás")
+    void rejectsRowsOfClosedPeriods() {
+        List<List<Voucher>> batches = captureBatches();
+        when(fiscalPeriodClosingRepository.isClosed(taxpayerId, YearMonth.of(2026, 1))).thenReturn(true);
+
+        VoucherImportResult result = service.execute(taxpayerId, Stream.of(
+                VoucherImportRow.of(2, command(LocalDate.of(2026, 1, 31), 1, "121000.0000")),
+                VoucherImportRow.of(3, command(LocalDate.of(2026, 2, 1), 2, "121000.0000"))
+        ));
+
+        assertEquals(1, result.importedCount());
+        assertEquals(2, result.errors().get(0).line());
+        assertTrue(result.errors().get(0).message().contains("2026-01 está cerrado"));
+        assertEquals(1, batches.get(0).size());
+    }
+
+    @Test
+    @DisplayName("Rechaza los comprobantes que ya existen o se repiten, consultando solo las claves que el filtro conoce")
+    void rejectsExistingAndRepeatedVouchers() {
+        List<List<Voucher>> batches = captureBatches();
+        when(voucherRepository.streamNaturalKeys(taxpayerId)).thenReturn(Stream.of(key(7)));
+        when(voucherRepository.findExistingNaturalKeys(eq(taxpayerId), anyCollection())).thenReturn(Set.of(key(7)));
+
+        VoucherImportResult result = service.execute(taxpayerId, Stream.of(
+                VoucherImportRow.of(2, command(LocalDate.of(2026, 2, 5), 7, "121000.0000")),
+                VoucherImportRow.of(3, command(LocalDate.of(2026, 2, 5), 8, "121000.0000")),
+                VoucherImportRow.of(4, command(LocalDate.of(2026, 2, 6), 8, "121000.0000")),
+                VoucherImportRow.of(5, command(LocalDate.of(2026, 2, 6), 9, "121000.0000"))
+        ));
+
+        assertEquals(2, result.importedCount());
+        assertEquals("Ya existe el comprobante FACTURA_A 00001-00000007 (SALE) del contribuyente",
+                result.errors().get(0).message());
+        assertEquals("El comprobante FACTURA_A 00001-00000008 (SALE) está repetido en la línea 3",
+                result.errors().get(1).message());
+        assertEquals(List.of(8L, 9L), batches.get(0).stream().map(Voucher::getVoucherNumber).toList());
+        // Numbers 8 and 9 are not in the filter: only 7 is looked up
+        verify(voucherRepository).findExistingNaturalKeys(taxpayerId, List.of(key(7)));
+    }
+
+    @Test
+    @DisplayName("Si la clave única rechaza un lote, revisa todas sus filas y guarda las que no existen")
+    void retriesBatchAfterUniqueViolation() {
+        doThrow(new DataIntegrityViolationException("uk_vouchers_natural_key"))
+                .doNothing()
+                .when(voucherRepository).insertAll(anyList());
+        // Saved by another instance: the filter built at the start of the import does not know it
+        when(voucherRepository.findExistingNaturalKeys(eq(taxpayerId), anyCollection())).thenReturn(Set.of(key(2)));
+
+        VoucherImportResult result = service.execute(taxpayerId, LongStream.rangeClosed(1, 3)
+                .mapToObj(n -> VoucherImportRow.of(n, command(LocalDate.of(2026, 2, 5), n, "121000.0000"))));
+
+        assertEquals(2, result.importedCount());
+        assertEquals(List.of(new VoucherImportErrorResult(2,
+                "Ya existe el comprobante FACTURA_A 00001-00000002 (SALE) del contribuyente")), result.errors());
+        verify(voucherRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Un lote que falla al guardar rechaza solo sus filas")
+    void failedBatchRejectsOnlyItsRows() {
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+                .doNothing()
+                .when(voucherRepository).insertAll(anyList());
+        int rows = ImportVouchersService.BATCH_SIZE + 10;
+
+        VoucherImportResult result = service.execute(taxpayerId, LongStream.rangeClosed(1, rows)
+                .mapToObj(n -> VoucherImportRow.of(n, command(LocalDate.of(2026, 2, 5), n, "121000.0000"))));
+
+        assertEquals(10, result.importedCount());
+        assertEquals(ImportVouchersService.BATCH_SIZE, result.rejectedCount());
+        assertEquals(1, result.errors().get(0).line());
+    }
+
+    @Test
+    @DisplayName("Falla si el contribuyente no existe")
+    void failsWhenTaxpayerNotFound() {
+        UUID unknown = UUID.randomUUID();
+        when(taxpayerRepository.findById(unknown)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.execute(unknown, Stream.empty()));
+        verifyNoInteractions(voucherRepository);
+    }
+
+    // Copies each batch: the importer reuses its list
+    private List<List<Voucher>> captureBatches() {
+        List<List<Voucher>> batches = new ArrayList<>();
+        doAnswer(invocation -> batches.add(List.copyOf(invocation.<List<Voucher>>getArgument(0))))
+                .when(voucherRepository).insertAll(anyList());
+        return batches;
+    }
+
+    private static VoucherNaturalKey key(long number) {
+        return new VoucherNaturalKey(VoucherCategory.SALE, VoucherType.FACTURA_A, 1, number);
+    }
+
+    private static CreateVoucherCommand command(LocalDate issueDate, long number, String total) {
+        return new CreateVoucherCommand(
+                VoucherCategory.SALE, VoucherType.FACTURA_A, issueDate, 1, number,
+                Money.of("100000.0000"), Money.of("21000.0000"), Money.ZERO, Money.of(total),
+                List.of(), null
+        );
+    }
+}
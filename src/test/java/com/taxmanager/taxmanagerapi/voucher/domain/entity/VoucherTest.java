@@ -1,10 +1,12 @@
 package com.taxmanager.taxmanagerapi.voucher.domain.entity;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import com.taxmanager.taxmanagerapi.shared.exception.DomainValidationException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
 import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
 import org.junit.jupiter.api.DisplayName;
@@ -22,8 +24,9 @@ class VoucherTest {
         Voucher voucher = Voucher.create(
                 TAXPAYER_ID, VoucherCategory.SALE, VoucherType.FACTURA_A,
                 LocalDate.of(2026, 2, 15), 1, 1542,
-                new BigDecimal("100000.0000"), new BigDecimal("21000.0000"),
-                new BigDecimal("0.0000"), new BigDecimal("121000.0000"),
+                Money.of("100000.0000"), Money.of("21000.0000"),
+                Money.of("0.0000"), Money.of("121000.0000"),
+                List.of(),
                 "Consultoría"
         );
 
@@ -34,10 +37,10 @@ class VoucherTest {
         assertEquals(LocalDate.of(2026, 2, 15), voucher.getIssueDate());
         assertEquals(1, voucher.getPointOfSale());
         assertEquals(1542, voucher.getVoucherNumber());
-        assertEquals(0, new BigDecimal("100000.0000").compareTo(voucher.getNetAmount()));
-        assertEquals(0, new BigDecimal("21000.0000").compareTo(voucher.getVatAmount()));
-        assertEquals(0, new BigDecimal("0.0000").compareTo(voucher.getExemptAmount()));
-        assertEquals(0, new BigDecimal("121000.0000").compareTo(voucher.getTotalAmount()));
+        assertEquals(Money.of("100000.0000"), voucher.getNetAmount());
+        assertEquals(Money.of("21000.0000"), voucher.getVatAmount());
+        assertEquals(Money.of("0.0000"), voucher.getExemptAmount());
+        assertEquals(Money.of("121000.0000"), voucher.getTotalAmount());
         assertEquals("Consultoría", voucher.getDescription());
     }
 
@@ -48,8 +51,9 @@ class VoucherTest {
                 Voucher.create(
                         TAXPAYER_ID, VoucherCategory.SALE, VoucherType.FACTURA_A,
                         LocalDate.of(2026, 2, 15), 1, 1542,
-                        new BigDecimal("100000.0000"), new BigDecimal("21000.0000"),
-                        new BigDecimal("0.0000"), new BigDecimal("999999.0000"),
+                        Money.of("100000.0000"), Money.of("21000.0000"),
+                        Money.of("0.0000"), Money.of("999999.0000"),
+                        List.of(),
                         null
                 )
         );
@@ -63,8 +67,9 @@ class VoucherTest {
                 Voucher.create(
                         TAXPAYER_ID, VoucherCategory.PURCHASE, VoucherType.FACTURA_B,
                         LocalDate.of(2026, 1, 10), 3, 100,
-                        new BigDecimal("-1.0000"), new BigDecimal("0.0000"),
-                        new BigDecimal("0.0000"), new BigDecimal("1.0000"),
+                        Money.of("-1.0000"), Money.of("0.0000"),
+                        Money.of("0.0000"), Money.of("1.0000"),
+                        List.of(),
                         null
                 )
         );
@@ -77,8 +82,9 @@ class VoucherTest {
                 Voucher.create(
                         TAXPAYER_ID, VoucherCategory.SALE, VoucherType.FACTURA_A,
                         LocalDate.of(2026, 2, 15), 1, 1542,
-                        BigDecimal.ZERO, BigDecimal.ZERO,
-                        BigDecimal.ZERO, BigDecimal.ZERO,
+                        Money.ZERO, Money.ZERO,
+                        Money.ZERO, Money.ZERO,
+                        List.of(),
                         null
                 )
         );
@@ -91,8 +97,9 @@ class VoucherTest {
                 Voucher.create(
                         null, VoucherCategory.SALE, VoucherType.FACTURA_A,
                         LocalDate.of(2026, 2, 15), 1, 1542,
-                        new BigDecimal("100.0000"), new BigDecimal("21.0000"),
-                        new BigDecimal("0.0000"), new BigDecimal("121.0000"),
+                        Money.of("100.0000"), Money.of("21.0000"),
+                        Money.of("0.0000"), Money.of("121.0000"),
+                        List.of(),
                         null
                 )
         );
@@ -105,8 +112,9 @@ class VoucherTest {
                 Voucher.create(
                         TAXPAYER_ID, VoucherCategory.SALE, VoucherType.FACTURA_A,
                         LocalDate.of(2026, 2, 15), 0, 1542,
-                        new BigDecimal("100.0000"), new BigDecimal("21.0000"),
-                        new BigDecimal("0.0000"), new BigDecimal("121.0000"),
+                        Money.of("100.0000"), Money.of("21.0000"),
+                        Money.of("0.0000"), Money.of("121.0000"),
+                        List.of(),
                         null
                 )
         );
@@ -119,8 +127,9 @@ class VoucherTest {
                 Voucher.create(
                         TAXPAYER_ID, VoucherCategory.SALE, VoucherType.FACTURA_A,
                         LocalDate.of(2026, 2, 15), 1, -1,
-                        new BigDecimal("100.0000"), new BigDecimal("21.0000"),
-                        new BigDecimal("0.0000"), new BigDecimal("121.0000"),
+                        Money.of("100.0000"), Money.of("21.0000"),
+                        Money.of("0.0000"), Money.of("121.0000"),
+                        List.of(),
                         null
                 )
         );
@@ -133,8 +142,9 @@ class VoucherTest {
                 Voucher.create(
                         TAXPAYER_ID, null, VoucherType.FACTURA_A,
                         LocalDate.of(2026, 2, 15), 1, 1542,
-                        new BigDecimal("100.0000"), new BigDecimal("21.0000"),
-                        new BigDecimal("0.0000"), new BigDecimal("121.0000"),
+                        Money.of("100.0000"), Money.of("21.0000"),
+                        Money.of("0.0000"), Money.of("121.0000"),
+                        List.of(),
                         null
                 )
         );
@@ -147,10 +157,71 @@ class VoucherTest {
                 Voucher.create(
                         TAXPAYER_ID, VoucherCategory.SALE, VoucherType.FACTURA_A,
                         null, 1, 1542,
-                        new BigDecimal("100.0000"), new BigDecimal("21.0000"),
-                        new BigDecimal("0.0000"), new BigDecimal("121.0000"),
+                        Money.of("100.0000"), Money.of("21.0000"),
+                        Money.of("0.0000"), Money.of("121.0000"),
+                        List.of(),
                         null
                 )
         );
     }
+
+    @Test
+    @DisplayName("Guarda una línea por alícuota cuando suman el neto y el IVA del comprobante")
+    void createWithVatLines() {
+        Voucher voucher = voucher("1200.0000", "231.0000", List.of(
+                VoucherVatLine.create(VatRate.IVA_21, Money.of("1000.0000"), Money.of("210.0000")),
+                VoucherVatLine.create(VatRate.IVA_10_5, Money.of("200.0000"), Money.of("21.0000"))));
+
+        assertEquals(2, voucher.getVatLines().size());
+        assertEquals(VatRate.IVA_21, voucher.getVatLines().getFirst().getRate());
+        assertThrows(UnsupportedOperationException.class, () -> voucher.getVatLines().clear());
+    }
+
+    @Test
+    @DisplayName("Sin desglose, deduce una línea a la alícuota más cercana a IVA / neto")
+    void derivesSingleVatLine() {
+        Voucher voucher = voucher("200.0000", "21.0000", List.of());
+
+        assertEquals(List.of(VoucherVatLine.create(VatRate.IVA_10_5, Money.of("200.0000"), Money.of("21.0000"))),
+                voucher.getVatLines());
+    }
+
+    @Test
+    @DisplayName("Falla si las alícuotas no suman el neto y el IVA del comprobante")
+    void failsWhenVatLinesDontMatch() {
+        DomainValidationException ex = assertThrows(DomainValidationException.class, () ->
+                voucher("1200.0000", "231.0000", List.of(
+                        VoucherVatLine.create(VatRate.IVA_21, Money.of("1000.0000"), Money.of("210.0000")))));
+        assertTrue(ex.getMessage().contains("no cuadran"));
+    }
+
+    @Test
+    @DisplayName("Falla si una alícuota se repite")
+    void failsWhenVatRateRepeated() {
+        assertThrows(DomainValidationException.class, () ->
+                voucher("200.0000", "42.0000", List.of(
+                        VoucherVatLine.create(VatRate.IVA_21, Money.of("100.0000"), Money.of("21.0000")),
+                        VoucherVatLine.create(VatRate.IVA_21, Money.of("100.0000"), Money.of("21.0000")))));
+    }
+
+    @Test
+    @DisplayName("El IVA de una alícuota admite un peso de redondeo respecto de neto × alícuota")
+    void vatLineRoundingTolerance() {
+        assertDoesNotThrow(() -> VoucherVatLine.create(VatRate.IVA_21, Money.of("1000.0000"), Money.of("211.0000")));
+        assertThrows(DomainValidationException.class, () ->
+                VoucherVatLine.create(VatRate.IVA_21, Money.of("1000.0000"), Money.of("211.0001")));
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────
+
+    private static Voucher voucher(String net, String vat, List<VoucherVatLine> vatLines) {
+        Money total = Money.of(net).plus(Money.of(vat));
+        return Voucher.create(
+                TAXPAYER_ID, VoucherCategory.PURCHASE, VoucherType.FACTURA_A,
+                LocalDate.of(2026, 2, 15), 1, 1542,
+                Money.of(net), Money.of(vat), Money.ZERO, total,
+                vatLines,
+                null
+        );
+    }
 }
@@ -0,0 +1,116 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.taxpayer.domain.event.TaxpayerUpdatedEvent;
+import com.taxmanager.taxmanagerapi.voucher.domain.repository.VoucherPeriodVersionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the listener in a Spring context with a transaction manager that only records
+ * commits, to check when the {@code BEFORE_COMMIT} phase fires.
+ */
+class VoucherPeriodVersionListenerTest {
+
+    private static final List<String> steps = new ArrayList<>();
+
+    private AnnotationConfigApplicationContext context;
+    private VoucherPeriodVersionRepository repository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        steps.clear();
+        context = new AnnotationConfigApplicationContext(Config.class);
+        repository = context.getBean(VoucherPeriodVersionRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Actualizar un contribuyente sube sus versiones dentro de la transacción, antes del commit")
+    void bumpsVersionsBeforeCommit() {
+        UUID taxpayerId = UUID.randomUUID();
+        doAnswer(i -> steps.add("bump")).when(repository).bumpTaxpayer(taxpayerId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new TaxpayerUpdatedEvent(taxpayerId));
+            verifyNoInteractions(repository);
+        });
+
+        assertEquals(List.of("bump", "commit"), steps);
+    }
+
+    @Test
+    @DisplayName("Si la actualización se revierte las versiones no cambian")
+    void rollbackBumpsNothing() {
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new TaxpayerUpdatedEvent(UUID.randomUUID()));
+            status.setRollbackOnly();
+        });
+
+        verifyNoInteractions(repository);
+        assertEquals(List.of("rollback"), steps);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        VoucherPeriodVersionRepository voucherPeriodVersionRepository() {
+            return mock(VoucherPeriodVersionRepository.class);
+        }
+
+        @Bean
+        VoucherPeriodVersionListener voucherPeriodVersionListener(VoucherPeriodVersionRepository repository) {
+            return new VoucherPeriodVersionListener(repository);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                    // No resource to open
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                    steps.add("commit");
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                    steps.add("rollback");
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.importing;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import com.taxmanager.taxmanagerapi.shared.money.Money;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VatLineCommand;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportRow;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VatRate;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.web.mapper.VoucherWebMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoucherImportParserTest {
+
+    private final VoucherImportParser parser = new VoucherImportParser(
+            new VoucherWebMapper(), JsonMapper.builder().build(),
+            Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    @DisplayName("CSV: lee columnas en cualquier orden, campos entre comillas y alícuotas")
+    void readsCsv() {
+        String csv = """
+                voucherType,category,issueDate,pointOfSale,voucherNumber,netAmount,vatAmount,exemptAmount,totalAmount,vatLines,description
+                FACTURA_A,SALE,2026-02-05,1,100,1500.00,262.50,0,1762.50,IVA_21:1000:210|IVA_10_5:500:52.50,"Honorarios, ""febrero""\"
+
+                FACTURA_B,SALE,2026-02-06,1,abc,100,21,0,121,,
+                """;
+
+        List<VoucherImportRow> rows = parse(csv, VoucherImportParser.TEXT_CSV);
+
+        assertEquals(2, rows.size());
+        var command = rows.get(0).command();
+        assertEquals(2, rows.get(0).line());
+        assertEquals(VoucherType.FACTURA_A, command.voucherType());
+        assertEquals(Money.of("1762.50"), command.totalAmount());
+        assertEquals("Honorarios, \"febrero\"", command.description());
+        assertEquals(new VatLineCommand(VatRate.IVA_10_5, Money.of("500"), Money.of("52.50")),
+                command.vatLines().get(1));
+
+        assertEquals(4, rows.get(1).line());
+        assertEquals("Valor numérico inválido en voucherNumber: 'abc'", rows.get(1).error());
+    }
+
+    @Test
+    @DisplayName("CSV: rechaza el archivo si faltan columnas obligatorias")
+    void rejectsCsvWithoutRequiredColumns() {
+        var body = new ByteArrayInputStream("category,voucherType\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> parser.parse(body, VoucherImportParser.TEXT_CSV));
+    }
+
+    @Test
+    @DisplayName("NDJSON: una fila por línea, con Bean Validation y valores inválidos por fila")
+    void readsNdjson() {
+        String ndjson = """
+                {"category":"PURCHASE","voucherType":"FACTURA_A","issueDate":"2026-02-05","pointOfSale":3,"voucherNumber":7,"netAmount":100,"vatAmount":21,"exemptAmount":0,"totalAmount":121}
+                {"category":"PURCHASE","voucherType":"FACTURA_Z","issueDate":"2026-02-05","pointOfSale":3,"voucherNumber":8,"netAmount":100,"vatAmount":21,"exemptAmount":0,"totalAmount":121}
+                {"category":"PURCHASE","voucherType":"FACTURA_A","issueDate":"2026-02-05","voucherNumber":9,"netAmount":100,"vatAmount":21,"exemptAmount":0,"totalAmount":121}
+                {not json
+                """;
+
+        List<VoucherImportRow> rows = parse(ndjson, VoucherImportParser.APPLICATION_NDJSON);
+
+        assertEquals(4, rows.size());
+        assertNull(rows.get(0).error());
+        assertEquals(7, rows.get(0).command().voucherNumber());
+        assertTrue(rows.get(1).error().startsWith("Tipo de comprobante inválido: 'FACTURA_Z'"));
+        assertTrue(rows.get(2).error().startsWith("pointOfSale: "));
+        assertTrue(rows.get(3).error().startsWith("JSON inválido"));
+        assertEquals(4, rows.get(3).line());
+    }
+
+    @Test
+    @DisplayName("Separa campos CSV respetando comillas dobles")
+    void splitsQuotedCsvFields() {
+        assertEquals(List.of("a", "b,c", "", "d\"e"), VoucherImportParser.splitCsv("a,\"b,c\",,\"d\"\"e\""));
+        assertThrows(IllegalArgumentException.class, () -> VoucherImportParser.splitCsv("a,\"b"));
+    }
+
+    private List<VoucherImportRow> parse(String body, MediaType type) {
+        try (var rows = parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), type)) {
+            return rows.toList();
+        }
+    }
+}
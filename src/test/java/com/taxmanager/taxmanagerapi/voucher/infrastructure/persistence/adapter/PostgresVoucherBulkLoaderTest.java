@@ -0,0 +1,145 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.adapter;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.PostgresIntegrationTest;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherBulkLoadResult;
+import com.taxmanager.taxmanagerapi.voucher.application.dto.VoucherImportErrorResult;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.BulkLoadVouchersUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The bulk load end to end on PostgreSQL: {@code COPY} into staging, the checks in SQL
+ * ({@code pg_input_is_valid}, the window function over repeated keys, closed periods),
+ * the VAT line at the nearest rate and the upserts of totals and versions.
+ */
+class PostgresVoucherBulkLoaderTest extends PostgresIntegrationTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+    private static final LocalDate DECEMBER = LocalDate.of(2025, 12, 1);
+
+    private static final String CSV = """
+            taxpayerCuit,category,voucherType,issueDate,pointOfSale,voucherNumber,netAmount,vatAmount,exemptAmount,totalAmount,description
+            30-71234567-1,SALE,FACTURA_A,2026-01-10,1,1,1000.00,210.00,0,1210.00,"Servicios, enero"
+            30712345671,SALE,FACTURA_A,2026-01-11,1,2,1000.00,104.00,0,1104.00,
+            30712345671,SALE,FACTURA_A,2026-02-30,1,3,100.00,21.00,0,121.00,
+            20111111112,SALE,FACTURA_A,2026-01-12,1,4,100.00,21.00,0,121.00,
+            30712345671,SALE,FACTURA_A,2026-01-13,1,1,100.00,21.00,0,121.00,
+            30712345671,SALE,FACTURA_A,2025-12-20,1,5,100.00,21.00,0,121.00,
+            30712345671,SALE,FACTURA_A,2026-01-14,1,99,100.00,21.00,0,121.00,
+            30712345671,SALE,FACTURA_A,2026-01-15,1,6,100.00,21.00,0,120.00,
+            """;
+
+    @Autowired
+    private BulkLoadVouchersUseCase bulkLoadUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID taxpayerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("TRUNCATE vouchers, vat_period_totals, voucher_period_versions, fiscal_period_closings,"
+                + " voucher_staging, taxpayers CASCADE");
+        taxpayerId = UUID.randomUUID();
+        jdbc.update("INSERT INTO taxpayers (id, business_name, cuit, tax_condition, fiscal_address)"
+                        + " VALUES (?, 'López S.R.L.', '30712345671', 'RESPONSABLE_INSCRIPTO', 'Av. Corrientes 1234')",
+                taxpayerId);
+        jdbc.update("INSERT INTO fiscal_period_closings (taxpayer_id, period) VALUES (?, ?)", taxpayerId, DECEMBER);
+        // A voucher already loaded in January, with its bucket and version
+        jdbc.update("INSERT INTO vouchers (id, taxpayer_id, category, voucher_type, issue_date, point_of_sale,"
+                        + " voucher_number, net_amount, vat_amount, exempt_amount, total_amount)"
+                        + " VALUES (?, ?, 'SALE', 'FACTURA_A', ?, 1, 99, 100, 21, 0, 121)",
+                UUID.randomUUID(), taxpayerId, JANUARY.plusDays(4));
+        jdbc.update("INSERT INTO vat_period_totals (taxpayer_id, category, period, voucher_type, voucher_count,"
+                        + " net_amount, vat_amount, exempt_amount, total_amount)"
+                        + " VALUES (?, 'SALE', ?, 'FACTURA_A', 1, 100, 21, 0, 121)",
+                taxpayerId, JANUARY);
+        jdbc.update("INSERT INTO voucher_period_versions (taxpayer_id, category, period, version, updated_at)"
+                + " VALUES (?, 'SALE', ?, 3, now())", taxpayerId, JANUARY);
+    }
+
+    @Test
+    @DisplayName("Rechaza cada fila inválida con su motivo y carga solo las válidas")
+    void rejectsInvalidRows() {
+        VoucherBulkLoadResult result = bulkLoadUseCase.execute(new StringReader(CSV));
+
+        assertEquals(8, result.rowCount());
+        assertEquals(2, result.loadedCount());
+        assertEquals(6, result.rejectedCount());
+        assertEquals(List.of(4L, 5L, 6L, 7L, 8L, 9L),
+                result.errors().stream().map(VoucherImportErrorResult::line).toList());
+        assertEquals("Fecha de emisión inválida: '2026-02-30'. Formato esperado: YYYY-MM-DD", error(result, 4));
+        assertEquals("No se encontró contribuyente con CUIT 20111111112", error(result, 5));
+        assertEquals("El comprobante FACTURA_A 00001-00000001 (SALE) está repetido en la línea 2", error(result, 6));
+        assertEquals("El período 2025-12 está cerrado para el contribuyente: no admite nuevos comprobantes",
+                error(result, 7));
+        assertEquals("Ya existe el comprobante FACTURA_A 00001-00000099 (SALE) del contribuyente", error(result, 8));
+        assertTrue(error(result, 9).startsWith("Los montos no cuadran"), error(result, 9));
+
+        assertEquals(List.of(1L, 2L, 99L), jdbc.queryForList(
+                "SELECT voucher_number FROM vouchers WHERE taxpayer_id = ? ORDER BY voucher_number",
+                Long.class, taxpayerId));
+        assertEquals("Servicios, enero", jdbc.queryForObject(
+                "SELECT description FROM vouchers WHERE voucher_number = 1", String.class));
+        assertEquals(0, jdbc.queryForObject("SELECT count(*) FROM voucher_staging", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Cada comprobante cargado lleva una línea de IVA a la alícuota más cercana")
+    void vatLineAtNearestRate() {
+        bulkLoadUseCase.execute(new StringReader(CSV));
+
+        List<Map<String, Object>> lines = jdbc.queryForList(
+                "SELECT v.voucher_number, l.rate, l.net_amount, l.vat_amount"
+                        + " FROM voucher_vat_lines l JOIN vouchers v ON v.id = l.voucher_id"
+                        + " ORDER BY v.voucher_number");
+        assertEquals(2, lines.size());
+        assertEquals("IVA_21", lines.get(0).get("rate"));
+        // 104 / 1000 = 10.4 %: closest to 10.5 %
+        assertEquals("IVA_10_5", lines.get(1).get("rate"));
+        assertEquals(0, new BigDecimal("104").compareTo((BigDecimal) lines.get(1).get("vat_amount")));
+    }
+
+    @Test
+    @DisplayName("Suma al bucket existente de vat_period_totals e incrementa la versión del período una vez")
+    void upsertsTotalsAndVersions() {
+        bulkLoadUseCase.execute(new StringReader(CSV));
+
+        Map<String, Object> bucket = jdbc.queryForMap(
+                "SELECT voucher_count, net_amount, vat_amount, total_amount FROM vat_period_totals"
+                        + " WHERE taxpayer_id = ? AND category = 'SALE' AND period = ? AND voucher_type = 'FACTURA_A'",
+                taxpayerId, JANUARY);
+        assertEquals(3L, ((Number) bucket.get("voucher_count")).longValue());
+        assertEquals(0, new BigDecimal("2100").compareTo((BigDecimal) bucket.get("net_amount")));
+        assertEquals(0, new BigDecimal("335").compareTo((BigDecimal) bucket.get("vat_amount")));
+        assertEquals(0, new BigDecimal("2435").compareTo((BigDecimal) bucket.get("total_amount")));
+        assertEquals(1, jdbc.queryForObject("SELECT count(*) FROM vat_period_totals", Integer.class));
+
+        assertEquals(4L, jdbc.queryForObject(
+                "SELECT version FROM voucher_period_versions WHERE taxpayer_id = ? AND category = 'SALE' AND period = ?",
+                Long.class, taxpayerId, JANUARY));
+        // The closed period got no voucher, so no version either
+        assertEquals(1, jdbc.queryForObject("SELECT count(*) FROM voucher_period_versions", Integer.class));
+    }
+
+    private static String error(VoucherBulkLoadResult result, long line) {
+        return result.errors().stream()
+                .filter(e -> e.line() == line)
+                .map(VoucherImportErrorResult::message)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,115 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.adapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.PostgresIntegrationTest;
+import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.ReconcileVatPeriodTotalsUseCase;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodTotalsDrift;
+import com.taxmanager.taxmanagerapi.voucher.infrastructure.scheduling.VatPeriodTotalsVerificationJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drift detection and rebuild of {@code vat_period_totals}, whose SQL (FULL OUTER JOIN,
+ * {@code IS DISTINCT FROM}, {@code LOCK TABLE}) only runs on PostgreSQL.
+ */
+class VatPeriodTotalsReconciliationTest extends PostgresIntegrationTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private ReconcileVatPeriodTotalsUseCase reconcileUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID taxpayerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("TRUNCATE vouchers, vat_period_totals, voucher_period_versions, taxpayers CASCADE");
+        taxpayerId = UUID.randomUUID();
+        jdbc.update("INSERT INTO taxpayers (id, business_name, cuit, tax_condition, fiscal_address)"
+                        + " VALUES (?, 'López S.R.L.', '30712345671', 'RESPONSABLE_INSCRIPTO', 'Av. Corrientes 1234')",
+                taxpayerId);
+        voucher(VoucherType.FACTURA_A, 1, "1000.0000", "210.0000", "1210.0000");
+        voucher(VoucherType.FACTURA_A, 2, "500.0000", "105.0000", "605.0000");
+        voucher(VoucherType.NOTA_CREDITO_A, 3, "100.0000", "21.0000", "121.0000");
+        // FACTURA_A missed a voucher, NOTA_CREDITO_A was never added, FACTURA_B has no vouchers
+        bucket(VoucherType.FACTURA_A, 1, "1000.0000", "210.0000", "1210.0000");
+        bucket(VoucherType.FACTURA_B, 1, "50.0000", "10.5000", "60.5000");
+    }
+
+    @Test
+    @DisplayName("Detecta buckets desactualizados, faltantes y sobrantes contra vouchers")
+    void findsEveryKindOfDrift() {
+        List<VatPeriodTotalsDrift> drift = reconcileUseCase.verify();
+
+        assertEquals(List.of(VoucherType.FACTURA_A, VoucherType.FACTURA_B, VoucherType.NOTA_CREDITO_A),
+                drift.stream().map(VatPeriodTotalsDrift::voucherType).sorted().toList());
+        VatPeriodTotalsDrift stale = find(drift, VoucherType.FACTURA_A);
+        assertEquals(taxpayerId, stale.taxpayerId());
+        assertEquals(VoucherCategory.SALE, stale.category());
+        assertEquals(YearMonth.of(2026, 1), stale.period());
+        assertEquals(1L, stale.storedVoucherCount());
+        assertEquals(2L, stale.actualVoucherCount());
+        assertEquals(0, new BigDecimal("1815").compareTo(stale.actualTotalAmount()));
+        VatPeriodTotalsDrift missing = find(drift, VoucherType.NOTA_CREDITO_A);
+        assertNull(missing.storedVoucherCount());
+        assertEquals(1L, missing.actualVoucherCount());
+        VatPeriodTotalsDrift orphan = find(drift, VoucherType.FACTURA_B);
+        assertEquals(1L, orphan.storedVoucherCount());
+        assertNull(orphan.actualVoucherCount());
+    }
+
+    @Test
+    @DisplayName("La reconstrucción deja la tabla igual a la suma de vouchers")
+    void rebuildRemovesDrift() {
+        assertEquals(2, reconcileUseCase.rebuild());
+
+        assertTrue(reconcileUseCase.verify().isEmpty());
+        assertEquals(0, jdbc.queryForObject(
+                "SELECT count(*) FROM vat_period_totals WHERE voucher_type = 'FACTURA_B'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("El job nocturno reconstruye solo con rebuild-on-drift activado")
+    void nightlyJobRebuildsOnlyWhenEnabled() {
+        new VatPeriodTotalsVerificationJob(reconcileUseCase, false).run();
+        assertEquals(3, reconcileUseCase.verify().size());
+
+        new VatPeriodTotalsVerificationJob(reconcileUseCase, true).run();
+        assertTrue(reconcileUseCase.verify().isEmpty());
+    }
+
+    private void voucher(VoucherType type, long number, String net, String vat, String total) {
+        jdbc.update("INSERT INTO vouchers (id, taxpayer_id, category, voucher_type, issue_date, point_of_sale,"
+                        + " voucher_number, net_amount, vat_amount, exempt_amount, total_amount)"
+                        + " VALUES (?, ?, 'SALE', ?, ?, 1, ?, ?, ?, 0, ?)",
+                UUID.randomUUID(), taxpayerId, type.name(), JANUARY.plusDays(number), number,
+                new BigDecimal(net), new BigDecimal(vat), new BigDecimal(total));
+    }
+
+    private void bucket(VoucherType type, long count, String net, String vat, String total) {
+        jdbc.update("INSERT INTO vat_period_totals (taxpayer_id, category, period, voucher_type, voucher_count,"
+                        + " net_amount, vat_amount, exempt_amount, total_amount)"
+                        + " VALUES (?, 'SALE', ?, ?, ?, ?, ?, 0, ?)",
+                taxpayerId, JANUARY, type.name(), count,
+                new BigDecimal(net), new BigDecimal(vat), new BigDecimal(total));
+    }
+
+    private static VatPeriodTotalsDrift find(List<VatPeriodTotalsDrift> drift, VoucherType type) {
+        return drift.stream().filter(d -> d.voucherType() == type).findFirst().orElseThrow();
+    }
+}
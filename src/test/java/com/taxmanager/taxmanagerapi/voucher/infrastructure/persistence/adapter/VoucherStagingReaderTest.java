@@ -0,0 +1,62 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.persistence.adapter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.shared.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoucherStagingReaderTest {
+
+    private static final String HEADER = "taxpayerCuit,category,voucherType,issueDate,pointOfSale,voucherNumber,"
+            + "netAmount,vatAmount,exemptAmount,totalAmount,description\n";
+
+    private static final UUID LOAD_ID = UUID.fromString("0190a1b2-c3d4-7e5f-8a9b-0c1d2e3f4a5b");
+
+    @Test
+    @DisplayName("Antepone la carga y el número de línea, y agrega la columna de error vacía")
+    void prefixesRowsForCopy() throws IOException {
+        String csv = HEADER
+                + "30-71234567-1,SALE,FACTURA_A,2026-02-05,1,100,1000,210,0,1210,\"Honorarios, febrero\"\n"
+                + "\n"
+                + "30712345671,SALE,FACTURA_A,2026-02-06,1,101,1000,210,0,1210,\n";
+
+        var reader = new VoucherStagingReader(new StringReader(csv), LOAD_ID);
+
+        assertEquals(LOAD_ID + ",2,30-71234567-1,SALE,FACTURA_A,2026-02-05,1,100,1000,210,0,1210,\"Honorarios, febrero\",\n"
+                        + LOAD_ID + ",4,30712345671,SALE,FACTURA_A,2026-02-06,1,101,1000,210,0,1210,,\n",
+                readAll(reader));
+        assertEquals(2, reader.rowCount());
+    }
+
+    @Test
+    @DisplayName("Una fila con otra cantidad de columnas se copia vacía y con su error")
+    void stagesMalformedRowsWithTheirError() throws IOException {
+        String csv = HEADER + "30712345671,SALE,FACTURA_A\n30712345671,\"SALE\n";
+
+        String copied = readAll(new VoucherStagingReader(new StringReader(csv), LOAD_ID));
+
+        assertEquals(LOAD_ID + ",2,,,,,,,,,,,,\"Cantidad de columnas inválida: 3 (se esperaban 11)\"\n"
+                        + LOAD_ID + ",3,,,,,,,,,,,,\"Comillas sin cerrar en la línea\"\n",
+                copied);
+    }
+
+    @Test
+    @DisplayName("Rechaza el archivo si el encabezado no tiene las columnas esperadas en orden")
+    void rejectsUnexpectedHeader() {
+        var reader = new VoucherStagingReader(new StringReader("category,taxpayerCuit\n"), LOAD_ID);
+
+        assertThrows(BadRequestException.class, () -> readAll(reader));
+    }
+
+    private static String readAll(VoucherStagingReader reader) throws IOException {
+        var out = new StringWriter();
+        reader.transferTo(out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package com.taxmanager.taxmanagerapi.voucher.infrastructure.scheduling;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import com.taxmanager.taxmanagerapi.voucher.application.ports.in.command.ReconcileVatPeriodTotalsUseCase;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherCategory;
+import com.taxmanager.taxmanagerapi.voucher.domain.enums.VoucherType;
+import com.taxmanager.taxmanagerapi.voucher.domain.projection.VatPeriodTotalsDrift;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VatPeriodTotalsVerificationJobTest {
+
+    private static final VatPeriodTotalsDrift DRIFT = new VatPeriodTotalsDrift(
+            UUID.randomUUID(), VoucherCategory.SALE, YearMonth.of(2026, 1), VoucherType.FACTURA_A,
+            1L, 2L, new BigDecimal("210.0000"), new BigDecimal("315.0000"),
+            new BigDecimal("1210.0000"), new BigDecimal("1815.0000"));
+
+    @Mock
+    private ReconcileVatPeriodTotalsUseCase reconcileUseCase;
+
+    @Test
+    @DisplayName("Sin drift no reconstruye aunque rebuild-on-drift esté activado")
+    void consistentTableIsLeftAlone() {
+        when(reconcileUseCase.verify()).thenReturn(List.of());
+
+        new VatPeriodTotalsVerificationJob(reconcileUseCase, true).run();
+
+        verify(reconcileUseCase, never()).rebuild();
+    }
+
+    @Test
+    @DisplayName("Con drift y rebuild-on-drift desactivado solo lo informa")
+    void reportsDriftWithoutRebuilding() {
+        when(reconcileUseCase.verify()).thenReturn(List.of(DRIFT));
+
+        new VatPeriodTotalsVerificationJob(reconcileUseCase, false).run();
+
+        verify(reconcileUseCase, never()).rebuild();
+    }
+
+    @Test
+    @DisplayName("Con drift y rebuild-on-drift activado reconstruye la tabla")
+    void rebuildsOnDriftWhenEnabled() {
+        when(reconcileUseCase.verify()).thenReturn(List.of(DRIFT));
+
+        new VatPeriodTotalsVerificationJob(reconcileUseCase, true).run();
+
+        verify(reconcileUseCase).rebuild();
+    }
+}